@@ -24,11 +24,13 @@ import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.api.RelationshipIterator;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicDoubleArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
 
 import java.util.Arrays;
 import java.util.stream.LongStream;
 
+import static org.neo4j.graphalgo.core.utils.ArrayUtil.binaryLookup;
 import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfDoubleArray;
 import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfFloatArray;
 
@@ -47,6 +49,8 @@ public abstract class BaseComputeStep implements ComputeStep {
     private int[] lengths;
 
     protected double tolerance;
+    // deltas up to this value are not propagated but carried over to the next iteration
+    double propagationThreshold;
     private final long[] sourceNodeIds;
     final RelationshipIterator relationshipIterator;
     final Degrees degrees;
@@ -63,6 +67,8 @@ public abstract class BaseComputeStep implements ComputeStep {
     float[][] nextScores;
     // O(partition * partition_size) = O(node_count)
     float[][] prevScores;
+    // replaces next and prev scores if set, shared by all partitions = O(node_count)
+    private HugeAtomicDoubleArray sharedScores;
 
     final long startNode;
     final ProgressLogger progressLogger;
@@ -72,6 +78,7 @@ public abstract class BaseComputeStep implements ComputeStep {
     double l2Norm;
 
     private boolean shouldBreak;
+    private long activeNodeCount;
 
     BaseComputeStep(
         double dampingFactor,
@@ -125,6 +132,16 @@ public abstract class BaseComputeStep implements ComputeStep {
         this.lengths = lengths;
     }
 
+    @Override
+    public void setSharedScores(HugeAtomicDoubleArray sharedScores) {
+        this.sharedScores = sharedScores;
+    }
+
+    @Override
+    public void setActiveSetPropagation(boolean activeSetPropagation) {
+        this.propagationThreshold = activeSetPropagation ? tolerance : 0.0;
+    }
+
     @Override
     public void run() {
         if (state == S_CALC) {
@@ -145,12 +162,14 @@ public abstract class BaseComputeStep implements ComputeStep {
     void normalizeDeltas() {}
 
     private void initialize() {
-        this.nextScores = new float[starts.length][];
-        Arrays.setAll(nextScores, i -> {
-            int size = lengths[i];
-            tracker.add(sizeOfFloatArray(size));
-            return new float[size];
-        });
+        if (sharedScores == null) {
+            this.nextScores = new float[starts.length][];
+            Arrays.setAll(nextScores, i -> {
+                int size = lengths[i];
+                tracker.add(sizeOfFloatArray(size));
+                return new float[size];
+            });
+        }
 
         tracker.add(sizeOfDoubleArray(partitionSize) << 1);
 
@@ -191,37 +210,68 @@ public abstract class BaseComputeStep implements ComputeStep {
         this.prevScores = prevScores;
     }
 
-    boolean combineScores() {
-        assert prevScores != null;
-        assert prevScores.length >= 1;
-
-        int scoreDim = prevScores.length;
-        float[][] prevScores = this.prevScores;
+    /**
+     * Sends a partial score to the given target node, which is received
+     * via {@link #receiveScore(int)} in the next synchronization step.
+     */
+    final void sendScore(long targetNodeId, float score) {
+        if (sharedScores != null) {
+            sharedScores.getAndAdd(targetNodeId, score);
+        } else {
+            // idx is partition id where the target lives
+            int idx = binaryLookup(targetNodeId, starts);
+            nextScores[idx][(int) (targetNodeId - starts[idx])] += score;
+        }
+    }
 
-        boolean shouldBreak = true;
+    /**
+     * Sums up and resets all partial scores that have been sent to the
+     * node at the given index of this partition.
+     */
+    final double receiveScore(int index) {
+        if (sharedScores != null) {
+            // partitions only read their own nodes and no scores are sent during synchronization
+            long nodeId = startNode + index;
+            double score = sharedScores.get(nodeId);
+            sharedScores.set(nodeId, 0.0);
+            return score;
+        }
 
         // prev scores contains all partial scores sent by any other compute step
         // therefore each array in prev scores has the same length
         // Each column represents all scores for the node id
-        int length = prevScores[0].length;
-        for (int i = 0; i < length; i++) {
+        double sum = 0.0;
+        for (float[] scores : prevScores) {
+            sum += scores[index];
+            scores[index] = 0F;
+        }
+        return sum;
+    }
+
+    boolean combineScores() {
+        assert sharedScores != null || (prevScores != null && prevScores.length >= 1);
+
+        boolean shouldBreak = true;
+        long activeNodeCount = 0;
+
+        for (int i = 0; i < partitionSize; i++) {
             // sum of partial scores
-            double sum = 0.0;
-            // sum up scores for each column
-            for (int j = 0; j < scoreDim; j++) {
-                float[] scores = prevScores[j];
-                sum += scores[i];
-                scores[i] = 0F;
-            }
+            double sum = receiveScore(i);
             // in Pregel we do delta = (jumpProbability / context.nodeCount()) + dampingFactor * sum;
             double delta = dampingFactor * degreeFactor() * sum;
-            if (delta > tolerance) {
+            // deltas that have not been propagated in the last iteration are carried over
+            double pendingDelta = deltas[i] > propagationThreshold ? 0.0 : deltas[i];
+            pageRank[i] += delta;
+            deltas[i] = pendingDelta + delta;
+            if (deltas[i] > tolerance) {
                 shouldBreak = false;
             }
-            pageRank[i] += delta;
-            deltas[i] = delta;
+            if (deltas[i] > propagationThreshold) {
+                activeNodeCount++;
+            }
         }
 
+        this.activeNodeCount = activeNodeCount;
         return shouldBreak;
     }
 
@@ -240,6 +290,11 @@ public abstract class BaseComputeStep implements ComputeStep {
 
     public double[] deltas() { return deltas;}
 
+    @Override
+    public long activeNodeCount() {
+        return activeNodeCount;
+    }
+
     @Override
     public boolean partitionIsStable() {
         return shouldBreak;
@@ -19,6 +19,7 @@
  */
 package org.neo4j.graphalgo.pagerank;
 
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicDoubleArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
 
 public interface ComputeStep extends Runnable {
@@ -29,6 +30,12 @@ public interface ComputeStep extends Runnable {
 
     void setStarts(long[] startArray, int[] lengthArray);
 
+    void setSharedScores(HugeAtomicDoubleArray sharedScores);
+
+    void setActiveSetPropagation(boolean activeSetPropagation);
+
+    long activeNodeCount();
+
     double[] deltas();
 
     void prepareNormalizeDeltas(double l2Norm);
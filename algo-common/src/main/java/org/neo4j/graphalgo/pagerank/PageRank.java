@@ -25,9 +25,9 @@ import org.neo4j.graphalgo.Algorithm;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.api.IdMapping;
 import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
-import org.neo4j.graphalgo.core.utils.BitUtil;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicDoubleArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
 import org.neo4j.graphalgo.core.utils.partition.Partition;
 import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
@@ -91,6 +91,18 @@ import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
  * in order to batch partitions and keep the number of threads in use predictable/configurable.
  * </p>
  * <p>
+ * With {@link PageRankBaseConfig#activeSetPropagation()} enabled, only nodes whose accumulated delta
+ * exceeds the tolerance send it to their neighbours. Smaller deltas stay with the node until enough
+ * has been accumulated, so converged regions of the graph are skipped in later iterations.
+ * The number of active nodes is logged after each iteration.
+ * </p>
+ * <p>
+ * The {@code concurrency^2} score buffers take up to {@code concurrency * nodeCount} floats.
+ * With {@link PageRankBaseConfig#atomicScoreExchange()} enabled, all partitions instead add
+ * their scores atomically into a single array that is shared between all partitions.
+ * The synchronization step then only has to read and reset the scores of its own partition.
+ * </p>
+ * <p>
  * [1]: <a href="http://delab.csd.auth.gr/~dimitris/courses/ir_spring06/page_rank_computing/01531136.pdf">An Efficient Partition-Based Parallel PageRank Algorithm</a><br>
  * [2]: <a href="https://www.cs.purdue.edu/homes/dgleich/publications/gleich2004-parallel.pdf">Fast Parallel PageRank: A Linear System Approach</a>
  * </p>
@@ -112,6 +124,8 @@ public class PageRank extends Algorithm<PageRank, PageRank> {
     private final Graph graph;
     private final LongStream sourceNodeIds;
     private final PageRankVariant pageRankVariant;
+    private final boolean activeSetPropagation;
+    private final boolean atomicScoreExchange;
 
     private ComputeSteps computeSteps;
 
@@ -144,6 +158,8 @@ public class PageRank extends Algorithm<PageRank, PageRank> {
         this.toleranceValue = algoConfig.tolerance();
         this.sourceNodeIds = sourceNodeIds;
         this.pageRankVariant = pageRankVariant;
+        this.activeSetPropagation = algoConfig.activeSetPropagation();
+        this.atomicScoreExchange = algoConfig.atomicScoreExchange();
         this.result = HugeDoubleArray.newArray(graph.nodeCount(), tracker);
         this.progressLogger = progressLogger;
     }
@@ -186,13 +202,19 @@ public class PageRank extends Algorithm<PageRank, PageRank> {
             return;
         }
 
-        var degreeBatchSize = BitUtil.ceilDiv(graph.relationshipCount(), concurrency);
-        var partitions = PartitionUtils.degreePartition(graph, degreeBatchSize, Function.identity());
-
         ExecutorService executor = ParallelUtil.canRunInParallel(this.executor)
             ? this.executor
             : null;
 
+        var partitions = PartitionUtils.degreeBalancedPartition(
+            graph,
+            concurrency,
+            concurrency,
+            executor,
+            getProgressLogger().getLog(),
+            Function.identity()
+        );
+
         computeSteps = createComputeSteps(
             idMapping.nodeCount(),
             dampingFactor,
@@ -238,12 +260,18 @@ public class PageRank extends Algorithm<PageRank, PageRank> {
             ));
         }
 
+        HugeAtomicDoubleArray sharedScores = atomicScoreExchange
+            ? HugeAtomicDoubleArray.newArray(nodeCount, tracker)
+            : null;
+
         long[] startArray = starts.toArray();
         int[] lengthArray = lengths.toArray();
         for (ComputeStep computeStep : computeSteps) {
             computeStep.setStarts(startArray, lengthArray);
+            computeStep.setSharedScores(sharedScores);
+            computeStep.setActiveSetPropagation(activeSetPropagation);
         }
-        return new ComputeSteps(tracker, computeSteps, concurrency, pool);
+        return new ComputeSteps(tracker, computeSteps, sharedScores, concurrency, pool);
     }
 
     @Override
@@ -262,22 +290,28 @@ public class PageRank extends Algorithm<PageRank, PageRank> {
         // collects scores that each partition updated in any other partition
         // partition -> partition -> (next) score
         private float[][][] scores;
+        // replaces scores if the scores are exchanged atomically
+        private HugeAtomicDoubleArray sharedScores;
         private final int concurrency;
 
         private ComputeSteps(
             AllocationTracker tracker,
             List<ComputeStep> steps,
+            HugeAtomicDoubleArray sharedScores,
             int concurrency,
             ExecutorService pool
         ) {
             this.concurrency = concurrency;
             assert !steps.isEmpty();
             this.steps = steps;
+            this.sharedScores = sharedScores;
             this.pool = pool;
-            int stepSize = steps.size();
-            scores = new float[stepSize][stepSize][];
-            if (AllocationTracker.isTracking(tracker)) {
-                tracker.add((stepSize + 1) * sizeOfObjectArray(stepSize));
+            if (sharedScores == null) {
+                int stepSize = steps.size();
+                scores = new float[stepSize][stepSize][];
+                if (AllocationTracker.isTracking(tracker)) {
+                    tracker.add((stepSize + 1) * sizeOfObjectArray(stepSize));
+                }
             }
         }
 
@@ -301,6 +335,13 @@ public class PageRank extends Algorithm<PageRank, PageRank> {
                 synchronizeScores();
                 ParallelUtil.runWithConcurrency(concurrency, steps, terminationFlag, pool);
                 didConverge = checkTolerance();
+                if (activeSetPropagation) {
+                    getProgressLogger().logMessage(formatWithLocale(
+                        ":: Iteration %d :: Active nodes %d",
+                        ranIterations + 1,
+                        activeNodeCount()
+                    ));
+                }
 
                 // normalize deltas
                 normalizeDeltas();
@@ -318,6 +359,10 @@ public class PageRank extends Algorithm<PageRank, PageRank> {
             return steps.stream().allMatch(ComputeStep::partitionIsStable);
         }
 
+        private long activeNodeCount() {
+            return steps.stream().mapToLong(ComputeStep::activeNodeCount).sum();
+        }
+
         private void normalizeDeltas() {
             double l2Norm = computeNorm();
 
@@ -342,6 +387,10 @@ public class PageRank extends Algorithm<PageRank, PageRank> {
         }
 
         private void synchronizeScores() {
+            if (sharedScores != null) {
+                // partitions read their scores directly from the shared array
+                return;
+            }
             int stepSize = steps.size();
             float[][][] scores = this.scores;
             int i;
@@ -360,12 +409,15 @@ public class PageRank extends Algorithm<PageRank, PageRank> {
         }
 
         private void release() {
-            if (AllocationTracker.isTracking(tracker)) {
+            if (sharedScores != null) {
+                tracker.remove(sharedScores.release());
+            } else if (AllocationTracker.isTracking(tracker)) {
                 tracker.remove((scores.length + 1) * sizeOfObjectArray(scores.length));
             }
             steps.clear();
             steps = null;
             scores = null;
+            sharedScores = null;
         }
     }
 }
@@ -73,9 +73,17 @@ public interface PageRankAlgorithm {
     Class<? extends BaseComputeStep> computeStepClass();
 
     default MemoryEstimation memoryEstimation(long partitionCount, long nodesPerPartition) {
-        return MemoryEstimations.builder(computeStepClass())
-            .fixed("nextScores[] wrapper", MemoryUsage.sizeOfObjectArray(partitionCount))
-            .fixed("inner nextScores[][]", sizeOfFloatArray(nodesPerPartition) * partitionCount)
+        return memoryEstimation(partitionCount, nodesPerPartition, false);
+    }
+
+    default MemoryEstimation memoryEstimation(long partitionCount, long nodesPerPartition, boolean atomicScoreExchange) {
+        var builder = MemoryEstimations.builder(computeStepClass());
+        if (!atomicScoreExchange) {
+            builder
+                .fixed("nextScores[] wrapper", MemoryUsage.sizeOfObjectArray(partitionCount))
+                .fixed("inner nextScores[][]", sizeOfFloatArray(nodesPerPartition) * partitionCount);
+        }
+        return builder
             .fixed("pageRank[]", sizeOfDoubleArray(nodesPerPartition))
             .fixed("deltas[]", sizeOfDoubleArray(nodesPerPartition))
             .build()
@@ -52,6 +52,26 @@ public interface PageRankBaseConfig extends
         return 0.85;
     }
 
+    /**
+     * Only propagate the accumulated delta of a node once it exceeds the tolerance.
+     * Smaller deltas are carried over to later iterations instead of being sent to all neighbours,
+     * which skips converged regions of the graph.
+     */
+    @Value.Default
+    default boolean activeSetPropagation() {
+        return false;
+    }
+
+    /**
+     * Accumulate the scores sent between partitions atomically in a single array of {@code nodeCount} doubles,
+     * instead of a float buffer per pair of partitions. Memory is linear in the node count and does not
+     * grow with the concurrency, at the cost of atomic updates for every relationship.
+     */
+    @Value.Default
+    default boolean atomicScoreExchange() {
+        return false;
+    }
+
     @Deprecated
     @Value.Default
     default boolean cacheWeights() {
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.features;
+
+import org.neo4j.gds.embeddings.graphsage.ddl4j.functions.MatrixConstant;
+import org.neo4j.gds.ml.batch.Batch;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.paged.HugeCursor;
+import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
+import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
+import org.neo4j.graphalgo.utils.CloseableThreadLocal;
+
+import java.util.List;
+
+/**
+ * A dense, row-major matrix holding the extracted features of every node of a graph.
+ * Row {@code i} contains the concatenated output of all {@link FeatureExtractor}s for node {@code i}.
+ * <p>
+ * The matrix is filled once, in parallel, and can then be shared between epochs, folds and predictions,
+ * turning feature extraction for a batch into copying contiguous slices of a paged array.
+ */
+public final class FeatureMatrix {
+
+    private final HugeDoubleArray data;
+    private final long rows;
+    private final int cols;
+    private final CloseableThreadLocal<HugeCursor<double[]>> rowCursors;
+
+    public static MemoryEstimation memoryEstimation(int featureCount) {
+        return MemoryEstimations.builder(FeatureMatrix.class)
+            .perNode("features", nodeCount -> HugeDoubleArray.memoryEstimation(nodeCount * featureCount))
+            .build();
+    }
+
+    public static FeatureMatrix of(
+        Graph graph,
+        List<FeatureExtractor> extractors,
+        int concurrency,
+        AllocationTracker tracker
+    ) {
+        var nodeCount = graph.nodeCount();
+        var featureCount = FeatureExtraction.featureCount(extractors);
+        var data = HugeDoubleArray.newArray(nodeCount * featureCount, tracker);
+        var consumer = new HugeDoubleArrayFeatureConsumer(data, featureCount);
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            partition -> (Runnable) () -> partition.consume(
+                nodeId -> FeatureExtraction.extract(nodeId, nodeId, extractors, consumer)
+            )
+        );
+        ParallelUtil.runWithConcurrency(concurrency, tasks, Pools.DEFAULT);
+        return new FeatureMatrix(data, nodeCount, featureCount);
+    }
+
+    private FeatureMatrix(HugeDoubleArray data, long rows, int cols) {
+        this.data = data;
+        this.rows = rows;
+        this.cols = cols;
+        this.rowCursors = CloseableThreadLocal.withInitial(data::newCursor);
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    public int cols() {
+        return cols;
+    }
+
+    public double get(long nodeId, int feature) {
+        assert nodeId < rows;
+        assert feature < cols;
+        return data.get(nodeId * cols + feature);
+    }
+
+    /**
+     * Copies the features of the given node into {@code target}, starting at {@code targetOffset}.
+     * Each calling thread reuses its own cursor, so this is cheap enough to be called per relationship.
+     */
+    public void copyRow(long nodeId, double[] target, int targetOffset) {
+        copyRow(rowCursors.get(), nodeId, target, targetOffset);
+    }
+
+    public MatrixConstant extract(Batch batch) {
+        double[] features = new double[batch.size() * cols];
+        if (cols > 0) {
+            try (var cursor = data.newCursor()) {
+                int offset = 0;
+                for (long nodeId : batch.nodeIds()) {
+                    copyRow(cursor, nodeId, features, offset);
+                    offset += cols;
+                }
+            }
+        }
+        return new MatrixConstant(features, batch.size(), cols);
+    }
+
+    public long release() {
+        rowCursors.close();
+        return data.release();
+    }
+
+    private void copyRow(HugeCursor<double[]> cursor, long nodeId, double[] target, int targetOffset) {
+        var start = nodeId * cols;
+        data.initCursor(cursor, start, start + cols);
+        while (cursor.next()) {
+            var length = cursor.limit - cursor.offset;
+            System.arraycopy(cursor.array, cursor.offset, target, targetOffset, length);
+            targetOffset += length;
+        }
+    }
+
+    private static final class HugeDoubleArrayFeatureConsumer implements FeatureConsumer {
+        private final HugeDoubleArray data;
+        private final int cols;
+
+        HugeDoubleArrayFeatureConsumer(HugeDoubleArray data, int cols) {
+            this.data = data;
+            this.cols = cols;
+        }
+
+        @Override
+        public void acceptScalar(long nodeOffset, int offset, double value) {
+            data.set(nodeOffset * cols + offset, value);
+        }
+
+        @Override
+        public void acceptArray(long nodeOffset, int offset, double[] values) {
+            var start = nodeOffset * cols + offset;
+            data.copyFromArrayIntoSlice(values, start, start + values.length);
+        }
+    }
+}
@@ -0,0 +1,349 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.kcore;
+
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.graphalgo.Algorithm;
+import org.neo4j.graphalgo.annotation.ValueClass;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.RelationshipIterator;
+import org.neo4j.graphalgo.api.nodeproperties.LongNodeProperties;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.BitUtil;
+import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeIntArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Parallel k-core decomposition by level-synchronous peeling, following PKC by Kabir and Madduri.
+ *
+ * The core value of a node is the largest {@code k} such that the node belongs to a subgraph in which
+ * every node has at least {@code k} neighbours. Levels are processed in increasing order of {@code k}.
+ * At the start of a level, every remaining node with a degree of exactly {@code k} is put into the
+ * bucket of the thread that found it. Removing a node decrements the degrees of its remaining neighbours
+ * atomically and a neighbour whose degree drops to {@code k} joins the bucket of the removing thread.
+ *
+ * Levels without nodes are skipped by tracking the smallest remaining degree and the remaining nodes are
+ * compacted whenever their number halved, which keeps the total work near-linear in the size of the graph.
+ * Self-loops are ignored, parallel relationships are counted with their multiplicity.
+ */
+public class KCoreDecomposition extends Algorithm<KCoreDecomposition, KCoreDecomposition.KCoreResult> {
+
+    private final Graph graph;
+    private final int concurrency;
+    private final ExecutorService executorService;
+    private final AllocationTracker tracker;
+    private final long nodeCount;
+
+    private HugeAtomicLongArray degrees;
+    private HugeIntArray coreValues;
+    // null as long as all nodes remain, the node ids are then their own index
+    private HugeLongArray remainingNodes;
+    private long remainingCount;
+
+    public KCoreDecomposition(
+        Graph graph,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressLogger progressLogger,
+        AllocationTracker tracker
+    ) {
+        this.graph = graph;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.progressLogger = progressLogger;
+        this.tracker = tracker;
+        this.nodeCount = graph.nodeCount();
+    }
+
+    @Override
+    public KCoreResult compute() {
+        degrees = HugeAtomicLongArray.newArray(nodeCount, tracker);
+        coreValues = HugeIntArray.newArray(nodeCount, tracker);
+        remainingNodes = null;
+        remainingCount = nodeCount;
+
+        var tasks = new ArrayList<PeelTask>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            tasks.add(new PeelTask());
+        }
+
+        run(tasks, Phase.DEGREES, 0);
+        long level = minDegree(tasks);
+        long unprocessed = nodeCount;
+        int degeneracy = 0;
+
+        while (unprocessed > 0) {
+            terminationFlag.assertRunning();
+
+            run(tasks, Phase.SCAN, level);
+            run(tasks, Phase.PEEL, level);
+
+            long stillRemaining = 0;
+            for (PeelTask task : tasks) {
+                stillRemaining += task.count - task.peeled;
+            }
+            long processed = unprocessed - stillRemaining;
+            unprocessed = stillRemaining;
+            // the smallest degree is a lower bound, a level might turn out to be empty
+            if (processed > 0) {
+                int coreValue = Math.toIntExact(level);
+                degeneracy = coreValue;
+                getProgressLogger().logProgress(
+                    processed,
+                    () -> formatWithLocale("Level %d removed %d nodes", coreValue, processed)
+                );
+            }
+
+            if (unprocessed > 0 && unprocessed <= remainingCount / 2) {
+                compact(tasks, level, unprocessed);
+            }
+            level = minDegree(tasks);
+        }
+
+        remainingNodes = null;
+        degrees = null;
+        return KCoreResult.of(coreValues, degeneracy);
+    }
+
+    @Override
+    public KCoreDecomposition me() {
+        return this;
+    }
+
+    @Override
+    public void release() {
+        remainingNodes = null;
+        degrees = null;
+    }
+
+    private void run(List<PeelTask> tasks, Phase phase, long level) {
+        long batchSize = BitUtil.ceilDiv(remainingCount, tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            long start = Math.min(remainingCount, i * batchSize);
+            tasks.get(i).prepare(phase, level, start, Math.min(remainingCount, start + batchSize));
+        }
+        ParallelUtil.runWithConcurrency(concurrency, tasks, executorService);
+    }
+
+    private void compact(List<PeelTask> tasks, long level, long unprocessed) {
+        run(tasks, Phase.COUNT, level);
+        long offset = 0;
+        for (PeelTask task : tasks) {
+            task.offset = offset;
+            offset += task.count;
+        }
+        assert offset == unprocessed;
+
+        var compactedNodes = HugeLongArray.newArray(unprocessed, tracker);
+        for (PeelTask task : tasks) {
+            task.target = compactedNodes;
+        }
+        run(tasks, Phase.COMPACT, level);
+        for (PeelTask task : tasks) {
+            task.target = null;
+        }
+
+        remainingNodes = compactedNodes;
+        remainingCount = unprocessed;
+    }
+
+    private static long minDegree(List<PeelTask> tasks) {
+        long minDegree = Long.MAX_VALUE;
+        for (PeelTask task : tasks) {
+            minDegree = Math.min(minDegree, task.minDegree);
+        }
+        return minDegree;
+    }
+
+    private long nodeAt(long index) {
+        return remainingNodes == null ? index : remainingNodes.get(index);
+    }
+
+    private enum Phase {
+        DEGREES,
+        SCAN,
+        PEEL,
+        COUNT,
+        COMPACT
+    }
+
+    private final class PeelTask implements Runnable {
+
+        private final RelationshipIterator relationshipIterator;
+        private final LongArrayList bucket;
+
+        private Phase phase;
+        private long level;
+        private long start;
+        private long end;
+
+        // number of remaining nodes above the level within the range, seen by SCAN or COUNT
+        private long count;
+        // number of nodes that PEEL added to the bucket after their degree dropped to the level
+        private long peeled;
+        // the smallest degree above the level, seen by DEGREES, SCAN and PEEL
+        private long minDegree;
+
+        private long offset;
+        private HugeLongArray target;
+
+        private long degree;
+
+        PeelTask() {
+            this.relationshipIterator = graph.concurrentCopy();
+            this.bucket = new LongArrayList();
+        }
+
+        void prepare(Phase phase, long level, long start, long end) {
+            this.phase = phase;
+            this.level = level;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public void run() {
+            switch (phase) {
+                case DEGREES:
+                    computeDegrees();
+                    break;
+                case SCAN:
+                    scan();
+                    break;
+                case PEEL:
+                    peel();
+                    break;
+                case COUNT:
+                    count();
+                    break;
+                case COMPACT:
+                    compact();
+                    break;
+                default:
+                    throw new IllegalStateException("Unexpected phase: " + phase);
+            }
+        }
+
+        private void computeDegrees() {
+            minDegree = Long.MAX_VALUE;
+            for (long nodeId = start; nodeId < end; nodeId++) {
+                degree = 0;
+                relationshipIterator.forEachRelationship(nodeId, (source, target) -> {
+                    if (source != target) {
+                        degree++;
+                    }
+                    return true;
+                });
+                degrees.set(nodeId, degree);
+                minDegree = Math.min(minDegree, degree);
+            }
+        }
+
+        private void scan() {
+            count = 0;
+            minDegree = Long.MAX_VALUE;
+            bucket.clear();
+            for (long index = start; index < end; index++) {
+                long nodeId = nodeAt(index);
+                long nodeDegree = degrees.get(nodeId);
+                if (nodeDegree == level) {
+                    coreValues.set(nodeId, (int) level);
+                    bucket.add(nodeId);
+                } else if (nodeDegree > level) {
+                    count++;
+                    minDegree = Math.min(minDegree, nodeDegree);
+                }
+            }
+        }
+
+        private void peel() {
+            peeled = 0;
+            // the bucket grows while it is being processed
+            for (int i = 0; i < bucket.size(); i++) {
+                relationshipIterator.forEachRelationship(bucket.get(i), (source, target) -> {
+                    if (source != target && degrees.get(target) > level) {
+                        long previous = degrees.getAndAdd(target, -1);
+                        if (previous == level + 1) {
+                            coreValues.set(target, (int) level);
+                            bucket.add(target);
+                            peeled++;
+                        } else if (previous > level + 1) {
+                            minDegree = Math.min(minDegree, previous - 1);
+                        } else {
+                            // the neighbour has been removed concurrently, restore its degree
+                            degrees.getAndAdd(target, 1);
+                        }
+                    }
+                    return true;
+                });
+            }
+            bucket.clear();
+        }
+
+        private void count() {
+            count = 0;
+            for (long index = start; index < end; index++) {
+                if (degrees.get(nodeAt(index)) > level) {
+                    count++;
+                }
+            }
+        }
+
+        private void compact() {
+            long targetIndex = offset;
+            for (long index = start; index < end; index++) {
+                long nodeId = nodeAt(index);
+                if (degrees.get(nodeId) > level) {
+                    target.set(targetIndex++, nodeId);
+                }
+            }
+        }
+    }
+
+    @ValueClass
+    public interface KCoreResult {
+        // value at index `i` is the core value of the node with id `i`
+        HugeIntArray coreValues();
+
+        // the largest core value of all nodes
+        int degeneracy();
+
+        static KCoreResult of(HugeIntArray coreValues, int degeneracy) {
+            return ImmutableKCoreResult
+                .builder()
+                .coreValues(coreValues)
+                .degeneracy(degeneracy)
+                .build();
+        }
+
+        default LongNodeProperties asNodeProperties() {
+            return coreValues().asNodeProperties();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.betweenness;
+
+import org.neo4j.graphalgo.annotation.ValueClass;
+
+import java.util.Optional;
+
+/**
+ * Parameters of the path sampling approximation by Riondato and Kornaropoulos.
+ *
+ * Each sample picks a pair of distinct nodes uniformly at random and a shortest path between
+ * them uniformly at random, the interior nodes of that path are credited with one sample.
+ * After {@link #sampleCount(long)} samples, all normalized estimates are within {@link #epsilon()}
+ * of their exact values with probability at least {@code 1 - delta}.
+ */
+@ValueClass
+public interface BetweennessApproximation {
+
+    /**
+     * Universal constant of the VC-dimension based sample bound, as suggested by Löffler and Phillips.
+     */
+    double UNIVERSAL_CONSTANT = 0.5;
+
+    double epsilon();
+
+    double delta();
+
+    Optional<Long> maxRunningTimeMillis();
+
+    Optional<Long> seed();
+
+    /**
+     * @param vertexDiameterBound an upper bound for the number of nodes on any shortest path
+     * @return the number of samples needed to guarantee the requested error bound
+     */
+    default long sampleCount(long vertexDiameterBound) {
+        return (long) Math.ceil(complexity(vertexDiameterBound) / (epsilon() * epsilon()));
+    }
+
+    /**
+     * @return the error bound that holds with probability {@code 1 - delta} after the given number of samples
+     */
+    default double achievedEpsilon(long sampleCount, long vertexDiameterBound) {
+        if (sampleCount == 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return Math.sqrt(complexity(vertexDiameterBound) / sampleCount);
+    }
+
+    private double complexity(long vertexDiameterBound) {
+        long floorLog2 = 63 - Long.numberOfLeadingZeros(Math.max(1, vertexDiameterBound - 2));
+        return UNIVERSAL_CONSTANT * (floorLog2 + 1 + Math.log(1 / delta()));
+    }
+}
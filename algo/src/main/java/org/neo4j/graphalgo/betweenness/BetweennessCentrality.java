@@ -19,32 +19,55 @@
  */
 package org.neo4j.graphalgo.betweenness;
 
-import com.carrotsearch.hppc.LongArrayList;
-import com.carrotsearch.hppc.cursors.LongCursor;
+import com.carrotsearch.hppc.BitSet;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.graphalgo.Algorithm;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.api.RelationshipIterator;
 import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.paged.HugeAtomicDoubleArray;
-import org.neo4j.graphalgo.core.utils.paged.HugeCursor;
 import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeIntArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeLongArrayQueue;
 import org.neo4j.graphalgo.core.utils.paged.HugeLongArrayStack;
-import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
+import org.neo4j.graphalgo.core.utils.queue.HugeLongPriorityQueue;
 
+import java.util.SplittableRandom;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.function.Consumer;
 
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Brandes' betweenness centrality.
+ *
+ * The dependencies are accumulated without storing predecessor lists. When a node is popped
+ * from the backward stack, all of its successors on shortest paths have already been finalized,
+ * so its dependency is recomputed from its relationships and the distance and sigma arrays.
+ * This trades a second traversal of the relationships for the predecessor lists, whose size is
+ * bounded only by the relationship count.
+ *
+ * The unweighted variant uses a breadth-first search, the weighted variant uses Dijkstra's
+ * algorithm and requires positive relationship weights.
+ *
+ * If a {@link BetweennessApproximation} is given, the scores are estimated by sampling random
+ * shortest paths until the requested error bound is guaranteed or the time budget is exhausted.
+ * Each sample stops its traversal as soon as the target node is settled and only the sampled
+ * path is credited, so no backward accumulation over the whole graph is needed.
+ */
 public class BetweennessCentrality extends Algorithm<BetweennessCentrality, HugeAtomicDoubleArray> {
 
+    private static final double DEFAULT_WEIGHT = 1.0D;
+
     private final Graph graph;
     private final AtomicLong nodeQueue = new AtomicLong();
     private final long nodeCount;
     private final double divisor;
+    private final boolean weighted;
+    private final @Nullable BetweennessApproximation approximation;
 
     private HugeAtomicDoubleArray centrality;
     private SelectionStrategy selectionStrategy;
@@ -53,17 +76,56 @@ public class BetweennessCentrality extends Algorithm<BetweennessCentrality, Huge
     private final int concurrency;
     private final AllocationTracker tracker;
 
+    private long sampledPairs;
+    private double approximationError;
+
     public BetweennessCentrality(
         Graph graph,
         SelectionStrategy selectionStrategy,
         ExecutorService executorService,
         int concurrency,
         AllocationTracker tracker
+    ) {
+        this(graph, selectionStrategy, false, executorService, concurrency, tracker);
+    }
+
+    public BetweennessCentrality(
+        Graph graph,
+        SelectionStrategy selectionStrategy,
+        boolean weighted,
+        ExecutorService executorService,
+        int concurrency,
+        AllocationTracker tracker
+    ) {
+        this(graph, selectionStrategy, null, weighted, executorService, concurrency, tracker);
+    }
+
+    public BetweennessCentrality(
+        Graph graph,
+        BetweennessApproximation approximation,
+        boolean weighted,
+        ExecutorService executorService,
+        int concurrency,
+        AllocationTracker tracker
+    ) {
+        this(graph, SelectionStrategy.ALL, approximation, weighted, executorService, concurrency, tracker);
+    }
+
+    private BetweennessCentrality(
+        Graph graph,
+        SelectionStrategy selectionStrategy,
+        @Nullable BetweennessApproximation approximation,
+        boolean weighted,
+        ExecutorService executorService,
+        int concurrency,
+        AllocationTracker tracker
     ) {
         this.graph = graph;
         this.executorService = executorService;
         this.concurrency = concurrency;
         this.nodeCount = graph.nodeCount();
+        this.weighted = weighted;
+        this.approximation = approximation;
         this.centrality = HugeAtomicDoubleArray.newArray(nodeCount, tracker);
         this.selectionStrategy = selectionStrategy;
         this.selectionStrategy.init(graph, executorService, concurrency);
@@ -74,10 +136,65 @@ public class BetweennessCentrality extends Algorithm<BetweennessCentrality, Huge
     @Override
     public HugeAtomicDoubleArray compute() {
         nodeQueue.set(0);
-        ParallelUtil.run(ParallelUtil.tasks(concurrency, () -> new BCTask(tracker)), executorService);
+        if (approximation != null) {
+            return approximate(approximation);
+        }
+        ParallelUtil.run(ParallelUtil.tasks(concurrency, () -> weighted
+            ? new WeightedBCTask(tracker)
+            : new UnweightedBCTask(tracker)
+        ), executorService);
+        return centrality;
+    }
+
+    private HugeAtomicDoubleArray approximate(BetweennessApproximation approximation) {
+        // a shortest path cannot contain more than all nodes
+        long vertexDiameterBound = nodeCount;
+        long sampleCount = nodeCount < 2 ? 0 : approximation.sampleCount(vertexDiameterBound);
+        long budgetNanos = approximation.maxRunningTimeMillis()
+            .map(TimeUnit.MILLISECONDS::toNanos)
+            .orElse(Long.MAX_VALUE);
+        long startNanos = System.nanoTime();
+
+        var random = approximation.seed().map(SplittableRandom::new).orElseGet(SplittableRandom::new);
+        var completedSamples = new AtomicLong();
+        getProgressLogger().reset(sampleCount);
+        ParallelUtil.run(ParallelUtil.tasks(concurrency, () -> new PathSamplingTask(
+            random.split(),
+            sampleCount,
+            startNanos,
+            budgetNanos,
+            completedSamples,
+            tracker
+        )), executorService);
+
+        sampledPairs = completedSamples.get();
+        approximationError = approximation.achievedEpsilon(sampledPairs, vertexDiameterBound);
+
+        if (sampledPairs > 0) {
+            // scale the sample counts to the number of shortest paths between all node pairs
+            double scale = (double) nodeCount * (nodeCount - 1) / (sampledPairs * divisor);
+            ParallelUtil.parallelForEachNode(nodeCount, concurrency, nodeId ->
+                centrality.set(nodeId, centrality.get(nodeId) * scale)
+            );
+        }
         return centrality;
     }
 
+    /**
+     * @return the number of sampled node pairs, 0 if the scores were not approximated
+     */
+    public long sampledPairs() {
+        return sampledPairs;
+    }
+
+    /**
+     * @return the bound for the error of the normalized scores that holds with probability {@code 1 - delta},
+     *     0 if the scores were not approximated
+     */
+    public double approximationError() {
+        return approximationError;
+    }
+
     @Override
     public BetweennessCentrality me() {
         return this;
@@ -89,34 +206,52 @@ public class BetweennessCentrality extends Algorithm<BetweennessCentrality, Huge
         selectionStrategy = null;
     }
 
-    final class BCTask implements Runnable {
+    // Dijkstra settles nodes in order of distance, which is only correct for positive weights.
+    // Zero weights would additionally create cycles of equal length and corrupt the path counts.
+    private static void validateWeight(long source, long target, double weight) {
+        if (!(weight > 0)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Betweenness centrality requires positive relationship weights, but the relationship (%d)-->(%d) has weight %f.",
+                source,
+                target,
+                weight
+            ));
+        }
+    }
 
-        private final RelationshipIterator localRelationshipIterator;
+    abstract class BCTask implements Runnable {
 
-        private final HugeObjectArray<LongArrayList> predecessors;
-        private final HugeCursor<LongArrayList[]> predecessorsCursor;
+        final RelationshipIterator localRelationshipIterator;
 
-        private final HugeLongArrayQueue forwardNodes;
-        private final HugeLongArrayStack backwardNodes;
+        final HugeLongArrayStack backwardNodes;
 
-        private final HugeDoubleArray delta;
-        private final HugeLongArray sigma;
-        private final HugeIntArray distance;
+        final HugeDoubleArray delta;
+        final HugeLongArray sigma;
 
-        private BCTask(AllocationTracker tracker) {
+        BCTask(AllocationTracker tracker) {
             this.localRelationshipIterator = graph.concurrentCopy();
-
-            this.predecessors = HugeObjectArray.newArray(LongArrayList.class, nodeCount, tracker);
-            this.predecessorsCursor = predecessors.newCursor();
             this.backwardNodes = HugeLongArrayStack.newStack(nodeCount, tracker);
-            // TODO: make queue growable
-            this.forwardNodes = HugeLongArrayQueue.newQueue(nodeCount, tracker);
-
             this.sigma = HugeLongArray.newArray(nodeCount, tracker);
             this.delta = HugeDoubleArray.newArray(nodeCount, tracker);
-            this.distance = HugeIntArray.newArray(nodeCount, tracker);
         }
 
+        /**
+         * Resets the state of the previous start node.
+         */
+        abstract void clear();
+
+        /**
+         * Computes distances and the number of shortest paths from the start node
+         * and pushes all reachable nodes onto {@link #backwardNodes} in order of
+         * non-decreasing distance.
+         */
+        abstract void forward(long startNodeId);
+
+        /**
+         * @return true iff the relationship from source to target is part of a shortest path from the start node
+         */
+        abstract boolean isShortestPathRelationship(long source, long target, double weight);
+
         @Override
         public void run() {
             for (;;) {
@@ -133,47 +268,27 @@ public class BetweennessCentrality extends Algorithm<BetweennessCentrality, Huge
                 getProgressLogger().logProgress(startNodeId / (nodeCount - 1));
 
                 clear();
+                sigma.fill(0);
+                delta.fill(0);
 
-                sigma.addTo(startNodeId, 1);
-                distance.set(startNodeId, 0);
-
-                forwardNodes.add(startNodeId);
+                sigma.set(startNodeId, 1);
+                forward(startNodeId);
 
-                // BC forward traversal
-                while (!forwardNodes.isEmpty()) {
-                    long node = forwardNodes.remove();
-                    backwardNodes.push(node);
-                    int distanceNode = distance.get(node);
-
-                    localRelationshipIterator.forEachRelationship(node, (source, target) -> {
-                        if (distance.get(target) < 0) {
-                            forwardNodes.add(target);
-                            distance.set(target, distanceNode + 1);
-                        }
+                while (!backwardNodes.isEmpty()) {
+                    long node = backwardNodes.pop();
+                    double sigmaNode = sigma.get(node);
 
-                        if (distance.get(target) == distanceNode + 1) {
-                            sigma.addTo(target, sigma.get(source));
-                            append(target, source);
+                    // all successors have a larger distance and were popped before
+                    localRelationshipIterator.forEachRelationship(node, DEFAULT_WEIGHT, (source, target, weight) -> {
+                        if (isShortestPathRelationship(source, target, weight)) {
+                            double dependency = sigmaNode / sigma.get(target) * (delta.get(target) + 1.0);
+                            delta.addTo(source, dependency);
                         }
                         return true;
                     });
-                }
-
-                while (!backwardNodes.isEmpty()) {
-                    long node = backwardNodes.pop();
-                    LongArrayList predecessors = this.predecessors.get(node);
-
-                    double dependencyNode = delta.get(node);
-                    double sigmaNode = sigma.get(node);
 
-                    if (null != predecessors) {
-                        predecessors.forEach((Consumer<? super LongCursor>) predecessor -> {
-                            double sigmaPredecessor = sigma.get(predecessor.value);
-                            double dependency = sigmaPredecessor / sigmaNode * (dependencyNode + 1.0);
-                            delta.addTo(predecessor.value, dependency);
-                        });
-                    }
                     if (node != startNodeId) {
+                        double dependencyNode = delta.get(node);
                         double current;
                         do {
                             current = centrality.get(node);
@@ -182,34 +297,327 @@ public class BetweennessCentrality extends Algorithm<BetweennessCentrality, Huge
                 }
             }
         }
+    }
 
-        // append node to the path at target
-        private void append(long target, long node) {
-            LongArrayList targetPredecessors = predecessors.get(target);
-            if (null == targetPredecessors) {
-                targetPredecessors = new LongArrayList();
-                predecessors.set(target, targetPredecessors);
-            }
-            targetPredecessors.add(node);
+    final class UnweightedBCTask extends BCTask {
+
+        private final HugeLongArrayQueue forwardNodes;
+        private final HugeIntArray distance;
+
+        private UnweightedBCTask(AllocationTracker tracker) {
+            super(tracker);
+            // TODO: make queue growable
+            this.forwardNodes = HugeLongArrayQueue.newQueue(nodeCount, tracker);
+            this.distance = HugeIntArray.newArray(nodeCount, tracker);
         }
 
-        private void clear() {
+        @Override
+        void clear() {
             distance.fill(-1);
-            sigma.fill(0);
-            delta.fill(0);
-
-            predecessors.initCursor(predecessorsCursor);
-
-            while (predecessorsCursor.next()) {
-                for (int i = predecessorsCursor.offset; i < predecessorsCursor.limit; i++) {
-                    if (predecessorsCursor.array[i] != null) {
-                        // We avoid using LongArrayList#clear since it would
-                        // fill the inner array with zeros. We don't need that
-                        // so we just reset the index which is cheaper
-                        predecessorsCursor.array[i].elementsCount = 0;
+        }
+
+        @Override
+        void forward(long startNodeId) {
+            distance.set(startNodeId, 0);
+            forwardNodes.add(startNodeId);
+
+            // BC forward traversal
+            while (!forwardNodes.isEmpty()) {
+                long node = forwardNodes.remove();
+                backwardNodes.push(node);
+                int distanceNode = distance.get(node);
+
+                localRelationshipIterator.forEachRelationship(node, (source, target) -> {
+                    if (distance.get(target) < 0) {
+                        forwardNodes.add(target);
+                        distance.set(target, distanceNode + 1);
+                    }
+
+                    if (distance.get(target) == distanceNode + 1) {
+                        sigma.addTo(target, sigma.get(source));
+                    }
+                    return true;
+                });
+            }
+        }
+
+        @Override
+        boolean isShortestPathRelationship(long source, long target, double weight) {
+            return distance.get(target) == distance.get(source) + 1;
+        }
+    }
+
+    final class WeightedBCTask extends BCTask {
+
+        private final HugeLongPriorityQueue forwardNodes;
+        private final HugeDoubleArray distance;
+        private final BitSet visited;
+
+        private WeightedBCTask(AllocationTracker tracker) {
+            super(tracker);
+            this.forwardNodes = HugeLongPriorityQueue.min(nodeCount, tracker);
+            this.distance = HugeDoubleArray.newArray(nodeCount, tracker);
+            this.visited = new BitSet(nodeCount);
+        }
+
+        @Override
+        void clear() {
+            distance.fill(Double.POSITIVE_INFINITY);
+            visited.clear();
+            forwardNodes.clear();
+        }
+
+        @Override
+        void forward(long startNodeId) {
+            distance.set(startNodeId, 0);
+            forwardNodes.add(startNodeId, 0);
+
+            // Dijkstra forward traversal, nodes are settled in order of non-decreasing distance
+            while (!forwardNodes.isEmpty()) {
+                long node = forwardNodes.pop();
+                visited.set(node);
+                backwardNodes.push(node);
+                double distanceNode = distance.get(node);
+
+                localRelationshipIterator.forEachRelationship(node, DEFAULT_WEIGHT, (source, target, weight) -> {
+                    validateWeight(source, target, weight);
+                    if (visited.get(target)) {
+                        return true;
+                    }
+                    double newDistance = distanceNode + weight;
+                    double oldDistance = distance.get(target);
+                    if (newDistance < oldDistance) {
+                        distance.set(target, newDistance);
+                        sigma.set(target, sigma.get(source));
+                        if (forwardNodes.containsElement(target)) {
+                            forwardNodes.set(target, newDistance);
+                        } else {
+                            forwardNodes.add(target, newDistance);
+                        }
+                    } else if (newDistance == oldDistance) {
+                        sigma.addTo(target, sigma.get(source));
+                    }
+                    return true;
+                });
+            }
+        }
+
+        @Override
+        boolean isShortestPathRelationship(long source, long target, double weight) {
+            return source != target && visited.get(target) && distance.get(source) + weight == distance.get(target);
+        }
+    }
+
+    /**
+     * Samples shortest paths between random node pairs.
+     *
+     * Node state is versioned by sample, a node's distance and sigma are only valid if its
+     * visit stamp belongs to the current sample. This avoids resetting node sized arrays
+     * for traversals that typically touch only a small part of the graph.
+     */
+    final class PathSamplingTask implements Runnable {
+
+        private final RelationshipIterator localRelationshipIterator;
+        private final SplittableRandom random;
+        private final long sampleCount;
+        private final long startNanos;
+        private final long budgetNanos;
+        private final AtomicLong completedSamples;
+
+        private final HugeIntArray visits;
+        private final HugeDoubleArray distance;
+        private final HugeLongArray sigma;
+        private final HugeLongArrayStack settledNodes;
+        private final @Nullable HugeLongArrayQueue queue;
+        private final @Nullable HugeLongPriorityQueue priorityQueue;
+
+        private int sample;
+        private long pathNode;
+        private int pathRelationships;
+
+        private PathSamplingTask(
+            SplittableRandom random,
+            long sampleCount,
+            long startNanos,
+            long budgetNanos,
+            AtomicLong completedSamples,
+            AllocationTracker tracker
+        ) {
+            this.localRelationshipIterator = graph.concurrentCopy();
+            this.random = random;
+            this.sampleCount = sampleCount;
+            this.startNanos = startNanos;
+            this.budgetNanos = budgetNanos;
+            this.completedSamples = completedSamples;
+            this.visits = HugeIntArray.newArray(nodeCount, tracker);
+            this.distance = HugeDoubleArray.newArray(nodeCount, tracker);
+            this.sigma = HugeLongArray.newArray(nodeCount, tracker);
+            this.settledNodes = HugeLongArrayStack.newStack(nodeCount, tracker);
+            this.queue = weighted ? null : HugeLongArrayQueue.newQueue(nodeCount, tracker);
+            this.priorityQueue = weighted ? HugeLongPriorityQueue.min(nodeCount, tracker) : null;
+        }
+
+        @Override
+        public void run() {
+            long localSamples = 0;
+            while (running() && System.nanoTime() - startNanos < budgetNanos) {
+                long sampleId = nodeQueue.getAndIncrement();
+                if (sampleId >= sampleCount) {
+                    break;
+                }
+                sample++;
+
+                long source = random.nextLong(nodeCount);
+                long target = random.nextLong(nodeCount - 1);
+                if (target >= source) {
+                    target++;
+                }
+
+                boolean reachable = weighted ? dijkstra(source, target) : breadthFirst(source, target);
+                if (reachable) {
+                    samplePath(source, target);
+                }
+                while (!settledNodes.isEmpty()) {
+                    settledNodes.pop();
+                }
+
+                localSamples++;
+                getProgressLogger().logProgress();
+            }
+            completedSamples.addAndGet(localSamples);
+        }
+
+        private boolean breadthFirst(long source, long target) {
+            discover(source, 0, 1);
+            queue.add(source);
+
+            double targetDistance = Double.POSITIVE_INFINITY;
+            while (!queue.isEmpty()) {
+                long node = queue.remove();
+                double distanceNode = distance.get(node);
+                // all predecessors of the target have been expanded
+                if (distanceNode >= targetDistance) {
+                    break;
+                }
+                settle(node);
+
+                double nextDistance = distanceNode + 1;
+                long sigmaNode = sigma.get(node);
+                localRelationshipIterator.forEachRelationship(node, (from, to) -> {
+                    if (!isDiscovered(to)) {
+                        discover(to, nextDistance, 0);
+                        queue.add(to);
+                    }
+                    if (distance.get(to) == nextDistance) {
+                        sigma.addTo(to, sigmaNode);
+                    }
+                    return true;
+                });
+
+                if (targetDistance == Double.POSITIVE_INFINITY && isDiscovered(target)) {
+                    targetDistance = distance.get(target);
+                }
+            }
+
+            while (!queue.isEmpty()) {
+                queue.remove();
+            }
+            return isDiscovered(target);
+        }
+
+        private boolean dijkstra(long source, long target) {
+            discover(source, 0, 1);
+            priorityQueue.add(source, 0);
+
+            while (!priorityQueue.isEmpty()) {
+                long node = priorityQueue.pop();
+                settle(node);
+                if (node == target) {
+                    break;
+                }
+
+                double distanceNode = distance.get(node);
+                long sigmaNode = sigma.get(node);
+                localRelationshipIterator.forEachRelationship(node, DEFAULT_WEIGHT, (from, to, weight) -> {
+                    validateWeight(from, to, weight);
+                    if (isSettled(to)) {
+                        return true;
+                    }
+                    double newDistance = distanceNode + weight;
+                    if (!isDiscovered(to)) {
+                        discover(to, newDistance, sigmaNode);
+                        priorityQueue.add(to, newDistance);
+                    } else if (newDistance < distance.get(to)) {
+                        distance.set(to, newDistance);
+                        sigma.set(to, sigmaNode);
+                        priorityQueue.set(to, newDistance);
+                    } else if (newDistance == distance.get(to)) {
+                        sigma.addTo(to, sigmaNode);
+                    }
+                    return true;
+                });
+            }
+
+            // popping clears the element state, which is cheaper than clearing the whole queue
+            while (!priorityQueue.isEmpty()) {
+                priorityQueue.pop();
+            }
+            return isSettled(target);
+        }
+
+        /**
+         * Walks back from the target, choosing each predecessor with probability proportional to
+         * the number of shortest paths through it. The settled nodes are popped in order of
+         * non-increasing distance, so all predecessors of the current path node are still on the stack.
+         */
+        private void samplePath(long source, long target) {
+            pathNode = target;
+            long pick = random.nextLong(sigma.get(target));
+
+            while (!settledNodes.isEmpty() && pathNode != source) {
+                long node = settledNodes.pop();
+                double distanceNode = distance.get(node);
+                double distancePathNode = distance.get(pathNode);
+                if (weighted ? distanceNode >= distancePathNode : distanceNode + 1 != distancePathNode) {
+                    continue;
+                }
+
+                pathRelationships = 0;
+                localRelationshipIterator.forEachRelationship(node, DEFAULT_WEIGHT, (from, to, weight) -> {
+                    if (to == pathNode && distanceNode + (weighted ? weight : 1) == distancePathNode) {
+                        pathRelationships++;
+                    }
+                    return true;
+                });
+
+                pick -= pathRelationships * sigma.get(node);
+                if (pick < 0) {
+                    pathNode = node;
+                    if (node != source) {
+                        centrality.getAndAdd(node, 1);
+                        pick = random.nextLong(sigma.get(node));
                     }
                 }
             }
         }
+
+        private void discover(long node, double nodeDistance, long nodeSigma) {
+            visits.set(node, 2 * sample);
+            distance.set(node, nodeDistance);
+            sigma.set(node, nodeSigma);
+        }
+
+        private void settle(long node) {
+            visits.set(node, 2 * sample + 1);
+            settledNodes.push(node);
+        }
+
+        private boolean isDiscovered(long node) {
+            return visits.get(node) >= 2 * sample;
+        }
+
+        private boolean isSettled(long node) {
+            return visits.get(node) == 2 * sample + 1;
+        }
     }
 }
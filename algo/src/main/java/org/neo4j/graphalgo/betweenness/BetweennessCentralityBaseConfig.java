@@ -20,17 +20,48 @@
 package org.neo4j.graphalgo.betweenness;
 
 import org.immutables.value.Value;
+import org.neo4j.graphalgo.annotation.Configuration;
 import org.neo4j.graphalgo.config.AlgoBaseConfig;
+import org.neo4j.graphalgo.config.RelationshipWeightConfig;
 
 import java.util.Locale;
 import java.util.Optional;
 
-public interface BetweennessCentralityBaseConfig extends AlgoBaseConfig {
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+public interface BetweennessCentralityBaseConfig extends AlgoBaseConfig, RelationshipWeightConfig {
 
     Optional<Long> samplingSize();
 
     Optional<Long> samplingSeed();
 
+    /**
+     * The maximum error of the normalized scores when approximating by path sampling.
+     * The default of 0 computes exact scores.
+     */
+    @Value.Default
+    default double epsilon() {
+        return 0.0;
+    }
+
+    /**
+     * The probability that the approximated scores exceed the error bound.
+     */
+    @Value.Default
+    default double delta() {
+        return 0.1;
+    }
+
+    /**
+     * Stops path sampling after the given time, even if the error bound is not yet guaranteed.
+     */
+    Optional<Long> maxRunningTimeMillis();
+
+    @Configuration.Ignore
+    default boolean isApproximation() {
+        return epsilon() > 0;
+    }
+
     @Value.Check
     default void validate() {
         samplingSize().ifPresent(samplingSize -> {
@@ -42,5 +73,35 @@ public interface BetweennessCentralityBaseConfig extends AlgoBaseConfig {
                 ));
             }
         });
+        if (epsilon() < 0 || epsilon() >= 1) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Configuration parameter 'epsilon' must be in the range [0, 1), got %f.",
+                epsilon()
+            ));
+        }
+        if (delta() <= 0 || delta() >= 1) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Configuration parameter 'delta' must be in the range (0, 1), got %f.",
+                delta()
+            ));
+        }
+        if (isApproximation() && samplingSize().isPresent()) {
+            throw new IllegalArgumentException(
+                "Configuration parameters 'epsilon' and 'samplingSize' cannot be used together."
+            );
+        }
+        maxRunningTimeMillis().ifPresent(maxRunningTimeMillis -> {
+            if (!isApproximation()) {
+                throw new IllegalArgumentException(
+                    "Configuration parameter 'maxRunningTimeMillis' requires a positive 'epsilon'."
+                );
+            }
+            if (maxRunningTimeMillis <= 0) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Configuration parameter 'maxRunningTimeMillis' must be a positive number, got %d.",
+                    maxRunningTimeMillis
+                ));
+            }
+        });
     }
 }
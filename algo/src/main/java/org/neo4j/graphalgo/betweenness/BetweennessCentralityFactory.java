@@ -25,16 +25,15 @@ import org.neo4j.graphalgo.core.concurrency.Pools;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.mem.MemoryUsage;
 import org.neo4j.graphalgo.core.utils.paged.HugeAtomicDoubleArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeIntArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
-import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
 import org.neo4j.graphalgo.core.utils.progress.ProgressEventTracker;
+import org.neo4j.graphalgo.core.utils.queue.HugeLongPriorityQueue;
 import org.neo4j.logging.Log;
 
-import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfLongArray;
-
 public class BetweennessCentralityFactory<CONFIG extends BetweennessCentralityBaseConfig> implements AlgorithmFactory<BetweennessCentrality, CONFIG> {
 
     @Override
@@ -47,6 +46,24 @@ public class BetweennessCentralityFactory<CONFIG extends BetweennessCentralityBa
     ) {
         var samplingSize = configuration.samplingSize();
         var samplingSeed = configuration.samplingSeed();
+        var weighted = configuration.relationshipWeightProperty() != null;
+
+        if (configuration.isApproximation()) {
+            var approximation = ImmutableBetweennessApproximation.builder()
+                .epsilon(configuration.epsilon())
+                .delta(configuration.delta())
+                .maxRunningTimeMillis(configuration.maxRunningTimeMillis())
+                .seed(samplingSeed)
+                .build();
+            return new BetweennessCentrality(
+                graph,
+                approximation,
+                weighted,
+                Pools.DEFAULT,
+                configuration.concurrency(),
+                tracker
+            );
+        }
 
         var strategy = samplingSize.isPresent() && samplingSize.get() < graph.nodeCount()
             ? new SelectionStrategy.RandomDegree(samplingSize.get(), samplingSeed)
@@ -55,6 +72,7 @@ public class BetweennessCentralityFactory<CONFIG extends BetweennessCentralityBa
         return new BetweennessCentrality(
             graph,
             strategy,
+            weighted,
             Pools.DEFAULT,
             configuration.concurrency(),
             tracker
@@ -63,22 +81,42 @@ public class BetweennessCentralityFactory<CONFIG extends BetweennessCentralityBa
 
     @Override
     public MemoryEstimation memoryEstimation(CONFIG configuration) {
+        var weighted = configuration.relationshipWeightProperty() != null;
+        if (configuration.isApproximation()) {
+            var sampling = MemoryEstimations.builder(BetweennessCentrality.PathSamplingTask.class)
+                .perNode("visits", HugeIntArray::memoryEstimation)
+                .perNode("distances", HugeDoubleArray::memoryEstimation)
+                .perNode("sigmas", HugeLongArray::memoryEstimation)
+                .perNode("settledNodes", HugeLongArray::memoryEstimation);
+            if (weighted) {
+                sampling.add("priorityQueue", HugeLongPriorityQueue.memoryEstimation());
+            } else {
+                sampling.perNode("queue", HugeLongArray::memoryEstimation);
+            }
+            return MemoryEstimations.builder(BetweennessCentrality.class)
+                .perNode("centrality scores", HugeAtomicDoubleArray::memoryEstimation)
+                .perThread("sampling task", sampling.build())
+                .build();
+        }
+
         return MemoryEstimations.builder(BetweennessCentrality.class)
             .perNode("centrality scores", HugeAtomicDoubleArray::memoryEstimation)
-            .perThread("compute task", MemoryEstimations.builder(BetweennessCentrality.BCTask.class)
-                .add("predecessors", MemoryEstimations.setup("", (dimensions, concurrency) -> {
-                    // Predecessors are represented by LongArrayList which wrap a long[]
-                    long averagePredecessorSize = sizeOfLongArray(dimensions.averageDegree());
-                    return MemoryEstimations.builder(HugeObjectArray.class)
-                        .perNode("array", nodeCount -> nodeCount * averagePredecessorSize)
-                        .build();
-                }))
-                .perNode("forwardNodes", HugeLongArray::memoryEstimation)
-                .perNode("backwardNodes", HugeLongArray::memoryEstimation)
-                .perNode("deltas", HugeDoubleArray::memoryEstimation)
-                .perNode("sigmas", HugeLongArray::memoryEstimation)
-                .perNode("distances", HugeIntArray::memoryEstimation)
-                .build())
+            .perThread("compute task", weighted
+                ? MemoryEstimations.builder(BetweennessCentrality.WeightedBCTask.class)
+                    .add("forwardNodes", HugeLongPriorityQueue.memoryEstimation())
+                    .perNode("backwardNodes", HugeLongArray::memoryEstimation)
+                    .perNode("deltas", HugeDoubleArray::memoryEstimation)
+                    .perNode("sigmas", HugeLongArray::memoryEstimation)
+                    .perNode("distances", HugeDoubleArray::memoryEstimation)
+                    .perNode("visited", MemoryUsage::sizeOfBitset)
+                    .build()
+                : MemoryEstimations.builder(BetweennessCentrality.UnweightedBCTask.class)
+                    .perNode("forwardNodes", HugeLongArray::memoryEstimation)
+                    .perNode("backwardNodes", HugeLongArray::memoryEstimation)
+                    .perNode("deltas", HugeDoubleArray::memoryEstimation)
+                    .perNode("sigmas", HugeLongArray::memoryEstimation)
+                    .perNode("distances", HugeIntArray::memoryEstimation)
+                    .build())
             .build();
     }
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.louvain;
+
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+
+/**
+ * Result of a multi-level community detection algorithm that aggregates the graph after every level,
+ * such as {@link Louvain} and {@link Leiden}. Every level is described by a dendrogram that maps each
+ * node of the input graph to its community at that level.
+ */
+public interface HierarchicalCommunities {
+
+    HugeLongArray[] dendrograms();
+
+    HugeLongArray finalDendrogram();
+
+    long getCommunity(long nodeId);
+
+    long[] getCommunities(long nodeId);
+
+    int levels();
+
+    double[] modularities();
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.louvain;
+
+import org.neo4j.graphalgo.Algorithm;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.NodeProperties;
+import org.neo4j.graphalgo.beta.modularity.ImmutableModularityOptimizationStreamConfig;
+import org.neo4j.graphalgo.beta.modularity.ModularityOptimization;
+import org.neo4j.graphalgo.beta.modularity.ModularityOptimizationFactory;
+import org.neo4j.graphalgo.beta.modularity.ModularityOptimizationStreamConfig;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.loading.construction.GraphContraction;
+import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+
+import static org.neo4j.graphalgo.core.concurrency.ParallelUtil.DEFAULT_BATCH_SIZE;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Leiden community detection, see Traag et al. "From Louvain to Leiden: guaranteeing well-connected communities".
+ * <p>
+ * Every level consists of three phases:
+ * <ol>
+ * <li>the local moving of nodes using the parallel {@link ModularityOptimization},</li>
+ * <li>the {@link LeidenRefinement refinement} of the resulting communities into connected sub-communities,</li>
+ * <li>the aggregation of the graph based on the refined communities using the parallel {@link GraphContraction}.</li>
+ * </ol>
+ * In contrast to {@link Louvain}, the next level does not start from singletons: the aggregated nodes of a
+ * refined community are assigned to the community they have been refined from. Communities are split into
+ * their connected components during the refinement, so all communities of every level are connected.
+ * <p>
+ * The community ids are node ids of the input graph and the dendrograms are compatible with those of {@link Louvain}.
+ */
+public final class Leiden extends Algorithm<Leiden, Leiden> implements HierarchicalCommunities {
+
+    private final Graph rootGraph;
+    private final LouvainBaseConfig config;
+    private final NodeProperties seedingValues;
+    private final ExecutorService executorService;
+    private final AllocationTracker tracker;
+    // results
+    private HugeLongArray[] dendrograms;
+    private double[] modularities;
+    private int ranLevels;
+
+    public Leiden(
+        Graph graph,
+        LouvainBaseConfig config,
+        ExecutorService executorService,
+        ProgressLogger progressLogger,
+        AllocationTracker tracker
+    ) {
+        this.config = config;
+        this.rootGraph = graph;
+        this.seedingValues = Optional.ofNullable(config.seedProperty()).map(graph::nodeProperties).orElse(null);
+        this.executorService = executorService;
+        this.tracker = tracker;
+        this.dendrograms = new HugeLongArray[config.maxLevels()];
+        this.modularities = new double[config.maxLevels()];
+        this.progressLogger = progressLogger;
+    }
+
+    @Override
+    public Leiden compute() {
+        getProgressLogger().logMessage(":: Start");
+
+        Graph workingGraph = rootGraph;
+        NodeProperties nextSeedingValues = seedingValues;
+        // maps every node of the root graph to its refined community, which is a node of the working graph
+        HugeLongArray refinedDendrogram = HugeLongArray.newArray(rootGraph.nodeCount(), tracker);
+
+        for (int level = 0; level < config.maxLevels(); level++) {
+            getProgressLogger().logMessage(formatWithLocale("Level %d :: Start", level + 1));
+
+            assertRunning();
+
+            ModularityOptimization modularityOptimization = runModularityOptimization(workingGraph, nextSeedingValues);
+            LeidenRefinement refinement = new LeidenRefinement(
+                workingGraph,
+                config.concurrency(),
+                executorService,
+                terminationFlag,
+                tracker
+            ).compute(modularityOptimization::getCommunityId);
+            modularityOptimization.release();
+
+            getProgressLogger().logMessage(formatWithLocale("Level %d :: Finished", level + 1));
+
+            if (level > 0 && !improvesModularity(modularities[level - 1], refinement.modularity())) {
+                refinement.release();
+                break;
+            }
+
+            modularities[level] = refinement.modularity();
+            dendrograms[level] = HugeLongArray.newArray(rootGraph.nodeCount(), tracker);
+            buildDendrogram(workingGraph, level, refinement, refinedDendrogram);
+            ranLevels = level + 1;
+
+            if (refinement.refinedCommunityCount() == workingGraph.nodeCount() || refinement.communityCount() == 1) {
+                refinement.release();
+                break;
+            }
+
+            Graph aggregatedGraph = aggregateGraph(workingGraph, level, refinement);
+            nextSeedingValues = nextSeedingValues(workingGraph, aggregatedGraph, level, refinement);
+            refinement.release();
+
+            workingGraph = aggregatedGraph;
+        }
+
+        refinedDendrogram.release();
+        resizeResultArrays();
+        getProgressLogger().logMessage(":: Finished");
+
+        return this;
+    }
+
+    private ModularityOptimization runModularityOptimization(Graph workingGraph, NodeProperties seed) {
+        ModularityOptimizationStreamConfig modularityOptimizationConfig = ImmutableModularityOptimizationStreamConfig
+            .builder()
+            .maxIterations(config.maxIterations())
+            .tolerance(config.tolerance())
+            .concurrency(config.concurrency())
+            .batchSize(DEFAULT_BATCH_SIZE)
+            .build();
+
+        ModularityOptimization modularityOptimization = new ModularityOptimizationFactory<>()
+            .build(
+                workingGraph,
+                modularityOptimizationConfig,
+                seed,
+                tracker,
+                progressLogger.getLog(),
+                progressLogger.eventTracker()
+            ).withTerminationFlag(terminationFlag);
+
+        modularityOptimization.compute();
+
+        return modularityOptimization;
+    }
+
+    private void buildDendrogram(
+        Graph workingGraph,
+        int level,
+        LeidenRefinement refinement,
+        HugeLongArray refinedDendrogram
+    ) {
+        var communities = refinement.communities();
+        var refinedCommunities = refinement.refinedCommunities();
+
+        ParallelUtil.parallelForEachNode(rootGraph, config.concurrency(), (nodeId) -> {
+            long workingNodeId = level == 0
+                ? nodeId
+                : workingGraph.toMappedNodeId(refinedDendrogram.get(nodeId));
+
+            dendrograms[level].set(nodeId, rootNodeId(workingGraph, level, communities.get(workingNodeId)));
+            refinedDendrogram.set(nodeId, rootNodeId(workingGraph, level, refinedCommunities.get(workingNodeId)));
+        });
+    }
+
+    private Graph aggregateGraph(Graph workingGraph, int level, LeidenRefinement refinement) {
+        assertRunning();
+
+        var refinedCommunities = refinement.refinedCommunities();
+        LongUnaryOperator refinedCommunityIds = nodeId -> rootNodeId(workingGraph, level, refinedCommunities.get(nodeId));
+
+        long maxRefinedCommunityId = ParallelUtil.parallelStream(
+            LongStream.range(0, workingGraph.nodeCount()),
+            config.concurrency(),
+            stream -> stream.map(refinedCommunityIds).max().orElse(0L)
+        );
+
+        return new GraphContraction(workingGraph, config.concurrency(), executorService, tracker)
+            .withTerminationFlag(terminationFlag)
+            .contract(refinedCommunityIds, maxRefinedCommunityId);
+    }
+
+    /**
+     * Assigns every node of the aggregated graph to the community its refined community belongs to.
+     */
+    private NodeProperties nextSeedingValues(
+        Graph workingGraph,
+        Graph aggregatedGraph,
+        int level,
+        LeidenRefinement refinement
+    ) {
+        var communities = refinement.communities();
+        var seeds = HugeLongArray.newArray(aggregatedGraph.nodeCount(), tracker);
+
+        ParallelUtil.parallelForEachNode(aggregatedGraph, config.concurrency(), (nodeId) -> {
+            long refinedCommunityId = aggregatedGraph.toOriginalNodeId(nodeId);
+            long workingNodeId = level == 0 ? refinedCommunityId : workingGraph.toMappedNodeId(refinedCommunityId);
+            seeds.set(nodeId, rootNodeId(workingGraph, level, communities.get(workingNodeId)));
+        });
+
+        return seeds.asNodeProperties();
+    }
+
+    /**
+     * Translates a node of the working graph into a node of the root graph.
+     * Nodes of aggregated graphs are identified by the root node their refined community has been started from.
+     */
+    private static long rootNodeId(Graph workingGraph, int level, long workingNodeId) {
+        return level == 0 ? workingNodeId : workingGraph.toOriginalNodeId(workingNodeId);
+    }
+
+    private boolean improvesModularity(double previousModularity, double currentModularity) {
+        return currentModularity > previousModularity && Math.abs(currentModularity - previousModularity) > config.tolerance();
+    }
+
+    private void resizeResultArrays() {
+        int numLevels = levels();
+        HugeLongArray[] resizedDendrogram = new HugeLongArray[numLevels];
+        double[] resizedModularities = new double[numLevels];
+        System.arraycopy(this.dendrograms, 0, resizedDendrogram, 0, numLevels);
+        System.arraycopy(this.modularities, 0, resizedModularities, 0, numLevels);
+        this.dendrograms = resizedDendrogram;
+        this.modularities = resizedModularities;
+    }
+
+    @Override
+    public HugeLongArray[] dendrograms() {
+        return this.dendrograms;
+    }
+
+    @Override
+    public HugeLongArray finalDendrogram() {
+        return this.dendrograms[levels() - 1];
+    }
+
+    @Override
+    public long getCommunity(long nodeId) {
+        return dendrograms[levels() - 1].get(nodeId);
+    }
+
+    @Override
+    public long[] getCommunities(long nodeId) {
+        long[] communities = new long[dendrograms.length];
+
+        for (int i = 0; i < dendrograms.length; i++) {
+            communities[i] = dendrograms[i].get(nodeId);
+        }
+
+        return communities;
+    }
+
+    @Override
+    public int levels() {
+        return this.ranLevels;
+    }
+
+    @Override
+    public double[] modularities() {
+        return this.modularities;
+    }
+
+    @Override
+    public void release() {
+        this.rootGraph.releaseTopology();
+    }
+
+    @Override
+    public Leiden me() {
+        return this;
+    }
+}
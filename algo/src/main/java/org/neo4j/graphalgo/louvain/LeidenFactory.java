@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.louvain;
+
+import org.neo4j.graphalgo.AlgorithmFactory;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.utils.BatchingProgressLogger;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+import org.neo4j.graphalgo.core.utils.paged.dss.HugeAtomicDisjointSetStruct;
+import org.neo4j.graphalgo.core.utils.progress.ProgressEventTracker;
+import org.neo4j.logging.Log;
+
+public class LeidenFactory<CONFIG extends LouvainBaseConfig> implements AlgorithmFactory<Leiden, CONFIG> {
+
+    @Override
+    public Leiden build(
+        final Graph graph,
+        final LouvainBaseConfig configuration,
+        final AllocationTracker tracker,
+        final Log log,
+        ProgressEventTracker eventTracker
+    ) {
+        var progressLogger = new BatchingProgressLogger(
+            log,
+            1,
+            "Leiden",
+            configuration.concurrency(),
+            eventTracker
+        );
+
+        return new Leiden(
+            graph,
+            configuration,
+            Pools.DEFAULT,
+            progressLogger,
+            tracker
+        );
+    }
+
+    @Override
+    public MemoryEstimation memoryEstimation(CONFIG config) {
+        // the local moving, aggregation and dendrograms are the same as for Louvain
+        return MemoryEstimations.builder(Leiden.class)
+            .addComponentsOf(new LouvainFactory<>().memoryEstimation(config))
+            .perNode("refined dendrogram", HugeLongArray::memoryEstimation)
+            .add(MemoryEstimations.builder(LeidenRefinement.class)
+                .add("components", HugeAtomicDisjointSetStruct.memoryEstimation(false))
+                .perNode("communities", HugeLongArray::memoryEstimation)
+                .perNode("refined communities", HugeLongArray::memoryEstimation)
+                .perNode("grouped nodes", HugeLongArray::memoryEstimation)
+                .perNode("community offsets", HugeLongArray::memoryEstimation)
+                .perNode("community ends", HugeAtomicLongArray::memoryEstimation)
+                .perNode("volumes", HugeDoubleArray::memoryEstimation)
+                .perNode("external weights", HugeDoubleArray::memoryEstimation)
+                .perNode("merged nodes", HugeAtomicBitSet::memoryEstimation)
+                .build())
+            .build();
+    }
+}
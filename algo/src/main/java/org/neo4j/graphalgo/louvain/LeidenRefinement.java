@@ -0,0 +1,412 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.louvain;
+
+import com.carrotsearch.hppc.LongDoubleHashMap;
+import com.carrotsearch.hppc.cursors.LongDoubleCursor;
+import org.apache.commons.lang3.mutable.MutableDouble;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.RelationshipIterator;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+import org.neo4j.graphalgo.core.utils.paged.dss.HugeAtomicDisjointSetStruct;
+import org.neo4j.graphalgo.core.utils.partition.Partition;
+import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
+
+import java.util.concurrent.ExecutorService;
+import java.util.function.LongUnaryOperator;
+
+import static org.neo4j.graphalgo.core.concurrency.ParallelUtil.DEFAULT_BATCH_SIZE;
+
+/**
+ * Refinement phase of {@link Leiden}.
+ * <p>
+ * The communities found by the local moving phase are first split into their connected components.
+ * Each component is then refined, starting from a singleton partition: every node that is still a singleton
+ * and well-connected to its community is merged into the well-connected refined community of a neighbour
+ * that increases the modularity the most. Since nodes are only merged with a neighbouring refined
+ * community, every refined community is connected.
+ * <p>
+ * Components are independent of each other and are refined in parallel. Within a component the nodes are
+ * visited in a fixed order instead of the randomized order of the original algorithm.
+ * <p>
+ * All community ids are node ids of the given graph: a component is identified by its smallest node id
+ * and a refined community by the node it has been started from.
+ */
+final class LeidenRefinement {
+
+    private final Graph graph;
+    private final long nodeCount;
+    private final int concurrency;
+    private final ExecutorService executorService;
+    private final TerminationFlag terminationFlag;
+    private final AllocationTracker tracker;
+
+    private HugeLongArray communities;
+    private HugeLongArray refinedCommunities;
+    private double modularity;
+    private long communityCount;
+    private long refinedCommunityCount;
+
+    LeidenRefinement(
+        Graph graph,
+        int concurrency,
+        ExecutorService executorService,
+        TerminationFlag terminationFlag,
+        AllocationTracker tracker
+    ) {
+        this.graph = graph;
+        this.nodeCount = graph.nodeCount();
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.terminationFlag = terminationFlag;
+        this.tracker = tracker;
+    }
+
+    /**
+     * @param localMovingCommunities maps each node to its community after the local moving phase
+     */
+    LeidenRefinement compute(LongUnaryOperator localMovingCommunities) {
+        var volumes = HugeDoubleArray.newArray(nodeCount, tracker);
+        double totalVolume = splitIntoConnectedComponents(localMovingCommunities, volumes);
+
+        // group the nodes by component using a counting sort
+        var communityEnds = HugeAtomicLongArray.newArray(nodeCount, tracker);
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, nodeId -> communityEnds.getAndAdd(communities.get(nodeId), 1));
+
+        var communityOffsets = HugeLongArray.newArray(nodeCount, tracker);
+        long offset = 0L;
+        for (long community = 0; community < nodeCount; community++) {
+            communityOffsets.set(community, offset);
+            offset += communityEnds.get(community);
+            communityEnds.set(community, communityOffsets.get(community));
+        }
+
+        var groupedNodes = HugeLongArray.newArray(nodeCount, tracker);
+        ParallelUtil.parallelForEachNode(
+            nodeCount,
+            concurrency,
+            nodeId -> groupedNodes.set(communityEnds.getAndAdd(communities.get(nodeId), 1), nodeId)
+        );
+
+        this.refinedCommunities = HugeLongArray.newArray(nodeCount, tracker);
+        var externalWeights = HugeDoubleArray.newArray(nodeCount, tracker);
+        var mergedNodes = HugeAtomicBitSet.create(nodeCount, tracker);
+
+        var refinementTasks = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            DEFAULT_BATCH_SIZE,
+            partition -> new RefinementTask(
+                graph.concurrentCopy(),
+                partition,
+                communities,
+                communityOffsets,
+                communityEnds,
+                groupedNodes,
+                refinedCommunities,
+                volumes,
+                externalWeights,
+                mergedNodes,
+                totalVolume
+            )
+        );
+        ParallelUtil.runWithConcurrency(concurrency, refinementTasks, terminationFlag, executorService);
+
+        double internalWeight = 0.0;
+        double squaredCommunityVolumes = 0.0;
+        for (RefinementTask task : refinementTasks) {
+            internalWeight += task.internalWeight;
+            squaredCommunityVolumes += task.squaredCommunityVolumes;
+            communityCount += task.communityCount;
+            refinedCommunityCount += task.refinedCommunityCount;
+        }
+        this.modularity = totalVolume == 0.0
+            ? 0.0
+            : internalWeight / totalVolume - squaredCommunityVolumes / (totalVolume * totalVolume);
+
+        volumes.release();
+        externalWeights.release();
+        communityOffsets.release();
+        communityEnds.release();
+        groupedNodes.release();
+
+        return this;
+    }
+
+    /**
+     * @return the total volume of the graph, i.e. the sum of all relationship weights
+     */
+    private double splitIntoConnectedComponents(LongUnaryOperator localMovingCommunities, HugeDoubleArray volumes) {
+        var components = new HugeAtomicDisjointSetStruct(nodeCount, tracker, concurrency);
+
+        var componentTasks = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            partition -> new ComponentTask(graph.concurrentCopy(), partition, localMovingCommunities, components, volumes)
+        );
+        ParallelUtil.runWithConcurrency(concurrency, componentTasks, terminationFlag, executorService);
+
+        this.communities = HugeLongArray.newArray(nodeCount, tracker);
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, nodeId -> communities.set(nodeId, components.setIdOf(nodeId)));
+
+        return componentTasks.stream().mapToDouble(task -> task.localVolume).sum();
+    }
+
+    /**
+     * @return the connected community of every node, identified by the smallest node id in the community
+     */
+    HugeLongArray communities() {
+        return communities;
+    }
+
+    /**
+     * @return the refined community of every node, identified by the node the refined community has been started from
+     */
+    HugeLongArray refinedCommunities() {
+        return refinedCommunities;
+    }
+
+    double modularity() {
+        return modularity;
+    }
+
+    long communityCount() {
+        return communityCount;
+    }
+
+    long refinedCommunityCount() {
+        return refinedCommunityCount;
+    }
+
+    void release() {
+        communities.release();
+        refinedCommunities.release();
+    }
+
+    private static final class ComponentTask implements Runnable {
+
+        private final RelationshipIterator relationshipIterator;
+        private final Partition partition;
+        private final LongUnaryOperator localMovingCommunities;
+        private final HugeAtomicDisjointSetStruct components;
+        private final HugeDoubleArray volumes;
+
+        private double localVolume;
+
+        private ComponentTask(
+            RelationshipIterator relationshipIterator,
+            Partition partition,
+            LongUnaryOperator localMovingCommunities,
+            HugeAtomicDisjointSetStruct components,
+            HugeDoubleArray volumes
+        ) {
+            this.relationshipIterator = relationshipIterator;
+            this.partition = partition;
+            this.localMovingCommunities = localMovingCommunities;
+            this.components = components;
+            this.volumes = volumes;
+        }
+
+        @Override
+        public void run() {
+            var volume = new MutableDouble();
+
+            partition.consume(nodeId -> {
+                long community = localMovingCommunities.applyAsLong(nodeId);
+                volume.setValue(0.0);
+
+                relationshipIterator.forEachRelationship(nodeId, 1.0, (source, target, weight) -> {
+                    volume.add(weight);
+                    if (source != target && localMovingCommunities.applyAsLong(target) == community) {
+                        components.union(source, target);
+                    }
+                    return true;
+                });
+
+                volumes.set(nodeId, volume.doubleValue());
+                localVolume += volume.doubleValue();
+            });
+        }
+    }
+
+    private static final class RefinementTask implements Runnable {
+
+        private final RelationshipIterator relationshipIterator;
+        private final Partition partition;
+        private final HugeLongArray communities;
+        private final HugeLongArray communityOffsets;
+        private final HugeAtomicLongArray communityEnds;
+        private final HugeLongArray groupedNodes;
+        private final HugeLongArray refinedCommunities;
+        // volume of every refined community, indexed by its id
+        private final HugeDoubleArray volumes;
+        // weight of the relationships leaving a refined community towards the rest of its community
+        private final HugeDoubleArray externalWeights;
+        // nodes that are no longer in a singleton refined community
+        private final HugeAtomicBitSet mergedNodes;
+        private final double totalVolume;
+        // sum of weights per neighbouring refined community of the current node
+        private final LongDoubleHashMap neighbourWeights;
+        private final MutableDouble nodeWeight;
+
+        private double internalWeight;
+        private double squaredCommunityVolumes;
+        private long communityCount;
+        private long refinedCommunityCount;
+
+        private RefinementTask(
+            RelationshipIterator relationshipIterator,
+            Partition partition,
+            HugeLongArray communities,
+            HugeLongArray communityOffsets,
+            HugeAtomicLongArray communityEnds,
+            HugeLongArray groupedNodes,
+            HugeLongArray refinedCommunities,
+            HugeDoubleArray volumes,
+            HugeDoubleArray externalWeights,
+            HugeAtomicBitSet mergedNodes,
+            double totalVolume
+        ) {
+            this.relationshipIterator = relationshipIterator;
+            this.partition = partition;
+            this.communities = communities;
+            this.communityOffsets = communityOffsets;
+            this.communityEnds = communityEnds;
+            this.groupedNodes = groupedNodes;
+            this.refinedCommunities = refinedCommunities;
+            this.volumes = volumes;
+            this.externalWeights = externalWeights;
+            this.mergedNodes = mergedNodes;
+            this.totalVolume = totalVolume;
+            this.neighbourWeights = new LongDoubleHashMap();
+            this.nodeWeight = new MutableDouble();
+        }
+
+        @Override
+        public void run() {
+            long endCommunity = partition.startNode() + partition.nodeCount();
+            for (long community = partition.startNode(); community < endCommunity; community++) {
+                // every community is identified by its smallest node id
+                if (communities.get(community) == community) {
+                    refine(community, communityOffsets.get(community), communityEnds.get(community));
+                }
+            }
+        }
+
+        private void refine(long community, long start, long end) {
+            double communityVolume = 0.0;
+
+            for (long i = start; i < end; i++) {
+                long nodeId = groupedNodes.get(i);
+                refinedCommunities.set(nodeId, nodeId);
+                communityVolume += volumes.get(nodeId);
+
+                nodeWeight.setValue(0.0);
+                relationshipIterator.forEachRelationship(nodeId, 1.0, (source, target, weight) -> {
+                    if (communities.get(target) == community) {
+                        internalWeight += weight;
+                        if (source != target) {
+                            nodeWeight.add(weight);
+                        }
+                    }
+                    return true;
+                });
+                externalWeights.set(nodeId, nodeWeight.doubleValue());
+            }
+
+            communityCount++;
+            squaredCommunityVolumes += communityVolume * communityVolume;
+
+            if (totalVolume == 0.0 || end - start == 1) {
+                refinedCommunityCount += end - start;
+                return;
+            }
+
+            for (long i = start; i < end; i++) {
+                long nodeId = groupedNodes.get(i);
+                double nodeVolume = volumes.get(nodeId);
+                double nodeExternalWeight = externalWeights.get(nodeId);
+
+                if (mergedNodes.get(nodeId) || !isWellConnected(nodeExternalWeight, nodeVolume, communityVolume)) {
+                    continue;
+                }
+
+                neighbourWeights.clear();
+                relationshipIterator.forEachRelationship(nodeId, 1.0, (source, target, weight) -> {
+                    if (source != target && communities.get(target) == community) {
+                        neighbourWeights.addTo(refinedCommunities.get(target), weight);
+                    }
+                    return true;
+                });
+
+                long bestRefinedCommunity = -1L;
+                double bestGain = 0.0;
+                double weightToBestRefinedCommunity = 0.0;
+
+                for (LongDoubleCursor cursor : neighbourWeights) {
+                    long refinedCommunity = cursor.key;
+                    double refinedCommunityVolume = volumes.get(refinedCommunity);
+                    if (!isWellConnected(externalWeights.get(refinedCommunity), refinedCommunityVolume, communityVolume)) {
+                        continue;
+                    }
+
+                    double gain = cursor.value - nodeVolume * refinedCommunityVolume / totalVolume;
+                    if (gain > bestGain || (gain == bestGain && gain > 0.0 && refinedCommunity < bestRefinedCommunity)) {
+                        bestRefinedCommunity = refinedCommunity;
+                        bestGain = gain;
+                        weightToBestRefinedCommunity = cursor.value;
+                    }
+                }
+
+                if (bestRefinedCommunity != -1L) {
+                    refinedCommunities.set(nodeId, bestRefinedCommunity);
+                    volumes.addTo(bestRefinedCommunity, nodeVolume);
+                    externalWeights.addTo(
+                        bestRefinedCommunity,
+                        nodeExternalWeight - 2 * weightToBestRefinedCommunity
+                    );
+                    mergedNodes.set(nodeId);
+                    mergedNodes.set(bestRefinedCommunity);
+                }
+            }
+
+            for (long i = start; i < end; i++) {
+                long nodeId = groupedNodes.get(i);
+                if (refinedCommunities.get(nodeId) == nodeId) {
+                    refinedCommunityCount++;
+                }
+            }
+        }
+
+        /**
+         * A set of nodes is well-connected to its community if the weight of the relationships towards the
+         * rest of the community is at least as high as expected in a random graph with the same degrees.
+         */
+        private boolean isWellConnected(double externalWeight, double volume, double communityVolume) {
+            return externalWeight >= volume * (communityVolume - volume) / totalVolume;
+        }
+    }
+}
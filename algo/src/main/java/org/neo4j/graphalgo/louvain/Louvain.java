@@ -20,26 +20,18 @@
 package org.neo4j.graphalgo.louvain;
 
 import org.neo4j.graphalgo.Algorithm;
-import org.neo4j.graphalgo.Orientation;
-import org.neo4j.graphalgo.api.DefaultValue;
 import org.neo4j.graphalgo.api.Graph;
-import org.neo4j.graphalgo.api.NodeMapping;
 import org.neo4j.graphalgo.api.NodeProperties;
-import org.neo4j.graphalgo.api.RelationshipIterator;
 import org.neo4j.graphalgo.api.nodeproperties.LongNodeProperties;
 import org.neo4j.graphalgo.beta.modularity.ImmutableModularityOptimizationStreamConfig;
 import org.neo4j.graphalgo.beta.modularity.ModularityOptimization;
 import org.neo4j.graphalgo.beta.modularity.ModularityOptimizationFactory;
 import org.neo4j.graphalgo.beta.modularity.ModularityOptimizationStreamConfig;
-import org.neo4j.graphalgo.core.Aggregation;
 import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
-import org.neo4j.graphalgo.core.loading.construction.GraphFactory;
-import org.neo4j.graphalgo.core.loading.construction.RelationshipsBuilder;
+import org.neo4j.graphalgo.core.loading.construction.GraphContraction;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
-import org.neo4j.graphalgo.core.utils.partition.Partition;
-import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
 import org.neo4j.values.storable.Value;
 import org.neo4j.values.storable.Values;
 
@@ -51,7 +43,7 @@ import java.util.concurrent.atomic.AtomicLong;
 import static org.neo4j.graphalgo.core.concurrency.ParallelUtil.DEFAULT_BATCH_SIZE;
 import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
 
-public final class Louvain extends Algorithm<Louvain, Louvain> {
+public final class Louvain extends Algorithm<Louvain, Louvain> implements HierarchicalCommunities {
 
     private final Graph rootGraph;
     private final LouvainBaseConfig config;
@@ -193,47 +185,11 @@ public final class Louvain extends Algorithm<Louvain, Louvain> {
         ModularityOptimization modularityOptimization,
         long maxCommunityId
     ) {
-        var nodesBuilder = GraphFactory.initNodesBuilder()
-            .maxOriginalId(maxCommunityId)
-            .concurrency(config.concurrency())
-            .tracker(tracker)
-            .build();
-
-        assertRunning();
-
-        workingGraph.forEachNode((nodeId) -> {
-            nodesBuilder.addNode(modularityOptimization.getCommunityId(nodeId));
-            return true;
-        });
-
         assertRunning();
 
-        Orientation orientation = rootGraph.isUndirected() ? Orientation.UNDIRECTED : Orientation.NATURAL;
-        NodeMapping idMap = nodesBuilder.build().nodeMapping();
-        RelationshipsBuilder relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
-            .nodes(idMap)
-            .orientation(orientation)
-            .addPropertyConfig(Aggregation.SUM, DefaultValue.forDouble())
-            .preAggregate(true)
-            .executorService(executorService)
-            .tracker(tracker)
-            .build();
-
-        var relationshipCreators = PartitionUtils.rangePartition(
-            config.concurrency(),
-            workingGraph.nodeCount(),
-            partition ->
-                new RelationshipCreator(
-                    relationshipsBuilder,
-                    modularityOptimization,
-                    workingGraph.concurrentCopy(),
-                    partition
-                )
-        );
-
-        ParallelUtil.run(relationshipCreators, executorService);
-
-        return GraphFactory.create(idMap, relationshipsBuilder.build(), tracker);
+        return new GraphContraction(workingGraph, config.concurrency(), executorService, tracker)
+            .withTerminationFlag(terminationFlag)
+            .contract(modularityOptimization::getCommunityId, maxCommunityId);
     }
 
     private boolean hasConverged() {
@@ -246,18 +202,22 @@ public final class Louvain extends Algorithm<Louvain, Louvain> {
         return !(currentModularity > previousModularity && Math.abs(currentModularity - previousModularity) > config.tolerance());
     }
 
+    @Override
     public HugeLongArray[] dendrograms() {
         return this.dendrograms;
     }
 
+    @Override
     public HugeLongArray finalDendrogram() {
         return this.dendrograms[levels() - 1];
     }
 
+    @Override
     public long getCommunity(long nodeId) {
         return dendrograms[levels() - 1].get(nodeId);
     }
 
+    @Override
     public long[] getCommunities(long nodeId) {
         long[] communities = new long[dendrograms.length];
 
@@ -268,10 +228,12 @@ public final class Louvain extends Algorithm<Louvain, Louvain> {
         return communities;
     }
 
+    @Override
     public int levels() {
         return this.ranLevels == 0 ? 1 : this.ranLevels;
     }
 
+    @Override
     public double[] modularities() {
         return this.modularities;
     }
@@ -308,40 +270,4 @@ public final class Louvain extends Algorithm<Louvain, Louvain> {
             return OptionalLong.empty();
         }
     }
-
-    static final class RelationshipCreator implements Runnable {
-
-        private final RelationshipsBuilder relationshipsBuilder;
-
-        private final ModularityOptimization modularityOptimization;
-
-        private final RelationshipIterator relationshipIterator;
-
-        private final Partition partition;
-
-
-        private RelationshipCreator(
-            RelationshipsBuilder relationshipsBuilder,
-            ModularityOptimization modularityOptimization,
-            RelationshipIterator relationshipIterator,
-            Partition partition
-        ) {
-            this.relationshipsBuilder = relationshipsBuilder;
-            this.modularityOptimization = modularityOptimization;
-            this.relationshipIterator = relationshipIterator;
-            this.partition = partition;
-        }
-
-        @Override
-        public void run() {
-            long endNodeId = partition.startNode() + partition.nodeCount();
-            for (long nodeId = partition.startNode(); nodeId < endNodeId; nodeId++) {
-                long communityId = modularityOptimization.getCommunityId(nodeId);
-                relationshipIterator.forEachRelationship(nodeId, 1.0, (source, target, property) -> {
-                    relationshipsBuilder.add(communityId, modularityOptimization.getCommunityId(target), property);
-                    return true;
-                });
-            }
-        }
-    }
 }
@@ -24,8 +24,6 @@ import org.neo4j.graphalgo.api.RelationshipConsumer;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 
-import static org.neo4j.graphalgo.core.utils.ArrayUtil.binaryLookup;
-
 public class NonWeightedComputeStep extends BaseComputeStep implements RelationshipConsumer {
 
     private float srcRankDelta;
@@ -58,7 +56,7 @@ public class NonWeightedComputeStep extends BaseComputeStep implements Relations
             double delta = deltas[(int) (nodeId - startNode)];
             // avoids rank computation
             // TODO: is this equivalent of not receiving messages in Pregel?
-            if (delta > 0.0) {
+            if (delta > propagationThreshold) {
                 int degree = degrees.degree(nodeId);
                 if (degree > 0) {
                     // this will be the value that we "send" to our neighbors
@@ -73,10 +71,7 @@ public class NonWeightedComputeStep extends BaseComputeStep implements Relations
     @Override
     public boolean accept(long sourceNodeId, long targetNodeId) {
         if (srcRankDelta != 0F) {
-            // idx is partition id where the target lives
-            int idx = binaryLookup(targetNodeId, starts);
-            int relativeTargetNodeId = (int) (targetNodeId - starts[idx]);
-            nextScores[idx][relativeTargetNodeId] += srcRankDelta;
+            sendScore(targetNodeId, srcRankDelta);
         }
         return true;
     }
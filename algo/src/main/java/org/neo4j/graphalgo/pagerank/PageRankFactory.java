@@ -27,6 +27,7 @@ import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
 import org.neo4j.graphalgo.core.utils.mem.MemoryUsage;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicDoubleArray;
 import org.neo4j.graphalgo.core.utils.partition.Partition;
 import org.neo4j.graphalgo.core.utils.progress.ProgressEventTracker;
 import org.neo4j.logging.Log;
@@ -76,13 +77,21 @@ public class PageRankFactory<CONFIG extends PageRankBaseConfig> implements Algor
                     ? ceilDiv(nodeCount, nodesPerPartition)
                     : 0;
 
-                return MemoryEstimations
-                    .builder(PageRank.ComputeSteps.class)
-                    .fixed("scores[] wrapper", MemoryUsage.sizeOfObjectArray(partitionCount))
+                var builder = MemoryEstimations.builder(PageRank.ComputeSteps.class);
+                if (config.atomicScoreExchange()) {
+                    builder.fixed("sharedScores", HugeAtomicDoubleArray.memoryEstimation(nodeCount));
+                } else {
+                    builder.fixed("scores[] wrapper", MemoryUsage.sizeOfObjectArray(partitionCount));
+                }
+                return builder
                     .fixed("starts[]", MemoryUsage.sizeOfLongArray(partitionCount))
                     .fixed("lengths[]", MemoryUsage.sizeOfLongArray(partitionCount))
                     .fixed("list of computeSteps", MemoryUsage.sizeOfObjectArray(partitionCount))
-                    .add("ComputeStep", algorithmType(config).memoryEstimation(partitionCount, nodesPerPartition))
+                    .add("ComputeStep", algorithmType(config).memoryEstimation(
+                        partitionCount,
+                        nodesPerPartition,
+                        config.atomicScoreExchange()
+                    ))
                     .build();
             }))
             .build();
@@ -25,7 +25,6 @@ import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
 
-import static org.neo4j.graphalgo.core.utils.ArrayUtil.binaryLookup;
 import static org.neo4j.graphalgo.pagerank.PageRank.DEFAULT_WEIGHT;
 
 public class WeightedComputeStep extends BaseComputeStep implements RelationshipWithPropertyConsumer {
@@ -59,7 +58,7 @@ public class WeightedComputeStep extends BaseComputeStep implements Relationship
     void singleIteration() {
         for (long nodeId = startNode; nodeId < endNode; ++nodeId) {
             delta = deltas[(int) (nodeId - startNode)];
-            if (delta > 0.0) {
+            if (delta > propagationThreshold) {
                 int degree = degrees.degree(nodeId);
                 if (degree > 0) {
                     sumOfWeights = aggregatedDegrees.get(nodeId);
@@ -76,8 +75,7 @@ public class WeightedComputeStep extends BaseComputeStep implements Relationship
             double proportion = property / sumOfWeights;
             float srcRankDelta = (float) (delta * proportion);
             if (srcRankDelta != 0F) {
-                int idx = binaryLookup(targetNodeId, starts);
-                nextScores[idx][(int) (targetNodeId - starts[idx])] += srcRankDelta;
+                sendScore(targetNodeId, srcRankDelta);
             }
         }
 
@@ -20,6 +20,8 @@
 package org.neo4j.graphalgo.similarity.knn;
 
 import com.carrotsearch.hppc.LongHashSet;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.core.utils.BiLongConsumer;
 import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
 
@@ -27,12 +29,18 @@ import java.util.SplittableRandom;
 
 /**
  * Initial step in KNN calculation.
+ *
+ * If a seed graph is given, nodes with relationships start with their related nodes as neighbors.
+ * Those neighbors are flagged as checked, so that they only take part in the local joins as old neighbors.
+ * All other nodes start with random neighbors and, if a seed graph is given, with the seeded neighbors
+ * of those random neighbors.
  */
 final class GenerateRandomNeighbors implements BiLongConsumer {
     private final SplittableRandom random;
     private final SimilarityComputer computer;
     private final HugeObjectArray<NeighborList> neighbors;
-    private final long n;
+    private final KnnNodeFilter nodeFilter;
+    private final @Nullable Graph seedGraph;
     private final int k;
     private final int k2;
 
@@ -40,14 +48,16 @@ final class GenerateRandomNeighbors implements BiLongConsumer {
         SplittableRandom random,
         SimilarityComputer computer,
         HugeObjectArray<NeighborList> neighbors,
-        long n,
+        KnnNodeFilter nodeFilter,
+        @Nullable Graph seedGraph,
         int k,
         int k2
     ) {
         this.random = random;
         this.computer = computer;
         this.neighbors = neighbors;
-        this.n = n;
+        this.nodeFilter = nodeFilter;
+        this.seedGraph = seedGraph;
         this.k = k;
         this.k2 = k2;
     }
@@ -56,25 +66,64 @@ final class GenerateRandomNeighbors implements BiLongConsumer {
     public void apply(long start, long end) {
         var rng = random.split();
         var computer = this.computer;
-        var n = this.n;
+        var nodeFilter = this.nodeFilter;
+        var seedRelationships = seedGraph == null ? null : seedGraph.concurrentCopy();
         var k = this.k;
         var k2 = this.k2;
         var chosen = new LongHashSet(k2);
 
         for (long nodeId = start; nodeId < end; nodeId++) {
+            if (!nodeFilter.participates(nodeId)) {
+                continue;
+            }
+
+            var neighbors = new NeighborList(k);
+
+            if (seedRelationships != null && seedGraph.degree(nodeId) > 0) {
+                seedRelationships.forEachRelationship(nodeId, (source, target) -> {
+                    if (source != target && nodeFilter.isTarget(target)) {
+                        neighbors.add(target, computer.safeSimilarity(source, target), rng);
+                    }
+                    return true;
+                });
+                if (neighbors.size() > 0) {
+                    for (int i = 0; i < neighbors.size(); i++) {
+                        neighbors.getAndFlagAsChecked(i);
+                    }
+                    this.neighbors.set(nodeId, neighbors);
+                    continue;
+                }
+            }
+
             chosen.clear();
 
             for (int i = 0; i < k2; i++) {
-                var randomNode = rng.nextLong(n - 1);
-                if (randomNode >= nodeId) {
-                    ++randomNode;
+                var randomNode = nodeFilter.randomTarget(rng, nodeId);
+                if (randomNode != -1L) {
+                    assert nodeId != randomNode;
+                    chosen.add(randomNode);
                 }
-                assert nodeId != randomNode;
-                chosen.add(randomNode);
             }
             assert chosen.size() <= k2;
 
-            var neighbors = new NeighborList(k);
+            if (seedRelationships != null) {
+                // graph-local candidates, the neighbors of the random candidates
+                var nodeToSeed = nodeId;
+                var randomCandidates = chosen.toArray();
+                var maxCandidates = k2 + k;
+                for (var candidate : randomCandidates) {
+                    if (chosen.size() >= maxCandidates) {
+                        break;
+                    }
+                    seedRelationships.forEachRelationship(candidate, (source, target) -> {
+                        if (target != nodeToSeed && nodeFilter.isTarget(target)) {
+                            chosen.add(target);
+                        }
+                        return chosen.size() < maxCandidates;
+                    });
+                }
+            }
+
             for (var chosenCursor : chosen) {
                 var neighborNode = chosenCursor.value;
                 assert nodeId != neighborNode;
@@ -82,7 +131,7 @@ final class GenerateRandomNeighbors implements BiLongConsumer {
                 neighbors.add(neighborNode, similarity, rng);
             }
 
-            assert neighbors.size() > 0; // because K > 0 and N > 1
+            assert nodeFilter.isFiltered() || neighbors.size() > 0; // because K > 0 and N > 1
             assert neighbors.size() <= k;
 
             this.neighbors.set(nodeId, neighbors);
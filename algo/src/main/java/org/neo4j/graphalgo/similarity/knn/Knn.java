@@ -19,7 +19,6 @@
  */
 package org.neo4j.graphalgo.similarity.knn;
 
-import com.carrotsearch.hppc.LongArrayList;
 import org.jetbrains.annotations.Nullable;
 import org.neo4j.graphalgo.Algorithm;
 import org.neo4j.graphalgo.annotation.ValueClass;
@@ -49,12 +48,17 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
     private final KnnContext context;
     private final SplittableRandom random;
     private final SimilarityComputer computer;
+    private final KnnNodeFilter nodeFilter;
+    // the graph providing the initial neighbors, null unless seeding from relationships
+    private final @Nullable Graph seedGraph;
 
     public Knn(Graph graph, KnnBaseConfig config, KnnContext context) {
         this(
             graph.nodeCount(),
             config,
             SimilarityComputer.ofProperty(graph, config.nodeWeightProperty()),
+            KnnNodeFilter.of(graph, config, context.tracker()),
+            config.seedFromRelationships() ? graph : null,
             context
         );
     }
@@ -64,11 +68,24 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
         KnnBaseConfig config,
         SimilarityComputer similarityComputer,
         KnnContext context
+    ) {
+        this(nodeCount, config, similarityComputer, KnnNodeFilter.all(nodeCount), null, context);
+    }
+
+    private Knn(
+        long nodeCount,
+        KnnBaseConfig config,
+        SimilarityComputer similarityComputer,
+        KnnNodeFilter nodeFilter,
+        @Nullable Graph seedGraph,
+        KnnContext context
     ) {
         this.nodeCount = nodeCount;
         this.config = config;
         this.context = context;
         this.computer = similarityComputer;
+        this.nodeFilter = nodeFilter;
+        this.seedGraph = seedGraph;
         this.random = this.config.randomSeed() == -1L
             ? new SplittableRandom()
             : new SplittableRandom(this.config.randomSeed());
@@ -100,6 +117,15 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
                 return new EmptyResult();
             }
 
+            // the temporary neighbor lists are allocated once and reused in every iteration
+            var boundedK = this.config.boundedK(nodeCount);
+            var sampledK = this.config.sampledK(nodeCount);
+            var tracker = this.context.tracker();
+            var allOldNeighbors = new NeighborBuffer(nodeCount, boundedK + sampledK, tracker);
+            var allNewNeighbors = new NeighborBuffer(nodeCount, 2 * sampledK, tracker);
+            var reverseOldNeighbors = new ReverseNeighbors(nodeCount, boundedK, tracker);
+            var reverseNewNeighbors = new ReverseNeighbors(nodeCount, sampledK, tracker);
+
             var maxIterations = this.config.maxIterations();
             var maxUpdates = (long) Math.ceil(config.sampleRate() * config.topK() * nodeCount);
             var updateThreshold = (long) Math.floor(this.config.deltaThreshold() * maxUpdates);
@@ -111,7 +137,14 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
                 int currentIteration = iteration;
                 try (var ignored3 = ProgressTimer.start(took -> logIterationTime(currentIteration, took))) {
                     progressLogger.logMessage("KNN-Graph starting iteration " + iteration + "/" + maxIterations);
-                    updateCount = this.iteration(neighbors);
+                    updateCount = this.iteration(
+                        currentIteration,
+                        neighbors,
+                        allOldNeighbors,
+                        allNewNeighbors,
+                        reverseOldNeighbors,
+                        reverseNewNeighbors
+                    );
                     progressLogger.logMessage("KNN-Graph ending iteration " + iteration + ": updated " + updateCount + "/" + maxUpdates + " nodes");
                 }
                 if (updateCount <= updateThreshold) {
@@ -121,6 +154,15 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
                 }
             }
 
+            if (nodeFilter.isFiltered()) {
+                // target nodes only maintain neighbors to guide the search, they are not part of the result
+                for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                    if (!nodeFilter.isSource(nodeId)) {
+                        neighbors.set(nodeId, null);
+                    }
+                }
+            }
+
             return ImmutableResult.of(neighbors, iteration, didConverge);
         }
     }
@@ -133,7 +175,7 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
 
         assert boundedK <= k && boundedK <= nodeCount - 1;
 
-        if (nodeCount < 2 || k == 0) {
+        if (nodeCount < 2 || k == 0 || nodeFilter.targetCount() == 0) {
             return null;
         }
 
@@ -147,7 +189,8 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
                 random,
                 this.computer,
                 neighbors,
-                nodeCount,
+                nodeFilter,
+                seedGraph,
                 k,
                 boundedK
             )
@@ -156,7 +199,14 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
         return neighbors;
     }
 
-    private long iteration(HugeObjectArray<NeighborList> neighbors) {
+    private long iteration(
+        int iteration,
+        HugeObjectArray<NeighborList> neighbors,
+        NeighborBuffer allOldNeighbors,
+        NeighborBuffer allNewNeighbors,
+        ReverseNeighbors reverseOldNeighbors,
+        ReverseNeighbors reverseNewNeighbors
+    ) {
         // this is a sanity check
         // we check for this before any iteration and return
         // and just make sure that this invariant holds on every iteration
@@ -165,29 +215,25 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
             return NeighborList.NOT_INSERTED;
         }
 
-        var tracker = this.context.tracker();
         var concurrency = this.config.concurrency();
         var executor = this.context.executor();
 
         var sampledK = this.config.sampledK(n);
 
-        // TODO: init in ctor and reuse - benchmark against new allocations
-        var allOldNeighbors = HugeObjectArray.newArray(LongArrayList.class, n, tracker);
-        var allNewNeighbors = HugeObjectArray.newArray(LongArrayList.class, n, tracker);
-
-        ParallelUtil.readParallel(concurrency, n, executor, new SplitOldAndNewNeighbors(
-            this.random,
-            neighbors,
-            allOldNeighbors,
-            allNewNeighbors,
-            sampledK
-        ));
-
-        // TODO: init in ctor and reuse - benchmark against new allocations
-        var reverseOldNeighbors = HugeObjectArray.newArray(LongArrayList.class, n, tracker);
-        var reverseNewNeighbors = HugeObjectArray.newArray(LongArrayList.class, n, tracker);
+        try (var ignored = ProgressTimer.start(took -> logPhaseTime(iteration, "split", took))) {
+            ParallelUtil.readParallel(concurrency, n, executor, new SplitOldAndNewNeighbors(
+                this.random,
+                neighbors,
+                allOldNeighbors,
+                allNewNeighbors,
+                sampledK
+            ));
+        }
 
-        reverseOldAndNewNeighbors(n, allOldNeighbors, allNewNeighbors, reverseOldNeighbors, reverseNewNeighbors);
+        try (var ignored = ProgressTimer.start(took -> logPhaseTime(iteration, "reverse", took))) {
+            reverseOldNeighbors.build(allOldNeighbors, concurrency, executor);
+            reverseNewNeighbors.build(allNewNeighbors, concurrency, executor);
+        }
 
         var neighborsJoiner = new JoinNeighbors(
             this.random,
@@ -197,58 +243,32 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
             allNewNeighbors,
             reverseOldNeighbors,
             reverseNewNeighbors,
+            this.nodeFilter,
+            // when seeded, only the neighborhoods affected by new neighbors are explored
+            this.seedGraph != null,
             n,
             this.config.topK(),
             sampledK,
             this.config.randomJoins()
         );
 
-        ParallelUtil.readParallel(concurrency, n, executor, neighborsJoiner);
-
-        return neighborsJoiner.updateCount.sum();
-    }
-
-    private static void reverseOldAndNewNeighbors(
-        long nodeCount,
-        HugeObjectArray<LongArrayList> allOldNeighbors,
-        HugeObjectArray<LongArrayList> allNewNeighbors,
-        HugeObjectArray<LongArrayList> reverseOldNeighbors,
-        HugeObjectArray<LongArrayList> reverseNewNeighbors
-    ) {
-        // TODO: cursors
-        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
-            reverseNeighbors(nodeId, allOldNeighbors, reverseOldNeighbors);
-            reverseNeighbors(nodeId, allNewNeighbors, reverseNewNeighbors);
+        try (var ignored = ProgressTimer.start(took -> logPhaseTime(iteration, "join", took))) {
+            ParallelUtil.readParallel(concurrency, n, executor, neighborsJoiner);
         }
-    }
 
-    static void reverseNeighbors(
-        long nodeId,
-        HugeObjectArray<LongArrayList> allNeighbors,
-        HugeObjectArray<LongArrayList> reverseNeighbors
-    ) {
-        var neighbors = allNeighbors.get(nodeId);
-        if (neighbors != null) {
-            for (var neighbor : neighbors) {
-                assert neighbor.value != nodeId;
-                var oldReverse = reverseNeighbors.get(neighbor.value);
-                if (oldReverse == null) {
-                    oldReverse = new LongArrayList();
-                    reverseNeighbors.set(neighbor.value, oldReverse);
-                }
-                oldReverse.add(nodeId);
-            }
-        }
+        return neighborsJoiner.updateCount.sum();
     }
 
     private static final class JoinNeighbors implements BiLongConsumer {
         private final SplittableRandom random;
         private final SimilarityComputer computer;
         private final HugeObjectArray<NeighborList> neighbors;
-        private final HugeObjectArray<LongArrayList> allOldNeighbors;
-        private final HugeObjectArray<LongArrayList> allNewNeighbors;
-        private final HugeObjectArray<LongArrayList> allReverseOldNeighbors;
-        private final HugeObjectArray<LongArrayList> allReverseNewNeighbors;
+        private final NeighborBuffer allOldNeighbors;
+        private final NeighborBuffer allNewNeighbors;
+        private final ReverseNeighbors allReverseOldNeighbors;
+        private final ReverseNeighbors allReverseNewNeighbors;
+        private final KnnNodeFilter nodeFilter;
+        private final boolean onlyAffectedNodes;
         private final long n;
         private final int k;
         private final int sampledK;
@@ -259,10 +279,12 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
             SplittableRandom random,
             SimilarityComputer computer,
             HugeObjectArray<NeighborList> neighbors,
-            HugeObjectArray<LongArrayList> allOldNeighbors,
-            HugeObjectArray<LongArrayList> allNewNeighbors,
-            HugeObjectArray<LongArrayList> allReverseOldNeighbors,
-            HugeObjectArray<LongArrayList> allReverseNewNeighbors,
+            NeighborBuffer allOldNeighbors,
+            NeighborBuffer allNewNeighbors,
+            ReverseNeighbors allReverseOldNeighbors,
+            ReverseNeighbors allReverseNewNeighbors,
+            KnnNodeFilter nodeFilter,
+            boolean onlyAffectedNodes,
             long n,
             int k,
             int sampledK,
@@ -275,6 +297,8 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
             this.allNewNeighbors = allNewNeighbors;
             this.allReverseOldNeighbors = allReverseOldNeighbors;
             this.allReverseNewNeighbors = allReverseNewNeighbors;
+            this.nodeFilter = nodeFilter;
+            this.onlyAffectedNodes = onlyAffectedNodes;
             this.n = n;
             this.k = k;
             this.sampledK = sampledK;
@@ -294,44 +318,28 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
             var allOldNeighbors = this.allOldNeighbors;
             var allReverseNewNeighbors = this.allReverseNewNeighbors;
             var allReverseOldNeighbors = this.allReverseOldNeighbors;
+            var nodeFilter = this.nodeFilter;
 
             long updateCount = 0;
             for (long nodeId = start; nodeId < end; nodeId++) {
-                // old[v] ∪ Sample(old′[v], ρK)
-                var oldNeighbors = allOldNeighbors.get(nodeId);
-                if (oldNeighbors != null) {
-                    var reverseOldNeighbors = allReverseOldNeighbors.get(nodeId);
-                    if (reverseOldNeighbors != null) {
-                        var numberOfReverseOldNeighbors = reverseOldNeighbors.size();
-                        for (var elem : reverseOldNeighbors) {
-                            if (rng.nextInt(numberOfReverseOldNeighbors) < sampledK) {
-                                // TODO: this could add nodes twice, maybe? should this be a set?
-                                oldNeighbors.add(elem.value);
-                            }
-                        }
-                    }
+                if (allNeighbors.get(nodeId) == null) {
+                    continue;
                 }
 
+                // old[v] ∪ Sample(old′[v], ρK)
+                if (allOldNeighbors.size(nodeId) > 0) {
+                    sampleReverseNeighbors(rng, sampledK, nodeId, allReverseOldNeighbors, allOldNeighbors);
+                }
 
                 // new[v] ∪ Sample(new′[v], ρK)
-                var newNeighbors = allNewNeighbors.get(nodeId);
-                if (newNeighbors != null) {
-                    var reverseNewNeighbors = allReverseNewNeighbors.get(nodeId);
-                    if (reverseNewNeighbors != null) {
-                        var numberOfReverseNewNeighbors = reverseNewNeighbors.size();
-                        for (var elem : reverseNewNeighbors) {
-                            if (rng.nextInt(numberOfReverseNewNeighbors) < sampledK) {
-                                // TODO: this could add nodes twice, maybe? should this be a set?
-                                newNeighbors.add(elem.value);
-                            }
-                        }
-                    }
+                if (allNewNeighbors.size(nodeId) > 0) {
+                    sampleReverseNeighbors(rng, sampledK, nodeId, allReverseNewNeighbors, allNewNeighbors);
 
-                    var newNeighborElements = newNeighbors.buffer;
-                    var newNeighborsCount = newNeighbors.elementsCount;
+                    var newNeighborsCount = allNewNeighbors.size(nodeId);
+                    var oldNeighborsCount = allOldNeighbors.size(nodeId);
 
                     for (int i = 0; i < newNeighborsCount; i++) {
-                        var elem1 = newNeighborElements[i];
+                        var elem1 = allNewNeighbors.get(nodeId, i);
                         assert elem1 != nodeId;
 
                         // join(u1, v), this isn't in the paper
@@ -347,7 +355,7 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
 
                         // join(new_nbd, new_ndb)
                         for (int j = i + 1; j < newNeighborsCount; j++) {
-                            var elem2 = newNeighborElements[i];
+                            var elem2 = allNewNeighbors.get(nodeId, j);
                             if (elem1 == elem2) {
                                 continue;
                             }
@@ -373,43 +381,45 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
                         }
 
                         // join(new_nbd, old_ndb)
-                        if (oldNeighbors != null) {
-                            for (var oldElemCursor : oldNeighbors) {
-                                var elem2 = oldElemCursor.value;
-
-                                if (elem1 == elem2) {
-                                    continue;
-                                }
-
-                                updateCount += join(
-                                    rng,
-                                    computer,
-                                    allNeighbors,
-                                    n,
-                                    k,
-                                    elem1,
-                                    elem2
-                                );
-                                updateCount += join(
-                                    rng,
-                                    computer,
-                                    allNeighbors,
-                                    n,
-                                    k,
-                                    elem2,
-                                    elem1
-                                );
+                        for (int j = 0; j < oldNeighborsCount; j++) {
+                            var elem2 = allOldNeighbors.get(nodeId, j);
+
+                            if (elem1 == elem2) {
+                                continue;
                             }
+
+                            updateCount += join(
+                                rng,
+                                computer,
+                                allNeighbors,
+                                n,
+                                k,
+                                elem1,
+                                elem2
+                            );
+                            updateCount += join(
+                                rng,
+                                computer,
+                                allNeighbors,
+                                n,
+                                k,
+                                elem2,
+                                elem1
+                            );
                         }
                     }
                 }
 
+                if (onlyAffectedNodes && allNewNeighbors.size(nodeId) == 0) {
+                    continue;
+                }
+
                 // random_join, this isn't in the paper
                 var randomJoins = this.randomJoins;
                 for (int i = 0; i < randomJoins; i++) {
-                    var randomNodeId = rng.nextLong(n - 1);
-                    if (randomNodeId >= nodeId) {
-                        ++randomNodeId;
+                    var randomNodeId = nodeFilter.randomTarget(rng, nodeId);
+                    if (randomNodeId == -1L) {
+                        break;
                     }
                     // random joins are not counted towards the actual update counter
                     join(
@@ -427,6 +437,24 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
             this.updateCount.add(updateCount);
         }
 
+        private static void sampleReverseNeighbors(
+            SplittableRandom rng,
+            int sampledK,
+            long nodeId,
+            ReverseNeighbors allReverseNeighbors,
+            NeighborBuffer neighbors
+        ) {
+            var numberOfReverseNeighbors = allReverseNeighbors.size(nodeId);
+            for (int i = 0; i < numberOfReverseNeighbors; i++) {
+                if (rng.nextInt(numberOfReverseNeighbors) < sampledK) {
+                    // TODO: this could add nodes twice, maybe? should this be a set?
+                    if (!neighbors.add(nodeId, allReverseNeighbors.get(nodeId, i))) {
+                        break;
+                    }
+                }
+            }
+        }
+
         private long join(
             SplittableRandom splittableRandom,
             SimilarityComputer computer,
@@ -439,17 +467,18 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
             assert base != joiner;
             assert n > 1 && k > 0;
 
+            // reverse neighbors can be source nodes, which are never neighbors themselves
+            if (!nodeFilter.isTarget(joiner)) {
+                return NeighborList.NOT_INSERTED;
+            }
+
             var similarity = computer.safeSimilarity(base, joiner);
             var neighbors = allNeighbors.get(base);
-            synchronized (neighbors) {
-                var k2 = neighbors.size();
 
-                assert k2 > 0;
-                assert k2 <= k;
-                assert k2 <= n - 1;
+            assert neighbors.size() <= k;
+            assert neighbors.size() <= n - 1;
 
-                return neighbors.add(joiner, similarity, splittableRandom);
-            }
+            return neighbors.concurrentAdd(joiner, similarity, splittableRandom);
         }
     }
 
@@ -461,6 +490,10 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
         progressLogger.logMessage(() -> formatWithLocale("KNN-G Graph iteration %d took %d ms", iteration, ms));
     }
 
+    private void logPhaseTime(int iteration, String phase, long ms) {
+        progressLogger.logMessage(() -> formatWithLocale("KNN-G Graph iteration %d %s phase took %d ms", iteration, phase, ms));
+    }
+
     private void logOverallTime(long ms) {
         progressLogger.logMessage(() -> formatWithLocale("KNN-G Graph execution took %d ms", ms));
     }
@@ -484,7 +517,12 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
         abstract boolean didConverge();
 
         public LongStream neighborsOf(long nodeId) {
-            return neighborList().get(nodeId).elements().map(NeighborList::clearCheckedFlag);
+            var neighbors = neighborList().get(nodeId);
+            // nodes that are excluded by the node filter have no neighbors
+            if (neighbors == null) {
+                return LongStream.empty();
+            }
+            return neighbors.elements().map(NeighborList::clearCheckedFlag);
         }
 
         // http://www.flatmapthatshit.com/
@@ -492,6 +530,7 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
             var neighborList = neighborList();
             return Stream.iterate(neighborList.initCursor(neighborList.newCursor()), HugeCursor::next, UnaryOperator.identity())
                 .flatMap(cursor -> IntStream.range(cursor.offset, cursor.limit)
+                    .filter(index -> cursor.array[index] != null)
                     .mapToObj(index -> cursor.array[index].similarityStream(index + cursor.base))
                     .flatMap(Function.identity())
                 );
@@ -501,6 +540,7 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
             var neighborList = neighborList();
             return Stream.iterate(neighborList.initCursor(neighborList.newCursor()), HugeCursor::next, UnaryOperator.identity())
                 .flatMapToLong(cursor -> IntStream.range(cursor.offset, cursor.limit)
+                    .filter(index -> cursor.array[index] != null)
                     .mapToLong(index -> cursor.array[index].size()))
                 .sum();
         }
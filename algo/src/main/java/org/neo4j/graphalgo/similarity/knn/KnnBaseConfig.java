@@ -27,6 +27,11 @@ import org.neo4j.graphalgo.config.AlgoBaseConfig;
 import org.neo4j.graphalgo.config.IterationsConfig;
 import org.neo4j.graphalgo.config.NodeWeightConfig;
 
+import java.util.Collections;
+import java.util.List;
+
+import static org.neo4j.graphalgo.ElementProjection.PROJECT_ALL;
+
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
@@ -78,6 +83,27 @@ public interface KnnBaseConfig extends AlgoBaseConfig, IterationsConfig, NodeWei
         return -1;
     }
 
+    // use the relationships of the input graph, e.g. a previously mutated KNN graph, as initial neighbors
+    @Value.Default
+    default boolean seedFromRelationships() {
+        return false;
+    }
+
+    @Value.Default
+    default List<String> sourceNodeLabels() {
+        return Collections.singletonList(PROJECT_ALL);
+    }
+
+    @Value.Default
+    default List<String> targetNodeLabels() {
+        return Collections.singletonList(PROJECT_ALL);
+    }
+
+    @Configuration.Ignore
+    default boolean hasNodeFilter() {
+        return !sourceNodeLabels().contains(PROJECT_ALL) || !targetNodeLabels().contains(PROJECT_ALL);
+    }
+
     @Configuration.Ignore
     default int sampledK(long nodeCount) {
         // (int) is safe because value is at most `topK`, which is an int
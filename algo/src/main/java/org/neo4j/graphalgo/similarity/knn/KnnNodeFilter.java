@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.similarity.knn;
+
+import com.carrotsearch.hppc.BitSet;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.graphalgo.NodeLabel;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.mem.MemoryUsage;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+import static org.neo4j.graphalgo.ElementProjection.PROJECT_ALL;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Restricts KNN to the nodes selected by {@link KnnBaseConfig#sourceNodeLabels()}
+ * and {@link KnnBaseConfig#targetNodeLabels()}.
+ *
+ * Every source and every target node maintains a list of target neighbors,
+ * so that target nodes can be used to navigate the neighborhood graph,
+ * but only the lists of source nodes are part of the result.
+ */
+final class KnnNodeFilter {
+
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(KnnNodeFilter.class)
+            .perNode("source nodes", MemoryUsage::sizeOfBitset)
+            .perNode("target nodes", MemoryUsage::sizeOfBitset)
+            .perNode("target ids", HugeLongArray::memoryEstimation)
+            .build();
+    }
+
+    private final long nodeCount;
+    private final long targetCount;
+    // all fields below are null if no filter is applied
+    private final @Nullable BitSet sources;
+    private final @Nullable BitSet targets;
+    private final @Nullable HugeLongArray targetIds;
+
+    static KnnNodeFilter all(long nodeCount) {
+        return new KnnNodeFilter(nodeCount, nodeCount, null, null, null);
+    }
+
+    static KnnNodeFilter of(Graph graph, KnnBaseConfig config, AllocationTracker tracker) {
+        var nodeCount = graph.nodeCount();
+        if (!config.hasNodeFilter()) {
+            return all(nodeCount);
+        }
+
+        var sourceLabels = nodeLabels(graph, config.sourceNodeLabels(), "sourceNodeLabels");
+        var targetLabels = nodeLabels(graph, config.targetNodeLabels(), "targetNodeLabels");
+
+        var sources = new BitSet(nodeCount);
+        var targets = new BitSet(nodeCount);
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            if (hasAnyLabel(graph, nodeId, sourceLabels)) {
+                sources.set(nodeId);
+            }
+            if (hasAnyLabel(graph, nodeId, targetLabels)) {
+                targets.set(nodeId);
+            }
+        }
+
+        var targetCount = targets.cardinality();
+        var targetIds = HugeLongArray.newArray(targetCount, tracker);
+        long index = 0L;
+        for (long nodeId = targets.nextSetBit(0L); nodeId >= 0; nodeId = targets.nextSetBit(nodeId + 1)) {
+            targetIds.set(index++, nodeId);
+        }
+
+        return new KnnNodeFilter(nodeCount, targetCount, sources, targets, targetIds);
+    }
+
+    private KnnNodeFilter(
+        long nodeCount,
+        long targetCount,
+        @Nullable BitSet sources,
+        @Nullable BitSet targets,
+        @Nullable HugeLongArray targetIds
+    ) {
+        this.nodeCount = nodeCount;
+        this.targetCount = targetCount;
+        this.sources = sources;
+        this.targets = targets;
+        this.targetIds = targetIds;
+    }
+
+    boolean isFiltered() {
+        return targetIds != null;
+    }
+
+    long targetCount() {
+        return targetCount;
+    }
+
+    boolean isSource(long nodeId) {
+        return sources == null || sources.get(nodeId);
+    }
+
+    boolean isTarget(long nodeId) {
+        return targets == null || targets.get(nodeId);
+    }
+
+    /**
+     * Nodes that are neither source nor target do not have a neighbor list.
+     */
+    boolean participates(long nodeId) {
+        return isSource(nodeId) || isTarget(nodeId);
+    }
+
+    /**
+     * Draws a uniformly random target node that is different from the given node.
+     *
+     * @return a target node id or -1 if the given node is the only target
+     */
+    long randomTarget(SplittableRandom random, long nodeId) {
+        if (targetIds == null) {
+            var randomNode = random.nextLong(nodeCount - 1);
+            return randomNode >= nodeId ? randomNode + 1 : randomNode;
+        }
+
+        var availableTargets = isTarget(nodeId) ? targetCount - 1 : targetCount;
+        if (availableTargets <= 0) {
+            return -1L;
+        }
+
+        long randomNode;
+        do {
+            randomNode = targetIds.get(random.nextLong(targetCount));
+        } while (randomNode == nodeId);
+        return randomNode;
+    }
+
+    private static List<NodeLabel> nodeLabels(Graph graph, List<String> labels, String configKey) {
+        if (labels.contains(PROJECT_ALL)) {
+            return List.copyOf(graph.availableNodeLabels());
+        }
+        var nodeLabels = labels.stream().map(NodeLabel::of).collect(Collectors.toList());
+        for (var nodeLabel : nodeLabels) {
+            if (!graph.availableNodeLabels().contains(nodeLabel)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Invalid `%s`, the node label `%s` does not exist in the graph. Available labels are %s.",
+                    configKey,
+                    nodeLabel.name,
+                    graph.availableNodeLabels()
+                ));
+            }
+        }
+        return nodeLabels;
+    }
+
+    private static boolean hasAnyLabel(Graph graph, long nodeId, List<NodeLabel> labels) {
+        for (var label : labels) {
+            if (graph.hasLabel(nodeId, label)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.similarity.knn;
+
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.paged.HugeIntArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+
+/**
+ * Per-node neighbor lists with a fixed capacity, stored in primitive huge arrays.
+ *
+ * The buffer is allocated once and reused for every iteration of KNN.
+ * A list must only be modified by the thread that owns the node,
+ * the owner clears the list before refilling it.
+ */
+final class NeighborBuffer {
+
+    static MemoryEstimation memoryEstimation(int capacity) {
+        return MemoryEstimations.builder(NeighborBuffer.class)
+            .perNode("neighbors", nodeCount -> HugeLongArray.memoryEstimation(nodeCount * capacity))
+            .perNode("counts", HugeIntArray::memoryEstimation)
+            .build();
+    }
+
+    private final int capacity;
+    private final HugeLongArray neighbors;
+    private final HugeIntArray counts;
+
+    NeighborBuffer(long nodeCount, int capacity, AllocationTracker tracker) {
+        this.capacity = capacity;
+        this.neighbors = HugeLongArray.newArray(nodeCount * capacity, tracker);
+        this.counts = HugeIntArray.newArray(nodeCount, tracker);
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    void clear(long nodeId) {
+        counts.set(nodeId, 0);
+    }
+
+    /**
+     * @return false if the list of the node is already full and the neighbor has not been added
+     */
+    boolean add(long nodeId, long neighbor) {
+        var count = counts.get(nodeId);
+        if (count == capacity) {
+            return false;
+        }
+        neighbors.set(nodeId * capacity + count, neighbor);
+        counts.set(nodeId, count + 1);
+        return true;
+    }
+
+    int size(long nodeId) {
+        return counts.get(nodeId);
+    }
+
+    long get(long nodeId, int index) {
+        return neighbors.get(nodeId * capacity + index);
+    }
+}
@@ -89,6 +89,9 @@ class NeighborList {
     // convert the double to their long bits representation and store them next to each other
     // every item occupies two entries in the array, [ doubleToLongBits(priority), element ]
     private final long[] elements;
+    // lowest stored priority once the list is full, negative infinity until then
+    // the value only ever increases, which allows rejecting candidates without taking the lock
+    private volatile double lowestPriority = Double.NEGATIVE_INFINITY;
 
     NeighborList(int bound) {
         if (bound <= 0) {
@@ -195,6 +198,26 @@ class NeighborList {
         return INSERTED;
     }
 
+    /**
+     * Thread-safe variant of {@link #add(long, double, java.util.SplittableRandom)}.
+     *
+     * Candidates with a priority below the lowest priority of a full list are rejected without
+     * any synchronization. All other candidates are inserted while holding the monitor of this list.
+     */
+    long concurrentAdd(long element, double priority, SplittableRandom random) {
+        if (priority < lowestPriority) {
+            return NOT_INSERTED;
+        }
+
+        synchronized (this) {
+            var inserted = add(element, priority, random);
+            if (elementCount == bound) {
+                lowestPriority = Double.longBitsToDouble(elements[(bound - 1) * 2]);
+            }
+            return inserted;
+        }
+    }
+
     public Stream<SimilarityResult> similarityStream(long nodeId) {
         return IntStream.range(0, elementCount)
             .mapToObj(index -> {
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.similarity.knn;
+
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Reverse neighbor lists of a {@link NeighborBuffer} in a compressed layout.
+ *
+ * The lists are built in parallel in two passes over the forward lists.
+ * The first pass counts the reverse degree of every node, the second pass
+ * claims slots by atomically decrementing the prefix summed offsets, which
+ * leaves the offsets pointing at the start of each reverse list.
+ * The arrays are allocated once and reused for every iteration of KNN.
+ */
+final class ReverseNeighbors {
+
+    static MemoryEstimation memoryEstimation(int capacity) {
+        return MemoryEstimations.builder(ReverseNeighbors.class)
+            .perNode("offsets", nodeCount -> HugeAtomicLongArray.memoryEstimation(nodeCount + 1))
+            .perNode("targets", nodeCount -> HugeLongArray.memoryEstimation(nodeCount * capacity))
+            .build();
+    }
+
+    private final long nodeCount;
+    // offsets[nodeId] is the start and offsets[nodeId + 1] the end of the reverse list of nodeId
+    private final HugeAtomicLongArray offsets;
+    private final HugeLongArray targets;
+
+    /**
+     * @param capacity the capacity of the forward lists, which bounds the total number of reverse neighbors
+     */
+    ReverseNeighbors(long nodeCount, int capacity, AllocationTracker tracker) {
+        this.nodeCount = nodeCount;
+        this.offsets = HugeAtomicLongArray.newArray(nodeCount + 1, tracker);
+        this.targets = HugeLongArray.newArray(nodeCount * capacity, tracker);
+    }
+
+    void build(NeighborBuffer forward, int concurrency, ExecutorService executor) {
+        var offsets = this.offsets;
+        var targets = this.targets;
+
+        offsets.setAll(0L);
+
+        ParallelUtil.readParallel(concurrency, nodeCount, executor, (start, end) -> {
+            for (long nodeId = start; nodeId < end; nodeId++) {
+                var size = forward.size(nodeId);
+                for (int i = 0; i < size; i++) {
+                    offsets.getAndAdd(forward.get(nodeId, i), 1L);
+                }
+            }
+        });
+
+        // inclusive prefix sum, every offset points at the end of its reverse list
+        long sum = 0L;
+        for (long nodeId = 0; nodeId <= nodeCount; nodeId++) {
+            sum += offsets.get(nodeId);
+            offsets.set(nodeId, sum);
+        }
+
+        ParallelUtil.readParallel(concurrency, nodeCount, executor, (start, end) -> {
+            for (long nodeId = start; nodeId < end; nodeId++) {
+                var size = forward.size(nodeId);
+                for (int i = 0; i < size; i++) {
+                    var neighbor = forward.get(nodeId, i);
+                    assert neighbor != nodeId;
+                    var position = offsets.getAndAdd(neighbor, -1L) - 1L;
+                    targets.set(position, nodeId);
+                }
+            }
+        });
+    }
+
+    int size(long nodeId) {
+        return Math.toIntExact(offsets.get(nodeId + 1) - offsets.get(nodeId));
+    }
+
+    long get(long nodeId, int index) {
+        return targets.get(offsets.get(nodeId) + index);
+    }
+}
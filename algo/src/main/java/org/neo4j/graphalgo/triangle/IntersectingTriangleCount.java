@@ -19,6 +19,7 @@
  */
 package org.neo4j.graphalgo.triangle;
 
+import org.immutables.value.Value;
 import org.jetbrains.annotations.TestOnly;
 import org.neo4j.graphalgo.Algorithm;
 import org.neo4j.graphalgo.annotation.ValueClass;
@@ -51,6 +52,10 @@ import java.util.concurrent.atomic.LongAdder;
  * http://www.cse.cuhk.edu.hk/~jcheng/papers/triangle_kdd11.pdf
  * https://i11www.iti.kit.edu/extra/publications/sw-fclt-05_t.pdf
  * http://www.math.cmu.edu/~ctsourak/tsourICDM08.pdf
+ *
+ * With {@code degreeOrdered} or a {@code samplingRatio} below 1, the counting is delegated
+ * to {@link DegreeOrderedTriangleCount}, which orients the graph by degree and optionally
+ * sparsifies it to approximate the counts.
  */
 @SuppressWarnings("FieldCanBeLocal")
 public final class IntersectingTriangleCount extends Algorithm<IntersectingTriangleCount, IntersectingTriangleCount.TriangleCountResult> {
@@ -62,6 +67,7 @@ public final class IntersectingTriangleCount extends Algorithm<IntersectingTrian
     private final RelationshipIntersectConfig intersectConfig;
     private final TriangleCountBaseConfig config;
     private ExecutorService executorService;
+    private final AllocationTracker tracker;
     private final AtomicLong queue;
 
     // results
@@ -107,6 +113,7 @@ public final class IntersectingTriangleCount extends Algorithm<IntersectingTrian
         this.intersectConfig = ImmutableRelationshipIntersectConfig.of(config.maxDegree());
         this.config = config;
         this.executorService = executorService;
+        this.tracker = tracker;
         this.triangleCounts = HugeAtomicLongArray.newArray(graph.nodeCount(), tracker);
         this.globalTriangleCounter = new LongAdder();
         this.queue = new AtomicLong();
@@ -127,6 +134,17 @@ public final class IntersectingTriangleCount extends Algorithm<IntersectingTrian
 
     @Override
     public TriangleCountResult compute() {
+        if (config.degreeOrdered() || config.isApproximate()) {
+            return new DegreeOrderedTriangleCount(
+                graph,
+                config,
+                executorService,
+                tracker,
+                progressLogger,
+                terminationFlag
+            ).compute(triangleCounts);
+        }
+
         queue.set(0);
         globalTriangleCounter.reset();
         // create tasks
@@ -185,6 +203,17 @@ public final class IntersectingTriangleCount extends Algorithm<IntersectingTrian
 
         long globalTriangles();
 
+        // bounds of the 95% confidence interval of an approximated global count, exact counts have no spread
+        @Value.Default
+        default long globalTrianglesLowerBound() {
+            return globalTriangles();
+        }
+
+        @Value.Default
+        default long globalTrianglesUpperBound() {
+            return globalTriangles();
+        }
+
         static TriangleCountResult of(
             HugeAtomicLongArray triangles,
             long globalTriangles
@@ -196,6 +225,21 @@ public final class IntersectingTriangleCount extends Algorithm<IntersectingTrian
                 .build();
         }
 
+        static TriangleCountResult of(
+            HugeAtomicLongArray triangles,
+            long globalTriangles,
+            long globalTrianglesLowerBound,
+            long globalTrianglesUpperBound
+        ) {
+            return ImmutableTriangleCountResult
+                .builder()
+                .localTriangles(triangles)
+                .globalTriangles(globalTriangles)
+                .globalTrianglesLowerBound(globalTrianglesLowerBound)
+                .globalTrianglesUpperBound(globalTrianglesUpperBound)
+                .build();
+        }
+
         default LongNodeProperties asNodeProperties() {
             return localTriangles().asNodeProperties();
         }
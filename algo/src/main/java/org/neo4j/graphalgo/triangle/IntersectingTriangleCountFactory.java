@@ -27,8 +27,11 @@ import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.mem.MemoryRange;
 import org.neo4j.graphalgo.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
 import org.neo4j.graphalgo.core.utils.progress.ProgressEventTracker;
+import org.neo4j.graphalgo.triangle.intersect.GraphIntersect;
 import org.neo4j.logging.Log;
 
 public class IntersectingTriangleCountFactory<CONFIG extends TriangleCountBaseConfig> implements AlgorithmFactory<IntersectingTriangleCount, CONFIG> {
@@ -58,9 +61,24 @@ public class IntersectingTriangleCountFactory<CONFIG extends TriangleCountBaseCo
 
     @Override
     public MemoryEstimation memoryEstimation(CONFIG configuration) {
-        return MemoryEstimations
+        var builder = MemoryEstimations
             .builder(IntersectingTriangleCount.class)
-            .perNode("triangle-counts", HugeAtomicLongArray::memoryEstimation)
-            .build();
+            .perNode("triangle-counts", HugeAtomicLongArray::memoryEstimation);
+
+        if (configuration.degreeOrdered() || configuration.isApproximate()) {
+            builder
+                .perNode("forward offsets", nodeCount -> HugeLongArray.memoryEstimation(nodeCount + 1))
+                .perGraphDimension("forward targets", (dimensions, concurrency) -> {
+                    // every relationship is oriented once, sampling keeps a fraction of them
+                    long forwardRelationships = (long) Math.ceil(
+                        dimensions.maxRelCount() / 2.0 * configuration.samplingRatio()
+                    );
+                    return MemoryRange.of(HugeLongArray.memoryEstimation(forwardRelationships));
+                });
+        } else {
+            builder.perThread("intersect", GraphIntersect.memoryEstimation(configuration.maxDegree()));
+        }
+
+        return builder.build();
     }
 }
@@ -28,6 +28,8 @@ import org.neo4j.graphalgo.core.CypherMapWrapper;
 
 import java.util.Optional;
 
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
@@ -45,6 +47,33 @@ public interface TriangleCountBaseConfig extends AlgoBaseConfig {
         }
     }
 
+    @Value.Default
+    default boolean degreeOrdered() {
+        return false;
+    }
+
+    @Value.Default
+    default double samplingRatio() {
+        return 1.0;
+    }
+
+    Optional<Long> randomSeed();
+
+    @Value.Check
+    default void validateSamplingRatio() {
+        if (samplingRatio() <= 0 || samplingRatio() > 1) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The 'samplingRatio' parameter must be in the range (0, 1], but was %s.",
+                samplingRatio()
+            ));
+        }
+    }
+
+    @Configuration.Ignore
+    default boolean isApproximate() {
+        return samplingRatio() < 1.0;
+    }
+
     static TriangleCountBaseConfig of(
         String username,
         Optional<String> graphName,
@@ -22,6 +22,11 @@ package org.neo4j.graphalgo.triangle.intersect;
 import org.neo4j.graphalgo.api.AdjacencyCursor;
 import org.neo4j.graphalgo.api.IntersectionConsumer;
 import org.neo4j.graphalgo.api.RelationshipIntersect;
+import org.neo4j.graphalgo.core.utils.Intersections;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.mem.MemoryRange;
+import org.neo4j.graphalgo.core.utils.mem.MemoryUsage;
 
 import java.util.function.IntPredicate;
 import java.util.function.Supplier;
@@ -36,11 +41,16 @@ import static org.neo4j.graphalgo.api.AdjacencyCursor.NOT_FOUND;
 
 public abstract class GraphIntersect<CURSOR extends AdjacencyCursor> implements RelationshipIntersect {
 
+    // Nodes with at least this degree have their neighbourhood decoded once and probed by galloping search,
+    // instead of decoding it again for every neighbour.
+    static final int HUB_DEGREE_THRESHOLD = 128;
+
     protected CURSOR empty;
     private final CURSOR cache;
     private final CURSOR cacheA;
     private final CURSOR cacheB;
     private final IntPredicate degreeFilter;
+    private long[] hubNeighbours;
 
     protected GraphIntersect(Supplier<CURSOR> cursorSupplier, long maxDegree) {
         this.cache = cursorSupplier.get();
@@ -51,6 +61,23 @@ public abstract class GraphIntersect<CURSOR extends AdjacencyCursor> implements
         this.degreeFilter = maxDegree < Long.MAX_VALUE
             ? (degree) -> degree <= maxDegree
             : (ignore) -> true;
+        this.hubNeighbours = new long[0];
+    }
+
+    /**
+     * Estimates the buffer for the neighbours of hub nodes. Every instance holds its own buffer, which
+     * grows to the largest degree of a hub that is not filtered out by {@code maxDegree}.
+     */
+    public static MemoryEstimation memoryEstimation(long maxDegree) {
+        return MemoryEstimations
+            .builder(GraphIntersect.class.getSimpleName())
+            .rangePerGraphDimension("hub neighbours", (dimensions, concurrency) -> {
+                long maxHubDegree = Math.min(Math.min(maxDegree, dimensions.maxRelCount()), Integer.MAX_VALUE);
+                return maxHubDegree < HUB_DEGREE_THRESHOLD
+                    ? MemoryRange.empty()
+                    : MemoryRange.of(0, MemoryUsage.sizeOfLongArray(maxHubDegree));
+            })
+            .build();
     }
 
     @Override
@@ -63,6 +90,11 @@ public abstract class GraphIntersect<CURSOR extends AdjacencyCursor> implements
 
         CURSOR neighboursAMain = cursor(nodeA, degreeA, cache);
 
+        if (degreeA >= HUB_DEGREE_THRESHOLD) {
+            intersectHub(nodeA, degreeA, neighboursAMain, consumer);
+            return;
+        }
+
         // find first neighbour B of A with id > A
         long nodeB = neighboursAMain.skipUntil(nodeA);
         // if there is no such neighbour -> no triangle (or we already found it)
@@ -142,6 +174,48 @@ public abstract class GraphIntersect<CURSOR extends AdjacencyCursor> implements
         }
     }
 
+    private void intersectHub(long nodeA, int degreeA, CURSOR neighboursA, IntersectionConsumer consumer) {
+        if (hubNeighbours.length < degreeA) {
+            hubNeighbours = new long[degreeA];
+        }
+
+        // decode the distinct neighbours B of A with id > A once
+        int hubDegree = 0;
+        while (neighboursA.hasNextVLong()) {
+            long node = neighboursA.nextVLong();
+            if (node > nodeA && (hubDegree == 0 || node != hubNeighbours[hubDegree - 1])) {
+                hubNeighbours[hubDegree++] = node;
+            }
+        }
+
+        CURSOR neighboursB = cacheB;
+        for (int indexB = 0; indexB < hubDegree; indexB++) {
+            long nodeB = hubNeighbours[indexB];
+            int degreeB = degree(nodeB);
+            if (!degreeFilter.test(degreeB)) {
+                continue;
+            }
+            neighboursB = cursor(nodeB, degreeB, neighboursB);
+
+            // neighbours C of B with id > B are looked up among the remaining neighbours of A,
+            // both are sorted so the search continues where the previous one stopped
+            int indexC = indexB + 1;
+            long lastC = NOT_FOUND;
+            while (indexC < hubDegree && neighboursB.hasNextVLong()) {
+                long nodeC = neighboursB.nextVLong();
+                // skip smaller ids and parallel relationships
+                if (nodeC <= nodeB || nodeC == lastC) {
+                    continue;
+                }
+                lastC = nodeC;
+                indexC = Intersections.gallopingSearch(hubNeighbours, indexC, hubDegree, nodeC);
+                if (indexC < hubDegree && hubNeighbours[indexC] == nodeC && degreeFilter.test(degree(nodeC))) {
+                    consumer.accept(nodeA, nodeB, nodeC);
+                }
+            }
+        }
+    }
+
     private long checkForAndEmitTriangle(
         IntersectionConsumer consumer,
         long nodeA,
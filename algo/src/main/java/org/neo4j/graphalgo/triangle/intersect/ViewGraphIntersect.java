@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.triangle.intersect;
+
+import org.neo4j.annotations.service.ServiceProvider;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.IntersectionConsumer;
+import org.neo4j.graphalgo.api.RelationshipIntersect;
+import org.neo4j.graphalgo.beta.filter.GraphStoreView;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * Intersects the relationships of a {@link GraphStoreView.ViewGraph}.
+ * The relationship filter of a view is evaluated lazily, so neighbourhoods are collected by traversing
+ * the graph instead of decoding the topology of the parent graph store.
+ *
+ * An instance of this is not thread-safe; Iteration/Intersection on multiple threads will
+ * throw misleading {@link NullPointerException}s.
+ */
+public final class ViewGraphIntersect implements RelationshipIntersect {
+
+    private final Graph graph;
+    private final IntPredicate degreeFilter;
+    private final Neighbours neighboursA;
+    private final Neighbours neighboursB;
+
+    private ViewGraphIntersect(Graph graph, long maxDegree) {
+        this.graph = graph;
+        this.degreeFilter = maxDegree < Long.MAX_VALUE
+            ? (degree) -> degree <= maxDegree
+            : (ignore) -> true;
+        this.neighboursA = new Neighbours();
+        this.neighboursB = new Neighbours();
+    }
+
+    @Override
+    public void intersectAll(long nodeA, IntersectionConsumer consumer) {
+        int degreeA = graph.degree(nodeA);
+        if (!degreeFilter.test(degreeA)) {
+            return;
+        }
+        neighboursA.collect(graph, nodeA, degreeA);
+
+        for (int indexB = 0; indexB < neighboursA.size; indexB++) {
+            long nodeB = neighboursA.ids[indexB];
+            int degreeB = graph.degree(nodeB);
+            if (!degreeFilter.test(degreeB)) {
+                continue;
+            }
+            neighboursB.collect(graph, nodeB, degreeB);
+
+            // neighbours C of A and B with A < B < C
+            int indexA = indexB + 1;
+            int indexC = 0;
+            while (indexA < neighboursA.size && indexC < neighboursB.size) {
+                long nodeCfromA = neighboursA.ids[indexA];
+                long nodeCfromB = neighboursB.ids[indexC];
+                if (nodeCfromA < nodeCfromB) {
+                    indexA++;
+                } else if (nodeCfromA > nodeCfromB) {
+                    indexC++;
+                } else {
+                    if (degreeFilter.test(graph.degree(nodeCfromA))) {
+                        consumer.accept(nodeA, nodeB, nodeCfromA);
+                    }
+                    indexA++;
+                    indexC++;
+                }
+            }
+        }
+    }
+
+    /**
+     * The sorted and distinct neighbours of a node with a larger id than the node itself.
+     */
+    private static final class Neighbours {
+
+        private long[] ids = new long[0];
+        private int size;
+
+        void collect(Graph graph, long node, int degree) {
+            if (ids.length < degree) {
+                ids = new long[degree];
+            }
+            size = 0;
+            graph.forEachRelationship(node, (source, target) -> {
+                if (target > node) {
+                    ids[size++] = target;
+                }
+                return true;
+            });
+            Arrays.sort(ids, 0, size);
+
+            // parallel relationships must not form additional triangles
+            int distinct = 0;
+            for (int i = 0; i < size; i++) {
+                if (distinct == 0 || ids[i] != ids[distinct - 1]) {
+                    ids[distinct++] = ids[i];
+                }
+            }
+            size = distinct;
+        }
+    }
+
+    @ServiceProvider
+    public static final class ViewGraphIntersectFactory implements RelationshipIntersectFactory {
+
+        @Override
+        public boolean canLoad(Graph graph) {
+            return graph instanceof GraphStoreView.ViewGraph;
+        }
+
+        @Override
+        public ViewGraphIntersect load(Graph graph, RelationshipIntersectConfig config) {
+            assert graph instanceof GraphStoreView.ViewGraph;
+            return new ViewGraphIntersect(graph.concurrentCopy(), config.maxDegree());
+        }
+    }
+}
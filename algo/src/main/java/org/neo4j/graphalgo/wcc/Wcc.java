@@ -32,8 +32,9 @@ import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
 import org.neo4j.graphalgo.core.utils.paged.dss.DisjointSetStruct;
 import org.neo4j.graphalgo.core.utils.paged.dss.HugeAtomicDisjointSetStruct;
+import org.neo4j.graphalgo.core.utils.partition.Partition;
+import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.concurrent.ExecutorService;
 
@@ -53,7 +54,6 @@ public class Wcc extends Algorithm<Wcc, DisjointSetStruct> {
     private final ExecutorService executor;
     private final AllocationTracker tracker;
     private final long nodeCount;
-    private final long batchSize;
     private final int threadSize;
 
     private Graph graph;
@@ -81,7 +81,7 @@ public class Wcc extends Algorithm<Wcc, DisjointSetStruct> {
         this.executor = executor;
         this.tracker = tracker;
         this.nodeCount = graph.nodeCount();
-        this.batchSize = ParallelUtil.adjustedBatchSize(
+        long batchSize = ParallelUtil.adjustedBatchSize(
             nodeCount,
             config.concurrency(),
             minBatchSize,
@@ -112,13 +112,17 @@ public class Wcc extends Algorithm<Wcc, DisjointSetStruct> {
             ? new HugeAtomicDisjointSetStruct(nodeCount, initialComponents, tracker, config.concurrency())
             : new HugeAtomicDisjointSetStruct(nodeCount, tracker, config.concurrency());
 
-        final Collection<Runnable> tasks = new ArrayList<>(threadSize);
-        for (long i = 0L; i < this.nodeCount; i += batchSize) {
-            WCCTask wccTask = Double.isNaN(threshold()) || threshold() == 0
-                ? new WCCTask(dss, i)
-                : new WCCWithThresholdTask(threshold(), dss, i);
-            tasks.add(wccTask);
-        }
+        // balance the partitions by relationships, since the union work is proportional to the degree
+        final Collection<Runnable> tasks = PartitionUtils.degreeBalancedPartition(
+            graph,
+            threadSize,
+            config.concurrency(),
+            executor,
+            progressLogger.getLog(),
+            partition -> Double.isNaN(threshold()) || threshold() == 0
+                ? new WCCTask(dss, partition)
+                : new WCCWithThresholdTask(threshold(), dss, partition)
+        );
         ParallelUtil.run(tasks, executor);
 
         progressLogger.logMessage(":: Finished");
@@ -150,11 +154,11 @@ public class Wcc extends Algorithm<Wcc, DisjointSetStruct> {
         private final long offset;
         private final long end;
 
-        WCCTask(DisjointSetStruct struct, long offset) {
+        WCCTask(DisjointSetStruct struct, Partition partition) {
             this.struct = struct;
             this.rels = graph.concurrentCopy();
-            this.offset = offset;
-            this.end = Math.min(offset + batchSize, nodeCount);
+            this.offset = partition.startNode();
+            this.end = partition.startNode() + partition.nodeCount();
         }
 
         @Override
@@ -184,8 +188,8 @@ public class Wcc extends Algorithm<Wcc, DisjointSetStruct> {
 
         private final double threshold;
 
-        WCCWithThresholdTask(double threshold, DisjointSetStruct struct, long offset) {
-            super(struct, offset);
+        WCCWithThresholdTask(double threshold, DisjointSetStruct struct, Partition partition) {
+            super(struct, partition);
             this.threshold = threshold;
         }
 
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.features;
+
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.embeddings.graphsage.ddl4j.ComputationContext;
+import org.neo4j.gds.ml.batch.LazyBatch;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.core.GraphDimensions;
+import org.neo4j.graphalgo.core.ImmutableGraphDimensions;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FeatureMatrixTest extends FeatureExtractionBaseTest {
+
+    @Override
+    public void makeExtractions(Graph graph) {
+        var featureExtractors = FeatureExtraction.propertyExtractors(graph, List.of("a", "b"));
+        FeatureMatrix.of(graph, featureExtractors, 1, AllocationTracker.empty());
+    }
+
+    @Test
+    void shouldStoreFeaturesRowMajor() {
+        var featureExtractors = new ArrayList<>(FeatureExtraction.propertyExtractors(validGraph, List.of("a", "b")));
+        featureExtractors.add(new BiasFeature());
+        var featureMatrix = FeatureMatrix.of(validGraph, featureExtractors, 4, AllocationTracker.empty());
+
+        assertThat(featureMatrix.rows()).isEqualTo(4);
+        assertThat(featureMatrix.cols()).isEqualTo(4);
+
+        var row = new double[5];
+        featureMatrix.copyRow(2, row, 1);
+        assertThat(row).containsExactly(new double[]{0.0, 0.0, 1.0, 2.8, 1.0}, Offset.offset(1e-7));
+        assertThat(featureMatrix.get(1, 2)).isEqualTo(0.5, Offset.offset(1e-7));
+    }
+
+    @Test
+    void shouldExtractSameFeaturesAsFeatureExtraction() {
+        var featureExtractors = new ArrayList<>(FeatureExtraction.propertyExtractors(validGraph, List.of("a", "b")));
+        featureExtractors.add(new DegreeFeatureExtractor(validGraph));
+        featureExtractors.add(new BiasFeature());
+        var featureMatrix = FeatureMatrix.of(validGraph, featureExtractors, 2, AllocationTracker.empty());
+
+        var batch = new LazyBatch(1, 3, validGraph.nodeCount());
+        var expected = new ComputationContext().forward(FeatureExtraction.extract(batch, featureExtractors));
+        var actual = new ComputationContext().forward(featureMatrix.extract(batch));
+
+        assertThat(actual.dimensions()).containsExactly(expected.dimensions());
+        assertThat(actual.data()).containsExactly(expected.data(), Offset.offset(1e-7));
+    }
+
+    @Test
+    void shouldEstimateMemory() {
+        GraphDimensions dimensions = ImmutableGraphDimensions.builder().nodeCount(1_000_000).build();
+        var memoryTree = FeatureMatrix.memoryEstimation(42).estimate(dimensions, 4);
+
+        var expected = HugeDoubleArray.memoryEstimation(42_000_000);
+        assertThat(memoryTree.memoryUsage().min).isGreaterThanOrEqualTo(expected);
+        assertThat(memoryTree.memoryUsage().max).isEqualTo(memoryTree.memoryUsage().min);
+    }
+}
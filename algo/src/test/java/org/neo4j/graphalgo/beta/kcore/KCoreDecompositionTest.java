@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.kcore;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.graphalgo.Orientation;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.beta.generator.RandomGraphGenerator;
+import org.neo4j.graphalgo.beta.generator.RelationshipDistribution;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.extension.GdlExtension;
+import org.neo4j.graphalgo.extension.GdlGraph;
+import org.neo4j.graphalgo.extension.IdFunction;
+import org.neo4j.graphalgo.extension.Inject;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.graphalgo.TestSupport.fromGdl;
+
+@GdlExtension
+class KCoreDecompositionTest {
+
+    // a 4-clique (a, b, c, d), a triangle (e, f, g) attached to it,
+    // a path (h, i) hanging off the triangle, a self-loop on i and an isolated node j
+    @GdlGraph(orientation = Orientation.UNDIRECTED)
+    private static final String DB_CYPHER =
+        "CREATE " +
+        "  (a)-[:T]->(b)" +
+        ", (a)-[:T]->(c)" +
+        ", (a)-[:T]->(d)" +
+        ", (b)-[:T]->(c)" +
+        ", (b)-[:T]->(d)" +
+        ", (c)-[:T]->(d)" +
+        ", (d)-[:T]->(e)" +
+        ", (e)-[:T]->(f)" +
+        ", (f)-[:T]->(g)" +
+        ", (g)-[:T]->(e)" +
+        ", (g)-[:T]->(h)" +
+        ", (h)-[:T]->(i)" +
+        ", (i)-[:T]->(i)" +
+        ", (j)";
+
+    @Inject
+    private Graph graph;
+
+    @Inject
+    private IdFunction idFunction;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldComputeCoreValues(int concurrency) {
+        var result = compute(graph, concurrency);
+
+        assertThat(result.degeneracy()).isEqualTo(3);
+        assertCoreValue(result, "a", 3);
+        assertCoreValue(result, "b", 3);
+        assertCoreValue(result, "c", 3);
+        assertCoreValue(result, "d", 3);
+        assertCoreValue(result, "e", 2);
+        assertCoreValue(result, "f", 2);
+        assertCoreValue(result, "g", 2);
+        assertCoreValue(result, "h", 1);
+        assertCoreValue(result, "i", 1);
+        assertCoreValue(result, "j", 0);
+    }
+
+    @Test
+    void shouldCountParallelRelationships() {
+        var multiGraph = fromGdl("(a)-[:T]->(b), (a)-[:T]->(b), (b)-[:T]->(c)", Orientation.UNDIRECTED);
+
+        var result = compute(multiGraph, 1);
+
+        assertThat(result.degeneracy()).isEqualTo(2);
+        assertThat(result.coreValues().toArray()).containsExactly(2, 2, 1);
+    }
+
+    @Test
+    void shouldHandleGraphWithoutRelationships() {
+        var result = compute(fromGdl("(a), (b), (c)", Orientation.UNDIRECTED), 4);
+
+        assertThat(result.degeneracy()).isEqualTo(0);
+        assertThat(result.coreValues().toArray()).containsExactly(0, 0, 0);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4, 8})
+    void shouldMatchSequentialPeeling(int concurrency) {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(10)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .orientation(Orientation.UNDIRECTED)
+            .seed(42L)
+            .allocationTracker(AllocationTracker.empty())
+            .build()
+            .generate();
+
+        var result = compute(randomGraph, concurrency);
+
+        int[] expected = sequentialCoreValues(randomGraph);
+        assertThat(result.coreValues().toArray()).containsExactly(expected);
+        assertThat(result.degeneracy()).isEqualTo(Arrays.stream(expected).max().orElse(0));
+    }
+
+    private static KCoreDecomposition.KCoreResult compute(Graph graph, int concurrency) {
+        return new KCoreDecomposition(
+            graph,
+            concurrency,
+            Pools.DEFAULT,
+            ProgressLogger.NULL_LOGGER,
+            AllocationTracker.empty()
+        ).compute();
+    }
+
+    private void assertCoreValue(KCoreDecomposition.KCoreResult result, String variable, int expected) {
+        assertThat(result.coreValues().get(idFunction.of(variable)))
+            .as("core value of %s", variable)
+            .isEqualTo(expected);
+    }
+
+    private static int[] sequentialCoreValues(Graph graph) {
+        int nodeCount = Math.toIntExact(graph.nodeCount());
+        var degrees = new long[nodeCount];
+        var removed = new boolean[nodeCount];
+        var coreValues = new int[nodeCount];
+        for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+            graph.forEachRelationship(nodeId, (source, target) -> {
+                if (source != target) {
+                    degrees[(int) source]++;
+                }
+                return true;
+            });
+        }
+
+        int remaining = nodeCount;
+        for (int k = 0; remaining > 0; k++) {
+            var stack = new ArrayDeque<Integer>();
+            for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+                if (!removed[nodeId] && degrees[nodeId] <= k) {
+                    stack.push(nodeId);
+                }
+            }
+            while (!stack.isEmpty()) {
+                int nodeId = stack.pop();
+                if (removed[nodeId]) {
+                    continue;
+                }
+                removed[nodeId] = true;
+                coreValues[nodeId] = k;
+                remaining--;
+                int level = k;
+                graph.forEachRelationship(nodeId, (source, target) -> {
+                    if (source != target && !removed[(int) target] && --degrees[(int) target] <= level) {
+                        stack.push((int) target);
+                    }
+                    return true;
+                });
+            }
+        }
+        return coreValues;
+    }
+}
@@ -19,6 +19,7 @@
  */
 package org.neo4j.graphalgo.betweenness;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -33,11 +34,15 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.neo4j.graphalgo.Orientation.UNDIRECTED;
 import static org.neo4j.graphalgo.TestSupport.assertMemoryEstimation;
 import static org.neo4j.graphalgo.TestSupport.crossArguments;
 import static org.neo4j.graphalgo.TestSupport.fromGdl;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
 
 class BetweennessCentralityTest {
 
@@ -111,6 +116,14 @@ class BetweennessCentralityTest {
         ", (a)-[:REL]->(d)" +
         ", (d)-[:REL]->(a)";
 
+    private static final String WEIGHTED =
+        "CREATE" +
+        "  (a)-[:REL {weight: 1.0}]->(b)" +
+        ", (b)-[:REL {weight: 1.0}]->(d)" +
+        ", (a)-[:REL {weight: 5.0}]->(c)" +
+        ", (c)-[:REL {weight: 1.0}]->(d)" +
+        ", (d)-[:REL {weight: 1.0}]->(e)";
+
     static Stream<Arguments> testArguments() {
         return crossArguments(() -> Stream.of(1, 4).map(Arguments::of), BetweennessCentralityTest::expectedResults);
     }
@@ -162,11 +175,114 @@ class BetweennessCentralityTest {
         assertEquals(0.0, actualResult.get((int) graph.toMappedNodeId("e")));
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void weighted(int concurrency) {
+        TestGraph graph = fromGdl(WEIGHTED);
+        var actualResult = new BetweennessCentrality(graph, SelectionStrategy.ALL, true, Pools.DEFAULT, concurrency, TRACKER).compute();
+        assertEquals(5, actualResult.size(), "Expected 5 centrality values");
+        assertEquals(0.0, actualResult.get((int) graph.toMappedNodeId("a")));
+        assertEquals(2.0, actualResult.get((int) graph.toMappedNodeId("b")));
+        assertEquals(0.0, actualResult.get((int) graph.toMappedNodeId("c")));
+        assertEquals(3.0, actualResult.get((int) graph.toMappedNodeId("d")));
+        assertEquals(0.0, actualResult.get((int) graph.toMappedNodeId("e")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void weightedIgnoredWhenUnweighted(int concurrency) {
+        TestGraph graph = fromGdl(WEIGHTED);
+        var actualResult = new BetweennessCentrality(graph, SelectionStrategy.ALL, false, Pools.DEFAULT, concurrency, TRACKER).compute();
+        assertEquals(1.0, actualResult.get((int) graph.toMappedNodeId("b")));
+        assertEquals(1.0, actualResult.get((int) graph.toMappedNodeId("c")));
+        assertEquals(3.0, actualResult.get((int) graph.toMappedNodeId("d")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.0, -1.0})
+    void nonPositiveWeights(double weight) {
+        TestGraph graph = fromGdl(formatWithLocale(
+            "CREATE (a)-[:REL {weight: 1.0}]->(b)-[:REL {weight: %f}]->(c)",
+            weight
+        ));
+
+        var exact = new BetweennessCentrality(graph, SelectionStrategy.ALL, true, Pools.DEFAULT, 1, TRACKER);
+        var exactException = assertThrows(IllegalArgumentException.class, exact::compute);
+        assertThat(exactException.getMessage()).contains("requires positive relationship weights");
+
+        var approximation = ImmutableBetweennessApproximation.builder().epsilon(0.1).delta(0.1).seed(42L).build();
+        var sampled = new BetweennessCentrality(graph, approximation, true, Pools.DEFAULT, 1, TRACKER);
+        var sampledException = assertThrows(IllegalArgumentException.class, sampled::compute);
+        assertThat(sampledException.getMessage()).contains("requires positive relationship weights");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void approximation(int concurrency) {
+        TestGraph graph = fromGdl(CONNECTED_CYCLES);
+        var approximation = ImmutableBetweennessApproximation.builder()
+            .epsilon(0.05)
+            .delta(0.1)
+            .seed(42L)
+            .build();
+        var bc = new BetweennessCentrality(graph, approximation, false, Pools.DEFAULT, concurrency, TRACKER);
+        var actualResult = bc.compute();
+
+        // 6 * 5 ordered node pairs, the bound is given for the normalized scores
+        double tolerance = 0.05 * 30;
+        Map.of("a", 13.0, "b", 4.0, "c", 4.0, "d", 13.0, "e", 4.0, "f", 4.0).forEach((variable, expectedCentrality) ->
+            assertEquals(expectedCentrality, actualResult.get(graph.toMappedNodeId(variable)), tolerance, variable)
+        );
+        assertEquals(approximation.sampleCount(graph.nodeCount()), bc.sampledPairs());
+        assertTrue(bc.approximationError() <= 0.05);
+    }
+
+    @Test
+    void weightedApproximation() {
+        TestGraph graph = fromGdl(WEIGHTED);
+        var approximation = ImmutableBetweennessApproximation.builder()
+            .epsilon(0.05)
+            .delta(0.1)
+            .seed(42L)
+            .build();
+        var actualResult = new BetweennessCentrality(graph, approximation, true, Pools.DEFAULT, 1, TRACKER).compute();
+
+        // the only shortest path through c is never sampled, the ones through b are always taken
+        double tolerance = 0.05 * 20;
+        assertEquals(0.0, actualResult.get(graph.toMappedNodeId("c")));
+        assertEquals(2.0, actualResult.get(graph.toMappedNodeId("b")), tolerance);
+        assertEquals(3.0, actualResult.get(graph.toMappedNodeId("d")), tolerance);
+    }
+
+    @Test
+    void approximationStopsAfterTimeBudget() {
+        TestGraph graph = fromGdl(DIAMOND);
+        var approximation = ImmutableBetweennessApproximation.builder()
+            .epsilon(0.0001)
+            .delta(0.1)
+            .maxRunningTimeMillis(10L)
+            .build();
+        var bc = new BetweennessCentrality(graph, approximation, false, Pools.DEFAULT, 1, TRACKER);
+        bc.compute();
+
+        assertThat(bc.sampledPairs()).isLessThan(approximation.sampleCount(graph.nodeCount()));
+        assertThat(bc.approximationError()).isGreaterThan(0.0001);
+    }
+
+    @Test
+    void sampleCount() {
+        var approximation = ImmutableBetweennessApproximation.builder().epsilon(0.01).delta(0.1).build();
+        // floor(log2(1_000_000 - 2)) + 1 = 20
+        long expected = (long) Math.ceil(0.5 * (20 + Math.log(10)) / (0.01 * 0.01));
+        assertEquals(expected, approximation.sampleCount(1_000_000));
+        assertEquals(0.01, approximation.achievedEpsilon(expected, 1_000_000), 1e-6);
+    }
+
     static Stream<Arguments> expectedMemoryEstimation() {
         return Stream.of(
-            Arguments.of(1, 6_000_368L, 6_000_368L),
-            Arguments.of(4, 21_601_160L, 21_601_160L),
-            Arguments.of(42, 219_211_192L, 219_211_192L)
+            Arguments.of(1, 4_400_376L, 4_400_376L),
+            Arguments.of(4, 15_201_120L, 15_201_120L),
+            Arguments.of(42, 152_010_544L, 152_010_544L)
         );
     }
 
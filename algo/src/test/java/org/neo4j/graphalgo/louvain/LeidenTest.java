@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.louvain;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.graphalgo.Orientation;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.beta.generator.RandomGraphGenerator;
+import org.neo4j.graphalgo.beta.generator.RelationshipDistribution;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+import org.neo4j.graphalgo.extension.GdlExtension;
+import org.neo4j.graphalgo.extension.GdlGraph;
+import org.neo4j.graphalgo.extension.IdFunction;
+import org.neo4j.graphalgo.extension.Inject;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.neo4j.graphalgo.CommunityHelper.assertCommunities;
+import static org.neo4j.graphalgo.TestSupport.fromGdl;
+import static org.neo4j.graphalgo.TestSupport.ids;
+
+@GdlExtension
+class LeidenTest {
+
+    // two cliques connected by a single relationship
+    @GdlGraph(orientation = Orientation.UNDIRECTED)
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a)-[:R]->(b)" +
+        ", (a)-[:R]->(c)" +
+        ", (a)-[:R]->(d)" +
+        ", (b)-[:R]->(c)" +
+        ", (b)-[:R]->(d)" +
+        ", (c)-[:R]->(d)" +
+        ", (e)-[:R]->(f)" +
+        ", (e)-[:R]->(g)" +
+        ", (e)-[:R]->(h)" +
+        ", (f)-[:R]->(g)" +
+        ", (f)-[:R]->(h)" +
+        ", (g)-[:R]->(h)" +
+        ", (d)-[:R]->(e)";
+
+    @Inject
+    private Graph graph;
+
+    @Inject
+    private IdFunction idFunction;
+
+    @Test
+    void shouldFindCliques() {
+        var leiden = compute(graph, 1);
+
+        assertCommunities(
+            leiden.finalDendrogram(),
+            ids(idFunction, "a", "b", "c", "d"),
+            ids(idFunction, "e", "f", "g", "h")
+        );
+        assertThat(leiden.modularities()).hasSize(leiden.levels());
+        // 2 * (6 / 13 - (13 / 26)^2)
+        assertThat(leiden.modularities()[leiden.levels() - 1]).isCloseTo(0.423077, within(1e-6));
+    }
+
+    @Test
+    void shouldReturnIntermediateCommunities() {
+        var leiden = compute(graph, 1);
+
+        assertThat(leiden.dendrograms()).hasSize(leiden.levels());
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            var communities = leiden.getCommunities(nodeId);
+            assertThat(communities).hasSize(leiden.levels());
+            assertThat(communities[communities.length - 1]).isEqualTo(leiden.getCommunity(nodeId));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldOnlyFindConnectedCommunities(int concurrency) {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(5_000)
+            .averageDegree(5)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .orientation(Orientation.UNDIRECTED)
+            .seed(42L)
+            .allocationTracker(AllocationTracker.empty())
+            .build()
+            .generate();
+
+        var leiden = compute(randomGraph, concurrency);
+
+        for (int level = 0; level < leiden.levels(); level++) {
+            assertConnectedCommunities(randomGraph, leiden.dendrograms()[level]);
+            if (level > 0) {
+                assertThat(leiden.modularities()[level]).isGreaterThan(leiden.modularities()[level - 1]);
+            }
+        }
+
+        assertThat(leiden.modularities()[leiden.levels() - 1])
+            .isCloseTo(modularity(randomGraph, leiden.finalDendrogram()), within(1e-9));
+    }
+
+    @Test
+    void shouldHandleGraphsWithoutRelationships() {
+        var leiden = compute(fromGdl("(a), (b), (c)"), 1);
+
+        assertThat(leiden.levels()).isEqualTo(1);
+        assertThat(leiden.modularities()).containsExactly(0.0);
+        assertThat(leiden.finalDendrogram().toArray()).containsExactly(0L, 1L, 2L);
+    }
+
+    private static Leiden compute(Graph graph, int concurrency) {
+        var config = ImmutableLeidenStreamConfig.builder()
+            .concurrency(concurrency)
+            .build();
+
+        return new Leiden(
+            graph,
+            config,
+            Pools.DEFAULT,
+            ProgressLogger.NULL_LOGGER,
+            AllocationTracker.empty()
+        ).compute();
+    }
+
+    private static void assertConnectedCommunities(Graph graph, HugeLongArray communities) {
+        var visited = new HashSet<Long>();
+        var reachedCommunities = new HashSet<Long>();
+
+        for (long startNode = 0; startNode < graph.nodeCount(); startNode++) {
+            if (!visited.add(startNode)) {
+                continue;
+            }
+
+            long community = communities.get(startNode);
+            assertThat(reachedCommunities.add(community))
+                .withFailMessage("Community %d is not connected", community)
+                .isTrue();
+
+            var queue = new ArrayDeque<Long>();
+            queue.add(startNode);
+            while (!queue.isEmpty()) {
+                graph.forEachRelationship(queue.poll(), (source, target) -> {
+                    if (communities.get(target) == community && visited.add(target)) {
+                        queue.add(target);
+                    }
+                    return true;
+                });
+            }
+        }
+    }
+
+    private static double modularity(Graph graph, HugeLongArray communities) {
+        var communityVolumes = new HashMap<Long, Double>();
+        double[] weights = new double[2];
+
+        graph.forEachNode(nodeId -> {
+            long community = communities.get(nodeId);
+            graph.forEachRelationship(nodeId, 1.0, (source, target, weight) -> {
+                weights[0] += weight;
+                if (communities.get(target) == community) {
+                    weights[1] += weight;
+                }
+                communityVolumes.merge(community, weight, Double::sum);
+                return true;
+            });
+            return true;
+        });
+
+        double totalVolume = weights[0];
+        double squaredVolumes = communityVolumes.values().stream().mapToDouble(volume -> volume * volume).sum();
+        return weights[1] / totalVolume - squaredVolumes / (totalVolume * totalVolume);
+    }
+}
@@ -23,9 +23,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.graphalgo.Orientation;
 import org.neo4j.graphalgo.TestLog;
 import org.neo4j.graphalgo.TestProgressLogger;
+import org.neo4j.graphalgo.core.GraphDimensions;
+import org.neo4j.graphalgo.core.concurrency.Pools;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.extension.GdlExtension;
@@ -39,6 +42,7 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -121,6 +125,81 @@ final class PageRankTest {
         assertResult(reverseGraph, PageRankAlgorithmType.NON_WEIGHTED, expected);
     }
 
+    @Test
+    void testActiveSetPropagation() {
+        var config = defaultConfigBuilder().activeSetPropagation(true).tolerance(1E-4).build();
+        var expected = PageRankAlgorithmType.NON_WEIGHTED
+            .create(naturalGraph, DEFAULT_CONFIG, LongStream.empty(), ProgressLogger.NULL_LOGGER, AllocationTracker.empty())
+            .compute()
+            .result();
+
+        var actual = PageRankAlgorithmType.NON_WEIGHTED
+            .create(naturalGraph, config, LongStream.empty(), ProgressLogger.NULL_LOGGER, AllocationTracker.empty())
+            .compute()
+            .result();
+
+        for (long nodeId = 0; nodeId < naturalGraph.nodeCount(); nodeId++) {
+            assertEquals(expected.score(nodeId), actual.score(nodeId), 1e-2, "Node#" + nodeId);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void testAtomicScoreExchange(int concurrency) {
+        var config = defaultConfigBuilder().atomicScoreExchange(true).concurrency(concurrency).build();
+        var expected = PageRankAlgorithmType.NON_WEIGHTED
+            .create(naturalGraph, DEFAULT_CONFIG, LongStream.empty(), ProgressLogger.NULL_LOGGER, AllocationTracker.empty())
+            .compute()
+            .result();
+
+        var actual = PageRankAlgorithmType.NON_WEIGHTED
+            .create(naturalGraph, LongStream.empty(), config, Pools.DEFAULT, ProgressLogger.NULL_LOGGER, AllocationTracker.empty())
+            .compute()
+            .result();
+
+        for (long nodeId = 0; nodeId < naturalGraph.nodeCount(); nodeId++) {
+            assertEquals(expected.score(nodeId), actual.score(nodeId), 1e-5, "Node#" + nodeId);
+        }
+    }
+
+    @Test
+    void shouldNotGrowMemoryEstimationWithConcurrencyForAtomicScoreExchange() {
+        var config = defaultConfigBuilder().atomicScoreExchange(true).build();
+        var dimensions = GraphDimensions.of(100_000, 1_000_000);
+        var estimation = new PageRankFactory<>().memoryEstimation(config);
+
+        var sequential = estimation.estimate(dimensions, 1).memoryUsage();
+        var concurrent = estimation.estimate(dimensions, 64).memoryUsage();
+
+        // per partition we only keep the scores and deltas of the partition itself
+        assertThat(concurrent.max).isLessThan(sequential.max + 64 * 2_000);
+        // 100_000 shared doubles + 100_000 scores + 100_000 deltas
+        assertThat(sequential.max).isGreaterThan(3 * 8 * 100_000);
+    }
+
+    @Test
+    void shouldLogActiveNodeCounts() {
+        var config = defaultConfigBuilder().activeSetPropagation(true).tolerance(1E-4).maxIterations(100).build();
+
+        var testLogger = new TestProgressLogger(
+            naturalGraph.relationshipCount(),
+            "PageRank",
+            config.concurrency()
+        );
+
+        var pageRank = PageRankAlgorithmType.NON_WEIGHTED
+            .create(naturalGraph, config, LongStream.empty(), testLogger, AllocationTracker.empty())
+            .compute();
+
+        assertTrue(pageRank.didConverge());
+        // g, h, i and j do not receive any delta
+        assertTrue(testLogger.containsMessage(TestLog.INFO, "Iteration 1 :: Active nodes 6"));
+        assertTrue(testLogger.containsMessage(
+            TestLog.INFO,
+            formatWithLocale("Iteration %d :: Active nodes 0", pageRank.iterations())
+        ));
+    }
+
     @Test
     void correctPartitionBoundariesForAllNodes() {
         assertThatCode(() -> {
@@ -19,7 +19,6 @@
  */
 package org.neo4j.graphalgo.similarity.knn;
 
-import com.carrotsearch.hppc.LongArrayList;
 import org.assertj.core.api.SoftAssertions;
 import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
 import org.junit.jupiter.api.Nested;
@@ -32,15 +31,17 @@ import org.neo4j.graphalgo.api.NodeProperties;
 import org.neo4j.graphalgo.api.nodeproperties.DoubleArrayNodeProperties;
 import org.neo4j.graphalgo.api.nodeproperties.DoubleNodeProperties;
 import org.neo4j.graphalgo.api.nodeproperties.FloatArrayNodeProperties;
+import org.neo4j.graphalgo.core.concurrency.Pools;
 import org.neo4j.graphalgo.core.loading.NullPropertyMap;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
-import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
 import org.neo4j.graphalgo.extension.GdlExtension;
 import org.neo4j.graphalgo.extension.GdlGraph;
 import org.neo4j.graphalgo.extension.IdFunction;
 import org.neo4j.graphalgo.extension.Inject;
 
 import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
@@ -186,70 +187,65 @@ class KnnTest {
     void testReverseEmptyList() {
         var nodeCount = 42;
 
-        var neighbors = HugeObjectArray.newArray(LongArrayList.class, nodeCount, AllocationTracker.empty());
-        var reverseNeighbors = HugeObjectArray.newArray(LongArrayList.class, nodeCount, AllocationTracker.empty());
+        var neighbors = new NeighborBuffer(nodeCount, nodeCount - 1, AllocationTracker.empty());
+        var reverseNeighbors = new ReverseNeighbors(nodeCount, nodeCount - 1, AllocationTracker.empty());
 
         // no old elements, don't add something to the reverse neighbors
-        Knn.reverseNeighbors(0, neighbors, reverseNeighbors);
-        assertThat(reverseNeighbors.get(0)).isNull();
-
-        var neighborsFrom0 = LongArrayList.from(LongStream.range(1, nodeCount).toArray());
-        neighbors.set(0, neighborsFrom0);
+        reverseNeighbors.build(neighbors, 4, Pools.DEFAULT);
+        for (int i = 0; i < nodeCount; i++) {
+            assertThat(reverseNeighbors.size(i)).isEqualTo(0);
+        }
     }
 
     @Test
     void testReverseAllAsNeighbor() {
         var nodeCount = 42;
 
-        var neighbors = HugeObjectArray.newArray(LongArrayList.class, nodeCount, AllocationTracker.empty());
-        var reverseNeighbors = HugeObjectArray.newArray(LongArrayList.class, nodeCount, AllocationTracker.empty());
+        var neighbors = new NeighborBuffer(nodeCount, nodeCount - 1, AllocationTracker.empty());
+        var reverseNeighbors = new ReverseNeighbors(nodeCount, nodeCount - 1, AllocationTracker.empty());
 
         // 0 is neighboring every other node
-        var neighborsFrom0 = LongArrayList.from(LongStream.range(1, nodeCount).toArray());
-        neighbors.set(0, neighborsFrom0);
+        LongStream.range(1, nodeCount).forEach(neighbor -> neighbors.add(0, neighbor));
 
-        Knn.reverseNeighbors(0, neighbors, reverseNeighbors);
+        reverseNeighbors.build(neighbors, 4, Pools.DEFAULT);
         // 0 has no reverse neighbors
-        assertThat(reverseNeighbors.get(0)).isNull();
+        assertThat(reverseNeighbors.size(0)).isEqualTo(0);
         // every other node points to 0
         for (int i = 1; i < nodeCount; i++) {
-            var reversed = reverseNeighbors.get(i);
-            assertThat(reversed)
-                .isNotNull()
-                .singleElement()
-                // list returns hppc cursor, access value field
-                .extracting("value")
-                .isEqualTo(0L);
+            assertThat(reverseNeighbors(reverseNeighbors, i)).containsExactly(0L);
         }
-
     }
 
     @Test
     void testReverseSingleNeighbors() {
         var nodeCount = 42;
 
-        var neighbors = HugeObjectArray.newArray(LongArrayList.class, nodeCount, AllocationTracker.empty());
-        var reverseNeighbors = HugeObjectArray.newArray(LongArrayList.class, nodeCount, AllocationTracker.empty());
+        var neighbors = new NeighborBuffer(nodeCount, nodeCount - 1, AllocationTracker.empty());
+        var reverseNeighbors = new ReverseNeighbors(nodeCount, nodeCount - 1, AllocationTracker.empty());
 
         // every node other than 0 has 0 as neighbor
-        neighbors.setAll(nodeId -> nodeId == 0 ? null : LongArrayList.from(0));
-
-        for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
-            Knn.reverseNeighbors(nodeId, neighbors, reverseNeighbors);
+        for (int nodeId = 1; nodeId < nodeCount; nodeId++) {
+            neighbors.add(nodeId, 0);
         }
 
+        reverseNeighbors.build(neighbors, 4, Pools.DEFAULT);
+
         // all nodes point to 0
-        assertThat(reverseNeighbors.get(0))
-            .isNotNull()
-            .extracting(c -> c.value)
-            .containsExactly(LongStream.range(1, nodeCount).boxed().toArray(Long[]::new));
+        assertThat(reverseNeighbors(reverseNeighbors, 0))
+            .containsExactlyInAnyOrder(LongStream.range(1, nodeCount).toArray());
 
         // all other nodes have no reverse neighbors
         for (int i = 1; i < nodeCount; i++) {
-            assertThat(reverseNeighbors.get(i)).isNull();
+            assertThat(reverseNeighbors.size(i)).isEqualTo(0);
         }
     }
 
+    private static long[] reverseNeighbors(ReverseNeighbors reverseNeighbors, long nodeId) {
+        return IntStream.range(0, reverseNeighbors.size(nodeId))
+            .mapToLong(index -> reverseNeighbors.get(nodeId, index))
+            .toArray();
+    }
+
     @Nested
     class IterationsLimitTest {
 
@@ -309,4 +305,75 @@ class KnnTest {
         }
 
     }
+
+    @Nested
+    class NodeFilterTest {
+
+        @GdlGraph
+        private static final String DB_CYPHER =
+            "CREATE" +
+            "  (a:Person { knn: 1.0 } )" +
+            ", (b:Person { knn: 2.0 } )" +
+            ", (c:Item { knn: 1.1 } )" +
+            ", (d:Item { knn: 2.1 } )" +
+            ", (e:Item { knn: 10.0 } )";
+
+        @Test
+        void shouldOnlyCompareSourceNodesWithTargetNodes() {
+            var config = ImmutableKnnBaseConfig.builder()
+                .nodeWeightProperty("knn")
+                .topK(1)
+                .sourceNodeLabels(List.of("Person"))
+                .targetNodeLabels(List.of("Item"))
+                .randomSeed(42L)
+                .concurrency(1)
+                .build();
+
+            var result = new Knn(graph, config, KnnContext.empty()).compute();
+
+            assertThat(result.neighborsOf(idFunction.of("a"))).containsExactly(idFunction.of("c"));
+            assertThat(result.neighborsOf(idFunction.of("b"))).containsExactly(idFunction.of("d"));
+            assertThat(result.neighborsOf(idFunction.of("c"))).isEmpty();
+            assertThat(result.neighborsOf(idFunction.of("d"))).isEmpty();
+            assertThat(result.neighborsOf(idFunction.of("e"))).isEmpty();
+            assertThat(result.totalSimilarityPairs()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    class SeedFromRelationshipsTest {
+
+        @GdlGraph
+        private static final String DB_CYPHER =
+            "CREATE" +
+            "  (a { knn: 1.0 } )" +
+            ", (b { knn: 1.1 } )" +
+            ", (c { knn: 42.0 } )" +
+            ", (d { knn: 1.05 } )" +
+            ", (a)-[:SIMILAR]->(b)" +
+            ", (b)-[:SIMILAR]->(a)" +
+            ", (c)-[:SIMILAR]->(a)";
+
+        @Test
+        void shouldKeepSeededNeighborsAndConnectNewNodes() {
+            var config = ImmutableKnnBaseConfig.builder()
+                .nodeWeightProperty("knn")
+                .topK(1)
+                .seedFromRelationships(true)
+                .randomSeed(42L)
+                .concurrency(1)
+                .build();
+
+            var result = new Knn(graph, config, KnnContext.empty()).compute();
+
+            // seeded nodes keep a neighbor from the seeded neighborhood
+            assertThat(result.neighborsOf(idFunction.of("c")))
+                .hasSize(1)
+                .containsAnyOf(idFunction.of("a"), idFunction.of("b"));
+            // the new node is connected to its closest existing nodes
+            assertThat(result.neighborsOf(idFunction.of("d")))
+                .hasSize(1)
+                .containsAnyOf(idFunction.of("a"), idFunction.of("b"));
+        }
+    }
 }
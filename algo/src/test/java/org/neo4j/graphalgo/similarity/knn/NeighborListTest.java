@@ -22,6 +22,7 @@ package org.neo4j.graphalgo.similarity.knn;
 import org.junit.jupiter.api.Test;
 
 import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -62,4 +63,46 @@ class NeighborListTest {
         assertArrayEquals(expected, actual);
     }
 
+    @Test
+    void shouldKeepMaxValuesUnderContention() throws InterruptedException {
+        int bound = 16;
+        int concurrency = 8;
+        int candidatesPerThread = 10_000;
+
+        var random = new SplittableRandom(42);
+        long[] candidates = random.longs(concurrency * candidatesPerThread, 0, 1_000_000).distinct().toArray();
+
+        // distinct priorities avoid the randomized tie breaking, which keeps the top-k deterministic
+        var reference = new NeighborList(bound);
+        for (long candidate : candidates) {
+            reference.add(candidate, candidate, random);
+        }
+
+        var neighborList = new NeighborList(bound);
+        var start = new CountDownLatch(1);
+        var threads = new Thread[concurrency];
+        for (int thread = 0; thread < concurrency; thread++) {
+            var threadRandom = random.split();
+            int offset = thread;
+            threads[thread] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = offset; i < candidates.length; i += concurrency) {
+                    neighborList.concurrentAdd(candidates[i], candidates[i], threadRandom);
+                }
+            });
+            threads[thread].start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(bound, neighborList.size());
+        assertArrayEquals(reference.elements().toArray(), neighborList.elements().toArray());
+    }
 }
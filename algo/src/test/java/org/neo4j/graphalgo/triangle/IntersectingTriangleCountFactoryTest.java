@@ -19,6 +19,7 @@
  */
 package org.neo4j.graphalgo.triangle;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -27,6 +28,7 @@ import org.neo4j.graphalgo.core.ImmutableGraphDimensions;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
 import org.neo4j.graphalgo.core.utils.mem.MemoryRange;
 import org.neo4j.graphalgo.core.utils.mem.MemoryTree;
+import org.neo4j.graphalgo.core.utils.mem.MemoryUsage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -36,7 +38,7 @@ class IntersectingTriangleCountFactoryTest {
     @ParameterizedTest
     void memoryEstimation(long nodeCount) {
         MemoryEstimation estimation =
-            new IntersectingTriangleCountFactory<TriangleCountStreamConfig>().memoryEstimation(null);
+            new IntersectingTriangleCountFactory<>().memoryEstimation(ImmutableTriangleCountBaseConfig.builder().build());
 
         GraphDimensions dimensions = ImmutableGraphDimensions.builder().nodeCount(nodeCount).build();
 
@@ -54,7 +56,7 @@ class IntersectingTriangleCountFactoryTest {
     @ParameterizedTest
     void memoryEstimationLargePages(long nodeCount, long sizeOfHugeArray) {
         MemoryEstimation estimation =
-            new IntersectingTriangleCountFactory<TriangleCountStreamConfig>().memoryEstimation(null);
+            new IntersectingTriangleCountFactory<>().memoryEstimation(ImmutableTriangleCountBaseConfig.builder().build());
 
         GraphDimensions dimensions = ImmutableGraphDimensions.builder().nodeCount(nodeCount).build();
 
@@ -66,4 +68,32 @@ class IntersectingTriangleCountFactoryTest {
         assertEquals(expected, actual.min);
         assertEquals(expected, actual.max);
     }
+
+    @Test
+    void memoryEstimationIncludesHubNeighboursPerThread() {
+        GraphDimensions dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(10_000)
+            .maxRelCount(100_000)
+            .build();
+        int concurrency = 4;
+
+        MemoryRange unbounded = new IntersectingTriangleCountFactory<>()
+            .memoryEstimation(ImmutableTriangleCountBaseConfig.builder().build())
+            .estimate(dimensions, concurrency)
+            .memoryUsage();
+        MemoryRange boundedHubs = new IntersectingTriangleCountFactory<>()
+            .memoryEstimation(ImmutableTriangleCountBaseConfig.builder().maxDegree(200).build())
+            .estimate(dimensions, concurrency)
+            .memoryUsage();
+        MemoryRange noHubs = new IntersectingTriangleCountFactory<>()
+            .memoryEstimation(ImmutableTriangleCountBaseConfig.builder().maxDegree(100).build())
+            .estimate(dimensions, concurrency)
+            .memoryUsage();
+
+        // a hub may reach any degree up to the relationship count, but there may be no hubs at all
+        assertEquals(noHubs.min, unbounded.min);
+        assertEquals(noHubs.max + concurrency * MemoryUsage.sizeOfLongArray(100_000), unbounded.max);
+        assertEquals(noHubs.min, boundedHubs.min);
+        assertEquals(noHubs.max + concurrency * MemoryUsage.sizeOfLongArray(200), boundedHubs.max);
+    }
 }
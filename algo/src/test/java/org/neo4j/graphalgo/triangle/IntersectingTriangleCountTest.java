@@ -24,13 +24,20 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.graphalgo.Orientation;
 import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.beta.generator.RandomGraphGenerator;
+import org.neo4j.graphalgo.beta.generator.RelationshipDistribution;
 import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.triangle.IntersectingTriangleCount.TriangleCountResult;
 
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.withinPercentage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.neo4j.graphalgo.Orientation.UNDIRECTED;
 import static org.neo4j.graphalgo.TestSupport.fromGdl;
 import static org.neo4j.graphalgo.triangle.IntersectingTriangleCount.EXCLUDED_NODE_TRIANGLE_COUNT;
@@ -513,6 +520,190 @@ class IntersectingTriangleCountTest {
         assertEquals(1, result.globalTriangles());
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void degreeOrderedMatchesIntersection(int concurrency) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(2_000)
+            .averageDegree(10)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .orientation(Orientation.UNDIRECTED)
+            .seed(42L)
+            .allocationTracker(AllocationTracker.empty())
+            .build()
+            .generate();
+
+        for (long maxDegree : new long[]{Long.MAX_VALUE, 20}) {
+            var expected = compute(graph, ImmutableTriangleCountBaseConfig.builder()
+                .concurrency(concurrency)
+                .maxDegree(maxDegree)
+                .build());
+            var actual = compute(graph, ImmutableTriangleCountBaseConfig.builder()
+                .concurrency(concurrency)
+                .maxDegree(maxDegree)
+                .degreeOrdered(true)
+                .build());
+
+            assertEquals(expected.globalTriangles(), actual.globalTriangles());
+            assertEquals(actual.globalTriangles(), actual.globalTrianglesLowerBound());
+            assertEquals(actual.globalTriangles(), actual.globalTrianglesUpperBound());
+            for (long node = 0; node < graph.nodeCount(); node++) {
+                assertEquals(expected.localTriangles().get(node), actual.localTriangles().get(node));
+            }
+        }
+    }
+
+    @Test
+    void degreeOrderedWithParallelRelationshipsAndSelfLoops() {
+        var graph = fromGdl(
+            "CREATE" +
+            " (a)-[:T]->(b)-[:T]->(c)-[:T]->(a)" +
+            ", (a)-[:T]->(b)-[:T]->(b)" +
+            ", (c)-[:T]->(d)-[:T]->(a)",
+            UNDIRECTED
+        );
+
+        TriangleCountResult result = compute(graph, ImmutableTriangleCountBaseConfig.builder().degreeOrdered(true).build());
+
+        assertEquals(2, result.globalTriangles());
+        assertEquals(2, result.localTriangles().get(0));
+        assertEquals(1, result.localTriangles().get(1));
+        assertEquals(2, result.localTriangles().get(2));
+        assertEquals(1, result.localTriangles().get(3));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"T", "T2"})
+    void hubNeighbourhood(String pathType) {
+        // a hub connected to a path of leaves, the hub degree exceeds the threshold for caching its neighbours
+        int leafCount = 300;
+        StringBuilder gdl = new StringBuilder("CREATE (hub)");
+        for (int i = 0; i < leafCount; i++) {
+            gdl.append(formatWithLocale(", (hub)-[:T]->(l%d)", i));
+            if (i > 0) {
+                gdl.append(formatWithLocale(", (l%d)-[:%s]->(l%d)", i - 1, pathType, i));
+            }
+        }
+        // parallel relationships must not add triangles
+        gdl.append(", (hub)-[:T]->(l1), (l1)-[:T]->(l2)");
+
+        TriangleCountResult result = compute(fromGdl(gdl.toString(), UNDIRECTED));
+
+        assertEquals(leafCount - 1, result.globalTriangles());
+        assertEquals(leafCount - 1, result.localTriangles().get(0));
+        assertEquals(1, result.localTriangles().get(1));
+        for (int i = 2; i < leafCount; i++) {
+            assertEquals(2, result.localTriangles().get(i));
+        }
+        assertEquals(1, result.localTriangles().get(leafCount));
+    }
+
+    @Test
+    void hubNeighbourhoodWithMaxDegree() {
+        // the hub is still within the max degree, but one of its leaves is not
+        int leafCount = 300;
+        int filteredLeaf = 150;
+        StringBuilder gdl = new StringBuilder("CREATE (hub)");
+        for (int i = 0; i < leafCount; i++) {
+            gdl.append(formatWithLocale(", (hub)-[:T]->(l%d)", i));
+            if (i > 0) {
+                gdl.append(formatWithLocale(", (l%d)-[:T]->(l%d)", i - 1, i));
+            }
+        }
+        for (int i = 0; i < leafCount; i++) {
+            gdl.append(formatWithLocale(", (l%d)-[:T]->(e%d)", filteredLeaf, i));
+        }
+
+        TriangleCountBaseConfig config = ImmutableTriangleCountBaseConfig
+            .builder()
+            .maxDegree(leafCount)
+            .build();
+
+        TriangleCountResult result = compute(fromGdl(gdl.toString(), UNDIRECTED), config);
+
+        // the leaf with id i + 1 closes triangles with its path neighbours and the hub
+        assertEquals(leafCount - 3, result.globalTriangles());
+        assertEquals(leafCount - 3, result.localTriangles().get(0));
+        assertEquals(1, result.localTriangles().get(1));
+        for (int i = 1; i < leafCount - 1; i++) {
+            long expected = i == filteredLeaf
+                ? EXCLUDED_NODE_TRIANGLE_COUNT
+                : Math.abs(i - filteredLeaf) == 1 ? 1 : 2;
+            assertEquals(expected, result.localTriangles().get(i + 1));
+        }
+        assertEquals(1, result.localTriangles().get(leafCount));
+        assertEquals(0, result.localTriangles().get(leafCount + 1));
+    }
+
+    @Test
+    void approximateCountsWithinConfidenceInterval() {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(1_000)
+            .averageDegree(50)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .orientation(Orientation.UNDIRECTED)
+            .seed(42L)
+            .allocationTracker(AllocationTracker.empty())
+            .build()
+            .generate();
+
+        var exact = compute(graph);
+        var approximate = compute(graph, ImmutableTriangleCountBaseConfig.builder()
+            .samplingRatio(0.5)
+            .randomSeed(42L)
+            .concurrency(4)
+            .build());
+
+        assertThat(approximate.globalTriangles()).isCloseTo(exact.globalTriangles(), withinPercentage(10));
+        assertThat(approximate.globalTrianglesLowerBound())
+            .isLessThanOrEqualTo(exact.globalTriangles())
+            .isLessThanOrEqualTo(approximate.globalTriangles());
+        assertThat(approximate.globalTrianglesUpperBound())
+            .isGreaterThanOrEqualTo(exact.globalTriangles())
+            .isGreaterThanOrEqualTo(approximate.globalTriangles());
+
+        long localSum = 0;
+        for (long node = 0; node < graph.nodeCount(); node++) {
+            localSum += approximate.localTriangles().get(node);
+        }
+        assertThat(localSum).isCloseTo(3 * exact.globalTriangles(), withinPercentage(10));
+    }
+
+    @Test
+    void approximationIsDeterministicForSeed() {
+        var graph = fromGdl(
+            "CREATE " +
+            " (a1)-[:T]->(a2), (a1)-[:T]->(a3), (a1)-[:T]->(a4), (a1)-[:T]->(a5)" +
+            ",(a2)-[:T]->(a3), (a2)-[:T]->(a4), (a2)-[:T]->(a5)" +
+            ",(a3)-[:T]->(a4), (a3)-[:T]->(a5), (a4)-[:T]->(a5)",
+            UNDIRECTED
+        );
+
+        var config = ImmutableTriangleCountBaseConfig.builder()
+            .samplingRatio(0.7)
+            .randomSeed(1337L)
+            .build();
+
+        var first = compute(graph, config);
+        var second = compute(graph, config);
+
+        assertEquals(first.globalTriangles(), second.globalTriangles());
+        assertEquals(first.globalTrianglesLowerBound(), second.globalTrianglesLowerBound());
+        assertEquals(first.globalTrianglesUpperBound(), second.globalTrianglesUpperBound());
+        for (long node = 0; node < graph.nodeCount(); node++) {
+            assertEquals(first.localTriangles().get(node), second.localTriangles().get(node));
+        }
+    }
+
+    @Test
+    void invalidSamplingRatio() {
+        var exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> ImmutableTriangleCountBaseConfig.builder().samplingRatio(0).build()
+        );
+        assertThat(exception.getMessage()).contains("samplingRatio");
+    }
+
     private TriangleCountResult compute(Graph graph) {
         TriangleCountStatsConfig config = ImmutableTriangleCountStatsConfig.builder().build();
         return compute(graph, config);
@@ -21,9 +21,15 @@ package org.neo4j.graphalgo.triangle.intersect;
 
 import org.junit.jupiter.api.Test;
 import org.neo4j.graphalgo.TestSupport;
+import org.neo4j.graphalgo.beta.filter.GraphStoreFilter;
+import org.neo4j.graphalgo.beta.filter.GraphStoreView;
+import org.neo4j.graphalgo.config.GraphCreateFromStoreConfig;
+import org.neo4j.graphalgo.config.ImmutableGraphCreateFromGraphConfig;
+import org.neo4j.graphalgo.core.concurrency.Pools;
 import org.neo4j.graphalgo.core.huge.HugeGraph;
 import org.neo4j.graphalgo.core.huge.NodeFilteredGraph;
 import org.neo4j.graphalgo.core.huge.UnionGraph;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.gdl.GdlFactory;
 
 import java.util.Optional;
@@ -53,4 +59,23 @@ class RelationshipIntersectFactoryLocatorTest {
         assertThat(testGraph).isInstanceOf(NodeFilteredGraph.class);
         assertThat(RelationshipIntersectFactoryLocator.lookup(testGraph)).isPresent();
     }
+
+    @Test
+    void supportsViewGraph() throws Exception {
+        var graphStore = GdlFactory.of("(:A)-[:A {w: 1.0}]->(:A)-[:A {w: 2.0}]->(:B)").build().graphStore();
+        var config = ImmutableGraphCreateFromGraphConfig.builder()
+            .nodeFilter("*")
+            .relationshipFilter("r.w > 1.0")
+            .graphName("view")
+            .fromGraphName("graph")
+            .originalConfig(GraphCreateFromStoreConfig.emptyWithName("user", "graph"))
+            .view(true)
+            .build();
+        var view = GraphStoreFilter.view(graphStore, config, Pools.DEFAULT, AllocationTracker.empty());
+
+        var viewGraph = view.getUnion();
+        assertThat(viewGraph).isInstanceOf(GraphStoreView.ViewGraph.class);
+        assertThat(RelationshipIntersectFactoryLocator.lookup(viewGraph))
+            .hasValueSatisfying(factory -> assertThat(factory).isInstanceOf(ViewGraphIntersect.ViewGraphIntersectFactory.class));
+    }
 }
@@ -74,6 +74,7 @@ public class LinkPredictionPredict extends Algorithm<LinkPredictionPredict, Link
             progressLogger
         ));
         progressLogger.logFinish();
+        release();
         return result;
     }
 
@@ -82,9 +83,12 @@ public class LinkPredictionPredict extends Algorithm<LinkPredictionPredict, Link
         return this;
     }
 
+    /**
+     * Releases the feature matrix the predictor has been created with, the result does not depend on it.
+     */
     @Override
     public void release() {
-
+        predictor.release();
     }
 
     private class LinkPredictionScoreByIdsConsumer implements Consumer<Batch> {
@@ -53,6 +53,15 @@ public interface LinkPredictionPredictMutateConfig extends AlgoBaseConfig, Mutat
         return 100;
     }
 
+    /**
+     * Iff true, node features are extracted once into a {@link org.neo4j.gds.ml.features.FeatureMatrix}
+     * instead of being read from the node properties for every relationship.
+     */
+    @Value.Default
+    default boolean cacheFeatures() {
+        return false;
+    }
+
     static LinkPredictionPredictMutateConfig of(
         String username,
         Optional<String> graphName,
@@ -20,7 +20,10 @@
 package org.neo4j.gds.ml.linkmodels;
 
 import org.apache.commons.math3.random.RandomDataGenerator;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.ml.batch.HugeBatchQueue;
+import org.neo4j.gds.ml.features.FeatureExtraction;
+import org.neo4j.gds.ml.features.FeatureMatrix;
 import org.neo4j.gds.ml.linkmodels.logisticregression.LinkLogisticRegressionData;
 import org.neo4j.gds.ml.linkmodels.logisticregression.LinkLogisticRegressionPredictor;
 import org.neo4j.gds.ml.linkmodels.logisticregression.LinkLogisticRegressionTrain;
@@ -60,6 +63,7 @@ public class LinkPredictionTrain
     private final LinkPredictionTrainConfig config;
     private final Log log;
     private final AllocationTracker allocationTracker;
+    private @Nullable FeatureMatrix featureMatrix;
 
     public LinkPredictionTrain(
         Graph graph,
@@ -76,6 +80,16 @@ public class LinkPredictionTrain
     @Override
     public Model<LinkLogisticRegressionData, LinkPredictionTrainConfig> compute() {
 
+        if (config.cacheFeatures()) {
+            // train and test graph share the same nodes and node properties
+            featureMatrix = FeatureMatrix.of(
+                trainGraph,
+                FeatureExtraction.propertyExtractors(trainGraph, config.featureProperties()),
+                config.concurrency(),
+                allocationTracker
+            );
+        }
+
         // init and shuffle node ids
         var nodeIds = HugeLongArray.newArray(trainGraph.nodeCount(), allocationTracker);
         nodeIds.setAll(i -> i);
@@ -92,6 +106,7 @@ public class LinkPredictionTrain
         var testMetrics = computeMetric(testGraph, nodeIds, predictor);
 
         var metrics = mergeMetrics(modelSelectResult, outerTrainMetrics, testMetrics);
+        release();
 
         return Model.of(
             config.username(),
@@ -237,7 +252,8 @@ public class LinkPredictionTrain
             trainGraph,
             trainSet,
             llrConfig,
-            progressLogger
+            progressLogger,
+            featureMatrix
         );
 
         return llrTrain.compute();
@@ -281,6 +297,9 @@ public class LinkPredictionTrain
 
     @Override
     public void release() {
-
+        if (featureMatrix != null) {
+            featureMatrix.release();
+            featureMatrix = null;
+        }
     }
 }
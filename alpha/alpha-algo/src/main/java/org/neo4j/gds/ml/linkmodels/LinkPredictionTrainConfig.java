@@ -51,6 +51,15 @@ public interface LinkPredictionTrainConfig extends AlgoBaseConfig, FeatureProper
 
     List<Map<String, Object>> params();
 
+    /**
+     * Iff true, node features are extracted once into a {@link org.neo4j.gds.ml.features.FeatureMatrix}
+     * instead of being read from the node properties for every relationship.
+     */
+    @Value.Default
+    default boolean cacheFeatures() {
+        return false;
+    }
+
     @Configuration.ConvertWith("org.neo4j.graphalgo.RelationshipType#of")
     @Configuration.ToMapValue("org.neo4j.graphalgo.RelationshipType#toString")
     RelationshipType trainRelationshipType();
@@ -21,6 +21,7 @@ package org.neo4j.gds.ml.linkmodels.logisticregression;
 
 import org.apache.commons.lang3.mutable.MutableInt;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.Variable;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.functions.MatrixConstant;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.functions.MatrixMultiplyWithTransposedSecondOperand;
@@ -29,14 +30,17 @@ import org.neo4j.gds.embeddings.graphsage.ddl4j.tensor.Matrix;
 import org.neo4j.gds.ml.batch.Batch;
 import org.neo4j.gds.ml.features.FeatureConsumer;
 import org.neo4j.gds.ml.features.FeatureExtraction;
+import org.neo4j.gds.ml.features.FeatureMatrix;
 import org.neo4j.graphalgo.api.Graph;
 
 public class LinkLogisticRegressionBase {
 
     protected final LinkLogisticRegressionData modelData;
+    protected @Nullable FeatureMatrix featureMatrix;
 
-    LinkLogisticRegressionBase(LinkLogisticRegressionData modelData) {
+    LinkLogisticRegressionBase(LinkLogisticRegressionData modelData, @Nullable FeatureMatrix featureMatrix) {
         this.modelData = modelData;
+        this.featureMatrix = featureMatrix;
     }
 
     protected Variable<Matrix> predictions(MatrixConstant features) {
@@ -73,6 +77,11 @@ public class LinkLogisticRegressionBase {
     protected double[] nodeFeatures(Graph graph, long nodeId) {
         var features = new double[modelData.nodeFeatureDimension()];
 
+        if (featureMatrix != null) {
+            featureMatrix.copyRow(nodeId, features, 0);
+            return features;
+        }
+
         var consumer = featureConsumer(features);
         FeatureExtraction.extract(
             nodeId,
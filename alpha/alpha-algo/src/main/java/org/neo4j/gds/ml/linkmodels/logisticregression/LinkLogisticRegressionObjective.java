@@ -20,6 +20,7 @@
 package org.neo4j.gds.ml.linkmodels.logisticregression;
 
 import org.apache.commons.lang3.mutable.MutableInt;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.Variable;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.functions.ConstantScale;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.functions.ElementSum;
@@ -32,6 +33,7 @@ import org.neo4j.gds.embeddings.graphsage.ddl4j.tensor.Scalar;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.tensor.Tensor;
 import org.neo4j.gds.ml.Objective;
 import org.neo4j.gds.ml.batch.Batch;
+import org.neo4j.gds.ml.features.FeatureMatrix;
 import org.neo4j.gds.ml.splitting.EdgeSplitter;
 import org.neo4j.graphalgo.api.Graph;
 
@@ -44,7 +46,16 @@ public class LinkLogisticRegressionObjective extends LinkLogisticRegressionBase
     private final double penalty;
 
     public LinkLogisticRegressionObjective(LinkLogisticRegressionData llrData, double penalty, Graph graph) {
-        super(llrData);
+        this(llrData, penalty, graph, null);
+    }
+
+    public LinkLogisticRegressionObjective(
+        LinkLogisticRegressionData llrData,
+        double penalty,
+        Graph graph,
+        @Nullable FeatureMatrix featureMatrix
+    ) {
+        super(llrData, featureMatrix);
         this.graph = graph;
         this.penalty = penalty;
     }
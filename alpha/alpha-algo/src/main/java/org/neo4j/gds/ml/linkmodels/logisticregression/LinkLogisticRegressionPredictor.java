@@ -19,19 +19,40 @@
  */
 package org.neo4j.gds.ml.linkmodels.logisticregression;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.functions.Sigmoid;
+import org.neo4j.gds.ml.features.FeatureMatrix;
 import org.neo4j.graphalgo.api.Graph;
 
 public class LinkLogisticRegressionPredictor extends LinkLogisticRegressionBase {
 
     public LinkLogisticRegressionPredictor(LinkLogisticRegressionData modelData) {
-        super(modelData);
+        this(modelData, null);
+    }
+
+    /**
+     * @param featureMatrix precomputed node features without the bias feature; if {@code null},
+     *                      features are extracted from the graph for every relationship
+     */
+    public LinkLogisticRegressionPredictor(LinkLogisticRegressionData modelData, @Nullable FeatureMatrix featureMatrix) {
+        super(modelData, featureMatrix);
     }
 
     public LinkLogisticRegressionData modelData() {
         return modelData;
     }
 
+    /**
+     * Releases the precomputed node features, if any.
+     * Only to be called by the owner of the feature matrix, afterwards features are read from the graph again.
+     */
+    public void release() {
+        if (featureMatrix != null) {
+            featureMatrix.release();
+            featureMatrix = null;
+        }
+    }
+
     public double predictedProbability(Graph graph, long sourceId, long targetId) {
         var weightsArray = modelData.weights().data().data();
         var features = features(graph, sourceId, targetId);
@@ -19,9 +19,11 @@
  */
 package org.neo4j.gds.ml.linkmodels.logisticregression;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.ml.Training;
 import org.neo4j.gds.ml.batch.BatchQueue;
 import org.neo4j.gds.ml.batch.HugeBatchQueue;
+import org.neo4j.gds.ml.features.FeatureMatrix;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
@@ -34,17 +36,29 @@ public class LinkLogisticRegressionTrain {
     private final HugeLongArray trainSet;
     private final LinkLogisticRegressionTrainConfig config;
     private final ProgressLogger progressLogger;
+    private final @Nullable FeatureMatrix featureMatrix;
 
     public LinkLogisticRegressionTrain(
         Graph graph,
         HugeLongArray trainSet,
         LinkLogisticRegressionTrainConfig config,
         ProgressLogger progressLogger
+    ) {
+        this(graph, trainSet, config, progressLogger, null);
+    }
+
+    public LinkLogisticRegressionTrain(
+        Graph graph,
+        HugeLongArray trainSet,
+        LinkLogisticRegressionTrainConfig config,
+        ProgressLogger progressLogger,
+        @Nullable FeatureMatrix featureMatrix
     ) {
         this.graph = graph;
         this.trainSet = trainSet;
         this.config = config;
         this.progressLogger = progressLogger;
+        this.featureMatrix = featureMatrix;
     }
 
     public LinkLogisticRegressionPredictor compute() {
@@ -56,11 +70,12 @@ public class LinkLogisticRegressionTrain {
         var objective = new LinkLogisticRegressionObjective(
             llrData,
             config.penalty(),
-            graph
+            graph,
+            featureMatrix
         );
         var training = new Training(config, progressLogger, graph.nodeCount());
         Supplier<BatchQueue> queueSupplier = () -> new HugeBatchQueue(trainSet, config.batchSize());
         training.train(objective, queueSupplier, config.concurrency());
-        return new LinkLogisticRegressionPredictor(objective.modelData);
+        return new LinkLogisticRegressionPredictor(objective.modelData, featureMatrix);
     }
 }
@@ -20,8 +20,10 @@
 package org.neo4j.gds.ml.nodemodels;
 
 import org.apache.commons.math3.random.RandomDataGenerator;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.ml.TrainingConfig;
 import org.neo4j.gds.ml.batch.BatchQueue;
+import org.neo4j.gds.ml.features.FeatureMatrix;
 import org.neo4j.gds.ml.nodemodels.metrics.Metric;
 import org.neo4j.gds.ml.nodemodels.multiclasslogisticregression.MultiClassNLRData;
 import org.neo4j.gds.ml.nodemodels.multiclasslogisticregression.MultiClassNLRPredictor;
@@ -57,6 +59,7 @@ public class NodeClassificationTrain
     private final Graph graph;
     private final NodeClassificationTrainConfig config;
     private final AllocationTracker allocationTracker;
+    private @Nullable FeatureMatrix featureMatrix;
 
     public NodeClassificationTrain(
         Graph graph,
@@ -77,6 +80,17 @@ public class NodeClassificationTrain
         var globalClassCounts = countClassesGlobally();
         var metrics = createMetrics(globalClassCounts);
 
+        if (config.cacheFeatures()) {
+            progressLogger.logStart(":: Extract Features");
+            featureMatrix = FeatureMatrix.of(
+                graph,
+                MultiClassNLRPredictor.featureExtractors(graph, config.featureProperties()),
+                config.concurrency(),
+                allocationTracker
+            );
+            progressLogger.logFinish(":: Extract Features");
+        }
+
         // 1. Init and shuffle node ids
         progressLogger.logStart(":: Shuffle and Split");
         var nodeIds = HugeLongArray.newArray(graph.nodeCount(), allocationTracker);
@@ -172,6 +186,7 @@ public class NodeClassificationTrain
         progressLogger.reset(maxIterations);
         MultiClassNLRData retrainedModelData = trainModel(nodeIds, bestParameters);
         progressLogger.logFinish(":: Retrain Selected Model");
+        release();
 
         var modelInfo = NodeClassificationModelInfo.of(
             retrainedModelData.classIdMap().originalIdsList(),
@@ -261,7 +276,7 @@ public class NodeClassificationTrain
     }
 
     private MultiClassNLRPredictor predictor(MultiClassNLRData modelData) {
-        return new MultiClassNLRPredictor(modelData, config.featureProperties());
+        return new MultiClassNLRPredictor(modelData, config.featureProperties(), featureMatrix);
     }
 
     private MultiClassNLRData trainModel(
@@ -274,7 +289,7 @@ public class NodeClassificationTrain
             config.concurrency(),
             modelParams
         );
-        var train = new MultiClassNLRTrain(graph, trainSet, nlrConfig, progressLogger);
+        var train = new MultiClassNLRTrain(graph, trainSet, nlrConfig, progressLogger, featureMatrix);
         return train.compute();
     }
 
@@ -310,7 +325,10 @@ public class NodeClassificationTrain
 
     @Override
     public void release() {
-
+        if (featureMatrix != null) {
+            featureMatrix.release();
+            featureMatrix = null;
+        }
     }
 
     @ValueClass
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.ml.nodemodels;
 
+import org.immutables.value.Value;
 import org.neo4j.gds.ml.nodemodels.metrics.MetricSpecification;
 import org.neo4j.graphalgo.annotation.Configuration;
 import org.neo4j.graphalgo.annotation.ValueClass;
@@ -56,6 +57,15 @@ public interface NodeClassificationTrainConfig extends AlgoBaseConfig, FeaturePr
 
     List<Map<String, Object>> params();
 
+    /**
+     * Iff true, node features are extracted once into a {@link org.neo4j.gds.ml.features.FeatureMatrix}
+     * which is shared by all model candidates, folds and evaluations.
+     */
+    @Value.Default
+    default boolean cacheFeatures() {
+        return false;
+    }
+
     static NodeClassificationTrainConfig of(
         Optional<String> graphName,
         Optional<GraphCreateConfig> maybeImplicitCreate,
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.ml.nodemodels.multiclasslogisticregression;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.ComputationContext;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.Variable;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.functions.MatrixConstant;
@@ -30,6 +31,7 @@ import org.neo4j.gds.ml.batch.Batch;
 import org.neo4j.gds.ml.features.BiasFeature;
 import org.neo4j.gds.ml.features.FeatureExtraction;
 import org.neo4j.gds.ml.features.FeatureExtractor;
+import org.neo4j.gds.ml.features.FeatureMatrix;
 import org.neo4j.graphalgo.api.Graph;
 
 import java.util.ArrayList;
@@ -41,10 +43,24 @@ public class MultiClassNLRPredictor implements Predictor<Matrix, MultiClassNLRDa
 
     private final MultiClassNLRData modelData;
     private final List<String> featureProperties;
+    private final @Nullable FeatureMatrix featureMatrix;
 
     public MultiClassNLRPredictor(MultiClassNLRData modelData, List<String> featureProperties) {
+        this(modelData, featureProperties, null);
+    }
+
+    /**
+     * @param featureMatrix precomputed features including the bias feature; if {@code null},
+     *                      features are extracted from the graph for every batch
+     */
+    public MultiClassNLRPredictor(
+        MultiClassNLRData modelData,
+        List<String> featureProperties,
+        @Nullable FeatureMatrix featureMatrix
+    ) {
         this.modelData = modelData;
         this.featureProperties = featureProperties;
+        this.featureMatrix = featureMatrix;
     }
 
     @Override
@@ -65,11 +81,14 @@ public class MultiClassNLRPredictor implements Predictor<Matrix, MultiClassNLRDa
     }
 
     private MatrixConstant features(Graph graph, Batch batch) {
-        var featureExtractors = featureExtractors(graph);
+        if (featureMatrix != null) {
+            return featureMatrix.extract(batch);
+        }
+        var featureExtractors = featureExtractors(graph, featureProperties);
         return extract(batch, featureExtractors);
     }
 
-    private List<FeatureExtractor> featureExtractors(Graph graph) {
+    public static List<FeatureExtractor> featureExtractors(Graph graph, List<String> featureProperties) {
         var featureExtractors = new ArrayList<FeatureExtractor>();
         featureExtractors.addAll(FeatureExtraction.propertyExtractors(graph, featureProperties));
         featureExtractors.add(new BiasFeature());
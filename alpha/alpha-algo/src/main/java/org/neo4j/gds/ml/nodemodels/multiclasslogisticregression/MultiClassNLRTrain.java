@@ -19,9 +19,11 @@
  */
 package org.neo4j.gds.ml.nodemodels.multiclasslogisticregression;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.ml.Training;
 import org.neo4j.gds.ml.batch.BatchQueue;
 import org.neo4j.gds.ml.batch.HugeBatchQueue;
+import org.neo4j.gds.ml.features.FeatureMatrix;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
@@ -34,17 +36,29 @@ public class MultiClassNLRTrain {
     private final HugeLongArray trainSet;
     private final MultiClassNLRTrainConfig config;
     private final ProgressLogger progressLogger;
+    private final @Nullable FeatureMatrix featureMatrix;
 
     public MultiClassNLRTrain(
         Graph graph,
         HugeLongArray trainSet,
         MultiClassNLRTrainConfig config,
         ProgressLogger progressLogger
+    ) {
+        this(graph, trainSet, config, progressLogger, null);
+    }
+
+    public MultiClassNLRTrain(
+        Graph graph,
+        HugeLongArray trainSet,
+        MultiClassNLRTrainConfig config,
+        ProgressLogger progressLogger,
+        @Nullable FeatureMatrix featureMatrix
     ) {
         this.graph = graph;
         this.trainSet = trainSet;
         this.config = config;
         this.progressLogger = progressLogger;
+        this.featureMatrix = featureMatrix;
     }
 
     public MultiClassNLRData compute() {
@@ -53,7 +67,7 @@ public class MultiClassNLRTrain {
             config.featureProperties(),
             config.targetProperty()
         );
-        var predictor = new MultiClassNLRPredictor(modelData, config.featureProperties());
+        var predictor = new MultiClassNLRPredictor(modelData, config.featureProperties(), featureMatrix);
         var objective = new MultiClassNLRObjective(
             graph,
             predictor,
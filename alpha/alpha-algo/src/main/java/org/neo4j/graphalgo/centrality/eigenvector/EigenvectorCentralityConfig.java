@@ -51,6 +51,13 @@ public interface EigenvectorCentralityConfig extends PageRankBaseConfig, WritePr
         return "NONE";
     }
 
+    @Value.Check
+    default void validateActiveSetPropagation() {
+        if (activeSetPropagation()) {
+            throw new IllegalArgumentException("The `activeSetPropagation` option is not supported for Eigenvector Centrality.");
+        }
+    }
+
     static EigenvectorCentralityConfig of(
         String username,
         Optional<String> graphName,
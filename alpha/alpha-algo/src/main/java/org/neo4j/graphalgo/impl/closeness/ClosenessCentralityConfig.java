@@ -26,6 +26,7 @@ import org.neo4j.graphalgo.config.AlgoBaseConfig;
 import org.neo4j.graphalgo.config.GraphCreateConfig;
 import org.neo4j.graphalgo.config.WritePropertyConfig;
 import org.neo4j.graphalgo.core.CypherMapWrapper;
+import org.neo4j.graphalgo.impl.hyperball.HyperBallConfig;
 
 import java.util.Optional;
 
@@ -34,7 +35,8 @@ import java.util.Optional;
 @SuppressWarnings("immutables:subtype")
 public interface ClosenessCentralityConfig extends
     AlgoBaseConfig,
-    WritePropertyConfig
+    WritePropertyConfig,
+    HyperBallConfig
 {
 
     @Value.Default
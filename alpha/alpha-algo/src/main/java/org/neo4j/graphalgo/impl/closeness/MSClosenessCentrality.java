@@ -19,17 +19,22 @@
  */
 package org.neo4j.graphalgo.impl.closeness;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.graphalgo.Algorithm;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.api.nodeproperties.DoubleNodeProperties;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
 import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
 import org.neo4j.graphalgo.core.utils.paged.PagedAtomicIntegerArray;
 import org.neo4j.graphalgo.core.write.NodePropertyExporter;
+import org.neo4j.graphalgo.impl.hyperball.HyperBall;
 import org.neo4j.graphalgo.impl.msbfs.BfsConsumer;
 import org.neo4j.graphalgo.impl.msbfs.MultiSourceBFS;
 
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
@@ -39,12 +44,20 @@ import java.util.stream.Stream;
  *
  * Utilizes the MSBFS for counting the farness between nodes.
  * See MSBFS documentation.
+ *
+ * If a HyperLogLog precision is given, farness and component sizes are
+ * approximated by {@link HyperBall} instead. The BFS credits farness to the
+ * reached node but component sizes to the source node, HyperBall only sees
+ * distances from a node. Both agree on undirected graphs only, which is why
+ * the approximation requires one.
  */
 public class MSClosenessCentrality extends Algorithm<MSClosenessCentrality, MSClosenessCentrality> {
 
     private final Graph graph;
-    private final PagedAtomicIntegerArray farness;
-    private final PagedAtomicIntegerArray component;
+    private final @Nullable PagedAtomicIntegerArray farness;
+    private final @Nullable PagedAtomicIntegerArray component;
+    private final Optional<Integer> hyperLogLogPrecision;
+    private @Nullable HyperBall hyperBall;
 
     private final int concurrency;
     private final ExecutorService executorService;
@@ -58,23 +71,46 @@ public class MSClosenessCentrality extends Algorithm<MSClosenessCentrality, MSCl
             AllocationTracker tracker,
             int concurrency,
             ExecutorService executorService, boolean wassermanFaust) {
+        this(graph, tracker, concurrency, executorService, wassermanFaust, Optional.empty());
+    }
+
+    public MSClosenessCentrality(
+            Graph graph,
+            AllocationTracker tracker,
+            int concurrency,
+            ExecutorService executorService,
+            boolean wassermanFaust,
+            Optional<Integer> hyperLogLogPrecision) {
         this.graph = graph;
         nodeCount = graph.nodeCount();
         this.concurrency = concurrency;
         this.executorService = executorService;
         this.tracker = tracker;
         this.wassermanFaust = wassermanFaust;
-        farness = PagedAtomicIntegerArray.newArray(nodeCount, this.tracker);
-        component = PagedAtomicIntegerArray.newArray(nodeCount, this.tracker);
+        this.hyperLogLogPrecision = hyperLogLogPrecision;
+        if (hyperLogLogPrecision.isPresent() && !graph.isUndirected()) {
+            throw new IllegalArgumentException(
+                "Approximating closeness centrality with HyperBall requires an undirected graph.");
+        }
+        if (hyperLogLogPrecision.isPresent()) {
+            farness = null;
+            component = null;
+        } else {
+            farness = PagedAtomicIntegerArray.newArray(nodeCount, this.tracker);
+            component = PagedAtomicIntegerArray.newArray(nodeCount, this.tracker);
+        }
+    }
+
+    public static MemoryEstimation memoryEstimation(int hyperLogLogPrecision) {
+        return MemoryEstimations.builder(MSClosenessCentrality.class)
+            .add("HyperBall", HyperBall.memoryEstimation(hyperLogLogPrecision))
+            .build();
     }
 
     public HugeDoubleArray getCentrality() {
         final HugeDoubleArray cc = HugeDoubleArray.newArray(nodeCount, tracker);
         for (int i = 0; i < nodeCount; i++) {
-            cc.set(i, centrality(farness.get(i),
-                    component.get(i),
-                    nodeCount,
-                    wassermanFaust));
+            cc.set(i, centrality(i));
         }
         return cc;
     }
@@ -82,12 +118,7 @@ public class MSClosenessCentrality extends Algorithm<MSClosenessCentrality, MSCl
     public void export(final String propertyName, final NodePropertyExporter exporter) {
         exporter.write(
             propertyName,
-            (DoubleNodeProperties) (nodeId) -> centrality(
-                farness.get(nodeId),
-                component.get(nodeId),
-                nodeCount,
-                wassermanFaust
-            )
+            (DoubleNodeProperties) this::centrality
         );
     }
 
@@ -95,7 +126,7 @@ public class MSClosenessCentrality extends Algorithm<MSClosenessCentrality, MSCl
         return LongStream.range(0L, nodeCount)
                 .mapToObj(nodeId -> new MSClosenessCentrality.Result(
                         graph.toOriginalNodeId(nodeId),
-                        centrality(farness.get(nodeId), component.get(nodeId), nodeCount, wassermanFaust)
+                        centrality(nodeId)
                 ));
     }
 
@@ -109,6 +140,18 @@ public class MSClosenessCentrality extends Algorithm<MSClosenessCentrality, MSCl
 
     @Override
     public MSClosenessCentrality compute() {
+        if (hyperLogLogPrecision.isPresent()) {
+            hyperBall = new HyperBall(
+                graph,
+                hyperLogLogPrecision.get(),
+                Integer.MAX_VALUE,
+                concurrency,
+                executorService,
+                tracker
+            ).withTerminationFlag(terminationFlag).compute();
+            return this;
+        }
+
         final ProgressLogger progressLogger = getProgressLogger();
 
         final BfsConsumer consumer = (nodeId, depth, sourceNodeIds) -> {
@@ -134,8 +177,14 @@ public class MSClosenessCentrality extends Algorithm<MSClosenessCentrality, MSCl
                 .toArray();
     }
 
-    static double centrality(long farness, long componentSize, long nodeCount, boolean wassermanFaust) {
-        if (farness == 0L) {
+    private double centrality(long nodeId) {
+        return hyperBall != null
+            ? centrality(hyperBall.sumOfDistances(nodeId), hyperBall.reachableNodes(nodeId), nodeCount, wassermanFaust)
+            : centrality(farness.get(nodeId), component.get(nodeId), nodeCount, wassermanFaust);
+    }
+
+    static double centrality(double farness, double componentSize, long nodeCount, boolean wassermanFaust) {
+        if (farness == 0) {
             return 0.;
         }
         if (wassermanFaust) {
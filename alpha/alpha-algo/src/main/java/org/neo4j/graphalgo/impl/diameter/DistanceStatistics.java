@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.impl.diameter;
+
+import org.neo4j.graphalgo.Algorithm;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.impl.hyperball.HyperBall;
+
+import java.util.OptionalLong;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Graph wide distance statistics of an undirected, unweighted graph.
+ *
+ * The hop plot, i.e. the number of node pairs within a given distance, is approximated
+ * by the neighbourhood function of {@link HyperBall}. The effective diameter and the average
+ * distance are derived from it. Optionally, the exact diameter is computed by
+ * {@link IterativeFringeUpperBound}, seeded with the number of HyperBall iterations as a lower bound.
+ */
+public class DistanceStatistics extends Algorithm<DistanceStatistics, DistanceStatistics> {
+
+    private final Graph graph;
+    private final int precision;
+    private final double effectiveDiameterPercentile;
+    private final boolean computeExactDiameter;
+    private final int concurrency;
+    private final ExecutorService executorService;
+    private final AllocationTracker tracker;
+
+    private double[] hopPlot = new double[0];
+    private double effectiveDiameter;
+    private double averageDistance;
+    private long diameterLowerBound;
+    private OptionalLong diameter = OptionalLong.empty();
+
+    public DistanceStatistics(
+        Graph graph,
+        int precision,
+        double effectiveDiameterPercentile,
+        boolean computeExactDiameter,
+        int concurrency,
+        ExecutorService executorService,
+        AllocationTracker tracker
+    ) {
+        this.graph = graph;
+        this.precision = precision;
+        this.effectiveDiameterPercentile = effectiveDiameterPercentile;
+        this.computeExactDiameter = computeExactDiameter;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.tracker = tracker;
+    }
+
+    @Override
+    public DistanceStatistics compute() {
+        var hyperBall = new HyperBall(graph, precision, Integer.MAX_VALUE, concurrency, executorService, tracker)
+            .withTerminationFlag(terminationFlag)
+            .compute();
+        double[] neighbourhoodFunction = hyperBall.neighbourhoodFunction();
+        diameterLowerBound = hyperBall.ranIterations();
+        hyperBall.release();
+
+        // exclude the pairs of a node with itself
+        hopPlot = new double[neighbourhoodFunction.length];
+        for (int distance = 1; distance < hopPlot.length; distance++) {
+            hopPlot[distance] = Math.max(hopPlot[distance - 1], neighbourhoodFunction[distance] - neighbourhoodFunction[0]);
+        }
+        effectiveDiameter = effectiveDiameter(hopPlot, effectiveDiameterPercentile);
+        averageDistance = averageDistance(hopPlot);
+
+        if (computeExactDiameter) {
+            long exactDiameter = new IterativeFringeUpperBound(
+                graph,
+                concurrency,
+                executorService,
+                terminationFlag,
+                tracker
+            ).compute(diameterLowerBound);
+            diameter = OptionalLong.of(exactDiameter);
+            diameterLowerBound = exactDiameter;
+        }
+
+        return this;
+    }
+
+    @Override
+    public DistanceStatistics me() {
+        return this;
+    }
+
+    @Override
+    public void release() {}
+
+    /**
+     * @return the estimated number of distinct node pairs within distance {@code t}, indexed by {@code t}
+     */
+    public double[] hopPlot() {
+        return hopPlot;
+    }
+
+    public double effectiveDiameter() {
+        return effectiveDiameter;
+    }
+
+    public double averageDistance() {
+        return averageDistance;
+    }
+
+    public long diameterLowerBound() {
+        return diameterLowerBound;
+    }
+
+    public OptionalLong diameter() {
+        return diameter;
+    }
+
+    /**
+     * The smallest distance within which the given fraction of all connected pairs lies,
+     * linearly interpolated between the two enclosing distances.
+     */
+    static double effectiveDiameter(double[] hopPlot, double percentile) {
+        if (hopPlot.length < 2) {
+            return 0;
+        }
+        double threshold = percentile * hopPlot[hopPlot.length - 1];
+        for (int distance = 1; distance < hopPlot.length; distance++) {
+            if (hopPlot[distance] >= threshold) {
+                double previous = hopPlot[distance - 1];
+                double fraction = hopPlot[distance] > previous
+                    ? (threshold - previous) / (hopPlot[distance] - previous)
+                    : 1;
+                return distance - 1 + fraction;
+            }
+        }
+        return hopPlot.length - 1;
+    }
+
+    static double averageDistance(double[] hopPlot) {
+        if (hopPlot.length < 2 || hopPlot[hopPlot.length - 1] == 0) {
+            return 0;
+        }
+        double sumOfDistances = 0;
+        for (int distance = 1; distance < hopPlot.length; distance++) {
+            sumOfDistances += distance * (hopPlot[distance] - hopPlot[distance - 1]);
+        }
+        return sumOfDistances / hopPlot[hopPlot.length - 1];
+    }
+}
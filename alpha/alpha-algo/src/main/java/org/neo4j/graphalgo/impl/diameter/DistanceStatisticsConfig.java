@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.impl.diameter;
+
+import org.immutables.value.Value;
+import org.neo4j.graphalgo.annotation.Configuration;
+import org.neo4j.graphalgo.annotation.ValueClass;
+import org.neo4j.graphalgo.config.AlgoBaseConfig;
+import org.neo4j.graphalgo.config.GraphCreateConfig;
+import org.neo4j.graphalgo.core.CypherMapWrapper;
+import org.neo4j.graphalgo.impl.hyperball.HyperBall;
+import org.neo4j.graphalgo.impl.hyperball.HyperBallConfig;
+
+import java.util.Optional;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+@ValueClass
+@Configuration
+@SuppressWarnings("immutables:subtype")
+public interface DistanceStatisticsConfig extends AlgoBaseConfig, HyperBallConfig {
+
+    @Value.Default
+    default double effectiveDiameterPercentile() {
+        return 0.9;
+    }
+
+    @Value.Default
+    default boolean exactDiameter() {
+        return true;
+    }
+
+    @Configuration.Ignore
+    default int precision() {
+        return hyperLogLogPrecision().orElse(HyperBall.DEFAULT_PRECISION);
+    }
+
+    @Value.Check
+    default void validatePercentile() {
+        if (effectiveDiameterPercentile() <= 0 || effectiveDiameterPercentile() > 1) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Configuration parameter 'effectiveDiameterPercentile' must be in the range (0, 1], got %f.",
+                effectiveDiameterPercentile()
+            ));
+        }
+    }
+
+    static DistanceStatisticsConfig of(
+        Optional<String> graphName,
+        Optional<GraphCreateConfig> implicitCreateConfig,
+        String username,
+        CypherMapWrapper config
+    ) {
+        return new DistanceStatisticsConfigImpl(graphName, implicitCreateConfig, username, config);
+    }
+}
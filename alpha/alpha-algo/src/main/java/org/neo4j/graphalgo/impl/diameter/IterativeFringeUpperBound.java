@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.impl.diameter;
+
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeIntArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+import org.neo4j.graphalgo.core.utils.paged.dss.HugeAtomicDisjointSetStruct;
+import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
+import org.neo4j.graphalgo.impl.msbfs.MultiSourceBFS;
+
+import java.util.Comparator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+/**
+ * Exact diameter of an undirected, unweighted graph by the iFUB algorithm of Crescenzi et al.
+ *
+ * For every connected component that could still exceed the current lower bound, a double sweep
+ * picks a central node {@code u} and a first lower bound. The nodes are then visited by decreasing
+ * distance from {@code u}, fringe by fringe. The eccentricities of a fringe are computed with a
+ * multi-source BFS, which raises the lower bound, while the upper bound drops to twice the distance
+ * of the next fringe. Both bounds typically meet after a few fringes.
+ */
+final class IterativeFringeUpperBound {
+
+    private static final int UNVISITED = -1;
+
+    private final Graph graph;
+    private final int concurrency;
+    private final ExecutorService executorService;
+    private final TerminationFlag terminationFlag;
+    private final AllocationTracker tracker;
+    private final long nodeCount;
+
+    private HugeIntArray distances;
+    private HugeLongArray parents;
+    private HugeLongArray order;
+    private MultiSourceBFS multiSourceBFS;
+    private long visitedNodes;
+
+    IterativeFringeUpperBound(
+        Graph graph,
+        int concurrency,
+        ExecutorService executorService,
+        TerminationFlag terminationFlag,
+        AllocationTracker tracker
+    ) {
+        this.graph = graph;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.terminationFlag = terminationFlag;
+        this.tracker = tracker;
+        this.nodeCount = graph.nodeCount();
+    }
+
+    /**
+     * @param lowerBound a known lower bound of the diameter, components that are too small to exceed it are skipped
+     * @return the largest finite distance between two nodes
+     */
+    long compute(long lowerBound) {
+        var componentSizes = componentSizes();
+
+        // a component with s nodes has a diameter of at most s - 1
+        var candidates = new LongArrayList();
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            if (componentSizes.get(nodeId) - 1 > lowerBound) {
+                candidates.add(nodeId);
+            }
+        }
+        long[] roots = LongStream.of(candidates.toArray())
+            .boxed()
+            .sorted(Comparator.<Long>comparingLong(componentSizes::get).reversed())
+            .mapToLong(Long::longValue)
+            .toArray();
+
+        distances = HugeIntArray.newArray(nodeCount, tracker);
+        distances.fill(UNVISITED);
+        parents = HugeLongArray.newArray(nodeCount, tracker);
+        order = HugeLongArray.newArray(nodeCount, tracker);
+        multiSourceBFS = MultiSourceBFS.aggregatedNeighborProcessing(graph, tracker);
+
+        long diameter = lowerBound;
+        for (long root : roots) {
+            if (componentSizes.get(root) - 1 <= diameter) {
+                continue;
+            }
+            terminationFlag.assertRunning();
+            diameter = componentDiameter(root, diameter);
+        }
+
+        distances = null;
+        parents = null;
+        order = null;
+        multiSourceBFS = null;
+        return diameter;
+    }
+
+    /**
+     * @return the size of the component at the index of each component root, 0 for all other nodes
+     */
+    private HugeAtomicLongArray componentSizes() {
+        var components = new HugeAtomicDisjointSetStruct(nodeCount, tracker, concurrency);
+        var tasks = PartitionUtils.degreeBalancedPartition(graph, concurrency, concurrency, executorService, partition -> (Runnable) () -> {
+            var relationships = graph.concurrentCopy();
+            partition.consume(nodeId -> relationships.forEachRelationship(nodeId, (source, target) -> {
+                components.union(source, target);
+                return true;
+            }));
+        });
+        ParallelUtil.runWithConcurrency(concurrency, tasks, executorService);
+
+        var sizes = HugeAtomicLongArray.newArray(nodeCount, tracker);
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, nodeId -> sizes.getAndAdd(components.setIdOf(nodeId), 1));
+        return sizes;
+    }
+
+    private long componentDiameter(long root, long lowerBound) {
+        // double sweep: the farthest node from any node is a good start for finding a long path
+        long size = bfs(root);
+        long start = order.get(size - 1);
+        reset(size);
+        bfs(start);
+        long end = order.get(size - 1);
+        int startEccentricity = distances.get(end);
+        reset(size);
+
+        // the middle of the found path is a good approximation of a central node
+        long center = end;
+        for (int i = 0; i < startEccentricity / 2; i++) {
+            center = parents.get(center);
+        }
+
+        bfs(center);
+        int centerEccentricity = distances.get(order.get(size - 1));
+
+        long lower = Math.max(lowerBound, Math.max(startEccentricity, centerEccentricity));
+        long upper = 2L * centerEccentricity;
+
+        // levels are contiguous in the BFS order, visit them from the outermost fringe inwards
+        long fringeEnd = size;
+        for (int level = centerEccentricity; upper > lower && level > 0; level--) {
+            long fringeStart = fringeEnd;
+            while (fringeStart > 0 && distances.get(order.get(fringeStart - 1)) == level) {
+                fringeStart--;
+            }
+            long fringeEccentricity = maxEccentricity(fringeStart, fringeEnd);
+            fringeEnd = fringeStart;
+
+            if (Math.max(lower, fringeEccentricity) > 2L * (level - 1)) {
+                lower = Math.max(lower, fringeEccentricity);
+                break;
+            }
+            lower = Math.max(lower, fringeEccentricity);
+            upper = 2L * (level - 1);
+        }
+
+        reset(size);
+        return lower;
+    }
+
+    private long maxEccentricity(long fringeStart, long fringeEnd) {
+        long[] fringe = new long[Math.toIntExact(fringeEnd - fringeStart)];
+        for (int i = 0; i < fringe.length; i++) {
+            fringe[i] = order.get(fringeStart + i);
+        }
+
+        var maxDepth = new AtomicInteger();
+        multiSourceBFS.initAggregatedNeighborProcessing(
+            (nodeId, depth, sourceNodeIds) -> {
+                if (depth > maxDepth.get()) {
+                    maxDepth.accumulateAndGet(depth, Math::max);
+                }
+            },
+            fringe
+        ).run(concurrency, executorService);
+        return maxDepth.get();
+    }
+
+    /**
+     * Visits the component of the start node in BFS order.
+     *
+     * @return the number of visited nodes, which are stored at the beginning of {@link #order}
+     */
+    private long bfs(long startNode) {
+        distances.set(startNode, 0);
+        parents.set(startNode, startNode);
+        order.set(0, startNode);
+        visitedNodes = 1;
+
+        long head = 0;
+        while (head < visitedNodes) {
+            long node = order.get(head++);
+            int nextDistance = distances.get(node) + 1;
+            graph.forEachRelationship(node, (source, target) -> {
+                if (distances.get(target) == UNVISITED) {
+                    distances.set(target, nextDistance);
+                    parents.set(target, source);
+                    order.set(visitedNodes++, target);
+                }
+                return true;
+            });
+        }
+        return visitedNodes;
+    }
+
+    private void reset(long visitedNodes) {
+        for (long i = 0; i < visitedNodes; i++) {
+            distances.set(order.get(i), UNVISITED);
+        }
+    }
+}
@@ -21,11 +21,16 @@ package org.neo4j.graphalgo.impl.harmonic;
 
 import org.neo4j.graphalgo.Algorithm;
 import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
 import org.neo4j.graphalgo.core.utils.paged.HugeAtomicDoubleArray;
+import org.neo4j.graphalgo.impl.hyperball.HyperBall;
 import org.neo4j.graphalgo.impl.msbfs.BfsConsumer;
 import org.neo4j.graphalgo.impl.msbfs.MultiSourceBFS;
 
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 
 public class HarmonicCentrality extends Algorithm<HarmonicCentrality, HarmonicCentrality> {
@@ -35,6 +40,7 @@ public class HarmonicCentrality extends Algorithm<HarmonicCentrality, HarmonicCe
     private final AllocationTracker allocationTracker;
     private final ExecutorService executorService;
     private final HugeAtomicDoubleArray inverseFarness;
+    private final Optional<Integer> hyperLogLogPrecision;
 
     private Graph graph;
 
@@ -44,7 +50,27 @@ public class HarmonicCentrality extends Algorithm<HarmonicCentrality, HarmonicCe
         int concurrency,
         ExecutorService executorService
     ) {
+        this(graph, allocationTracker, concurrency, executorService, Optional.empty());
+    }
+
+    /**
+     * @param hyperLogLogPrecision if present, the scores are approximated by {@link HyperBall} instead of exact BFS.
+     *                             The BFS sums inverse distances towards a node, HyperBall away from it,
+     *                             so the approximation requires an undirected graph.
+     */
+    public HarmonicCentrality(
+        Graph graph,
+        AllocationTracker allocationTracker,
+        int concurrency,
+        ExecutorService executorService,
+        Optional<Integer> hyperLogLogPrecision
+    ) {
+        if (hyperLogLogPrecision.isPresent() && !graph.isUndirected()) {
+            throw new IllegalArgumentException(
+                "Approximating harmonic centrality with HyperBall requires an undirected graph.");
+        }
         this.graph = graph;
+        this.hyperLogLogPrecision = hyperLogLogPrecision;
         this.allocationTracker = allocationTracker;
         this.concurrency = concurrency;
         this.executorService = executorService;
@@ -52,8 +78,30 @@ public class HarmonicCentrality extends Algorithm<HarmonicCentrality, HarmonicCe
         this.nodeCount = graph.nodeCount();
     }
 
+    public static MemoryEstimation memoryEstimation(int hyperLogLogPrecision) {
+        return MemoryEstimations.builder(HarmonicCentrality.class)
+            .perNode("inverse farness", HugeAtomicDoubleArray::memoryEstimation)
+            .add("HyperBall", HyperBall.memoryEstimation(hyperLogLogPrecision))
+            .build();
+    }
+
     @Override
     public HarmonicCentrality compute() {
+        if (hyperLogLogPrecision.isPresent()) {
+            var hyperBall = new HyperBall(
+                graph,
+                hyperLogLogPrecision.get(),
+                Integer.MAX_VALUE,
+                concurrency,
+                executorService,
+                allocationTracker
+            ).withTerminationFlag(terminationFlag).compute();
+            ParallelUtil.parallelForEachNode(nodeCount, concurrency, nodeId ->
+                inverseFarness.set(nodeId, hyperBall.harmonicSum(nodeId))
+            );
+            return this;
+        }
+
         final BfsConsumer consumer = (nodeId, depth, sourceNodeIds) -> {
             double len = sourceNodeIds.size();
             inverseFarness.update(nodeId, currentValue -> currentValue + (len * (1.0 / depth)));
@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.impl.hyperball;
+
+import com.carrotsearch.hppc.DoubleArrayList;
+import org.neo4j.graphalgo.Algorithm;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.RelationshipIterator;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
+import org.neo4j.graphalgo.core.utils.partition.Partition;
+import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.stream.Collectors;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * HyperBall by Boldi and Vigna, approximating the balls around every node with HyperLogLog counters.
+ *
+ * After iteration {@code t}, the counter of a node estimates the number of nodes reachable from it
+ * over at most {@code t} relationships. It is computed as the union of the node's counter and the
+ * counters of its neighbours from the previous iteration. The growth of the counters between two
+ * iterations estimates the number of nodes at distance exactly {@code t}, from which the sum of
+ * distances (closeness), the sum of inverse distances (harmonic centrality) and the neighbourhood
+ * function are derived. Iterations stop once no counter changes.
+ *
+ * Balls grow along outgoing relationships, so the estimates are distances <em>from</em> a node.
+ * Callers that credit distances <em>to</em> a node, like the BFS based centralities, have to run
+ * on undirected graphs for both to agree.
+ *
+ * Only counters of nodes with a modified neighbour are merged. The relative standard error of each
+ * counter is about {@code 1.04 / sqrt(2^precision)}, memory is two bytes per register and node.
+ */
+public class HyperBall extends Algorithm<HyperBall, HyperBall> {
+
+    public static final int DEFAULT_PRECISION = 10;
+
+    private final Graph graph;
+    private final int precision;
+    private final int maxIterations;
+    private final int concurrency;
+    private final ExecutorService executorService;
+    private final AllocationTracker tracker;
+    private final long nodeCount;
+
+    private final HugeDoubleArray sumOfDistances;
+    private final HugeDoubleArray harmonicSum;
+    private final HugeDoubleArray ballSize;
+    private final DoubleArrayList neighbourhoodFunction;
+
+    private HyperLogLogCounters current;
+    private HyperLogLogCounters next;
+    private HugeAtomicBitSet modified;
+    private HugeAtomicBitSet nextModified;
+
+    private int ranIterations;
+
+    public HyperBall(
+        Graph graph,
+        int precision,
+        int maxIterations,
+        int concurrency,
+        ExecutorService executorService,
+        AllocationTracker tracker
+    ) {
+        if (precision < HyperLogLogCounters.MIN_PRECISION || precision > HyperLogLogCounters.MAX_PRECISION) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The HyperLogLog precision must be between %d and %d, got %d.",
+                HyperLogLogCounters.MIN_PRECISION,
+                HyperLogLogCounters.MAX_PRECISION,
+                precision
+            ));
+        }
+        this.graph = graph;
+        this.precision = precision;
+        this.maxIterations = maxIterations;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.tracker = tracker;
+        this.nodeCount = graph.nodeCount();
+        this.sumOfDistances = HugeDoubleArray.newArray(nodeCount, tracker);
+        this.harmonicSum = HugeDoubleArray.newArray(nodeCount, tracker);
+        this.ballSize = HugeDoubleArray.newArray(nodeCount, tracker);
+        this.neighbourhoodFunction = new DoubleArrayList();
+    }
+
+    public static MemoryEstimation memoryEstimation(int precision) {
+        return MemoryEstimations.builder(HyperBall.class)
+            .perNode("counters", nodeCount -> 2 * HyperLogLogCounters.memoryEstimation(nodeCount, precision))
+            .perNode("modified flags", nodeCount -> 2 * HugeAtomicBitSet.memoryEstimation(nodeCount))
+            .perNode("distance sums and ball sizes", nodeCount -> 3 * HugeDoubleArray.memoryEstimation(nodeCount))
+            .build();
+    }
+
+    @Override
+    public HyperBall compute() {
+        current = HyperLogLogCounters.of(nodeCount, precision, tracker);
+        next = HyperLogLogCounters.of(nodeCount, precision, tracker);
+        modified = HugeAtomicBitSet.create(nodeCount, tracker);
+        nextModified = HugeAtomicBitSet.create(nodeCount, tracker);
+
+        // ball of radius 0
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, nodeId -> {
+            current.add(nodeId, nodeId);
+            ballSize.set(nodeId, current.estimate(nodeId));
+        });
+        if (nodeCount > 0) {
+            modified.set(0, nodeCount);
+        }
+        neighbourhoodFunction.add(sumOfBallSizes());
+
+        var partitions = PartitionUtils.degreeBalancedPartition(
+            graph,
+            concurrency,
+            concurrency,
+            executorService,
+            partition -> partition
+        );
+
+        ranIterations = 0;
+        while (ranIterations < maxIterations && !modified.isEmpty() && running()) {
+            int distance = ++ranIterations;
+            var tasks = partitions
+                .stream()
+                .map(partition -> new BallTask(partition, distance))
+                .collect(Collectors.toList());
+            ParallelUtil.runWithConcurrency(concurrency, tasks, executorService);
+
+            if (nextModified.isEmpty()) {
+                // no ball has grown, the previous iteration was the last one
+                ranIterations--;
+                break;
+            }
+            neighbourhoodFunction.add(sumOfBallSizes());
+            getProgressLogger().logMessage(formatWithLocale(
+                "Iteration %d modified %d counters",
+                distance,
+                nextModified.cardinality()
+            ));
+
+            var counters = current;
+            current = next;
+            next = counters;
+            var flags = modified;
+            modified = nextModified;
+            nextModified = flags;
+            nextModified.clear();
+        }
+
+        current = null;
+        next = null;
+        modified = null;
+        nextModified = null;
+        return this;
+    }
+
+    @Override
+    public HyperBall me() {
+        return this;
+    }
+
+    @Override
+    public void release() {
+        current = null;
+        next = null;
+        modified = null;
+        nextModified = null;
+    }
+
+    /**
+     * @return the estimated sum of distances from the node to all nodes reachable from it
+     */
+    public double sumOfDistances(long nodeId) {
+        return sumOfDistances.get(nodeId);
+    }
+
+    /**
+     * @return the estimated sum of inverse distances from the node to all nodes reachable from it
+     */
+    public double harmonicSum(long nodeId) {
+        return harmonicSum.get(nodeId);
+    }
+
+    /**
+     * @return the estimated number of nodes reachable from the node, excluding the node itself
+     */
+    public double reachableNodes(long nodeId) {
+        return Math.max(0, ballSize.get(nodeId) - 1);
+    }
+
+    /**
+     * @return the estimated number of node pairs within distance {@code t}, indexed by {@code t}
+     */
+    public double[] neighbourhoodFunction() {
+        return neighbourhoodFunction.toArray();
+    }
+
+    /**
+     * @return the number of iterations that modified at least one counter, which bounds the diameter from below
+     */
+    public int ranIterations() {
+        return ranIterations;
+    }
+
+    private double sumOfBallSizes() {
+        var sum = new DoubleAdder();
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, nodeId -> sum.add(ballSize.get(nodeId)));
+        return sum.sum();
+    }
+
+    private final class BallTask implements Runnable {
+
+        private final Partition partition;
+        private final int distance;
+        private final RelationshipIterator relationshipIterator;
+
+        private long nodeId;
+        private boolean nodeModified;
+
+        BallTask(Partition partition, int distance) {
+            this.partition = partition;
+            this.distance = distance;
+            this.relationshipIterator = graph.concurrentCopy();
+        }
+
+        @Override
+        public void run() {
+            long endNode = partition.startNode() + partition.nodeCount();
+            for (nodeId = partition.startNode(); nodeId < endNode; nodeId++) {
+                next.copy(nodeId, current, nodeId);
+                nodeModified = false;
+                relationshipIterator.forEachRelationship(nodeId, (source, target) -> {
+                    if (modified.get(target) && next.union(nodeId, current, target)) {
+                        nodeModified = true;
+                    }
+                    return true;
+                });
+
+                if (nodeModified) {
+                    nextModified.set(nodeId);
+                    double previousSize = ballSize.get(nodeId);
+                    double size = next.estimate(nodeId);
+                    // linear counting can be slightly off monotonicity when switching to the raw estimate
+                    if (size > previousSize) {
+                        double growth = size - previousSize;
+                        sumOfDistances.addTo(nodeId, growth * distance);
+                        harmonicSum.addTo(nodeId, growth / distance);
+                        ballSize.set(nodeId, size);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.impl.hyperball;
+
+import org.immutables.value.Value;
+
+import java.util.Optional;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+public interface HyperBallConfig {
+
+    /**
+     * If present, distances are approximated by {@link HyperBall} with {@code 2^hyperLogLogPrecision} registers per node.
+     */
+    Optional<Integer> hyperLogLogPrecision();
+
+    @Value.Check
+    default void validateHyperLogLogPrecision() {
+        hyperLogLogPrecision().ifPresent(precision -> {
+            if (precision < HyperLogLogCounters.MIN_PRECISION || precision > HyperLogLogCounters.MAX_PRECISION) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Configuration parameter 'hyperLogLogPrecision' must be between %d and %d, got %d.",
+                    HyperLogLogCounters.MIN_PRECISION,
+                    HyperLogLogCounters.MAX_PRECISION,
+                    precision
+                ));
+            }
+        });
+    }
+}
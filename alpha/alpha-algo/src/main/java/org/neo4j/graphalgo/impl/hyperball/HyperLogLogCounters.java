@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.impl.hyperball;
+
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+
+/**
+ * A fixed number of HyperLogLog counters, stored back to back in a single {@link HugeLongArray}.
+ *
+ * Each counter consists of {@code 2^precision} registers of one byte, eight registers are packed
+ * into a long. Register values never exceed {@code 65 - precision}, so the highest bit of every
+ * byte is unused, which allows computing the register wise maximum of two words without
+ * unpacking them (see {@link #max(long, long)}).
+ */
+public final class HyperLogLogCounters {
+
+    public static final int MIN_PRECISION = 4;
+    public static final int MAX_PRECISION = 16;
+
+    private static final int REGISTERS_PER_WORD = Long.BYTES;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    private static final long SEED = 0x9E3779B97F4A7C15L;
+
+    private static final double[] INVERSE_POWERS_OF_TWO = new double[Long.SIZE + 1];
+
+    static {
+        for (int i = 0; i < INVERSE_POWERS_OF_TWO.length; i++) {
+            INVERSE_POWERS_OF_TWO[i] = Math.scalb(1.0, -i);
+        }
+    }
+
+    private final int precision;
+    private final int registers;
+    private final int wordsPerCounter;
+    private final double alphaMM;
+    private final HugeLongArray words;
+
+    public static HyperLogLogCounters of(long counterCount, int precision, AllocationTracker tracker) {
+        int wordsPerCounter = (1 << precision) / REGISTERS_PER_WORD;
+        return new HyperLogLogCounters(precision, HugeLongArray.newArray(counterCount * wordsPerCounter, tracker));
+    }
+
+    public static long memoryEstimation(long counterCount, int precision) {
+        return HugeLongArray.memoryEstimation(counterCount * ((1 << precision) / REGISTERS_PER_WORD));
+    }
+
+    private HyperLogLogCounters(int precision, HugeLongArray words) {
+        this.precision = precision;
+        this.registers = 1 << precision;
+        this.wordsPerCounter = registers / REGISTERS_PER_WORD;
+        this.alphaMM = alpha(registers) * registers * registers;
+        this.words = words;
+    }
+
+    public int precision() {
+        return precision;
+    }
+
+    /**
+     * Adds an element to the given counter.
+     */
+    public void add(long counter, long element) {
+        long hash = hash(element);
+        int register = (int) (hash >>> (Long.SIZE - precision));
+        long remainder = hash << precision;
+        long rank = remainder == 0
+            ? Long.SIZE - precision + 1
+            : Long.numberOfLeadingZeros(remainder) + 1;
+
+        long index = counter * wordsPerCounter + register / REGISTERS_PER_WORD;
+        int shift = (register % REGISTERS_PER_WORD) * Byte.SIZE;
+        long word = words.get(index);
+        if (((word >>> shift) & 0xFF) < rank) {
+            words.set(index, (word & ~(0xFFL << shift)) | (rank << shift));
+        }
+    }
+
+    /**
+     * Overwrites the given counter with a counter of another instance with the same precision.
+     */
+    public void copy(long counter, HyperLogLogCounters source, long sourceCounter) {
+        long offset = counter * wordsPerCounter;
+        long sourceOffset = sourceCounter * wordsPerCounter;
+        for (int i = 0; i < wordsPerCounter; i++) {
+            words.set(offset + i, source.words.get(sourceOffset + i));
+        }
+    }
+
+    /**
+     * Merges a counter of another instance with the same precision into the given counter.
+     *
+     * @return true iff the given counter has been modified
+     */
+    public boolean union(long counter, HyperLogLogCounters other, long otherCounter) {
+        long offset = counter * wordsPerCounter;
+        long otherOffset = otherCounter * wordsPerCounter;
+        boolean modified = false;
+        for (int i = 0; i < wordsPerCounter; i++) {
+            long word = words.get(offset + i);
+            long union = max(word, other.words.get(otherOffset + i));
+            if (union != word) {
+                words.set(offset + i, union);
+                modified = true;
+            }
+        }
+        return modified;
+    }
+
+    /**
+     * @return the estimated number of distinct elements added to the given counter
+     */
+    public double estimate(long counter) {
+        long offset = counter * wordsPerCounter;
+        double sum = 0;
+        int zeros = 0;
+        for (int i = 0; i < wordsPerCounter; i++) {
+            long word = words.get(offset + i);
+            for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+                int register = (int) ((word >>> shift) & 0xFF);
+                sum += INVERSE_POWERS_OF_TWO[register];
+                if (register == 0) {
+                    zeros++;
+                }
+            }
+        }
+
+        double estimate = alphaMM / sum;
+        // small range correction by linear counting
+        if (estimate <= 2.5 * registers && zeros > 0) {
+            return registers * Math.log((double) registers / zeros);
+        }
+        return estimate;
+    }
+
+    /**
+     * Computes the byte wise maximum of two words whose bytes are all smaller than 128.
+     *
+     * Setting the highest bit of each byte of {@code a} before subtracting {@code b} guarantees
+     * that no byte borrows from its neighbour. The highest bit of a byte of the difference is still
+     * set iff the byte of {@code a} is not smaller than the byte of {@code b}.
+     */
+    static long max(long a, long b) {
+        long greaterOrEqual = (((a | HIGH_BITS) - b) & HIGH_BITS) >>> 7;
+        long mask = greaterOrEqual * 0xFF;
+        return (a & mask) | (b & ~mask);
+    }
+
+    private static long hash(long element) {
+        // finalizer of MurmurHash3
+        long hash = element + SEED;
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static double alpha(int registers) {
+        switch (registers) {
+            case 16:
+                return 0.673;
+            case 32:
+                return 0.697;
+            case 64:
+                return 0.709;
+            default:
+                return 0.7213 / (1 + 1.079 / registers);
+        }
+    }
+}
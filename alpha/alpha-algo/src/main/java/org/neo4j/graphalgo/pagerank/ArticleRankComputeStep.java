@@ -24,8 +24,6 @@ import org.neo4j.graphalgo.api.RelationshipConsumer;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 
-import static org.neo4j.graphalgo.core.utils.ArrayUtil.binaryLookup;
-
 final class ArticleRankComputeStep extends BaseComputeStep implements RelationshipConsumer {
     private final double averageDegree;
     private float srcRankDelta;
@@ -56,7 +54,7 @@ final class ArticleRankComputeStep extends BaseComputeStep implements Relationsh
     void singleIteration() {
         for (long nodeId = startNode; nodeId < endNode; ++nodeId) {
             double delta = deltas[(int) (nodeId - startNode)];
-            if (delta > 0) {
+            if (delta > propagationThreshold) {
                 int degree = degrees.degree(nodeId);
                 if (degree > 0) {
                     srcRankDelta = (float) (delta / (degree + averageDegree));
@@ -75,8 +73,7 @@ final class ArticleRankComputeStep extends BaseComputeStep implements Relationsh
     @Override
     public boolean accept(long sourceNodeId, long targetNodeId) {
         if (srcRankDelta != 0F) {
-            int idx = binaryLookup(targetNodeId, starts);
-            nextScores[idx][(int) (targetNodeId - starts[idx])] += srcRankDelta;
+            sendScore(targetNodeId, srcRankDelta);
         }
         return true;
     }
@@ -24,8 +24,6 @@ import org.neo4j.graphalgo.api.RelationshipConsumer;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 
-import static org.neo4j.graphalgo.core.utils.ArrayUtil.binaryLookup;
-
 final class EigenvectorCentralityComputeStep extends BaseComputeStep implements RelationshipConsumer {
     private float srcRankDelta;
     private final double initialValue;
@@ -75,30 +73,21 @@ final class EigenvectorCentralityComputeStep extends BaseComputeStep implements
     @Override
     public boolean accept(long sourceNodeId, long targetNodeId) {
         if (srcRankDelta != 0F) {
-            int idx = binaryLookup(targetNodeId, starts);
-            nextScores[idx][(int) (targetNodeId - starts[idx])] += srcRankDelta;
+            sendScore(targetNodeId, srcRankDelta);
         }
         return true;
     }
 
     @Override
     boolean combineScores() {
-        assert prevScores != null;
-        assert prevScores.length >= 1;
-
         double[] pageRank = this.pageRank;
         double[] deltas = this.deltas;
-        float[][] prevScores = this.prevScores;
-        int length = prevScores[0].length;
+        int length = pageRank.length;
 
         boolean shouldBreak = true;
 
         for (int i = 0; i < length; i++) {
-            double delta = 0.0;
-            for (float[] scores : prevScores) {
-                delta += scores[i];
-                scores[i] = 0F;
-            }
+            double delta = receiveScore(i);
             if (delta > tolerance) {
                 shouldBreak = false;
             }
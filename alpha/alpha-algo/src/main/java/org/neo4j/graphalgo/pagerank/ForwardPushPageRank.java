@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.pagerank;
+
+import com.carrotsearch.hppc.LongArrayDeque;
+import com.carrotsearch.hppc.LongDoubleHashMap;
+import com.carrotsearch.hppc.cursors.LongDoubleCursor;
+import org.neo4j.graphalgo.Algorithm;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.RelationshipConsumer;
+import org.neo4j.graphalgo.api.RelationshipIterator;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.mem.MemoryRange;
+import org.neo4j.graphalgo.core.utils.mem.MemoryUsage;
+import org.neo4j.graphalgo.core.utils.queue.BoundedLongPriorityQueue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Approximate personalized PageRank based on the local forward push algorithm from
+ * "Local Graph Partitioning using PageRank Vectors" [1].
+ * <p>
+ * Instead of iterating over all nodes of the graph, every seed set starts with its
+ * residual mass on the seed nodes. A node with a residual of at least {@code epsilon * degree}
+ * keeps {@code (1 - dampingFactor)} of it as score and pushes the remainder evenly to its neighbours.
+ * Only nodes that receive a significant amount of mass are ever touched, so the work per seed set
+ * is bounded by {@code 1 / ((1 - dampingFactor) * epsilon)} independent of the graph size.
+ * <p>
+ * The unit mass is split evenly across the seed nodes and mass arriving at nodes without relationships
+ * is dropped. For a single seed node this matches the scores of {@link PageRank} with that node as
+ * {@code sourceNodes}, up to the approximation error.
+ * <p>
+ * Seed sets are processed concurrently, each thread reuses its residual and score maps
+ * for all seed sets it processes. For every seed set the {@code topK} highest scores are retained.
+ * <p>
+ * [1]: <a href="http://www.math.ucsd.edu/~fan/wp/localpartfull.pdf">Local Graph Partitioning using PageRank Vectors</a>
+ */
+public class ForwardPushPageRank extends Algorithm<ForwardPushPageRank, ForwardPushPageRank> {
+
+    private final Graph graph;
+    private final List<long[]> seedSets;
+    private final double dampingFactor;
+    private final double epsilon;
+    private final int topK;
+    private final int concurrency;
+    private final ExecutorService executor;
+
+    private final BoundedLongPriorityQueue[] results;
+
+    public static MemoryEstimation memoryEstimation(ForwardPushPageRankConfig config) {
+        // every push settles at least (1 - dampingFactor) * epsilon of the unit mass
+        var maxTouchedNodes = (long) Math.ceil(1.0 / ((1.0 - config.dampingFactor()) * config.epsilon()));
+        return MemoryEstimations.builder(ForwardPushPageRank.class)
+            .perThread("PushTask", MemoryEstimations.builder(PushTask.class)
+                .rangePerNode("residuals and scores", nodeCount -> {
+                    var touchedNodes = Math.min(nodeCount, maxTouchedNodes);
+                    return MemoryRange.of(
+                        2 * MemoryUsage.sizeOfLongDoubleHashMap(0),
+                        2 * MemoryUsage.sizeOfLongDoubleHashMap(touchedNodes)
+                    );
+                })
+                .rangePerNode("queue", nodeCount -> MemoryRange.of(
+                    MemoryUsage.sizeOfLongArray(0),
+                    MemoryUsage.sizeOfLongArray(Math.min(nodeCount, maxTouchedNodes))
+                ))
+                .build())
+            .add(
+                "topK",
+                BoundedLongPriorityQueue.memoryEstimation(config.topK()).times(config.sourceNodes().size())
+            )
+            .build();
+    }
+
+    public ForwardPushPageRank(
+        Graph graph,
+        List<long[]> seedSets,
+        double dampingFactor,
+        double epsilon,
+        int topK,
+        int concurrency,
+        ExecutorService executor
+    ) {
+        this.graph = graph;
+        this.seedSets = seedSets;
+        this.dampingFactor = dampingFactor;
+        this.epsilon = epsilon;
+        this.topK = topK;
+        this.concurrency = concurrency;
+        this.executor = executor;
+        this.results = new BoundedLongPriorityQueue[seedSets.size()];
+    }
+
+    @Override
+    public ForwardPushPageRank compute() {
+        progressLogger.logMessage(":: Start");
+        progressLogger.reset(seedSets.size());
+
+        var nextSeedSet = new AtomicInteger();
+        var tasks = new ArrayList<PushTask>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            tasks.add(new PushTask(nextSeedSet));
+        }
+        ParallelUtil.runWithConcurrency(concurrency, tasks, executor);
+
+        progressLogger.logMessage(":: Finished");
+        return this;
+    }
+
+    public int seedSetCount() {
+        return results.length;
+    }
+
+    public long[] seedSet(int seedSetIndex) {
+        return seedSets.get(seedSetIndex);
+    }
+
+    /**
+     * @return the top scored nodes for the given seed set, ordered by descending score
+     */
+    public BoundedLongPriorityQueue topK(int seedSetIndex) {
+        return results[seedSetIndex];
+    }
+
+    public Stream<Result> resultStream() {
+        return IntStream.range(0, results.length).boxed().flatMap(seedSetIndex -> {
+            var builder = Stream.<Result>builder();
+            results[seedSetIndex].forEach((nodeId, score) -> builder.add(new Result(seedSetIndex, nodeId, score)));
+            return builder.build();
+        });
+    }
+
+    @Override
+    public ForwardPushPageRank me() {
+        return this;
+    }
+
+    @Override
+    public void release() {
+    }
+
+    public static final class Result {
+        public final int seedSetIndex;
+        public final long nodeId;
+        public final double score;
+
+        Result(int seedSetIndex, long nodeId, double score) {
+            this.seedSetIndex = seedSetIndex;
+            this.nodeId = nodeId;
+            this.score = score;
+        }
+    }
+
+    private final class PushTask implements Runnable, RelationshipConsumer {
+
+        private final AtomicInteger nextSeedSet;
+        private final RelationshipIterator relationshipIterator;
+        private final LongDoubleHashMap residuals;
+        private final LongDoubleHashMap scores;
+        private final LongArrayDeque queue;
+
+        private double pushedMass;
+
+        PushTask(AtomicInteger nextSeedSet) {
+            this.nextSeedSet = nextSeedSet;
+            this.relationshipIterator = graph.concurrentCopy();
+            this.residuals = new LongDoubleHashMap();
+            this.scores = new LongDoubleHashMap();
+            this.queue = new LongArrayDeque();
+        }
+
+        @Override
+        public void run() {
+            int seedSetIndex;
+            while ((seedSetIndex = nextSeedSet.getAndIncrement()) < seedSets.size()) {
+                terminationFlag.assertRunning();
+                push(seedSets.get(seedSetIndex));
+                results[seedSetIndex] = collectTopK();
+                progressLogger.logProgress(1);
+            }
+        }
+
+        private void push(long[] seedSet) {
+            residuals.clear();
+            scores.clear();
+            queue.clear();
+
+            var initialMass = 1.0 / seedSet.length;
+            for (long seed : seedSet) {
+                addResidual(seed, initialMass);
+            }
+
+            while (!queue.isEmpty()) {
+                var nodeId = queue.removeFirst();
+                var residual = residuals.put(nodeId, 0D);
+                scores.addTo(nodeId, (1 - dampingFactor) * residual);
+
+                var degree = graph.degree(nodeId);
+                if (degree > 0) {
+                    pushedMass = dampingFactor * residual / degree;
+                    relationshipIterator.forEachRelationship(nodeId, this);
+                }
+            }
+        }
+
+        @Override
+        public boolean accept(long sourceNodeId, long targetNodeId) {
+            addResidual(targetNodeId, pushedMass);
+            return true;
+        }
+
+        private void addResidual(long nodeId, double mass) {
+            var threshold = epsilon * Math.max(1, graph.degree(nodeId));
+            var newResidual = residuals.addTo(nodeId, mass);
+            // only enqueue once, when the residual crosses the threshold
+            if (newResidual >= threshold && newResidual - mass < threshold) {
+                queue.addLast(nodeId);
+            }
+        }
+
+        private BoundedLongPriorityQueue collectTopK() {
+            var topKQueue = BoundedLongPriorityQueue.max(topK);
+            for (LongDoubleCursor cursor : scores) {
+                topKQueue.offer(cursor.key, cursor.value);
+            }
+            return topKQueue;
+        }
+    }
+}
@@ -23,6 +23,8 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.functions.Weights;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.tensor.Matrix;
+import org.neo4j.gds.ml.features.FeatureExtraction;
+import org.neo4j.gds.ml.features.FeatureMatrix;
 import org.neo4j.gds.ml.linkmodels.logisticregression.LinkFeatureCombiners;
 import org.neo4j.gds.ml.linkmodels.logisticregression.LinkLogisticRegressionData;
 import org.neo4j.gds.ml.linkmodels.logisticregression.LinkLogisticRegressionPredictor;
@@ -87,5 +89,45 @@ class LinkPredictionPredictTest {
         assertThat(firstLink.targetId()).isEqualTo(4);
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldPredictTheSameLinksWithCachedFeatures(int concurrency) {
+        var modelData = LinkLogisticRegressionData.builder()
+            .weights(new Weights<>(new Matrix(new double[]{
+                -2.0, -1.0, 3.0,
+            }, 1, 3)))
+            .linkFeatureCombiner(LinkFeatureCombiners.L2)
+            .nodeFeatureDimension(2)
+            .featureProperties(List.of("a", "b"))
+            .build();
+        var featureMatrix = FeatureMatrix.of(
+            graph,
+            FeatureExtraction.propertyExtractors(graph, modelData.featureProperties()),
+            concurrency,
+            AllocationTracker.empty()
+        );
+
+        var expected = predict(new LinkLogisticRegressionPredictor(modelData), concurrency);
+        var cachedPredictor = new LinkLogisticRegressionPredictor(modelData, featureMatrix);
+        var actual = predict(cachedPredictor, concurrency);
+
+        assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+        // the prediction releases the feature matrix it has been given
+        assertThat(featureMatrix.release()).isZero();
+    }
+
+    private List<PredictedLink> predict(LinkLogisticRegressionPredictor predictor, int concurrency) {
+        return new LinkPredictionPredict(
+            predictor,
+            graph,
+            1,
+            concurrency,
+            50,
+            AllocationTracker.empty(),
+            TestProgressLogger.NULL_LOGGER,
+            0.0
+        ).compute().stream().collect(Collectors.toList());
+    }
+
 
 }
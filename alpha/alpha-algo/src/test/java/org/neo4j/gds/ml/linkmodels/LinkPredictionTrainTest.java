@@ -146,6 +146,44 @@ class LinkPredictionTrainTest {
         assertThat(model1Score).isNotCloseTo(model2Score, Percentage.withPercentage(0.2));
     }
 
+    @Test
+    void trainsTheSameModelWithCachedFeatures() {
+        var trainGraph = (CSRGraph) graphStore.getGraph(RelationshipType.of("TRAIN"), Optional.of("label"));
+        var testGraph = (CSRGraph) graphStore.getGraph(RelationshipType.of("TEST"), Optional.of("label"));
+
+        var config = ImmutableLinkPredictionTrainConfig.builder()
+            .trainRelationshipType(RelationshipType.of("TRAIN"))
+            .testRelationshipType(RelationshipType.of("TEST"))
+            .featureProperties(List.of("z", "array"))
+            .modelName("model")
+            .validationFolds(3)
+            .randomSeed(42L)
+            .concurrency(1)
+            .classRatio(6.0)
+            .params(List.of(
+                Map.of("maxIterations", 10),
+                Map.of("maxIterations", 100, "penalty", 1.0)
+            )).build();
+        var cachedConfig = ImmutableLinkPredictionTrainConfig.builder()
+            .from(config)
+            .cacheFeatures(true)
+            .build();
+
+        var model = new LinkPredictionTrain(
+            UnionGraph.of(List.of(trainGraph, testGraph)),
+            config,
+            TestProgressLogger.NULL_LOGGER.getLog()
+        ).compute();
+        var cachedModel = new LinkPredictionTrain(
+            UnionGraph.of(List.of(trainGraph, testGraph)),
+            cachedConfig,
+            TestProgressLogger.NULL_LOGGER.getLog()
+        ).compute();
+
+        assertThat(cachedModel.data()).usingRecursiveComparison().isEqualTo(model.data());
+        assertThat(cachedModel.customInfo()).usingRecursiveComparison().isEqualTo(model.customInfo());
+    }
+
     @Test
     void trainsAModelWithListFeatures() {
         var trainGraph = (CSRGraph) graphStore.getGraph(RelationshipType.of("TRAIN"), Optional.of("label"));
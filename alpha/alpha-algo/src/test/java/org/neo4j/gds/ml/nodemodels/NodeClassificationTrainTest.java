@@ -20,6 +20,7 @@
 package org.neo4j.gds.ml.nodemodels;
 
 import org.assertj.core.data.Percentage;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -28,6 +29,7 @@ import org.neo4j.gds.ml.nodemodels.metrics.MetricSpecification;
 import org.neo4j.graphalgo.TestLog;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.progress.EmptyProgressEventTracker;
+import org.neo4j.graphalgo.exceptions.MemoryEstimationNotImplementedException;
 import org.neo4j.graphalgo.extension.GdlExtension;
 import org.neo4j.graphalgo.extension.GdlGraph;
 import org.neo4j.graphalgo.extension.Inject;
@@ -43,6 +45,7 @@ import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.neo4j.graphalgo.TestLog.INFO;
 import static org.neo4j.graphalgo.assertj.Extractors.removingThreadId;
 import static org.neo4j.graphalgo.core.utils.ProgressLogger.NULL_LOGGER;
@@ -249,6 +252,43 @@ class NodeClassificationTrainTest {
             .allMatch(s -> s.startsWith(factory.taskName()));
     }
 
+    @Test
+    void shouldTrainTheSameModelWithCachedFeatures() {
+        var modelCandidates = List.of(
+            Map.<String, Object>of("penalty", 0.0625, "maxIterations", 100),
+            Map.<String, Object>of("penalty", 1.0, "maxIterations", 100)
+        );
+        var config = createConfig(
+            modelCandidates,
+            "model",
+            List.of("a", "arrayProperty"),
+            MetricSpecification.parse("F1(class=1)"),
+            42L
+        );
+        var cachedConfig = ImmutableNodeClassificationTrainConfig.builder()
+            .from(config)
+            .cacheFeatures(true)
+            .build();
+
+        var model = new NodeClassificationTrain(graph, config, AllocationTracker.empty(), NULL_LOGGER).compute();
+        var cachedModel = new NodeClassificationTrain(graph, cachedConfig, AllocationTracker.empty(), NULL_LOGGER).compute();
+
+        assertThat(cachedModel.data()).usingRecursiveComparison().isEqualTo(model.data());
+        assertThat(cachedModel.customInfo()).usingRecursiveComparison().isEqualTo(model.customInfo());
+    }
+
+    @Test
+    void shouldNotEstimateCachedFeaturesOnly() {
+        var config = ImmutableNodeClassificationTrainConfig.builder()
+            .from(createConfig(List.of(Map.<String, Object>of()), "model", List.of("a", "b"), MetricSpecification.parse("F1(class=1)"), 42L))
+            .cacheFeatures(true)
+            .build();
+
+        // the feature matrix alone would underestimate the training, so the memory guard stays disabled
+        assertThatThrownBy(() -> new NodeClassificationTrainAlgorithmFactory().memoryEstimation(config))
+            .isInstanceOf(MemoryEstimationNotImplementedException.class);
+    }
+
     private NodeClassificationTrainConfig createConfig(
         Iterable<Map<String, Object>> modelCandidates,
         String modelName,
@@ -20,15 +20,21 @@
 package org.neo4j.graphalgo.impl;
 
 import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.Orientation;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.config.ConcurrencyConfig;
+import org.neo4j.graphalgo.core.Aggregation;
 import org.neo4j.graphalgo.core.concurrency.Pools;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.extension.GdlExtension;
 import org.neo4j.graphalgo.extension.GdlGraph;
 import org.neo4j.graphalgo.extension.Inject;
 import org.neo4j.graphalgo.impl.closeness.MSClosenessCentrality;
+import org.neo4j.graphalgo.impl.hyperball.HyperBall;
 
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 
 /**
@@ -57,6 +63,7 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 class ClosenessCentralityTest {
 
     @GdlGraph
+    @GdlGraph(graphNamePrefix = "undirected", orientation = Orientation.UNDIRECTED, aggregation = Aggregation.SINGLE)
     private static final String DB_CYPHER =
             "CREATE " +
             "  (a:Node)" +
@@ -79,6 +86,9 @@ class ClosenessCentralityTest {
     @Inject
     private Graph graph;
 
+    @Inject
+    private Graph undirectedGraph;
+
     @Test
     void testGetCentrality() {
         MSClosenessCentrality algo = new MSClosenessCentrality(
@@ -111,4 +121,34 @@ class ClosenessCentralityTest {
 
         assertArrayEquals(EXPECTED, centrality, 0.1);
     }
+
+    @Test
+    void testApproximateCentrality() {
+        MSClosenessCentrality algo = new MSClosenessCentrality(
+            undirectedGraph,
+            AllocationTracker.empty(),
+            ConcurrencyConfig.DEFAULT_CONCURRENCY,
+            Pools.DEFAULT,
+            false,
+            Optional.of(HyperBall.DEFAULT_PRECISION)
+        );
+        algo.compute();
+        final double[] centrality = algo.exportToArray();
+
+        assertArrayEquals(EXPECTED, centrality, 0.1);
+    }
+
+    @Test
+    void testApproximationRequiresUndirectedGraph() {
+        assertThatThrownBy(() -> new MSClosenessCentrality(
+            graph,
+            AllocationTracker.empty(),
+            ConcurrencyConfig.DEFAULT_CONCURRENCY,
+            Pools.DEFAULT,
+            false,
+            Optional.of(HyperBall.DEFAULT_PRECISION)
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("requires an undirected graph");
+    }
 }
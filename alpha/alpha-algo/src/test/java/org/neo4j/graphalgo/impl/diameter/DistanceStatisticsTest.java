@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.impl.diameter;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.graphalgo.Orientation;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.extension.GdlExtension;
+import org.neo4j.graphalgo.extension.GdlGraph;
+import org.neo4j.graphalgo.extension.Inject;
+import org.neo4j.graphalgo.impl.hyperball.HyperBall;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.neo4j.graphalgo.TestSupport.fromGdl;
+
+@GdlExtension
+class DistanceStatisticsTest {
+
+    // a path of six nodes, a cycle of four nodes and an isolated node
+    @GdlGraph(orientation = Orientation.UNDIRECTED)
+    private static final String DB_CYPHER =
+        "CREATE " +
+        "  (a)-[:TYPE]->(b)" +
+        ", (b)-[:TYPE]->(c)" +
+        ", (c)-[:TYPE]->(d)" +
+        ", (d)-[:TYPE]->(e)" +
+        ", (e)-[:TYPE]->(f)" +
+        ", (g)-[:TYPE]->(h)" +
+        ", (h)-[:TYPE]->(i)" +
+        ", (i)-[:TYPE]->(j)" +
+        ", (j)-[:TYPE]->(g)" +
+        ", (k)";
+
+    @Inject
+    private Graph graph;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldComputeDistanceStatistics(int concurrency) {
+        var statistics = compute(graph, true, concurrency);
+
+        assertThat(statistics.diameter()).hasValue(5);
+        assertThat(statistics.diameterLowerBound()).isEqualTo(5);
+
+        double[] expectedHopPlot = {0, 18, 30, 36, 40, 42};
+        assertThat(statistics.hopPlot()).containsExactly(expectedHopPlot, within(0.5));
+        assertThat(statistics.averageDistance()).isEqualTo(86D / 42, within(0.1));
+        assertThat(statistics.effectiveDiameter()).isEqualTo(3 + (0.9 * 42 - 36) / 4, within(0.1));
+    }
+
+    @Test
+    void shouldSkipExactDiameter() {
+        var statistics = compute(graph, false, 1);
+
+        assertThat(statistics.diameter()).isEmpty();
+        assertThat(statistics.diameterLowerBound()).isEqualTo(5);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldComputeExactDiameterOfGrid(int concurrency) {
+        int rows = 4;
+        int columns = 7;
+        var gdl = new StringBuilder("CREATE ");
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                if (row + 1 < rows) {
+                    gdl.append(formatEdge(row, column, row + 1, column));
+                }
+                if (column + 1 < columns) {
+                    gdl.append(formatEdge(row, column, row, column + 1));
+                }
+            }
+        }
+        gdl.setLength(gdl.length() - 1);
+        var grid = fromGdl(gdl.toString(), Orientation.UNDIRECTED);
+
+        var statistics = compute(grid, true, concurrency);
+
+        assertThat(statistics.diameter()).hasValue(rows - 1 + columns - 1);
+    }
+
+    @Test
+    void shouldComputeEmptyStatistics() {
+        var statistics = compute(fromGdl("(a), (b)", Orientation.UNDIRECTED), true, 1);
+
+        assertThat(statistics.diameter()).hasValue(0);
+        assertThat(statistics.averageDistance()).isEqualTo(0);
+        assertThat(statistics.effectiveDiameter()).isEqualTo(0);
+    }
+
+    @Test
+    void shouldInterpolateEffectiveDiameter() {
+        double[] hopPlot = {0, 8, 14, 18, 20};
+
+        assertThat(DistanceStatistics.effectiveDiameter(hopPlot, 0.9)).isEqualTo(3);
+        assertThat(DistanceStatistics.effectiveDiameter(hopPlot, 0.5)).isEqualTo(1 + 2D / 6, within(1e-9));
+        assertThat(DistanceStatistics.effectiveDiameter(hopPlot, 1.0)).isEqualTo(4);
+        assertThat(DistanceStatistics.averageDistance(hopPlot)).isEqualTo(2.0, within(1e-9));
+    }
+
+    private static DistanceStatistics compute(Graph graph, boolean exactDiameter, int concurrency) {
+        return new DistanceStatistics(
+            graph,
+            HyperBall.DEFAULT_PRECISION,
+            0.9,
+            exactDiameter,
+            concurrency,
+            Pools.DEFAULT,
+            AllocationTracker.empty()
+        ).compute();
+    }
+
+    private static String formatEdge(int sourceRow, int sourceColumn, int targetRow, int targetColumn) {
+        return "(n" + sourceRow + "_" + sourceColumn + ")-[:TYPE]->(n" + targetRow + "_" + targetColumn + "),";
+    }
+}
@@ -29,13 +29,17 @@ import org.neo4j.graphalgo.extension.GdlGraph;
 import org.neo4j.graphalgo.extension.IdFunction;
 import org.neo4j.graphalgo.extension.Inject;
 
+import java.util.Optional;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.within;
 
 @GdlExtension
 public class HarmonicCentralityTest {
 
     @GdlGraph(orientation = Orientation.UNDIRECTED)
+    @GdlGraph(graphNamePrefix = "directed")
     public static final String DB_CYPHER =
         "CREATE " +
         "  (a:Node)" +
@@ -51,6 +55,9 @@ public class HarmonicCentralityTest {
     @Inject
     private Graph graph;
 
+    @Inject
+    private Graph directedGraph;
+
     @Inject
     private IdFunction idFunction;
 
@@ -72,4 +79,42 @@ public class HarmonicCentralityTest {
         assertThat(harmonicCentrality.getCentralityScore(idFunction.of("d"))).isEqualTo(0.25, within(0.1));
         assertThat(harmonicCentrality.getCentralityScore(idFunction.of("e"))).isEqualTo(0.25, within(0.1));
     }
+
+    @Test
+    void shouldApproximateHarmonicCentrality() {
+        var harmonicCentrality = new HarmonicCentrality(
+            graph,
+            AllocationTracker.empty(),
+            1,
+            Pools.DEFAULT,
+            Optional.of(10)
+        );
+
+        harmonicCentrality.compute();
+
+        assertThat(harmonicCentrality.getCentralityScore(idFunction.of("a"))).isEqualTo(0.375, within(0.1));
+        assertThat(harmonicCentrality.getCentralityScore(idFunction.of("b"))).isEqualTo(0.5, within(0.1));
+        assertThat(harmonicCentrality.getCentralityScore(idFunction.of("c"))).isEqualTo(0.375, within(0.1));
+        assertThat(harmonicCentrality.getCentralityScore(idFunction.of("d"))).isEqualTo(0.25, within(0.1));
+        assertThat(harmonicCentrality.getCentralityScore(idFunction.of("e"))).isEqualTo(0.25, within(0.1));
+    }
+
+    @Test
+    void shouldRejectApproximationOnDirectedGraph() {
+        // exact BFS credits c with 1/2 + 1 from a and b, HyperBall would credit a instead
+        var exact = new HarmonicCentrality(directedGraph, AllocationTracker.empty(), 1, Pools.DEFAULT);
+        exact.compute();
+        assertThat(exact.getCentralityScore(idFunction.of("c"))).isEqualTo(0.375, within(0.01));
+        assertThat(exact.getCentralityScore(idFunction.of("a"))).isEqualTo(0, within(0.01));
+
+        assertThatThrownBy(() -> new HarmonicCentrality(
+            directedGraph,
+            AllocationTracker.empty(),
+            1,
+            Pools.DEFAULT,
+            Optional.of(10)
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("requires an undirected graph");
+    }
 }
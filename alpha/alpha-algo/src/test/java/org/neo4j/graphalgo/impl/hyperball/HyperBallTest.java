@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.impl.hyperball;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.graphalgo.Orientation;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.core.GraphDimensions;
+import org.neo4j.graphalgo.core.ImmutableGraphDimensions;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.extension.GdlExtension;
+import org.neo4j.graphalgo.extension.GdlGraph;
+import org.neo4j.graphalgo.extension.IdFunction;
+import org.neo4j.graphalgo.extension.Inject;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@GdlExtension
+class HyperBallTest {
+
+    @GdlGraph(orientation = Orientation.UNDIRECTED)
+    @GdlGraph(graphNamePrefix = "directed")
+    private static final String DB_CYPHER =
+        "CREATE " +
+        "  (a)-[:TYPE]->(b)" +
+        ", (b)-[:TYPE]->(c)" +
+        ", (c)-[:TYPE]->(d)" +
+        ", (d)-[:TYPE]->(e)" +
+        ", (f)";
+
+    @Inject
+    private Graph graph;
+
+    @Inject
+    private Graph directedGraph;
+
+    @Inject
+    private IdFunction idFunction;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldApproximateDistances(int concurrency) {
+        var hyperBall = new HyperBall(
+            graph,
+            HyperBall.DEFAULT_PRECISION,
+            Integer.MAX_VALUE,
+            concurrency,
+            Pools.DEFAULT,
+            AllocationTracker.empty()
+        ).compute();
+
+        assertThat(hyperBall.ranIterations()).isEqualTo(4);
+
+        assertThat(hyperBall.sumOfDistances(idFunction.of("a"))).isEqualTo(10, within(0.1));
+        assertThat(hyperBall.sumOfDistances(idFunction.of("c"))).isEqualTo(6, within(0.1));
+        assertThat(hyperBall.sumOfDistances(idFunction.of("f"))).isEqualTo(0, within(0.1));
+
+        assertThat(hyperBall.harmonicSum(idFunction.of("a"))).isEqualTo(1 + 1 / 2D + 1 / 3D + 1 / 4D, within(0.1));
+        assertThat(hyperBall.harmonicSum(idFunction.of("c"))).isEqualTo(3, within(0.1));
+        assertThat(hyperBall.harmonicSum(idFunction.of("f"))).isEqualTo(0, within(0.1));
+
+        assertThat(hyperBall.reachableNodes(idFunction.of("a"))).isEqualTo(4, within(0.1));
+        assertThat(hyperBall.reachableNodes(idFunction.of("f"))).isEqualTo(0, within(0.1));
+
+        var neighbourhoodFunction = hyperBall.neighbourhoodFunction();
+        assertThat(neighbourhoodFunction).hasSize(5);
+        assertThat(neighbourhoodFunction[0]).isEqualTo(6, within(0.1));
+        assertThat(neighbourhoodFunction[1]).isEqualTo(14, within(0.1));
+        assertThat(neighbourhoodFunction[2]).isEqualTo(20, within(0.1));
+        assertThat(neighbourhoodFunction[3]).isEqualTo(24, within(0.1));
+        assertThat(neighbourhoodFunction[4]).isEqualTo(26, within(0.1));
+    }
+
+    @Test
+    void shouldApproximateOutgoingDistancesOnDirectedGraph() {
+        var hyperBall = new HyperBall(
+            directedGraph,
+            HyperBall.DEFAULT_PRECISION,
+            Integer.MAX_VALUE,
+            1,
+            Pools.DEFAULT,
+            AllocationTracker.empty()
+        ).compute();
+
+        // a reaches every node of the path, e reaches none
+        assertThat(hyperBall.sumOfDistances(idFunction.of("a"))).isEqualTo(10, within(0.1));
+        assertThat(hyperBall.harmonicSum(idFunction.of("a"))).isEqualTo(1 + 1 / 2D + 1 / 3D + 1 / 4D, within(0.1));
+        assertThat(hyperBall.reachableNodes(idFunction.of("a"))).isEqualTo(4, within(0.1));
+
+        assertThat(hyperBall.sumOfDistances(idFunction.of("c"))).isEqualTo(3, within(0.1));
+        assertThat(hyperBall.reachableNodes(idFunction.of("c"))).isEqualTo(2, within(0.1));
+
+        assertThat(hyperBall.sumOfDistances(idFunction.of("e"))).isEqualTo(0, within(0.1));
+        assertThat(hyperBall.reachableNodes(idFunction.of("e"))).isEqualTo(0, within(0.1));
+    }
+
+    @Test
+    void shouldEstimateMemory() {
+        GraphDimensions dimensions = ImmutableGraphDimensions.builder().nodeCount(1_000).build();
+
+        var estimate = HyperBall.memoryEstimation(8).estimate(dimensions, 4).memoryUsage();
+
+        long counters = 2 * HyperLogLogCounters.memoryEstimation(1_000, 8);
+        assertThat(estimate.min).isEqualTo(estimate.max);
+        assertThat(estimate.min).isGreaterThan(counters);
+        assertThat(HyperBall.memoryEstimation(10).estimate(dimensions, 4).memoryUsage().min)
+            .isGreaterThan(estimate.min);
+    }
+
+    @Test
+    void shouldStopAfterMaxIterations() {
+        var hyperBall = new HyperBall(graph, 8, 2, 1, Pools.DEFAULT, AllocationTracker.empty()).compute();
+
+        assertThat(hyperBall.ranIterations()).isEqualTo(2);
+        assertThat(hyperBall.neighbourhoodFunction()).hasSize(3);
+        assertThat(hyperBall.reachableNodes(idFunction.of("a"))).isEqualTo(2, within(0.1));
+    }
+
+    @Test
+    void shouldValidatePrecision() {
+        assertThatThrownBy(() -> new HyperBall(graph, 2, 1, 1, Pools.DEFAULT, AllocationTracker.empty()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("between 4 and 16");
+    }
+
+    @Test
+    void shouldEstimateLargeCardinalities() {
+        var counters = HyperLogLogCounters.of(2, 12, AllocationTracker.empty());
+        for (long i = 0; i < 100_000; i++) {
+            counters.add(0, i);
+            counters.add(1, i + 50_000);
+        }
+        assertThat(counters.estimate(0)).isEqualTo(100_000, within(5_000D));
+
+        counters.union(0, counters, 1);
+        assertThat(counters.estimate(0)).isEqualTo(150_000, within(7_500D));
+        assertThat(counters.union(0, counters, 1)).isFalse();
+    }
+
+    @Test
+    void shouldComputeBytewiseMaximum() {
+        long a = 0x01_3D_00_10_05_00_7F_02L;
+        long b = 0x02_3C_01_10_00_7F_00_01L;
+        assertThat(HyperLogLogCounters.max(a, b)).isEqualTo(0x02_3D_01_10_05_7F_7F_02L);
+        assertThat(HyperLogLogCounters.max(b, a)).isEqualTo(0x02_3D_01_10_05_7F_7F_02L);
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.pagerank;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.core.GraphDimensions;
+import org.neo4j.graphalgo.core.ImmutableGraphDimensions;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.extension.GdlExtension;
+import org.neo4j.graphalgo.extension.GdlGraph;
+import org.neo4j.graphalgo.extension.Inject;
+import org.neo4j.graphalgo.extension.TestGraph;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@GdlExtension
+class ForwardPushPageRankTest {
+
+    @GdlGraph
+    private static final String GRAPH =
+        "CREATE" +
+        "  (a:Label)" +
+        ", (b:Label)" +
+        ", (c:Label)" +
+        ", (d:Label)" +
+        ", (e:Label)" +
+        ", (f:Label)" +
+        ", (g:Label)" +
+        ", (b)-[:TYPE]->(c)" +
+        ", (c)-[:TYPE]->(b)" +
+        ", (d)-[:TYPE]->(a)" +
+        ", (d)-[:TYPE]->(b)" +
+        ", (e)-[:TYPE]->(b)" +
+        ", (e)-[:TYPE]->(d)" +
+        ", (e)-[:TYPE]->(f)" +
+        ", (f)-[:TYPE]->(b)" +
+        ", (f)-[:TYPE]->(e)";
+
+    @Inject
+    private TestGraph graph;
+
+    @Test
+    void shouldApproximatePersonalizedPageRank() {
+        var source = graph.toMappedNodeId("e");
+
+        var pageRank = PageRankAlgorithmType.NON_WEIGHTED.create(
+            graph,
+            LongStream.of(source),
+            ImmutablePageRankStreamConfig.builder().maxIterations(100).tolerance(1E-10).build(),
+            null,
+            ProgressLogger.NULL_LOGGER,
+            AllocationTracker.empty()
+        ).compute().result();
+
+        var forwardPush = new ForwardPushPageRank(
+            graph,
+            List.of(new long[]{source}),
+            0.85,
+            1E-8,
+            (int) graph.nodeCount(),
+            1,
+            Pools.DEFAULT
+        ).compute();
+
+        var topK = forwardPush.topK(0);
+        assertThat(topK.size()).isEqualTo(6);
+        topK.forEach((nodeId, score) -> assertThat(score).isCloseTo(pageRank.score(nodeId), within(1E-5)));
+        assertThat(topK.contains(graph.toMappedNodeId("g"))).isFalse();
+    }
+
+    @Test
+    void shouldOnlyTouchNodesReachableFromSeeds() {
+        var forwardPush = new ForwardPushPageRank(
+            graph,
+            List.of(new long[]{graph.toMappedNodeId("a")}, new long[]{graph.toMappedNodeId("b")}),
+            0.85,
+            1E-4,
+            10,
+            1,
+            Pools.DEFAULT
+        ).compute();
+
+        assertThat(forwardPush.topK(0).elements()).containsExactly(graph.toMappedNodeId("a"));
+        assertThat(forwardPush.topK(1).elements()).containsExactlyInAnyOrder(
+            graph.toMappedNodeId("b"),
+            graph.toMappedNodeId("c")
+        );
+    }
+
+    @Test
+    void shouldReturnTopKOrderedByScore() {
+        var forwardPush = new ForwardPushPageRank(
+            graph,
+            List.of(new long[]{graph.toMappedNodeId("e"), graph.toMappedNodeId("f")}),
+            0.85,
+            1E-6,
+            2,
+            1,
+            Pools.DEFAULT
+        ).compute();
+
+        var scores = forwardPush.topK(0).priorities().toArray();
+        assertThat(scores).hasSize(2);
+        assertThat(scores[0]).isGreaterThanOrEqualTo(scores[1]);
+        assertThat(forwardPush.topK(0).elementAt(0)).isEqualTo(graph.toMappedNodeId("b"));
+    }
+
+    @Test
+    void shouldProduceSameResultsConcurrently() {
+        var seedSets = LongStream.range(0, graph.nodeCount())
+            .mapToObj(nodeId -> new long[]{nodeId})
+            .collect(Collectors.toList());
+
+        var nodeCount = (int) graph.nodeCount();
+        var sequential = new ForwardPushPageRank(graph, seedSets, 0.85, 1E-6, nodeCount, 1, Pools.DEFAULT).compute();
+        var concurrent = new ForwardPushPageRank(graph, seedSets, 0.85, 1E-6, nodeCount, 4, Pools.DEFAULT).compute();
+
+        for (int i = 0; i < seedSets.size(); i++) {
+            var expected = new HashMap<Long, Double>();
+            sequential.topK(i).forEach(expected::put);
+            var actual = new HashMap<Long, Double>();
+            concurrent.topK(i).forEach(actual::put);
+            assertThat(actual).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void shouldBoundMemoryEstimationByEpsilon() {
+        var config = ImmutableForwardPushPageRankConfig.builder().epsilon(1E-2).build();
+        GraphDimensions small = ImmutableGraphDimensions.builder().nodeCount(100).build();
+        GraphDimensions large = ImmutableGraphDimensions.builder().nodeCount(1_000_000_000L).build();
+
+        var smallEstimate = ForwardPushPageRank.memoryEstimation(config).estimate(small, 4).memoryUsage();
+        var largeEstimate = ForwardPushPageRank.memoryEstimation(config).estimate(large, 4).memoryUsage();
+
+        assertThat(largeEstimate.max).isGreaterThan(smallEstimate.max);
+        // at most 1 / (0.15 * 0.01) ~ 667 touched nodes per thread
+        assertThat(largeEstimate.max).isLessThan(1_000_000L);
+    }
+}
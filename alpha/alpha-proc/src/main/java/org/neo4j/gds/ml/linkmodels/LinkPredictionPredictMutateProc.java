@@ -19,6 +19,8 @@
  */
 package org.neo4j.gds.ml.linkmodels;
 
+import org.neo4j.gds.ml.features.FeatureExtraction;
+import org.neo4j.gds.ml.features.FeatureMatrix;
 import org.neo4j.gds.ml.linkmodels.logisticregression.LinkLogisticRegressionData;
 import org.neo4j.gds.ml.linkmodels.logisticregression.LinkLogisticRegressionPredictor;
 import org.neo4j.graphalgo.AbstractAlgorithmFactory;
@@ -115,8 +117,17 @@ public class LinkPredictionPredictMutateProc extends MutateProc<LinkPredictionPr
                     LinkPredictionTrainConfig.class
                 );
 
+                var featureMatrix = configuration.cacheFeatures()
+                    ? FeatureMatrix.of(
+                        graph,
+                        FeatureExtraction.propertyExtractors(graph, model.data().featureProperties()),
+                        configuration.concurrency(),
+                        tracker
+                    )
+                    : null;
+
                 return new LinkPredictionPredict(
-                    new LinkLogisticRegressionPredictor(model.data()),
+                    new LinkLogisticRegressionPredictor(model.data(), featureMatrix),
                     graph,
                     configuration.batchSize(),
                     configuration.concurrency(),
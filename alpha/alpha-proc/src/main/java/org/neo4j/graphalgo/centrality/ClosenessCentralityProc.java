@@ -27,11 +27,16 @@ import org.neo4j.graphalgo.config.GraphCreateConfig;
 import org.neo4j.graphalgo.core.CypherMapWrapper;
 import org.neo4j.graphalgo.core.concurrency.Pools;
 import org.neo4j.graphalgo.core.utils.ProgressTimer;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.progress.ProgressEventTracker;
 import org.neo4j.graphalgo.core.write.NodePropertyExporter;
+import org.neo4j.graphalgo.exceptions.MemoryEstimationNotImplementedException;
 import org.neo4j.graphalgo.impl.closeness.ClosenessCentralityConfig;
 import org.neo4j.graphalgo.impl.closeness.MSClosenessCentrality;
 import org.neo4j.graphalgo.result.AbstractCentralityResultBuilder;
 import org.neo4j.graphalgo.results.CentralityScore;
+import org.neo4j.logging.Log;
 import org.neo4j.procedure.Description;
 import org.neo4j.procedure.Name;
 import org.neo4j.procedure.Procedure;
@@ -40,6 +45,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
+import static org.neo4j.graphalgo.config.GraphCreateConfigValidations.validateIsUndirectedGraph;
 import static org.neo4j.procedure.Mode.READ;
 import static org.neo4j.procedure.Mode.WRITE;
 
@@ -123,14 +129,40 @@ public class ClosenessCentralityProc extends AlgoBaseProc<MSClosenessCentrality,
         return ClosenessCentralityConfig.of(graphName, maybeImplicitCreate.map(AsUndirected::rewrite), username, config);
     }
 
+    @Override
+    protected void validateConfigs(GraphCreateConfig graphCreateConfig, ClosenessCentralityConfig config) {
+        if (config.hyperLogLogPrecision().isPresent()) {
+            validateIsUndirectedGraph(graphCreateConfig, config);
+        }
+    }
+
     @Override
     protected AlgorithmFactory<MSClosenessCentrality, ClosenessCentralityConfig> algorithmFactory() {
-        return (AlphaAlgorithmFactory<MSClosenessCentrality, ClosenessCentralityConfig>) (graph, configuration, tracker, log, eventTracker) ->
-            new MSClosenessCentrality(
-                graph,
-                tracker,
-                configuration.concurrency(),
-                Pools.DEFAULT, configuration.improved()
-            );
+        return new AlphaAlgorithmFactory<>() {
+            @Override
+            public MSClosenessCentrality buildAlphaAlgo(
+                Graph graph,
+                ClosenessCentralityConfig configuration,
+                AllocationTracker tracker,
+                Log log,
+                ProgressEventTracker eventTracker
+            ) {
+                return new MSClosenessCentrality(
+                    graph,
+                    tracker,
+                    configuration.concurrency(),
+                    Pools.DEFAULT,
+                    configuration.improved(),
+                    configuration.hyperLogLogPrecision()
+                );
+            }
+
+            @Override
+            public MemoryEstimation memoryEstimation(ClosenessCentralityConfig configuration) {
+                return configuration.hyperLogLogPrecision()
+                    .map(MSClosenessCentrality::memoryEstimation)
+                    .orElseThrow(MemoryEstimationNotImplementedException::new);
+            }
+        };
     }
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.centrality;
+
+import org.neo4j.graphalgo.AlgoBaseProc;
+import org.neo4j.graphalgo.AlgorithmFactory;
+import org.neo4j.graphalgo.AlphaAlgorithmFactory;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.config.GraphCreateConfig;
+import org.neo4j.graphalgo.core.CypherMapWrapper;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.progress.ProgressEventTracker;
+import org.neo4j.graphalgo.pagerank.ForwardPushPageRank;
+import org.neo4j.graphalgo.pagerank.ForwardPushPageRankConfig;
+import org.neo4j.logging.Log;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.neo4j.procedure.Mode.READ;
+
+public class ForwardPushPageRankProc extends AlgoBaseProc<ForwardPushPageRank, ForwardPushPageRank, ForwardPushPageRankConfig> {
+
+    private static final String DESCRIPTION =
+        "Approximates personalized Page Rank for each source node by locally pushing " +
+        "residual mass, returning the top scored nodes per source node.";
+
+    @Procedure(name = "gds.alpha.pageRank.personalized.stream", mode = READ)
+    @Description(DESCRIPTION)
+    public Stream<StreamResult> stream(
+        @Name(value = "graphName") Object graphNameOrConfig,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        var computationResult = compute(graphNameOrConfig, configuration);
+
+        var algorithm = computationResult.algorithm();
+        var graph = computationResult.graph();
+
+        if (graph.isEmpty()) {
+            graph.release();
+            return Stream.empty();
+        }
+
+        return algorithm.resultStream().map(result -> new StreamResult(
+            graph.toOriginalNodeId(algorithm.seedSet(result.seedSetIndex)[0]),
+            graph.toOriginalNodeId(result.nodeId),
+            result.score
+        ));
+    }
+
+    @Override
+    protected ForwardPushPageRankConfig newConfig(
+        String username,
+        Optional<String> graphName,
+        Optional<GraphCreateConfig> maybeImplicitCreate,
+        CypherMapWrapper config
+    ) {
+        return ForwardPushPageRankConfig.of(graphName, maybeImplicitCreate, username, config);
+    }
+
+    @Override
+    protected AlgorithmFactory<ForwardPushPageRank, ForwardPushPageRankConfig> algorithmFactory() {
+        return new AlphaAlgorithmFactory<>() {
+            @Override
+            public ForwardPushPageRank buildAlphaAlgo(
+                Graph graph,
+                ForwardPushPageRankConfig configuration,
+                AllocationTracker tracker,
+                Log log,
+                ProgressEventTracker eventTracker
+            ) {
+                // every source node is personalized on its own
+                var seedSets = configuration.sourceNodeIds()
+                    .map(graph::toMappedNodeId)
+                    .filter(mappedId -> mappedId != -1L)
+                    .mapToObj(mappedId -> new long[]{mappedId})
+                    .collect(Collectors.toList());
+
+                return new ForwardPushPageRank(
+                    graph,
+                    seedSets,
+                    configuration.dampingFactor(),
+                    configuration.epsilon(),
+                    configuration.topK(),
+                    configuration.concurrency(),
+                    Pools.DEFAULT
+                );
+            }
+
+            @Override
+            public MemoryEstimation memoryEstimation(ForwardPushPageRankConfig configuration) {
+                return ForwardPushPageRank.memoryEstimation(configuration);
+            }
+        };
+    }
+
+    @SuppressWarnings("unused")
+    public static final class StreamResult {
+        public final long sourceNodeId;
+        public final long nodeId;
+        public final double score;
+
+        StreamResult(long sourceNodeId, long nodeId, double score) {
+            this.sourceNodeId = sourceNodeId;
+            this.nodeId = nodeId;
+            this.score = score;
+        }
+    }
+}
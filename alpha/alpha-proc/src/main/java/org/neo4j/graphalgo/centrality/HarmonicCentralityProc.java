@@ -22,16 +22,22 @@ package org.neo4j.graphalgo.centrality;
 import org.neo4j.graphalgo.AlgoBaseProc;
 import org.neo4j.graphalgo.AlgorithmFactory;
 import org.neo4j.graphalgo.AlphaAlgorithmFactory;
+import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.api.nodeproperties.DoubleNodeProperties;
 import org.neo4j.graphalgo.config.GraphCreateConfig;
 import org.neo4j.graphalgo.core.CypherMapWrapper;
 import org.neo4j.graphalgo.core.concurrency.Pools;
 import org.neo4j.graphalgo.core.utils.ProgressTimer;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.progress.ProgressEventTracker;
 import org.neo4j.graphalgo.core.write.NodePropertyExporter;
+import org.neo4j.graphalgo.exceptions.MemoryEstimationNotImplementedException;
 import org.neo4j.graphalgo.impl.closeness.HarmonicCentralityConfig;
 import org.neo4j.graphalgo.impl.harmonic.HarmonicCentrality;
 import org.neo4j.graphalgo.result.AbstractCentralityResultBuilder;
 import org.neo4j.graphalgo.results.CentralityScore;
+import org.neo4j.logging.Log;
 import org.neo4j.procedure.Description;
 import org.neo4j.procedure.Name;
 import org.neo4j.procedure.Procedure;
@@ -41,6 +47,7 @@ import java.util.Optional;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
+import static org.neo4j.graphalgo.config.GraphCreateConfigValidations.validateIsUndirectedGraph;
 import static org.neo4j.procedure.Mode.READ;
 import static org.neo4j.procedure.Mode.WRITE;
 
@@ -123,15 +130,40 @@ public class HarmonicCentralityProc extends AlgoBaseProc<HarmonicCentrality, Har
         return HarmonicCentralityConfig.of(graphName, maybeImplicitCreate.map(AsUndirected::rewrite), username, config);
     }
 
+    @Override
+    protected void validateConfigs(GraphCreateConfig graphCreateConfig, HarmonicCentralityConfig config) {
+        if (config.hyperLogLogPrecision().isPresent()) {
+            validateIsUndirectedGraph(graphCreateConfig, config);
+        }
+    }
+
     @Override
     protected AlgorithmFactory<HarmonicCentrality, HarmonicCentralityConfig> algorithmFactory() {
-        return (AlphaAlgorithmFactory<HarmonicCentrality, HarmonicCentralityConfig>) (graph, configuration, tracker, log, eventTracker) ->
-            new HarmonicCentrality(
-                graph,
-                tracker,
-                configuration.concurrency(),
-                Pools.DEFAULT
-            );
+        return new AlphaAlgorithmFactory<>() {
+            @Override
+            public HarmonicCentrality buildAlphaAlgo(
+                Graph graph,
+                HarmonicCentralityConfig configuration,
+                AllocationTracker tracker,
+                Log log,
+                ProgressEventTracker eventTracker
+            ) {
+                return new HarmonicCentrality(
+                    graph,
+                    tracker,
+                    configuration.concurrency(),
+                    Pools.DEFAULT,
+                    configuration.hyperLogLogPrecision()
+                );
+            }
+
+            @Override
+            public MemoryEstimation memoryEstimation(HarmonicCentralityConfig configuration) {
+                return configuration.hyperLogLogPrecision()
+                    .map(HarmonicCentrality::memoryEstimation)
+                    .orElseThrow(MemoryEstimationNotImplementedException::new);
+            }
+        };
     }
 
     @SuppressWarnings("unused")
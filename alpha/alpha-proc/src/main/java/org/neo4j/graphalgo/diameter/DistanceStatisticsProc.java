@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.diameter;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.graphalgo.AlgoBaseProc;
+import org.neo4j.graphalgo.AlgorithmFactory;
+import org.neo4j.graphalgo.AlphaAlgorithmFactory;
+import org.neo4j.graphalgo.centrality.AsUndirected;
+import org.neo4j.graphalgo.config.GraphCreateConfig;
+import org.neo4j.graphalgo.core.CypherMapWrapper;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.impl.diameter.DistanceStatistics;
+import org.neo4j.graphalgo.impl.diameter.DistanceStatisticsConfig;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.neo4j.graphalgo.config.GraphCreateConfigValidations.validateIsUndirectedGraph;
+import static org.neo4j.procedure.Mode.READ;
+
+public class DistanceStatisticsProc extends AlgoBaseProc<DistanceStatistics, DistanceStatistics, DistanceStatisticsConfig> {
+
+    private static final String DESCRIPTION =
+        "Estimates the hop plot, effective diameter and average distance and computes the exact diameter of a graph.";
+
+    @Procedure(name = "gds.alpha.diameter.stats", mode = READ)
+    @Description(DESCRIPTION)
+    public Stream<StatsResult> stats(
+        @Name(value = "graphName") Object graphNameOrConfig,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        var computationResult = compute(graphNameOrConfig, configuration);
+        var config = computationResult.config();
+        var graph = computationResult.graph();
+
+        if (graph.isEmpty()) {
+            graph.release();
+            return Stream.of(new StatsResult(
+                config.exactDiameter() ? 0L : null,
+                0,
+                0,
+                0,
+                List.of(),
+                computationResult.createMillis(),
+                0,
+                config.toMap()
+            ));
+        }
+
+        var algorithm = computationResult.result();
+        return Stream.of(new StatsResult(
+            algorithm.diameter().isPresent() ? algorithm.diameter().getAsLong() : null,
+            algorithm.diameterLowerBound(),
+            algorithm.effectiveDiameter(),
+            algorithm.averageDistance(),
+            Arrays.stream(algorithm.hopPlot()).boxed().collect(Collectors.toList()),
+            computationResult.createMillis(),
+            computationResult.computeMillis(),
+            config.toMap()
+        ));
+    }
+
+    @Override
+    protected void validateConfigs(GraphCreateConfig graphCreateConfig, DistanceStatisticsConfig config) {
+        // the double sweep and iFUB bounds only hold for undirected graphs
+        validateIsUndirectedGraph(graphCreateConfig, config);
+    }
+
+    @Override
+    protected DistanceStatisticsConfig newConfig(
+        String username,
+        Optional<String> graphName,
+        Optional<GraphCreateConfig> maybeImplicitCreate,
+        CypherMapWrapper config
+    ) {
+        return DistanceStatisticsConfig.of(graphName, maybeImplicitCreate.map(AsUndirected.INSTANCE::apply), username, config);
+    }
+
+    @Override
+    protected AlgorithmFactory<DistanceStatistics, DistanceStatisticsConfig> algorithmFactory() {
+        return (AlphaAlgorithmFactory<DistanceStatistics, DistanceStatisticsConfig>) (graph, configuration, tracker, log, eventTracker) ->
+            new DistanceStatistics(
+                graph,
+                configuration.precision(),
+                configuration.effectiveDiameterPercentile(),
+                configuration.exactDiameter(),
+                configuration.concurrency(),
+                Pools.DEFAULT,
+                tracker
+            );
+    }
+
+    @SuppressWarnings("unused")
+    public static final class StatsResult {
+        public final @Nullable Long diameter;
+        public final long diameterLowerBound;
+        public final double effectiveDiameter;
+        public final double averageDistance;
+        public final List<Double> hopPlot;
+        public final long createMillis;
+        public final long computeMillis;
+        public final Map<String, Object> configuration;
+
+        StatsResult(
+            @Nullable Long diameter,
+            long diameterLowerBound,
+            double effectiveDiameter,
+            double averageDistance,
+            List<Double> hopPlot,
+            long createMillis,
+            long computeMillis,
+            Map<String, Object> configuration
+        ) {
+            this.diameter = diameter;
+            this.diameterLowerBound = diameterLowerBound;
+            this.effectiveDiameter = effectiveDiameter;
+            this.averageDistance = averageDistance;
+            this.hopPlot = hopPlot;
+            this.createMillis = createMillis;
+            this.computeMillis = computeMillis;
+            this.configuration = configuration;
+        }
+    }
+}
@@ -27,6 +27,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.neo4j.graphalgo.BaseProcTest;
 import org.neo4j.graphalgo.GdsCypher;
+import org.neo4j.graphalgo.catalog.GraphCreateProc;
 import org.neo4j.graphalgo.graphbuilder.DefaultBuilder;
 import org.neo4j.graphalgo.graphbuilder.GraphBuilder;
 import org.neo4j.graphdb.Node;
@@ -84,7 +85,7 @@ class ClosenessCentralityProcTest extends BaseProcTest {
             .forEachNodeInTx(node -> center.createRelationshipTo(node, type))
             .close();
 
-        registerProcedures(ClosenessCentralityProc.class);
+        registerProcedures(ClosenessCentralityProc.class, GraphCreateProc.class);
     }
 
     @Test
@@ -128,6 +129,32 @@ class ClosenessCentralityProcTest extends BaseProcTest {
         verifyMock();
     }
 
+    @Test
+    void testApproximateClosenessStream() {
+        String query = gdsCypher()
+            .streamMode()
+            .addParameter("hyperLogLogPrecision", 16)
+            .yields("nodeId", "centrality");
+        runQueryWithRowConsumer(query, row -> {
+            consumer.accept(
+                row.getNumber("nodeId").longValue(),
+                row.getNumber("centrality").doubleValue()
+            );
+        });
+
+        verifyMock();
+    }
+
+    @Test
+    void failOnApproximationOnDirectedNamedGraph() {
+        runQuery("CALL gds.graph.create('natural', 'Node', 'TYPE')");
+
+        assertError(
+            "CALL gds.alpha.closeness.stream('natural', {hyperLogLogPrecision: 16})",
+            "Procedure requires relationship projections to be UNDIRECTED. Projection for `TYPE` uses orientation `NATURAL`"
+        );
+    }
+
     private GdsCypher.ModeBuildStage gdsCypher() {
         return GdsCypher.call()
             .withAnyLabel()
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.centrality;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.BaseProcTest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ForwardPushPageRankProcTest extends BaseProcTest {
+
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Label {name: 'a'})" +
+        ", (b:Label {name: 'b'})" +
+        ", (c:Label {name: 'c'})" +
+        ", (d:Label {name: 'd'})" +
+        ", (e:Label {name: 'e'})" +
+        ", (f:Label {name: 'f'})" +
+        ", (g:Label {name: 'g'})" +
+        ", (b)-[:TYPE]->(c)" +
+        ", (c)-[:TYPE]->(b)" +
+        ", (d)-[:TYPE]->(a)" +
+        ", (d)-[:TYPE]->(b)" +
+        ", (e)-[:TYPE]->(b)" +
+        ", (e)-[:TYPE]->(d)" +
+        ", (e)-[:TYPE]->(f)" +
+        ", (f)-[:TYPE]->(b)" +
+        ", (f)-[:TYPE]->(e)";
+
+    private static final String STREAM_QUERY =
+        "MATCH (source:Label) WHERE source.name IN $sources" +
+        " WITH collect(source) AS sources" +
+        " CALL gds.alpha.pageRank.personalized.stream({" +
+        "   nodeProjection: 'Label'," +
+        "   relationshipProjection: 'TYPE'," +
+        "   sourceNodes: sources," +
+        "   topK: $topK" +
+        " })" +
+        " YIELD sourceNodeId, nodeId, score" +
+        " MATCH (s) WHERE id(s) = sourceNodeId" +
+        " MATCH (t) WHERE id(t) = nodeId" +
+        " RETURN s.name AS source, t.name AS target, score";
+
+    @BeforeEach
+    void setupGraph() throws Exception {
+        runQuery(DB_CYPHER);
+        registerProcedures(ForwardPushPageRankProc.class);
+    }
+
+    @Test
+    void shouldStreamScoresPerSourceNode() {
+        var targets = new HashMap<String, Set<String>>();
+        runQueryWithRowConsumer(
+            STREAM_QUERY,
+            Map.of("sources", List.of("a", "b"), "topK", 10),
+            row -> {
+                assertThat(row.getNumber("score").doubleValue()).isPositive();
+                targets
+                    .computeIfAbsent(row.getString("source"), ignore -> new HashSet<>())
+                    .add(row.getString("target"));
+            }
+        );
+
+        // every source node is personalized on its own and only reaches its own component
+        assertThat(targets).containsOnlyKeys("a", "b");
+        assertThat(targets.get("a")).containsExactly("a");
+        assertThat(targets.get("b")).containsExactlyInAnyOrder("b", "c");
+    }
+
+    @Test
+    void shouldLimitResultsToTopK() {
+        var targets = new ArrayList<String>();
+        runQueryWithRowConsumer(
+            STREAM_QUERY,
+            Map.of("sources", List.of("e"), "topK", 2),
+            row -> targets.add(row.getString("target"))
+        );
+
+        // b and c form a cycle that keeps most of the mass pushed from e
+        assertThat(targets).containsExactlyInAnyOrder("b", "c");
+    }
+
+    @Test
+    void shouldReturnNothingWithoutSourceNodes() {
+        runQueryWithRowConsumer(
+            STREAM_QUERY,
+            Map.of("sources", List.of(), "topK", 10),
+            row -> {
+                throw new AssertionError("Expected no results, got " + row);
+            }
+        );
+    }
+
+    @Test
+    void shouldFailOnInvalidDampingFactor() {
+        assertError(
+            "CALL gds.alpha.pageRank.personalized.stream({" +
+            "  nodeProjection: '*', relationshipProjection: '*', dampingFactor: 1.0" +
+            "})",
+            "dampingFactor"
+        );
+    }
+}
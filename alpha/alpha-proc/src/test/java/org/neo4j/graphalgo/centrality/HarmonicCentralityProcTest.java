@@ -23,6 +23,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.neo4j.graphalgo.BaseProcTest;
 import org.neo4j.graphalgo.GdsCypher;
+import org.neo4j.graphalgo.catalog.GraphCreateProc;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -45,7 +46,7 @@ class HarmonicCentralityProcTest extends BaseProcTest {
     @BeforeEach
     void setupGraph() throws Exception {
         runQuery(DB_CYPHER);
-        registerProcedures(HarmonicCentralityProc.class);
+        registerProcedures(HarmonicCentralityProc.class, GraphCreateProc.class);
     }
 
     @Test
@@ -101,6 +102,37 @@ class HarmonicCentralityProcTest extends BaseProcTest {
         validateResult(resultMap);
     }
 
+    @Test
+    void testApproximateStream() {
+        var query = GdsCypher.call()
+            .withAnyLabel()
+            .withAnyRelationshipType()
+            .algo("gds.alpha.closeness.harmonic")
+            .streamMode()
+            .addParameter("hyperLogLogPrecision", 16)
+            .yields("nodeId", "centrality");
+
+        var resultMap = new HashMap<Long, Double>();
+        runQueryWithRowConsumer(query, row -> {
+            resultMap.put(
+                row.getNumber("nodeId").longValue(),
+                row.getNumber("centrality").doubleValue()
+            );
+        });
+
+        validateResult(resultMap);
+    }
+
+    @Test
+    void failOnApproximationOnDirectedNamedGraph() {
+        runQuery("CALL gds.graph.create('natural', 'Node', 'TYPE')");
+
+        assertError(
+            "CALL gds.alpha.closeness.harmonic.stream('natural', {hyperLogLogPrecision: 16})",
+            "Procedure requires relationship projections to be UNDIRECTED. Projection for `TYPE` uses orientation `NATURAL`"
+        );
+    }
+
     private void validateResult(Map<Long, Double> resultMap) {
         assertEquals(0.375, resultMap.get(0L), 0.1);
         assertEquals(0.5, resultMap.get(1L), 0.1);
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.diameter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.BaseProcTest;
+import org.neo4j.graphalgo.GdsCypher;
+import org.neo4j.graphalgo.catalog.GraphCreateProc;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class DistanceStatisticsProcTest extends BaseProcTest {
+
+    private static final String DB_CYPHER =
+        "CREATE (a:Node {name:'a'})" +
+        ",      (b:Node {name:'b'})" +
+        ",      (c:Node {name:'c'})" +
+        ",      (d:Node {name:'d'})" +
+        ",      (e:Node {name:'e'})" +
+        ",      (a)-[:TYPE]->(b)" +
+        ",      (b)-[:TYPE]->(c)" +
+        ",      (d)-[:TYPE]->(e)";
+
+    @BeforeEach
+    void setupGraph() throws Exception {
+        runQuery(DB_CYPHER);
+        registerProcedures(DistanceStatisticsProc.class, GraphCreateProc.class);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testStats() {
+        var query = GdsCypher.call()
+            .withAnyLabel()
+            .withAnyRelationshipType()
+            .algo("gds.alpha.diameter")
+            .statsMode()
+            .yields("diameter", "diameterLowerBound", "averageDistance", "hopPlot");
+
+        runQueryWithRowConsumer(query, row -> {
+            assertEquals(2L, row.getNumber("diameter").longValue());
+            assertEquals(2L, row.getNumber("diameterLowerBound").longValue());
+            assertEquals(1.25, row.getNumber("averageDistance").doubleValue(), 0.1);
+
+            var hopPlot = (List<Double>) row.get("hopPlot");
+            assertEquals(3, hopPlot.size());
+            assertEquals(0, hopPlot.get(0), 0.1);
+            assertEquals(6, hopPlot.get(1), 0.5);
+            assertEquals(8, hopPlot.get(2), 0.5);
+        });
+    }
+
+    @Test
+    void testStatsWithoutExactDiameter() {
+        var query = GdsCypher.call()
+            .withAnyLabel()
+            .withAnyRelationshipType()
+            .algo("gds.alpha.diameter")
+            .statsMode()
+            .addParameter("exactDiameter", false)
+            .yields("diameter", "diameterLowerBound");
+
+        runQueryWithRowConsumer(query, row -> {
+            assertNull(row.get("diameter"));
+            assertEquals(2L, row.getNumber("diameterLowerBound").longValue());
+        });
+    }
+
+    @Test
+    void testStatsOnUndirectedNamedGraph() {
+        runQuery("CALL gds.graph.create('undirected', 'Node', {TYPE: {orientation: 'UNDIRECTED'}})");
+
+        runQueryWithRowConsumer(
+            "CALL gds.alpha.diameter.stats('undirected') YIELD diameter",
+            row -> assertEquals(2L, row.getNumber("diameter").longValue())
+        );
+    }
+
+    @Test
+    void failOnDirectedNamedGraph() {
+        runQuery("CALL gds.graph.create('natural', 'Node', 'TYPE')");
+
+        assertError(
+            "CALL gds.alpha.diameter.stats('natural')",
+            "Procedure requires relationship projections to be UNDIRECTED. Projection for `TYPE` uses orientation `NATURAL`"
+        );
+    }
+}
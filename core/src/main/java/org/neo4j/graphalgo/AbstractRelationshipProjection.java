@@ -24,6 +24,7 @@ import org.jetbrains.annotations.Nullable;
 import org.neo4j.graphalgo.annotation.DataClass;
 import org.neo4j.graphalgo.core.Aggregation;
 import org.neo4j.graphalgo.core.ConfigKeyValidation;
+import org.neo4j.graphalgo.core.compress.AdjacencyCodec;
 
 import java.util.List;
 import java.util.Map;
@@ -50,6 +51,12 @@ public abstract class AbstractRelationshipProjection extends ElementProjection {
         return Aggregation.DEFAULT;
     }
 
+    @Value.Default
+    @Value.Parameter(false)
+    public AdjacencyCodec compression() {
+        return AdjacencyCodec.DEFAULT;
+    }
+
     @Value.Default
     @Value.Parameter(false)
     @Override
@@ -65,6 +72,7 @@ public abstract class AbstractRelationshipProjection extends ElementProjection {
     public static final String TYPE_KEY = "type";
     public static final String ORIENTATION_KEY = "orientation";
     public static final String AGGREGATION_KEY = "aggregation";
+    public static final String COMPRESSION_KEY = "compression";
 
     public static RelationshipProjection fromMap(Map<String, Object> map, RelationshipType relationshipType) {
         RelationshipProjection.Builder builder = RelationshipProjection.builder();
@@ -76,6 +84,9 @@ public abstract class AbstractRelationshipProjection extends ElementProjection {
         if (map.containsKey(ORIENTATION_KEY)) {
             builder.orientation(Orientation.of(nonEmptyString(map, ORIENTATION_KEY)));
         }
+        if (map.containsKey(COMPRESSION_KEY)) {
+            builder.compression(AdjacencyCodec.of(nonEmptyString(map, COMPRESSION_KEY)));
+        }
         if (map.containsKey(AGGREGATION_KEY)) {
             Aggregation aggregation = Aggregation.lookup(nonEmptyString(map, AGGREGATION_KEY));
             builder.aggregation(aggregation);
@@ -131,6 +142,9 @@ public abstract class AbstractRelationshipProjection extends ElementProjection {
         value.put(TYPE_KEY, type());
         value.put(ORIENTATION_KEY, orientation().name());
         value.put(AGGREGATION_KEY, aggregation().name());
+        if (compression() != AdjacencyCodec.DEFAULT) {
+            value.put(COMPRESSION_KEY, compression().name());
+        }
     }
 
     @Override
@@ -167,7 +181,7 @@ public abstract class AbstractRelationshipProjection extends ElementProjection {
     }
 
     private static void validateConfigKeys(Map<String, Object> map) {
-        ConfigKeyValidation.requireOnlyKeysFrom(List.of(TYPE_KEY, ORIENTATION_KEY, AGGREGATION_KEY, PROPERTIES_KEY), map.keySet());
+        ConfigKeyValidation.requireOnlyKeysFrom(List.of(TYPE_KEY, ORIENTATION_KEY, AGGREGATION_KEY, COMPRESSION_KEY, PROPERTIES_KEY), map.keySet());
     }
 
     @org.immutables.builder.Builder.AccessibleFields
@@ -93,6 +93,32 @@ public final class GraphStoreFilter {
         );
     }
 
+    /**
+     * Creates a view over the given graph store which only exposes the nodes and relationships
+     * that match the filters in the given config. Nodes are filtered eagerly into an id map,
+     * relationship filters are evaluated lazily whenever the view is traversed.
+     *
+     * Views can be materialised by calling {@link #filter} on them.
+     */
+    @NotNull
+    public static GraphStore view(
+        GraphStore graphStore,
+        GraphCreateFromGraphConfig config,
+        ExecutorService executorService,
+        AllocationTracker tracker
+    ) throws ParseException, SemanticErrors {
+        var expressions = parseAndValidate(graphStore, config.nodeFilter(), config.relationshipFilter());
+
+        return GraphStoreView.create(
+            graphStore,
+            expressions.nodeExpression(),
+            expressions.relationshipExpression(),
+            config.concurrency(),
+            executorService,
+            tracker
+        );
+    }
+
     @ValueClass
     interface Expressions {
         Expression nodeExpression();
@@ -0,0 +1,930 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.filter;
+
+import com.carrotsearch.hppc.BitSet;
+import org.apache.commons.lang3.mutable.MutableInt;
+import org.apache.commons.lang3.mutable.MutableLong;
+import org.neo4j.graphalgo.NodeLabel;
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.api.CSRGraph;
+import org.neo4j.graphalgo.api.CSRGraphAdapter;
+import org.neo4j.graphalgo.api.CompositeRelationshipIterator;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.GraphStore;
+import org.neo4j.graphalgo.api.NodeMapping;
+import org.neo4j.graphalgo.api.NodeProperties;
+import org.neo4j.graphalgo.api.Relationships;
+import org.neo4j.graphalgo.api.UnionNodeProperties;
+import org.neo4j.graphalgo.api.nodeproperties.ValueType;
+import org.neo4j.graphalgo.api.schema.GraphSchema;
+import org.neo4j.graphalgo.api.schema.NodeSchema;
+import org.neo4j.graphalgo.api.schema.PropertySchema;
+import org.neo4j.graphalgo.beta.filter.expression.Expression;
+import org.neo4j.graphalgo.beta.filter.expression.ExpressionCompiler;
+import org.neo4j.graphalgo.beta.filter.expression.ExpressionCompiler.RelationshipPredicate;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.huge.NodeFilteredGraph;
+import org.neo4j.graphalgo.core.huge.UnionGraph;
+import org.neo4j.graphalgo.core.loading.DeletionResult;
+import org.neo4j.graphalgo.core.loading.IdMap;
+import org.neo4j.graphalgo.core.loading.IdMapBuilder;
+import org.neo4j.graphalgo.core.utils.TimeUtil;
+import org.neo4j.graphalgo.core.utils.collection.primitive.PrimitiveLongIterable;
+import org.neo4j.graphalgo.core.utils.collection.primitive.PrimitiveLongIterator;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.graphalgo.core.utils.paged.HugeIntArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
+import org.neo4j.graphalgo.utils.StringJoining;
+import org.neo4j.kernel.database.NamedDatabaseId;
+import org.neo4j.values.storable.NumberType;
+import org.neo4j.values.storable.Value;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongPredicate;
+import java.util.stream.Collectors;
+
+import static org.neo4j.graphalgo.api.AdjacencyCursor.NOT_FOUND;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * A filtered graph store that does not copy the topology of its parent graph store.
+ *
+ * The node filter is evaluated once and stored in an id map from view ids to internal ids
+ * of the parent, similar to a {@link NodeFilteredGraph}. The relationship filter is compiled
+ * per relationship type and evaluated lazily whenever relationships of the view are traversed.
+ * Relationships of types that do not match any relationship are hidden.
+ *
+ * Node properties that are added to the view are stored in the view, the parent is never modified.
+ * Relationship types can neither be added nor removed. A view can be materialised into
+ * a regular graph store using {@link GraphStoreFilter#filter}.
+ *
+ * A view relies on the topology of its parent. The graph catalog therefore releases a dropped
+ * parent only once no view of it is left in the catalog.
+ */
+public final class GraphStoreView implements GraphStore {
+
+    private final GraphStore parent;
+    private final IdMap viewNodes;
+    private final NodeMapping nodes;
+    private final Expression relationshipExpression;
+    private final Set<String> relationshipExpressionKeys;
+    private final Map<RelationshipType, Long> relationshipCounts;
+    private final Map<RelationshipType, HugeIntArray> filteredDegrees;
+    private final Map<NodeLabel, Map<String, NodeProperties>> addedNodeProperties;
+    private final int concurrency;
+
+    private ZonedDateTime modificationTime;
+
+    static GraphStoreView create(
+        GraphStore parent,
+        Expression nodeExpression,
+        Expression relationshipExpression,
+        int concurrency,
+        ExecutorService executorService,
+        AllocationTracker tracker
+    ) {
+        var viewNodes = filterNodes(parent, nodeExpression, concurrency, executorService, tracker);
+        var view = new GraphStoreView(parent, viewNodes, relationshipExpression, concurrency);
+        view.countRelationships(executorService, tracker);
+        return view;
+    }
+
+    private GraphStoreView(
+        GraphStore parent,
+        IdMap viewNodes,
+        Expression relationshipExpression,
+        int concurrency
+    ) {
+        this.parent = parent;
+        this.viewNodes = viewNodes;
+        this.nodes = new ViewNodeMapping(parent.nodes(), viewNodes);
+        this.relationshipExpression = relationshipExpression;
+        this.relationshipExpressionKeys = ExpressionCompiler.propertyKeys(relationshipExpression);
+        this.relationshipCounts = new LinkedHashMap<>();
+        this.filteredDegrees = new HashMap<>();
+        this.addedNodeProperties = new HashMap<>();
+        this.concurrency = concurrency;
+        this.modificationTime = TimeUtil.now();
+    }
+
+    private static IdMap filterNodes(
+        GraphStore parent,
+        Expression nodeExpression,
+        int concurrency,
+        ExecutorService executorService,
+        AllocationTracker tracker
+    ) {
+        var parentNodeCount = parent.nodeCount();
+        var acceptedNodes = HugeAtomicBitSet.create(parentNodeCount, tracker);
+
+        var filterTasks = PartitionUtils.rangePartition(
+            concurrency,
+            parentNodeCount,
+            partition -> (Runnable) () -> {
+                var nodePredicate = ExpressionCompiler.compileNodePredicate(nodeExpression, parent);
+                partition.consume(node -> {
+                    if (nodePredicate.test(node)) {
+                        acceptedNodes.set(node);
+                    }
+                });
+            }
+        );
+        ParallelUtil.runWithConcurrency(concurrency, filterTasks, executorService);
+
+        // view ids are assigned in the order of parent ids
+        var accepted = acceptedNodes.toBitSet();
+        var parentIds = HugeLongArray.newArray(accepted.cardinality(), tracker);
+        long viewId = 0;
+        for (long node = accepted.nextSetBit(0); node >= 0; node = accepted.nextSetBit(node + 1)) {
+            parentIds.set(viewId++, node);
+        }
+
+        return IdMapBuilder.build(
+            parentIds,
+            labelInformation(parent, parentIds, concurrency, executorService, tracker),
+            parentNodeCount - 1,
+            concurrency,
+            tracker
+        );
+    }
+
+    private static Map<NodeLabel, BitSet> labelInformation(
+        GraphStore parent,
+        HugeLongArray parentIds,
+        int concurrency,
+        ExecutorService executorService,
+        AllocationTracker tracker
+    ) {
+        if (parent.schema().nodeSchema().containsOnlyAllNodesLabel()) {
+            return Map.of();
+        }
+
+        var viewNodeCount = parentIds.size();
+        Map<NodeLabel, HugeAtomicBitSet> labelBitSets = new HashMap<>();
+        parent.nodeLabels().forEach(label -> labelBitSets.put(label, HugeAtomicBitSet.create(viewNodeCount, tracker)));
+
+        var labelTasks = PartitionUtils.rangePartition(
+            concurrency,
+            viewNodeCount,
+            partition -> (Runnable) () -> partition.consume(viewNode -> parent
+                .nodes()
+                .forEachNodeLabel(parentIds.get(viewNode), label -> {
+                    labelBitSets.get(label).set(viewNode);
+                    return true;
+                }))
+        );
+        ParallelUtil.runWithConcurrency(concurrency, labelTasks, executorService);
+
+        return labelBitSets
+            .entrySet()
+            .stream()
+            .filter(entry -> !entry.getValue().isEmpty())
+            .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().toBitSet()));
+    }
+
+    private void countRelationships(ExecutorService executorService, AllocationTracker tracker) {
+        for (RelationshipType relationshipType : parent.relationshipTypes()) {
+            var iteratorKeys = predicateKeys(relationshipType);
+            var predicate = compilePredicate(relationshipType, iteratorKeys);
+            var relationshipIterator = parent.getCompositeRelationshipIterator(relationshipType, iteratorKeys);
+            var relationshipCount = new LongAdder();
+
+            // degrees of filtered relationship types are indexed by parent ids and count
+            // all matching relationships, the same as RelationshipFilteredGraph#forEachRelationship
+            var degrees = predicate == RelationshipPredicate.ACCEPT_ALL
+                ? null
+                : HugeIntArray.newArray(parent.nodeCount(), tracker);
+
+            var countTasks = PartitionUtils.rangePartition(
+                concurrency,
+                viewNodes.nodeCount(),
+                partition -> (Runnable) () -> {
+                    var iterator = relationshipIterator.concurrentCopy();
+                    var degree = new MutableInt();
+                    var count = new MutableLong();
+                    partition.consume(node -> {
+                        var parentNode = viewNodes.toOriginalNodeId(node);
+                        degree.setValue(0);
+                        iterator.forEachRelationship(parentNode, (source, target, properties) -> {
+                            if (predicate.test(properties)) {
+                                degree.increment();
+                                if (viewNodes.contains(target)) {
+                                    count.increment();
+                                }
+                            }
+                            return true;
+                        });
+                        if (degrees != null) {
+                            degrees.set(parentNode, degree.intValue());
+                        }
+                    });
+                    relationshipCount.add(count.longValue());
+                }
+            );
+            ParallelUtil.runWithConcurrency(concurrency, countTasks, executorService);
+
+            // Drop relationship types that have been completely filtered out.
+            if (relationshipCount.sum() > 0) {
+                relationshipCounts.put(relationshipType, relationshipCount.sum());
+                if (degrees != null) {
+                    filteredDegrees.put(relationshipType, degrees);
+                }
+            }
+        }
+    }
+
+    public GraphStore parent() {
+        return parent;
+    }
+
+    @Override
+    public NamedDatabaseId databaseId() {
+        return parent.databaseId();
+    }
+
+    @Override
+    public GraphSchema schema() {
+        var nodeSchema = parent.schema().nodeSchema().filter(nodeLabels()).union(addedNodePropertiesSchema(nodeLabels()));
+        var relationshipSchema = parent.schema().relationshipSchema().filter(relationshipTypes());
+        return GraphSchema.of(nodeSchema, relationshipSchema);
+    }
+
+    @Override
+    public ZonedDateTime modificationTime() {
+        return modificationTime;
+    }
+
+    @Override
+    public long nodeCount() {
+        return viewNodes.nodeCount();
+    }
+
+    @Override
+    public NodeMapping nodes() {
+        return nodes;
+    }
+
+    @Override
+    public Set<NodeLabel> nodeLabels() {
+        return viewNodes.availableNodeLabels();
+    }
+
+    @Override
+    public Set<String> nodePropertyKeys(NodeLabel label) {
+        var propertyKeys = new HashSet<>(parent.nodePropertyKeys(label));
+        propertyKeys.addAll(addedNodeProperties.getOrDefault(label, Map.of()).keySet());
+        return propertyKeys;
+    }
+
+    @Override
+    public Map<NodeLabel, Set<String>> nodePropertyKeys() {
+        return nodeLabels().stream().collect(Collectors.toMap(label -> label, this::nodePropertyKeys));
+    }
+
+    @Override
+    public boolean hasNodeProperty(NodeLabel label, String propertyKey) {
+        return addedNodeProperties.getOrDefault(label, Map.of()).containsKey(propertyKey)
+               || parent.hasNodeProperty(label, propertyKey);
+    }
+
+    @Override
+    public boolean hasNodeProperty(Collection<NodeLabel> labels, String propertyKey) {
+        return labels.stream().allMatch(label -> hasNodeProperty(label, propertyKey));
+    }
+
+    @Override
+    public ValueType nodePropertyType(NodeLabel label, String propertyKey) {
+        return nodePropertyValues(label, propertyKey).valueType();
+    }
+
+    @Override
+    public PropertyState nodePropertyState(String propertyKey) {
+        return addedNodeProperties.values().stream().anyMatch(properties -> properties.containsKey(propertyKey))
+            ? PropertyState.TRANSIENT
+            : parent.nodePropertyState(propertyKey);
+    }
+
+    @Override
+    public NodeProperties nodePropertyValues(String propertyKey) {
+        var addedProperties = addedNodeProperties(nodeLabels()).get(propertyKey);
+        if (addedProperties != null) {
+            return addedProperties;
+        }
+        return new ViewNodeProperties(parent.nodePropertyValues(propertyKey), viewNodes);
+    }
+
+    @Override
+    public NodeProperties nodePropertyValues(NodeLabel label, String propertyKey) {
+        var addedProperties = addedNodeProperties.getOrDefault(label, Map.of()).get(propertyKey);
+        if (addedProperties != null) {
+            return addedProperties;
+        }
+        return new ViewNodeProperties(parent.nodePropertyValues(label, propertyKey), viewNodes);
+    }
+
+    @Override
+    public void addNodeProperty(NodeLabel nodeLabel, String propertyKey, NodeProperties propertyValues) {
+        if (!nodeLabels().contains(nodeLabel)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Adding '%s.%s' to the graph store failed. Node label '%s' does not exist in the store. Available node labels: %s",
+                nodeLabel.name,
+                propertyKey,
+                nodeLabel.name,
+                StringJoining.join(nodeLabels().stream().map(NodeLabel::name))
+            ));
+        }
+        if (parent.hasNodeProperty(nodeLabel, propertyKey)) {
+            throw new UnsupportedOperationException(formatWithLocale(
+                "Adding '%s.%s' failed. The property belongs to the parent graph and cannot be overwritten in a view.",
+                nodeLabel.name,
+                propertyKey
+            ));
+        }
+        addedNodeProperties.computeIfAbsent(nodeLabel, ignore -> new HashMap<>()).putIfAbsent(propertyKey, propertyValues);
+        modificationTime = TimeUtil.now();
+    }
+
+    @Override
+    public void removeNodeProperty(NodeLabel nodeLabel, String propertyKey) {
+        if (parent.hasNodeProperty(nodeLabel, propertyKey)) {
+            throw new UnsupportedOperationException(formatWithLocale(
+                "Removing '%s.%s' failed. The property belongs to the parent graph and cannot be removed from a view.",
+                nodeLabel.name,
+                propertyKey
+            ));
+        }
+        var properties = addedNodeProperties.get(nodeLabel);
+        if (properties != null && properties.remove(propertyKey) != null) {
+            if (properties.isEmpty()) {
+                addedNodeProperties.remove(nodeLabel);
+            }
+            modificationTime = TimeUtil.now();
+        }
+    }
+
+    @Override
+    public long relationshipCount() {
+        return relationshipCounts.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    @Override
+    public long relationshipCount(RelationshipType relationshipType) {
+        return relationshipCounts.getOrDefault(relationshipType, 0L);
+    }
+
+    @Override
+    public Set<RelationshipType> relationshipTypes() {
+        return relationshipCounts.keySet();
+    }
+
+    @Override
+    public boolean hasRelationshipType(RelationshipType relationshipType) {
+        return relationshipCounts.containsKey(relationshipType);
+    }
+
+    @Override
+    public boolean hasRelationshipProperty(Collection<RelationshipType> relTypes, String propertyKey) {
+        return relTypes.stream().allMatch(this::hasRelationshipType)
+               && parent.hasRelationshipProperty(relTypes, propertyKey);
+    }
+
+    @Override
+    public ValueType relationshipPropertyType(String propertyKey) {
+        return parent.relationshipPropertyType(propertyKey);
+    }
+
+    @Override
+    public Set<String> relationshipPropertyKeys() {
+        return relationshipTypes()
+            .stream()
+            .flatMap(relationshipType -> parent.relationshipPropertyKeys(relationshipType).stream())
+            .collect(Collectors.toSet());
+    }
+
+    @Override
+    public Set<String> relationshipPropertyKeys(RelationshipType relationshipType) {
+        return new HashSet<>(parent.relationshipPropertyKeys(relationshipType));
+    }
+
+    @Override
+    public void addRelationshipType(
+        RelationshipType relationshipType,
+        Optional<String> relationshipPropertyKey,
+        Optional<NumberType> relationshipPropertyType,
+        Relationships relationships
+    ) {
+        throw new UnsupportedOperationException(formatWithLocale(
+            "Adding relationship type '%s' failed. Relationships cannot be added to a view, the view needs to be materialised first.",
+            relationshipType.name
+        ));
+    }
+
+    @Override
+    public DeletionResult deleteRelationships(RelationshipType relationshipType) {
+        throw new UnsupportedOperationException(formatWithLocale(
+            "Deleting relationship type '%s' failed. Relationships cannot be deleted from a view, the view needs to be materialised first.",
+            relationshipType.name
+        ));
+    }
+
+    @Override
+    public CSRGraph getGraph(
+        Collection<NodeLabel> nodeLabels,
+        Collection<RelationshipType> relationshipTypes,
+        Optional<String> maybeRelationshipProperty
+    ) {
+        var unknownTypes = relationshipTypes
+            .stream()
+            .filter(relationshipType -> !hasRelationshipType(relationshipType))
+            .map(relationshipType -> relationshipType.name)
+            .collect(Collectors.toList());
+        if (!unknownTypes.isEmpty()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "No relationships have been loaded for relationship type(s) %s",
+                unknownTypes
+            ));
+        }
+
+        var graphs = relationshipCounts
+            .keySet()
+            .stream()
+            .filter(relationshipTypes::contains)
+            .map(relationshipType -> createGraph(relationshipType, maybeRelationshipProperty))
+            .collect(Collectors.toList());
+
+        CSRGraph graph = new ViewGraph(
+            UnionGraph.of(graphs),
+            addedNodeProperties(nodeLabels),
+            addedNodePropertiesSchema(nodeLabels)
+        );
+
+        return nodeLabels.containsAll(nodeLabels()) || schema().nodeSchema().containsOnlyAllNodesLabel()
+            ? graph
+            : new NodeFilteredGraph(graph, viewNodes.withFilteredLabels(nodeLabels, concurrency));
+    }
+
+    @Override
+    public CSRGraph getUnion() {
+        var graphs = relationshipTypes()
+            .stream()
+            .flatMap(relationshipType -> {
+                var propertyKeys = parent.relationshipPropertyKeys(relationshipType);
+                return propertyKeys.isEmpty()
+                    ? List.of(getGraph(nodeLabels(), List.of(relationshipType), Optional.empty())).stream()
+                    : propertyKeys
+                        .stream()
+                        .map(propertyKey -> getGraph(nodeLabels(), List.of(relationshipType), Optional.of(propertyKey)));
+            })
+            .collect(Collectors.toList());
+        return UnionGraph.of(graphs);
+    }
+
+    @Override
+    public CompositeRelationshipIterator getCompositeRelationshipIterator(
+        RelationshipType relationshipType,
+        List<String> propertyKeys
+    ) {
+        // the requested properties come first, followed by the ones only needed for filtering
+        var iteratorKeys = new ArrayList<>(propertyKeys);
+        predicateKeys(relationshipType).stream().filter(key -> !iteratorKeys.contains(key)).forEach(iteratorKeys::add);
+
+        return new ViewCompositeRelationshipIterator(
+            parent.getCompositeRelationshipIterator(relationshipType, iteratorKeys),
+            viewNodes,
+            compilePredicate(relationshipType, iteratorKeys),
+            propertyKeys.toArray(new String[0])
+        );
+    }
+
+    @Override
+    public void canRelease(boolean canRelease) {
+        // the view does not own any graphs
+    }
+
+    @Override
+    public void release() {
+        // the parent topology is released together with the parent graph store
+    }
+
+    private CSRGraph createGraph(RelationshipType relationshipType, Optional<String> maybeRelationshipProperty) {
+        var graph = (CSRGraph) parent.getGraph(parent.nodeLabels(), List.of(relationshipType), maybeRelationshipProperty);
+
+        var iteratorKeys = predicateKeys(relationshipType);
+        maybeRelationshipProperty
+            .filter(propertyKey -> !iteratorKeys.contains(propertyKey))
+            .ifPresent(iteratorKeys::add);
+
+        var predicate = compilePredicate(relationshipType, iteratorKeys);
+        if (predicate != RelationshipPredicate.ACCEPT_ALL) {
+            graph = new RelationshipFilteredGraph(
+                graph,
+                parent.getCompositeRelationshipIterator(relationshipType, iteratorKeys),
+                predicate,
+                maybeRelationshipProperty.map(iteratorKeys::indexOf).orElse(RelationshipFilteredGraph.NO_PROPERTY),
+                filteredDegrees.get(relationshipType),
+                relationshipCounts.get(relationshipType)
+            );
+        }
+
+        return new NodeFilteredGraph(graph, viewNodes);
+    }
+
+    private List<String> predicateKeys(RelationshipType relationshipType) {
+        var typeKeys = parent.relationshipPropertyKeys(relationshipType);
+        return relationshipExpressionKeys.stream().filter(typeKeys::contains).sorted().collect(Collectors.toList());
+    }
+
+    private RelationshipPredicate compilePredicate(RelationshipType relationshipType, List<String> iteratorKeys) {
+        Map<String, Integer> propertyIndices = new HashMap<>();
+        for (int i = 0; i < iteratorKeys.size(); i++) {
+            propertyIndices.put(iteratorKeys.get(i), i);
+        }
+        return ExpressionCompiler.compileRelationshipPredicate(relationshipExpression, relationshipType, propertyIndices);
+    }
+
+    private Map<String, NodeProperties> addedNodeProperties(Collection<NodeLabel> labels) {
+        Map<String, Map<NodeLabel, NodeProperties>> propertiesByKey = new HashMap<>();
+        addedNodeProperties.forEach((label, properties) -> {
+            if (labels.contains(label) || labels.contains(NodeLabel.ALL_NODES)) {
+                properties.forEach((propertyKey, values) -> propertiesByKey
+                    .computeIfAbsent(propertyKey, ignore -> new HashMap<>())
+                    .put(label, values));
+            }
+        });
+
+        return propertiesByKey.entrySet().stream().collect(Collectors.toMap(
+            Map.Entry::getKey,
+            entry -> entry.getValue().size() == 1
+                ? entry.getValue().values().iterator().next()
+                : new UnionNodeProperties(viewNodes, entry.getValue())
+        ));
+    }
+
+    private NodeSchema addedNodePropertiesSchema(Collection<NodeLabel> labels) {
+        var builder = NodeSchema.builder();
+        addedNodeProperties.forEach((label, properties) -> {
+            if (labels.contains(label)) {
+                properties.forEach((propertyKey, values) -> builder.addProperty(
+                    label,
+                    propertyKey,
+                    PropertySchema.of(
+                        propertyKey,
+                        values.valueType(),
+                        values.valueType().fallbackValue(),
+                        PropertyState.TRANSIENT
+                    )
+                ));
+            }
+        });
+        return builder.build();
+    }
+
+    /**
+     * The graph of a view, which additionally exposes the node properties that have been added to the view.
+     * This is intentionally not a {@link NodeFilteredGraph}, its node ids are the ids of the view.
+     *
+     * Relationship filters are evaluated lazily, so the topology returned by {@link #relationshipTopologies()}
+     * is the unfiltered topology of the parent. Consumers must traverse the graph through its iterators.
+     */
+    public final class ViewGraph extends CSRGraphAdapter {
+
+        private final Map<String, NodeProperties> addedProperties;
+        private final NodeSchema addedPropertiesSchema;
+
+        ViewGraph(CSRGraph graph, Map<String, NodeProperties> addedProperties, NodeSchema addedPropertiesSchema) {
+            super(graph);
+            this.addedProperties = addedProperties;
+            this.addedPropertiesSchema = addedPropertiesSchema;
+        }
+
+        @Override
+        public GraphSchema schema() {
+            return GraphSchema.of(
+                graph.schema().nodeSchema().union(addedPropertiesSchema),
+                graph.schema().relationshipSchema()
+            );
+        }
+
+        @Override
+        public long relationshipCount() {
+            return graph
+                .schema()
+                .relationshipSchema()
+                .availableTypes()
+                .stream()
+                .mapToLong(GraphStoreView.this::relationshipCount)
+                .sum();
+        }
+
+        @Override
+        public NodeProperties nodeProperties(String propertyKey) {
+            var properties = addedProperties.get(propertyKey);
+            return properties != null ? properties : graph.nodeProperties(propertyKey);
+        }
+
+        @Override
+        public Set<String> availableNodeProperties() {
+            var propertyKeys = new HashSet<>(graph.availableNodeProperties());
+            propertyKeys.addAll(addedProperties.keySet());
+            return propertyKeys;
+        }
+
+        @Override
+        public Graph relationshipTypeFilteredGraph(Set<RelationshipType> relationshipTypes) {
+            var availableTypes = graph.schema().relationshipSchema().availableTypes();
+            if (relationshipTypes.isEmpty() || relationshipTypes.containsAll(availableTypes)) {
+                return this;
+            }
+            if (!(graph instanceof UnionGraph)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "One or more relationship types of %s are not supported. This graph has relationships of type %s.",
+                    relationshipTypes,
+                    availableTypes
+                ));
+            }
+            return new ViewGraph(
+                (CSRGraph) graph.relationshipTypeFilteredGraph(relationshipTypes),
+                addedProperties,
+                addedPropertiesSchema
+            );
+        }
+
+        @Override
+        public CSRGraph concurrentCopy() {
+            return new ViewGraph(graph.concurrentCopy(), addedProperties, addedPropertiesSchema);
+        }
+    }
+
+    /**
+     * Exposes the nodes of the view with the original ids of the parent graph store.
+     */
+    private static final class ViewNodeMapping implements NodeMapping {
+
+        private final NodeMapping parentNodes;
+        private final IdMap viewNodes;
+
+        ViewNodeMapping(NodeMapping parentNodes, IdMap viewNodes) {
+            this.parentNodes = parentNodes;
+            this.viewNodes = viewNodes;
+        }
+
+        @Override
+        public long toMappedNodeId(long nodeId) {
+            var parentNode = parentNodes.toMappedNodeId(nodeId);
+            return parentNode == NOT_FOUND || !viewNodes.contains(parentNode)
+                ? NOT_FOUND
+                : viewNodes.toMappedNodeId(parentNode);
+        }
+
+        @Override
+        public long toOriginalNodeId(long nodeId) {
+            return parentNodes.toOriginalNodeId(viewNodes.toOriginalNodeId(nodeId));
+        }
+
+        @Override
+        public long toRootNodeId(long nodeId) {
+            return viewNodes.toRootNodeId(nodeId);
+        }
+
+        @Override
+        public boolean contains(long nodeId) {
+            return toMappedNodeId(nodeId) != NOT_FOUND;
+        }
+
+        @Override
+        public long nodeCount() {
+            return viewNodes.nodeCount();
+        }
+
+        @Override
+        public long rootNodeCount() {
+            return viewNodes.rootNodeCount();
+        }
+
+        @Override
+        public long highestNeoId() {
+            return parentNodes.highestNeoId();
+        }
+
+        @Override
+        public void forEachNode(LongPredicate consumer) {
+            viewNodes.forEachNode(consumer);
+        }
+
+        @Override
+        public PrimitiveLongIterator nodeIterator() {
+            return viewNodes.nodeIterator();
+        }
+
+        @Override
+        public Collection<PrimitiveLongIterable> batchIterables(long batchSize) {
+            return viewNodes.batchIterables(batchSize);
+        }
+
+        @Override
+        public Set<NodeLabel> nodeLabels(long nodeId) {
+            return viewNodes.nodeLabels(nodeId);
+        }
+
+        @Override
+        public void forEachNodeLabel(long nodeId, NodeLabelConsumer consumer) {
+            viewNodes.forEachNodeLabel(nodeId, consumer);
+        }
+
+        @Override
+        public Set<NodeLabel> availableNodeLabels() {
+            return viewNodes.availableNodeLabels();
+        }
+
+        @Override
+        public boolean hasLabel(long nodeId, NodeLabel label) {
+            return viewNodes.hasLabel(nodeId, label);
+        }
+    }
+
+    /**
+     * Translates view ids to internal ids of the parent graph store.
+     */
+    private static final class ViewNodeProperties implements NodeProperties {
+
+        private final NodeProperties properties;
+        private final IdMap viewNodes;
+
+        ViewNodeProperties(NodeProperties properties, IdMap viewNodes) {
+            this.properties = properties;
+            this.viewNodes = viewNodes;
+        }
+
+        @Override
+        public double doubleValue(long nodeId) {
+            return properties.doubleValue(viewNodes.toOriginalNodeId(nodeId));
+        }
+
+        @Override
+        public long longValue(long nodeId) {
+            return properties.longValue(viewNodes.toOriginalNodeId(nodeId));
+        }
+
+        @Override
+        public double[] doubleArrayValue(long nodeId) {
+            return properties.doubleArrayValue(viewNodes.toOriginalNodeId(nodeId));
+        }
+
+        @Override
+        public float[] floatArrayValue(long nodeId) {
+            return properties.floatArrayValue(viewNodes.toOriginalNodeId(nodeId));
+        }
+
+        @Override
+        public long[] longArrayValue(long nodeId) {
+            return properties.longArrayValue(viewNodes.toOriginalNodeId(nodeId));
+        }
+
+        @Override
+        public Object getObject(long nodeId) {
+            return properties.getObject(viewNodes.toOriginalNodeId(nodeId));
+        }
+
+        @Override
+        public Value value(long nodeId) {
+            return properties.value(viewNodes.toOriginalNodeId(nodeId));
+        }
+
+        @Override
+        public ValueType valueType() {
+            return properties.valueType();
+        }
+
+        @Override
+        public long size() {
+            return viewNodes.nodeCount();
+        }
+
+        @Override
+        public OptionalLong getMaxLongPropertyValue() {
+            if (valueType() == ValueType.LONG) {
+                var max = Long.MIN_VALUE;
+                for (long node = 0; node < viewNodes.nodeCount(); node++) {
+                    max = Math.max(max, longValue(node));
+                }
+                return max == Long.MIN_VALUE ? OptionalLong.empty() : OptionalLong.of(max);
+            }
+            return properties.getMaxLongPropertyValue();
+        }
+
+        @Override
+        public OptionalDouble getMaxDoublePropertyValue() {
+            if (valueType() == ValueType.DOUBLE) {
+                var max = Double.NEGATIVE_INFINITY;
+                for (long node = 0; node < viewNodes.nodeCount(); node++) {
+                    max = Math.max(max, doubleValue(node));
+                }
+                return max == Double.NEGATIVE_INFINITY ? OptionalDouble.empty() : OptionalDouble.of(max);
+            }
+            return properties.getMaxDoublePropertyValue();
+        }
+    }
+
+    /**
+     * Iterates the relationships of the view: relationships to nodes outside of the view and
+     * relationships that do not match the predicate are skipped and node ids are translated to view ids.
+     */
+    private static final class ViewCompositeRelationshipIterator implements CompositeRelationshipIterator {
+
+        private final CompositeRelationshipIterator parentIterator;
+        private final IdMap viewNodes;
+        private final RelationshipPredicate predicate;
+        private final String[] propertyKeys;
+        private final double[] properties;
+
+        ViewCompositeRelationshipIterator(
+            CompositeRelationshipIterator parentIterator,
+            IdMap viewNodes,
+            RelationshipPredicate predicate,
+            String[] propertyKeys
+        ) {
+            this.parentIterator = parentIterator;
+            this.viewNodes = viewNodes;
+            this.predicate = predicate;
+            this.propertyKeys = propertyKeys;
+            this.properties = new double[propertyKeys.length];
+        }
+
+        @Override
+        public int degree(long nodeId) {
+            var degree = new MutableInt();
+            forEachRelationship(nodeId, (source, target, properties) -> {
+                degree.increment();
+                return true;
+            });
+            return degree.intValue();
+        }
+
+        @Override
+        public void forEachRelationship(long nodeId, RelationshipConsumer consumer) {
+            var hasFilterProperties = parentIterator.propertyKeys().length > propertyKeys.length;
+
+            parentIterator.forEachRelationship(viewNodes.toOriginalNodeId(nodeId), (source, target, parentProperties) -> {
+                if (!viewNodes.contains(target) || !predicate.test(parentProperties)) {
+                    return true;
+                }
+                if (hasFilterProperties) {
+                    System.arraycopy(parentProperties, 0, properties, 0, properties.length);
+                }
+                return consumer.consume(
+                    nodeId,
+                    viewNodes.toMappedNodeId(target),
+                    hasFilterProperties ? properties : parentProperties
+                );
+            });
+        }
+
+        @Override
+        public String[] propertyKeys() {
+            return propertyKeys;
+        }
+
+        @Override
+        public CompositeRelationshipIterator concurrentCopy() {
+            return new ViewCompositeRelationshipIterator(
+                parentIterator.concurrentCopy(),
+                viewNodes,
+                predicate,
+                propertyKeys
+            );
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.filter;
+
+import org.apache.commons.lang3.mutable.MutableDouble;
+import org.apache.commons.lang3.mutable.MutableInt;
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.api.CSRGraph;
+import org.neo4j.graphalgo.api.CSRGraphAdapter;
+import org.neo4j.graphalgo.api.CompositeRelationshipIterator;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.ImmutableRelationshipCursor;
+import org.neo4j.graphalgo.api.RelationshipConsumer;
+import org.neo4j.graphalgo.api.RelationshipCursor;
+import org.neo4j.graphalgo.api.RelationshipWithPropertyConsumer;
+import org.neo4j.graphalgo.beta.filter.expression.ExpressionCompiler.RelationshipPredicate;
+import org.neo4j.graphalgo.core.utils.paged.HugeIntArray;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.neo4j.graphalgo.api.AdjacencyCursor.NOT_FOUND;
+
+/**
+ * A single relationship type graph that hides all relationships which do not match the given predicate.
+ * The predicate is evaluated lazily on every traversal, the underlying topology is not copied.
+ *
+ * Node ids are the same as in the wrapped graph, node filtering is left to a {@link org.neo4j.graphalgo.core.huge.NodeFilteredGraph}.
+ *
+ * As for other graphs, traversals need a {@link #concurrentCopy()} per thread. Degrees are computed once upfront and
+ * the remaining single relationship lookups iterate a copy of the relationship iterator, both are safe to call concurrently.
+ */
+final class RelationshipFilteredGraph extends CSRGraphAdapter {
+
+    static final int NO_PROPERTY = -1;
+
+    private final CompositeRelationshipIterator relationshipIterator;
+    private final RelationshipPredicate predicate;
+    private final int propertyIndex;
+    private final HugeIntArray degrees;
+    private final long relationshipCount;
+
+    /**
+     * @param relationshipIterator iterates the relationships of the wrapped graph with all properties needed by the predicate
+     * @param propertyIndex        index of the graph property within the iterator properties or {@link #NO_PROPERTY}
+     * @param degrees              number of relationships per node that match the predicate
+     * @param relationshipCount    number of relationships that match the predicate
+     */
+    RelationshipFilteredGraph(
+        CSRGraph graph,
+        CompositeRelationshipIterator relationshipIterator,
+        RelationshipPredicate predicate,
+        int propertyIndex,
+        HugeIntArray degrees,
+        long relationshipCount
+    ) {
+        super(graph);
+        this.relationshipIterator = relationshipIterator;
+        this.predicate = predicate;
+        this.propertyIndex = propertyIndex;
+        this.degrees = degrees;
+        this.relationshipCount = relationshipCount;
+    }
+
+    @Override
+    public long relationshipCount() {
+        return relationshipCount;
+    }
+
+    @Override
+    public void forEachRelationship(long nodeId, RelationshipConsumer consumer) {
+        forEachRelationship(relationshipIterator, nodeId, consumer);
+    }
+
+    @Override
+    public void forEachRelationship(long nodeId, double fallbackValue, RelationshipWithPropertyConsumer consumer) {
+        forEachRelationship(relationshipIterator, nodeId, fallbackValue, consumer);
+    }
+
+    private void forEachRelationship(
+        CompositeRelationshipIterator iterator,
+        long nodeId,
+        RelationshipConsumer consumer
+    ) {
+        iterator.forEachRelationship(
+            nodeId,
+            (source, target, properties) -> !predicate.test(properties) || consumer.accept(source, target)
+        );
+    }
+
+    private void forEachRelationship(
+        CompositeRelationshipIterator iterator,
+        long nodeId,
+        double fallbackValue,
+        RelationshipWithPropertyConsumer consumer
+    ) {
+        iterator.forEachRelationship(
+            nodeId,
+            (source, target, properties) -> !predicate.test(properties) || consumer.accept(
+                source,
+                target,
+                propertyIndex == NO_PROPERTY ? fallbackValue : properties[propertyIndex]
+            )
+        );
+    }
+
+    @Override
+    public Stream<RelationshipCursor> streamRelationships(long nodeId, double fallbackValue) {
+        List<RelationshipCursor> relationships = new ArrayList<>();
+        forEachRelationship(nodeId, fallbackValue, (source, target, property) -> {
+            relationships.add(ImmutableRelationshipCursor.of(source, target, property));
+            return true;
+        });
+        return relationships.stream();
+    }
+
+    @Override
+    public int degree(long nodeId) {
+        return degrees.get(nodeId);
+    }
+
+    @Override
+    public int degreeWithoutParallelRelationships(long nodeId) {
+        var targets = new long[degree(nodeId)];
+        var count = new MutableInt();
+        forEachRelationship(relationshipIterator.concurrentCopy(), nodeId, (source, target) -> {
+            targets[count.getAndIncrement()] = target;
+            return true;
+        });
+        Arrays.sort(targets, 0, count.intValue());
+
+        int distinct = 0;
+        for (int i = 0; i < count.intValue(); i++) {
+            if (i == 0 || targets[i] != targets[i - 1]) {
+                distinct++;
+            }
+        }
+        return distinct;
+    }
+
+    @Override
+    public long getTarget(long sourceNodeId, long index) {
+        var remaining = new long[]{index};
+        var result = new long[]{NOT_FOUND};
+        forEachRelationship(relationshipIterator.concurrentCopy(), sourceNodeId, (source, target) -> {
+            if (remaining[0]-- == 0) {
+                result[0] = target;
+                return false;
+            }
+            return true;
+        });
+        return result[0];
+    }
+
+    @Override
+    public boolean exists(long sourceNodeId, long targetNodeId) {
+        var found = new boolean[]{false};
+        forEachRelationship(relationshipIterator.concurrentCopy(), sourceNodeId, (source, target) -> {
+            if (target == targetNodeId) {
+                found[0] = true;
+                return false;
+            }
+            return true;
+        });
+        return found[0];
+    }
+
+    @Override
+    public double relationshipProperty(long sourceNodeId, long targetNodeId, double fallbackValue) {
+        var result = new MutableDouble(fallbackValue);
+        forEachRelationship(relationshipIterator.concurrentCopy(), sourceNodeId, fallbackValue, (source, target, property) -> {
+            if (target == targetNodeId) {
+                result.setValue(property);
+                return false;
+            }
+            return true;
+        });
+        return result.doubleValue();
+    }
+
+    @Override
+    public double relationshipProperty(long sourceNodeId, long targetNodeId) {
+        return relationshipProperty(sourceNodeId, targetNodeId, Double.NaN);
+    }
+
+    @Override
+    public Graph relationshipTypeFilteredGraph(Set<RelationshipType> relationshipTypes) {
+        // validates the requested types, the wrapped graph has a single relationship type
+        graph.relationshipTypeFilteredGraph(relationshipTypes);
+        return this;
+    }
+
+    @Override
+    public CSRGraph concurrentCopy() {
+        return new RelationshipFilteredGraph(
+            graph.concurrentCopy(),
+            relationshipIterator.concurrentCopy(),
+            predicate,
+            propertyIndex,
+            degrees,
+            relationshipCount
+        );
+    }
+}
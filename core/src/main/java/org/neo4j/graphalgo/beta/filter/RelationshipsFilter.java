@@ -28,8 +28,8 @@ import org.neo4j.graphalgo.api.NodeMapping;
 import org.neo4j.graphalgo.api.RelationshipProperty;
 import org.neo4j.graphalgo.api.RelationshipPropertyStore;
 import org.neo4j.graphalgo.api.Relationships;
-import org.neo4j.graphalgo.beta.filter.expression.EvaluationContext;
 import org.neo4j.graphalgo.beta.filter.expression.Expression;
+import org.neo4j.graphalgo.beta.filter.expression.ExpressionCompiler;
 import org.neo4j.graphalgo.core.Aggregation;
 import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
 import org.neo4j.graphalgo.core.loading.construction.GraphFactory;
@@ -207,14 +207,12 @@ final class RelationshipsFilter {
 
     private static final class RelationshipFilterTask implements Runnable {
         private final Partition partition;
-        private final Expression expression;
-        private final EvaluationContext.RelationshipEvaluationContext evaluationContext;
+        private final ExpressionCompiler.RelationshipPredicate relationshipPredicate;
         private final ProgressLogger progressLogger;
         private final CompositeRelationshipIterator relationshipIterator;
         private final NodeMapping inputNodes;
         private final NodeMapping outputNodes;
         private final RelationshipsBuilder relationshipsBuilder;
-        private final RelationshipType relType;
 
         private RelationshipFilterTask(
             Partition partition,
@@ -228,13 +226,11 @@ final class RelationshipsFilter {
             ProgressLogger progressLogger
         ) {
             this.partition = partition;
-            this.expression = expression;
+            this.relationshipPredicate = ExpressionCompiler.compileRelationshipPredicate(expression, relType, propertyIndices);
             this.relationshipIterator = relationshipIterator;
             this.inputNodes = inputNodes;
             this.outputNodes = outputNodes;
             this.relationshipsBuilder = relationshipsBuilder;
-            this.relType = relType;
-            this.evaluationContext = new EvaluationContext.RelationshipEvaluationContext(propertyIndices);
             this.progressLogger = progressLogger;
         }
 
@@ -249,9 +245,7 @@ final class RelationshipsFilter {
                     var mappedTarget = outputNodes.toMappedNodeId(neoTarget);
 
                     if (mappedTarget != NOT_FOUND) {
-                        evaluationContext.init(relType.name, properties);
-
-                        if (expression.evaluate(evaluationContext) == Expression.TRUE) {
+                        if (relationshipPredicate.test(properties)) {
                             // TODO branching should happen somewhere else
                             if (properties.length == 0) {
                                 relationshipsBuilder.add(neoSource, neoTarget);
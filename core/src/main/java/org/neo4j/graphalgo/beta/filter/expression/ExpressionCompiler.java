@@ -0,0 +1,565 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.filter.expression;
+
+import org.neo4j.graphalgo.NodeLabel;
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.api.DefaultValue;
+import org.neo4j.graphalgo.api.GraphStore;
+import org.neo4j.graphalgo.api.NodeMapping;
+import org.neo4j.graphalgo.api.NodeProperties;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongPredicate;
+
+import static org.neo4j.graphalgo.beta.filter.expression.Expression.EPSILON;
+import static org.neo4j.graphalgo.beta.filter.expression.Expression.FALSE;
+import static org.neo4j.graphalgo.beta.filter.expression.Expression.TRUE;
+import static org.neo4j.graphalgo.beta.filter.expression.Expression.VARIABLE;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Compiles a validated {@link Expression} into a tree of specialised evaluators.
+ *
+ * In contrast to {@link Expression#evaluate(EvaluationContext)}, property accessors,
+ * labels and relationship types are resolved once during compilation, sub-expressions
+ * that do not depend on the filtered element are folded into constants and boolean
+ * operators short-circuit without encoding intermediate results as doubles.
+ * The compiled predicates keep the semantics of {@link Expression#evaluate(EvaluationContext)}.
+ *
+ * Compiled predicates may hold per-instance state and are not thread-safe,
+ * each task should compile its own predicate.
+ */
+public final class ExpressionCompiler {
+
+    private static final double[] NO_PROPERTIES = new double[0];
+    private static final long NO_NODE = -1L;
+
+    @FunctionalInterface
+    public interface RelationshipPredicate {
+        RelationshipPredicate ACCEPT_ALL = properties -> true;
+        RelationshipPredicate REJECT_ALL = properties -> false;
+
+        boolean test(double[] properties);
+    }
+
+    /**
+     * Compiles the given expression into a predicate on internal node ids of the given graph store.
+     */
+    public static LongPredicate compileNodePredicate(Expression expression, GraphStore graphStore) {
+        var compiled = compile(expression, new NodeResolver(graphStore));
+        if (compiled instanceof Constant) {
+            boolean result = compiled.test(NO_NODE, NO_PROPERTIES);
+            return nodeId -> result;
+        }
+        return nodeId -> compiled.test(nodeId, NO_PROPERTIES);
+    }
+
+    /**
+     * Compiles the given expression into a predicate on the properties of relationships of the given type.
+     *
+     * @param propertyIndices maps a relationship property key to its index in the properties array
+     */
+    public static RelationshipPredicate compileRelationshipPredicate(
+        Expression expression,
+        RelationshipType relationshipType,
+        Map<String, Integer> propertyIndices
+    ) {
+        var compiled = compile(expression, new RelationshipResolver(relationshipType, propertyIndices));
+        if (compiled instanceof Constant) {
+            return compiled.test(NO_NODE, NO_PROPERTIES)
+                ? RelationshipPredicate.ACCEPT_ALL
+                : RelationshipPredicate.REJECT_ALL;
+        }
+        return properties -> compiled.test(NO_NODE, properties);
+    }
+
+    /**
+     * Returns the keys of all properties that are accessed by the given expression.
+     */
+    public static Set<String> propertyKeys(Expression expression) {
+        var propertyKeys = new HashSet<String>();
+        collectPropertyKeys(expression, propertyKeys);
+        return propertyKeys;
+    }
+
+    private static void collectPropertyKeys(Expression expression, Set<String> propertyKeys) {
+        if (expression instanceof Expression.UnaryExpression.Property) {
+            propertyKeys.add(((Expression.UnaryExpression.Property) expression).propertyKey());
+        } else if (expression instanceof Expression.UnaryExpression.Not) {
+            collectPropertyKeys(((Expression.UnaryExpression.Not) expression).in(), propertyKeys);
+        } else if (expression instanceof Expression.BinaryExpression) {
+            collectPropertyKeys(((Expression.BinaryExpression) expression).lhs(), propertyKeys);
+            collectPropertyKeys(((Expression.BinaryExpression) expression).rhs(), propertyKeys);
+        }
+    }
+
+    private ExpressionCompiler() {}
+
+    private interface Resolver {
+        Compiled property(String propertyKey);
+
+        Compiled hasLabelsOrTypes(List<String> labelsOrTypes);
+    }
+
+    private static Compiled compile(Expression expression, Resolver resolver) {
+        if (expression instanceof Expression.Literal.TrueLiteral) {
+            return Constant.TRUE_CONSTANT;
+        }
+        if (expression instanceof Expression.Literal.FalseLiteral) {
+            return Constant.FALSE_CONSTANT;
+        }
+        if (expression instanceof Expression.Literal.LongLiteral) {
+            return new Constant((double) ((Expression.Literal.LongLiteral) expression).value());
+        }
+        if (expression instanceof Expression.Literal.DoubleLiteral) {
+            return new Constant(((Expression.Literal.DoubleLiteral) expression).value());
+        }
+        if (expression instanceof Expression.LeafExpression.Variable) {
+            return new Constant(VARIABLE);
+        }
+        if (expression instanceof Expression.UnaryExpression.Property) {
+            return resolver.property(((Expression.UnaryExpression.Property) expression).propertyKey());
+        }
+        if (expression instanceof Expression.UnaryExpression.HasLabelsOrTypes) {
+            return resolver.hasLabelsOrTypes(((Expression.UnaryExpression.HasLabelsOrTypes) expression).labelsOrTypes());
+        }
+        if (expression instanceof Expression.UnaryExpression.Not) {
+            return fold(new Not(compile(((Expression.UnaryExpression.Not) expression).in(), resolver)));
+        }
+        if (expression instanceof Expression.BinaryExpression) {
+            var binary = (Expression.BinaryExpression) expression;
+            var lhs = compile(binary.lhs(), resolver);
+            var rhs = compile(binary.rhs(), resolver);
+            return fold(binary(binary, lhs, rhs));
+        }
+        throw new IllegalArgumentException(formatWithLocale(
+            "Cannot compile expression of type %s",
+            expression.getClass().getSimpleName()
+        ));
+    }
+
+    private static Compiled binary(Expression.BinaryExpression expression, Compiled lhs, Compiled rhs) {
+        if (expression instanceof Expression.BinaryExpression.And) {
+            if (isConstantFalse(lhs) || isConstantFalse(rhs)) {
+                return Constant.FALSE_CONSTANT;
+            }
+            return new And(lhs, rhs);
+        }
+        if (expression instanceof Expression.BinaryExpression.Or) {
+            if (isConstantTrue(lhs) || isConstantTrue(rhs)) {
+                return Constant.TRUE_CONSTANT;
+            }
+            return new Or(lhs, rhs);
+        }
+        if (expression instanceof Expression.BinaryExpression.Xor) {
+            return new Xor(lhs, rhs);
+        }
+        if (expression instanceof Expression.BinaryExpression.Equal) {
+            return new Equal(lhs, rhs);
+        }
+        if (expression instanceof Expression.BinaryExpression.NotEqual) {
+            return new NotEqual(lhs, rhs);
+        }
+        if (expression instanceof Expression.BinaryExpression.GreaterThan) {
+            return new GreaterThan(lhs, rhs);
+        }
+        if (expression instanceof Expression.BinaryExpression.GreaterThanOrEquals) {
+            return new GreaterThanOrEquals(lhs, rhs);
+        }
+        if (expression instanceof Expression.BinaryExpression.LessThan) {
+            return new LessThan(lhs, rhs);
+        }
+        if (expression instanceof Expression.BinaryExpression.LessThanOrEquals) {
+            return new LessThanOrEquals(lhs, rhs);
+        }
+        throw new IllegalArgumentException(formatWithLocale(
+            "Cannot compile expression of type %s",
+            expression.getClass().getSimpleName()
+        ));
+    }
+
+    private static Compiled fold(Compiled compiled) {
+        if (compiled.isConstant() && !(compiled instanceof Constant)) {
+            return new Constant(compiled.value(NO_NODE, NO_PROPERTIES));
+        }
+        return compiled;
+    }
+
+    private static boolean isConstantTrue(Compiled compiled) {
+        return compiled instanceof Constant && compiled.test(NO_NODE, NO_PROPERTIES);
+    }
+
+    private static boolean isConstantFalse(Compiled compiled) {
+        return compiled instanceof Constant && !compiled.test(NO_NODE, NO_PROPERTIES);
+    }
+
+    private static final class NodeResolver implements Resolver {
+        private final GraphStore graphStore;
+
+        NodeResolver(GraphStore graphStore) {
+            this.graphStore = graphStore;
+        }
+
+        @Override
+        public Compiled property(String propertyKey) {
+            Map<NodeLabel, NodeProperties> propertiesByLabel = new HashMap<>();
+            for (NodeLabel label : graphStore.nodeLabels()) {
+                if (graphStore.hasNodeProperty(label, propertyKey)) {
+                    propertiesByLabel.put(label, graphStore.nodePropertyValues(label, propertyKey));
+                }
+            }
+
+            if (propertiesByLabel.isEmpty()) {
+                return new Constant(DefaultValue.DOUBLE_DEFAULT_FALLBACK);
+            }
+
+            Set<NodeProperties> distinctProperties = Collections.newSetFromMap(new IdentityHashMap<>());
+            distinctProperties.addAll(propertiesByLabel.values());
+
+            // All labels share the same property values, no need to resolve them per node.
+            if (propertiesByLabel.size() == graphStore.nodeLabels().size() && distinctProperties.size() == 1) {
+                return new NodeProperty(distinctProperties.iterator().next());
+            }
+
+            return new LabelResolvedNodeProperty(graphStore.nodes(), propertiesByLabel);
+        }
+
+        @Override
+        public Compiled hasLabelsOrTypes(List<String> labels) {
+            var nodeLabels = labels.stream().map(NodeLabel::of).toArray(NodeLabel[]::new);
+            return new HasLabels(graphStore.nodes(), nodeLabels);
+        }
+    }
+
+    private static final class RelationshipResolver implements Resolver {
+        private final RelationshipType relationshipType;
+        private final Map<String, Integer> propertyIndices;
+
+        RelationshipResolver(RelationshipType relationshipType, Map<String, Integer> propertyIndices) {
+            this.relationshipType = relationshipType;
+            this.propertyIndices = propertyIndices;
+        }
+
+        @Override
+        public Compiled property(String propertyKey) {
+            Integer index = propertyIndices.get(propertyKey);
+            if (index == null) {
+                // The property exists in the graph store, but not for this relationship type.
+                return new Constant(DefaultValue.DOUBLE_DEFAULT_FALLBACK);
+            }
+            return new RelationshipProperty(index);
+        }
+
+        @Override
+        public Compiled hasLabelsOrTypes(List<String> types) {
+            return types.contains(relationshipType.name) ? Constant.TRUE_CONSTANT : Constant.FALSE_CONSTANT;
+        }
+    }
+
+    /**
+     * A compiled (sub-)expression. Either {@code nodeId} or {@code properties}
+     * is used, depending on whether nodes or relationships are filtered.
+     */
+    abstract static class Compiled {
+
+        abstract double value(long nodeId, double[] properties);
+
+        boolean test(long nodeId, double[] properties) {
+            return value(nodeId, properties) == TRUE;
+        }
+
+        abstract boolean isConstant();
+    }
+
+    private static final class Constant extends Compiled {
+        static final Constant TRUE_CONSTANT = new Constant(TRUE);
+        static final Constant FALSE_CONSTANT = new Constant(FALSE);
+
+        private final double value;
+
+        Constant(double value) {
+            this.value = value;
+        }
+
+        @Override
+        double value(long nodeId, double[] properties) {
+            return value;
+        }
+
+        @Override
+        boolean isConstant() {
+            return true;
+        }
+    }
+
+    private static final class NodeProperty extends Compiled {
+        private final NodeProperties properties;
+
+        NodeProperty(NodeProperties properties) {
+            this.properties = properties;
+        }
+
+        @Override
+        double value(long nodeId, double[] ignored) {
+            return properties.doubleValue(nodeId);
+        }
+
+        @Override
+        boolean isConstant() {
+            return false;
+        }
+    }
+
+    /**
+     * Uses the property values of the first label of a node that has the property.
+     */
+    private static final class LabelResolvedNodeProperty extends Compiled implements NodeMapping.NodeLabelConsumer {
+        private final NodeMapping nodeMapping;
+        private final Map<NodeLabel, NodeProperties> propertiesByLabel;
+
+        private NodeProperties current;
+
+        LabelResolvedNodeProperty(NodeMapping nodeMapping, Map<NodeLabel, NodeProperties> propertiesByLabel) {
+            this.nodeMapping = nodeMapping;
+            this.propertiesByLabel = propertiesByLabel;
+        }
+
+        @Override
+        double value(long nodeId, double[] ignored) {
+            current = null;
+            nodeMapping.forEachNodeLabel(nodeId, this);
+            return current == null
+                ? DefaultValue.DOUBLE_DEFAULT_FALLBACK
+                : current.doubleValue(nodeId);
+        }
+
+        @Override
+        public boolean accept(NodeLabel nodeLabel) {
+            current = propertiesByLabel.get(nodeLabel);
+            return current == null;
+        }
+
+        @Override
+        boolean isConstant() {
+            return false;
+        }
+    }
+
+    private static final class RelationshipProperty extends Compiled {
+        private final int index;
+
+        RelationshipProperty(int index) {
+            this.index = index;
+        }
+
+        @Override
+        double value(long ignored, double[] properties) {
+            return properties[index];
+        }
+
+        @Override
+        boolean isConstant() {
+            return false;
+        }
+    }
+
+    private static final class HasLabels extends Compiled {
+        private final NodeMapping nodeMapping;
+        private final NodeLabel[] labels;
+
+        HasLabels(NodeMapping nodeMapping, NodeLabel[] labels) {
+            this.nodeMapping = nodeMapping;
+            this.labels = labels;
+        }
+
+        @Override
+        double value(long nodeId, double[] properties) {
+            return test(nodeId, properties) ? TRUE : FALSE;
+        }
+
+        @Override
+        boolean test(long nodeId, double[] properties) {
+            for (NodeLabel label : labels) {
+                if (!nodeMapping.hasLabel(nodeId, label)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        boolean isConstant() {
+            return false;
+        }
+    }
+
+    private abstract static class BooleanExpression extends Compiled {
+        @Override
+        double value(long nodeId, double[] properties) {
+            return test(nodeId, properties) ? TRUE : FALSE;
+        }
+
+        @Override
+        abstract boolean test(long nodeId, double[] properties);
+    }
+
+    private static final class Not extends BooleanExpression {
+        private final Compiled in;
+
+        Not(Compiled in) {
+            this.in = in;
+        }
+
+        @Override
+        boolean test(long nodeId, double[] properties) {
+            return !in.test(nodeId, properties);
+        }
+
+        @Override
+        boolean isConstant() {
+            return in.isConstant();
+        }
+    }
+
+    private abstract static class Binary extends BooleanExpression {
+        final Compiled lhs;
+        final Compiled rhs;
+
+        Binary(Compiled lhs, Compiled rhs) {
+            this.lhs = lhs;
+            this.rhs = rhs;
+        }
+
+        @Override
+        boolean isConstant() {
+            return lhs.isConstant() && rhs.isConstant();
+        }
+    }
+
+    private static final class And extends Binary {
+        And(Compiled lhs, Compiled rhs) {
+            super(lhs, rhs);
+        }
+
+        @Override
+        boolean test(long nodeId, double[] properties) {
+            return lhs.test(nodeId, properties) && rhs.test(nodeId, properties);
+        }
+    }
+
+    private static final class Or extends Binary {
+        Or(Compiled lhs, Compiled rhs) {
+            super(lhs, rhs);
+        }
+
+        @Override
+        boolean test(long nodeId, double[] properties) {
+            return lhs.test(nodeId, properties) || rhs.test(nodeId, properties);
+        }
+    }
+
+    private static final class Xor extends Binary {
+        Xor(Compiled lhs, Compiled rhs) {
+            super(lhs, rhs);
+        }
+
+        @Override
+        boolean test(long nodeId, double[] properties) {
+            return lhs.test(nodeId, properties) ^ rhs.test(nodeId, properties);
+        }
+    }
+
+    private static final class Equal extends Binary {
+        Equal(Compiled lhs, Compiled rhs) {
+            super(lhs, rhs);
+        }
+
+        @Override
+        boolean test(long nodeId, double[] properties) {
+            return Math.abs(lhs.value(nodeId, properties) - rhs.value(nodeId, properties)) < EPSILON;
+        }
+    }
+
+    private static final class NotEqual extends Binary {
+        NotEqual(Compiled lhs, Compiled rhs) {
+            super(lhs, rhs);
+        }
+
+        @Override
+        boolean test(long nodeId, double[] properties) {
+            return Math.abs(lhs.value(nodeId, properties) - rhs.value(nodeId, properties)) > EPSILON;
+        }
+    }
+
+    private static final class GreaterThan extends Binary {
+        GreaterThan(Compiled lhs, Compiled rhs) {
+            super(lhs, rhs);
+        }
+
+        @Override
+        boolean test(long nodeId, double[] properties) {
+            return (lhs.value(nodeId, properties) - rhs.value(nodeId, properties)) > EPSILON;
+        }
+    }
+
+    private static final class GreaterThanOrEquals extends Binary {
+        GreaterThanOrEquals(Compiled lhs, Compiled rhs) {
+            super(lhs, rhs);
+        }
+
+        @Override
+        boolean test(long nodeId, double[] properties) {
+            var lhsValue = lhs.value(nodeId, properties);
+            var rhsValue = rhs.value(nodeId, properties);
+            return lhsValue > rhsValue || Math.abs(lhsValue - rhsValue) < EPSILON;
+        }
+    }
+
+    private static final class LessThan extends Binary {
+        LessThan(Compiled lhs, Compiled rhs) {
+            super(lhs, rhs);
+        }
+
+        @Override
+        boolean test(long nodeId, double[] properties) {
+            return (rhs.value(nodeId, properties) - lhs.value(nodeId, properties)) > EPSILON;
+        }
+    }
+
+    private static final class LessThanOrEquals extends Binary {
+        LessThanOrEquals(Compiled lhs, Compiled rhs) {
+            super(lhs, rhs);
+        }
+
+        @Override
+        boolean test(long nodeId, double[] properties) {
+            var lhsValue = lhs.value(nodeId, properties);
+            var rhsValue = rhs.value(nodeId, properties);
+            return lhsValue < rhsValue || (rhsValue - lhsValue) > -EPSILON;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.pregel;
+
+import org.immutables.value.Value;
+import org.neo4j.graphalgo.annotation.ValueClass;
+import org.neo4j.graphalgo.api.nodeproperties.ValueType;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * A global aggregator that reduces values provided by all nodes within a superstep
+ * into a single value. The aggregated value is available in the master computation
+ * of the same superstep and in the compute method of the next superstep.
+ *
+ * @see org.neo4j.graphalgo.beta.pregel.PregelComputation#aggregators()
+ */
+@ValueClass
+public interface Aggregator {
+
+    String key();
+
+    /**
+     * The type of the aggregated value, either {@code DOUBLE} or {@code LONG}.
+     */
+    ValueType valueType();
+
+    Reducer reducer();
+
+    static Aggregator ofDouble(String key, Reducer reducer) {
+        return ImmutableAggregator.of(key, ValueType.DOUBLE, reducer);
+    }
+
+    static Aggregator ofLong(String key, Reducer reducer) {
+        return ImmutableAggregator.of(key, ValueType.LONG, reducer);
+    }
+
+    @Value.Check
+    default void validate() {
+        if (valueType() != ValueType.DOUBLE && valueType() != ValueType.LONG) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Unsupported aggregator type %s for key %s, expected DOUBLE or LONG.",
+                valueType(),
+                key()
+            ));
+        }
+    }
+}
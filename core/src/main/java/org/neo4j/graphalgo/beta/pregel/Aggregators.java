@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.pregel;
+
+import org.neo4j.graphalgo.api.nodeproperties.ValueType;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Holds the global aggregators of a Pregel computation.
+ * <br>
+ * Compute steps aggregate into thread-local {@link Local} instances which are
+ * merged into the global value once per step. At the end of each superstep,
+ * the merged value is published and the aggregation starts over.
+ * Long values are stored by their raw bits.
+ */
+public final class Aggregators {
+
+    private final Aggregator[] aggregators;
+    private final Map<String, Integer> indices;
+
+    private final double[] aggregatedValues;
+    private final double[] currentValues;
+
+    static Aggregators of(List<Aggregator> aggregators) {
+        return new Aggregators(aggregators.toArray(Aggregator[]::new));
+    }
+
+    private Aggregators(Aggregator[] aggregators) {
+        this.aggregators = aggregators;
+        this.indices = new HashMap<>();
+        for (int i = 0; i < aggregators.length; i++) {
+            if (indices.put(aggregators[i].key(), i) != null) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Aggregator key %s is not unique.",
+                    aggregators[i].key()
+                ));
+            }
+        }
+        this.aggregatedValues = identities();
+        this.currentValues = identities();
+    }
+
+    /**
+     * Returns the double value that has been aggregated in the previous superstep.
+     *
+     * @throws IllegalArgumentException if the key does not exist or the aggregator is not of type double
+     */
+    public double doubleValue(String key) {
+        return aggregatedValues[index(key, ValueType.DOUBLE)];
+    }
+
+    /**
+     * Returns the long value that has been aggregated in the previous superstep.
+     *
+     * @throws IllegalArgumentException if the key does not exist or the aggregator is not of type long
+     */
+    public long longValue(String key) {
+        return Double.doubleToRawLongBits(aggregatedValues[index(key, ValueType.LONG)]);
+    }
+
+    Local newLocal() {
+        return new Local();
+    }
+
+    /**
+     * Publishes the values aggregated in the current superstep and resets the aggregation.
+     */
+    void completeSuperstep() {
+        System.arraycopy(currentValues, 0, aggregatedValues, 0, currentValues.length);
+        var identities = identities();
+        System.arraycopy(identities, 0, currentValues, 0, identities.length);
+    }
+
+    void writeCheckpoint(DataOutput output) throws IOException {
+        output.writeInt(aggregators.length);
+        for (int i = 0; i < aggregators.length; i++) {
+            output.writeUTF(aggregators[i].key());
+            output.writeDouble(aggregatedValues[i]);
+        }
+    }
+
+    void readCheckpoint(DataInput input) throws IOException {
+        var count = input.readInt();
+        if (count != aggregators.length) {
+            throw new IllegalStateException(formatWithLocale(
+                "Checkpoint contains %d aggregators, but the computation defines %d.",
+                count,
+                aggregators.length
+            ));
+        }
+        for (int i = 0; i < count; i++) {
+            var key = input.readUTF();
+            var value = input.readDouble();
+            var index = indices.get(key);
+            if (index == null) {
+                throw new IllegalStateException(formatWithLocale(
+                    "Checkpoint contains unknown aggregator %s.",
+                    key
+                ));
+            }
+            aggregatedValues[index] = value;
+        }
+    }
+
+    private synchronized void merge(double[] partials) {
+        for (int i = 0; i < partials.length; i++) {
+            currentValues[i] = combine(aggregators[i], currentValues[i], partials[i]);
+        }
+    }
+
+    private double[] identities() {
+        var identities = new double[aggregators.length];
+        for (int i = 0; i < aggregators.length; i++) {
+            var reducer = aggregators[i].reducer();
+            identities[i] = aggregators[i].valueType() == ValueType.LONG
+                ? Double.longBitsToDouble(reducer.longIdentity())
+                : reducer.identity();
+        }
+        return identities;
+    }
+
+    private int index(String key, ValueType expectedType) {
+        var index = indices.get(key);
+        if (index == null) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Aggregator with key %s does not exist. Available aggregators are: %s",
+                key,
+                indices.keySet()
+            ));
+        }
+        var actualType = aggregators[index].valueType();
+        if (actualType != expectedType) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Requested aggregator type %s is not compatible with aggregator type %s for key %s.",
+                expectedType,
+                actualType,
+                key
+            ));
+        }
+        return index;
+    }
+
+    private static double combine(Aggregator aggregator, double left, double right) {
+        var reducer = aggregator.reducer();
+        if (aggregator.valueType() == ValueType.LONG) {
+            return Double.longBitsToDouble(reducer.combine(
+                Double.doubleToRawLongBits(left),
+                Double.doubleToRawLongBits(right)
+            ));
+        }
+        return reducer.combine(left, right);
+    }
+
+    /**
+     * Thread-local aggregation state of a single compute step.
+     */
+    public final class Local {
+
+        private final double[] partials;
+        private boolean hasValues;
+
+        private Local() {
+            this.partials = identities();
+        }
+
+        /**
+         * Aggregates the given value. Long values are accepted by double aggregators.
+         *
+         * @throws IllegalArgumentException if the key does not exist or the aggregator is not of type double
+         */
+        public void aggregate(String key, double value) {
+            var index = index(key, ValueType.DOUBLE);
+            partials[index] = aggregators[index].reducer().reduce(partials[index], value);
+            hasValues = true;
+        }
+
+        /**
+         * Aggregates the given value.
+         *
+         * @throws IllegalArgumentException if the key does not exist
+         */
+        public void aggregate(String key, long value) {
+            var index = indices.get(key);
+            if (index != null && aggregators[index].valueType() == ValueType.DOUBLE) {
+                aggregate(key, (double) value);
+                return;
+            }
+            index = index(key, ValueType.LONG);
+            var current = Double.doubleToRawLongBits(partials[index]);
+            partials[index] = Double.longBitsToDouble(aggregators[index].reducer().reduce(current, value));
+            hasValues = true;
+        }
+
+        /**
+         * Merges the local values into the global aggregation and resets the local state.
+         */
+        void flush() {
+            if (hasValues) {
+                merge(partials);
+                var identities = identities();
+                System.arraycopy(identities, 0, partials, 0, identities.length);
+                hasValues = false;
+            }
+        }
+    }
+}
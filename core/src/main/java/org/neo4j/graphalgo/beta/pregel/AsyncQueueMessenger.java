@@ -22,6 +22,10 @@ package org.neo4j.graphalgo.beta.pregel;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
 class AsyncQueueMessenger implements Messenger<PrimitiveAsyncDoubleQueues.Iterator> {
 
     private final PrimitiveAsyncDoubleQueues queues;
@@ -47,6 +51,12 @@ class AsyncQueueMessenger implements Messenger<PrimitiveAsyncDoubleQueues.Iterat
         queues.push(targetNodeId, message);
     }
 
+    @Override
+    public void sendTo(long targetNodeId, double[] message) {
+        assert !Double.isNaN(message[0]);
+        queues.push(targetNodeId, message);
+    }
+
     @Override
     public PrimitiveAsyncDoubleQueues.Iterator messageIterator() {
         return new PrimitiveAsyncDoubleQueues.Iterator(queues);
@@ -61,6 +71,16 @@ class AsyncQueueMessenger implements Messenger<PrimitiveAsyncDoubleQueues.Iterat
         messageIterator.init(nodeId);
     }
 
+    @Override
+    public void writeCheckpoint(DataOutput output) throws IOException {
+        queues.writeCheckpoint(output);
+    }
+
+    @Override
+    public void readCheckpoint(DataInput input) throws IOException {
+        queues.readCheckpoint(input);
+    }
+
     @Override
     public void release() {
         queues.release();
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.pregel;
+
+import com.carrotsearch.hppc.BitMixer;
+
+import java.util.Arrays;
+
+/**
+ * A small, thread-local open addressing hash table that combines messages
+ * sent to the same target node before they are applied to the shared
+ * message array of a {@link org.neo4j.graphalgo.beta.pregel.CombiningMessenger}.
+ * <br>
+ * High in-degree nodes receive most of their messages from a few threads.
+ * Combining those messages locally reduces the number of compare-and-set
+ * operations on the shared array and the cache line transfers between cores.
+ * The buffer is flushed when it is half full and at the end of each batch.
+ */
+final class CombiningBuffer {
+
+    static final int DEFAULT_CAPACITY = 1 << 12;
+
+    private static final long EMPTY_KEY = -1L;
+
+    private final CombiningMessenger<?> messenger;
+    private final Reducer reducer;
+    private final boolean longMessages;
+
+    private final long[] keys;
+    private final double[] values;
+    private final int[] usedSlots;
+    private final int mask;
+    private final int maxSize;
+
+    private int size;
+    private long combinedMessages;
+    private long flushedMessages;
+
+    CombiningBuffer(CombiningMessenger<?> messenger, int capacity) {
+        assert Integer.bitCount(capacity) == 1 : "capacity must be a power of two";
+        this.messenger = messenger;
+        this.reducer = messenger.reducer();
+        this.longMessages = messenger.reducesLongMessages();
+        this.keys = new long[capacity];
+        this.values = new double[capacity];
+        this.usedSlots = new int[capacity >> 1];
+        this.mask = capacity - 1;
+        this.maxSize = capacity >> 1;
+        Arrays.fill(keys, EMPTY_KEY);
+    }
+
+    void add(long targetNodeId, double message) {
+        int slot = (int) BitMixer.mixPhi(targetNodeId) & mask;
+        while (true) {
+            var key = keys[slot];
+            if (key == targetNodeId) {
+                values[slot] = reduce(values[slot], message);
+                combinedMessages++;
+                return;
+            }
+            if (key == EMPTY_KEY) {
+                break;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        if (size == maxSize) {
+            flush();
+            add(targetNodeId, message);
+            return;
+        }
+
+        keys[slot] = targetNodeId;
+        values[slot] = longMessages
+            ? Double.longBitsToDouble(reducer.reduce(reducer.longIdentity(), Double.doubleToRawLongBits(message)))
+            : reducer.reduce(reducer.identity(), message);
+        usedSlots[size++] = slot;
+    }
+
+    void flush() {
+        for (int i = 0; i < size; i++) {
+            var slot = usedSlots[i];
+            messenger.sendCombinedTo(keys[slot], values[slot]);
+            keys[slot] = EMPTY_KEY;
+        }
+        flushedMessages += size;
+        size = 0;
+    }
+
+    /**
+     * Flushes all remaining messages and reports the number of
+     * combined and flushed messages since the last call.
+     */
+    void flushAndReport() {
+        flush();
+        messenger.contentionCounters().addCombined(combinedMessages, flushedMessages);
+        combinedMessages = 0;
+        flushedMessages = 0;
+    }
+
+    private double reduce(double current, double message) {
+        if (longMessages) {
+            return Double.longBitsToDouble(reducer.reduce(
+                Double.doubleToRawLongBits(current),
+                Double.doubleToRawLongBits(message)
+            ));
+        }
+        return reducer.reduce(current, message);
+    }
+}
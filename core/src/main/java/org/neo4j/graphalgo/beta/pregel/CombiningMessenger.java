@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.pregel;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A messenger that reduces all messages sent to a node into a single value
+ * and accepts partial results that have been combined on the sender side.
+ */
+interface CombiningMessenger<ITERATOR extends Messages.MessageIterator> extends Messenger<ITERATOR> {
+
+    Reducer reducer();
+
+    /**
+     * Whether messages are long values that are stored by their raw bits.
+     */
+    boolean reducesLongMessages();
+
+    /**
+     * Applies a partial result, produced by {@link org.neo4j.graphalgo.beta.pregel.Reducer#combine},
+     * to the message of the target node.
+     */
+    void sendCombinedTo(long targetNodeId, double partialResult);
+
+    ContentionCounters contentionCounters();
+
+    final class ContentionCounters {
+        private final LongAdder casRetries = new LongAdder();
+        private final LongAdder combinedMessages = new LongAdder();
+        private final LongAdder flushedMessages = new LongAdder();
+
+        void addCasRetries(long retries) {
+            casRetries.add(retries);
+        }
+
+        void addCombined(long combined, long flushed) {
+            combinedMessages.add(combined);
+            flushedMessages.add(flushed);
+        }
+
+        MessageContentionStats snapshotAndReset(int superstep) {
+            return ImmutableMessageContentionStats.of(
+                superstep,
+                casRetries.sumThenReset(),
+                combinedMessages.sumThenReset(),
+                flushedMessages.sumThenReset()
+            );
+        }
+    }
+}
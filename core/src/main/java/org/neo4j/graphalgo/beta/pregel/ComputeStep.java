@@ -48,6 +48,18 @@ public interface ComputeStep<CONFIG extends PregelConfig, ITERATOR extends Messa
 
     int iteration();
 
+    MessageEncoder messageEncoder();
+
+    /**
+     * The global aggregators, holding the values of the previous superstep.
+     */
+    Aggregators aggregators();
+
+    /**
+     * The thread-local aggregation state of this compute step.
+     */
+    Aggregators.Local localAggregators();
+
     default boolean isMultiGraph() {
         return graph().isMultiGraph();
     }
@@ -68,12 +80,20 @@ public interface ComputeStep<CONFIG extends PregelConfig, ITERATOR extends Messa
         voteBits().set(nodeId);
     }
 
+    /**
+     * Sends a message that fits into a single slot.
+     */
     void sendTo(long targetNodeId, double message);
 
+    /**
+     * Sends a message that has been encoded into multiple slots.
+     */
+    void sendTo(long targetNodeId, double[] encodedMessage);
+
     default void computeBatch() {
         var messenger = messenger();
         var messageIterator = messenger.messageIterator();
-        var messages = new Messages(messageIterator);
+        var messages = new Messages(messageIterator, messageEncoder().schema());
 
         var nodeBatch = nodeBatch();
         long batchStart = nodeBatch.startNode();
@@ -101,16 +121,54 @@ public interface ComputeStep<CONFIG extends PregelConfig, ITERATOR extends Messa
         }
     }
 
+    default void sendTo(long sourceNodeId, long targetNodeId, double message) {
+        var encoder = messageEncoder();
+        if (encoder.isSingleSlot()) {
+            sendTo(targetNodeId, message);
+        } else {
+            sendTo(targetNodeId, encoder.encode(sourceNodeId, message));
+        }
+    }
+
+    default void sendLongTo(long sourceNodeId, long targetNodeId, long message) {
+        var encoder = messageEncoder();
+        if (encoder.isSingleSlot()) {
+            sendTo(targetNodeId, MessageEncoder.encode(message));
+        } else {
+            sendTo(targetNodeId, encoder.encode(sourceNodeId, message));
+        }
+    }
+
+    default void sendArrayTo(long sourceNodeId, long targetNodeId, double[] message) {
+        sendTo(targetNodeId, messageEncoder().encode(sourceNodeId, message));
+    }
+
     default void sendToNeighbors(long sourceNodeId, double message) {
         graph().forEachRelationship(sourceNodeId, (ignored, targetNodeId) -> {
-            sendTo(targetNodeId, message);
+            sendTo(sourceNodeId, targetNodeId, message);
             return true;
         });
     }
 
     default void sendToNeighborsWeighted(long sourceNodeId, double message) {
         graph().forEachRelationship(sourceNodeId, 1.0, (ignored, targetNodeId, weight) -> {
-            sendTo(targetNodeId, computation().applyRelationshipWeight(message, weight));
+            sendTo(sourceNodeId, targetNodeId, computation().applyRelationshipWeight(message, weight));
+            return true;
+        });
+    }
+
+    default void sendLongToNeighbors(long sourceNodeId, long message) {
+        graph().forEachRelationship(sourceNodeId, (ignored, targetNodeId) -> {
+            sendLongTo(sourceNodeId, targetNodeId, message);
+            return true;
+        });
+    }
+
+    default void sendArrayToNeighbors(long sourceNodeId, double[] message) {
+        // the encoded message is the same for all neighbors
+        var encodedMessage = messageEncoder().encode(sourceNodeId, message);
+        graph().forEachRelationship(sourceNodeId, (ignored, targetNodeId) -> {
+            sendTo(targetNodeId, encodedMessage);
             return true;
         });
     }
@@ -44,6 +44,9 @@ public final class ForkJoinComputeStep<CONFIG extends PregelConfig, ITERATOR ext
     private final NodeValue nodeValue;
     private final HugeAtomicBitSet voteBits;
     private final Messenger<ITERATOR> messenger;
+    private final MessageEncoder messageEncoder;
+    private final Aggregators aggregators;
+    private final Aggregators.Local localAggregators;
     private final PregelComputation<CONFIG> computation;
 
     private Partition nodeBatch;
@@ -59,6 +62,8 @@ public final class ForkJoinComputeStep<CONFIG extends PregelConfig, ITERATOR ext
         Partition nodeBatch,
         NodeValue nodeValue,
         Messenger<ITERATOR> messenger,
+        MessageSchema messageSchema,
+        Aggregators aggregators,
         HugeAtomicBitSet voteBits,
         @Nullable CountedCompleter<Void> parent,
         AtomicBoolean sentMessage
@@ -72,6 +77,9 @@ public final class ForkJoinComputeStep<CONFIG extends PregelConfig, ITERATOR ext
         this.nodeBatch = nodeBatch;
         this.nodeValue = nodeValue;
         this.messenger = messenger;
+        this.messageEncoder = new MessageEncoder(messageSchema);
+        this.aggregators = aggregators;
+        this.localAggregators = aggregators.newLocal();
         this.computeContext = new ComputeContext<>(this, config);
         this.sentMessage = sentMessage;
         this.initContext = new InitContext<>(this, config, graph);
@@ -100,6 +108,8 @@ public final class ForkJoinComputeStep<CONFIG extends PregelConfig, ITERATOR ext
                 leftBatch,
                 nodeValue,
                 messenger,
+                messageEncoder.schema(),
+                aggregators,
                 voteBits,
                 this,
                 sentMessage
@@ -113,6 +123,7 @@ public final class ForkJoinComputeStep<CONFIG extends PregelConfig, ITERATOR ext
             this.compute();
         } else {
             computeBatch();
+            localAggregators.flush();
             this.sentMessage.set(hasSendMessage);
             tryComplete();
         }
@@ -163,9 +174,30 @@ public final class ForkJoinComputeStep<CONFIG extends PregelConfig, ITERATOR ext
         return iteration;
     }
 
+    @Override
+    public MessageEncoder messageEncoder() {
+        return messageEncoder;
+    }
+
+    @Override
+    public Aggregators aggregators() {
+        return aggregators;
+    }
+
+    @Override
+    public Aggregators.Local localAggregators() {
+        return localAggregators;
+    }
+
     @Override
     public void sendTo(long targetNodeId, double message) {
         messenger.sendTo(targetNodeId, message);
         hasSendMessage = true;
     }
+
+    @Override
+    public void sendTo(long targetNodeId, double[] encodedMessage) {
+        messenger.sendTo(targetNodeId, encodedMessage);
+        hasSendMessage = true;
+    }
 }
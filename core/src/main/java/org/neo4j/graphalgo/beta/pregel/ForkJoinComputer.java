@@ -39,10 +39,12 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
         CONFIG config,
         NodeValue nodeValues,
         Messenger<?> messenger,
+        MessageSchema messageSchema,
+        Aggregators aggregators,
         HugeAtomicBitSet voteBits,
         ForkJoinPool forkJoinPool
     ) {
-        super(graph, computation, config, nodeValues, messenger, voteBits);
+        super(graph, computation, config, nodeValues, messenger, messageSchema, aggregators, voteBits);
         this.forkJoinPool = forkJoinPool;
     }
 
@@ -62,6 +64,8 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
             Partition.of(0, graph.nodeCount()),
             nodeValues,
             messenger,
+            messageSchema,
+            aggregators,
             voteBits,
             null,
             sentMessage
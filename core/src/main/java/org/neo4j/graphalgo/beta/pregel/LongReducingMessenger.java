@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.pregel;
+
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicLongArray;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * The long counterpart of the {@link org.neo4j.graphalgo.beta.pregel.ReducingMessenger}.
+ * Since there is no dedicated empty value for longs, received messages are tracked in a bit set.
+ */
+class LongReducingMessenger implements CombiningMessenger<ReducingMessenger.SingleMessageIterator> {
+
+    private final Graph graph;
+    private final PregelConfig config;
+    private final Reducer reducer;
+    private final ContentionCounters contentionCounters;
+
+    private HugeAtomicLongArray sendArray;
+    private HugeAtomicLongArray receiveArray;
+    private HugeAtomicBitSet sendBits;
+    private HugeAtomicBitSet receiveBits;
+
+    LongReducingMessenger(Graph graph, PregelConfig config, Reducer reducer, AllocationTracker tracker) {
+        this.graph = graph;
+        this.config = config;
+        this.reducer = reducer;
+        this.contentionCounters = new ContentionCounters();
+
+        this.receiveArray = HugeAtomicLongArray.newArray(graph.nodeCount(), tracker);
+        this.sendArray = HugeAtomicLongArray.newArray(graph.nodeCount(), tracker);
+        this.receiveBits = HugeAtomicBitSet.create(graph.nodeCount(), tracker);
+        this.sendBits = HugeAtomicBitSet.create(graph.nodeCount(), tracker);
+    }
+
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(LongReducingMessenger.class)
+            .perNode("send array", HugeAtomicLongArray::memoryEstimation)
+            .perNode("receive array", HugeAtomicLongArray::memoryEstimation)
+            .perNode("send bits", HugeAtomicBitSet::memoryEstimation)
+            .perNode("receive bits", HugeAtomicBitSet::memoryEstimation)
+            .build();
+    }
+
+    @Override
+    public void initIteration(int iteration) {
+        // Swap arrays
+        var tmp = receiveArray;
+        this.receiveArray = sendArray;
+        this.sendArray = tmp;
+
+        var tmpBits = receiveBits;
+        this.receiveBits = sendBits;
+        this.sendBits = tmpBits;
+
+        var identity = reducer.longIdentity();
+        ParallelUtil.parallelForEachNode(
+            graph,
+            config.concurrency(),
+            nodeId -> {
+                sendArray.set(nodeId, identity);
+                sendBits.clear(nodeId);
+            }
+        );
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double message) {
+        var longMessage = Double.doubleToRawLongBits(message);
+        var current = sendArray.get(targetNodeId);
+        long retries = 0;
+        while (true) {
+            var witness = sendArray.compareAndExchange(targetNodeId, current, reducer.reduce(current, longMessage));
+            if (witness == current) {
+                break;
+            }
+            current = witness;
+            retries++;
+        }
+        if (retries > 0) {
+            contentionCounters.addCasRetries(retries);
+        }
+        markReceived(targetNodeId);
+    }
+
+    @Override
+    public void sendCombinedTo(long targetNodeId, double partialResult) {
+        var longPartialResult = Double.doubleToRawLongBits(partialResult);
+        sendArray.update(targetNodeId, current -> reducer.combine(current, longPartialResult));
+        markReceived(targetNodeId);
+    }
+
+    @Override
+    public Reducer reducer() {
+        return reducer;
+    }
+
+    @Override
+    public boolean reducesLongMessages() {
+        return true;
+    }
+
+    @Override
+    public ContentionCounters contentionCounters() {
+        return contentionCounters;
+    }
+
+    private void markReceived(long targetNodeId) {
+        if (!sendBits.get(targetNodeId)) {
+            sendBits.set(targetNodeId);
+        }
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double[] message) {
+        throw new UnsupportedOperationException("Messages that span multiple values cannot be reduced");
+    }
+
+    @Override
+    public ReducingMessenger.SingleMessageIterator messageIterator() {
+        return new ReducingMessenger.SingleMessageIterator();
+    }
+
+    @Override
+    public void initMessageIterator(
+        ReducingMessenger.SingleMessageIterator messageIterator,
+        long nodeId,
+        boolean isFirstIteration
+    ) {
+        messageIterator.init(Double.longBitsToDouble(receiveArray.get(nodeId)), receiveBits.get(nodeId));
+    }
+
+    @Override
+    public void writeCheckpoint(DataOutput output) throws IOException {
+        var nodeCount = sendArray.size();
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            var hasMessage = sendBits.get(nodeId);
+            output.writeBoolean(hasMessage);
+            if (hasMessage) {
+                output.writeLong(sendArray.get(nodeId));
+            }
+        }
+    }
+
+    @Override
+    public void readCheckpoint(DataInput input) throws IOException {
+        var nodeCount = sendArray.size();
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            if (input.readBoolean()) {
+                sendArray.set(nodeId, input.readLong());
+                sendBits.set(nodeId);
+            }
+        }
+    }
+
+    @Override
+    public void release() {
+        sendArray.release();
+        receiveArray.release();
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.pregel;
+
+import org.neo4j.graphalgo.annotation.ValueClass;
+
+/**
+ * Statistics about the contention on the shared message arrays
+ * of a reducing messenger during a single superstep.
+ */
+@ValueClass
+public interface MessageContentionStats {
+
+    int superstep();
+
+    /**
+     * The number of failed compare-and-set attempts when reducing into the shared message array.
+     */
+    long casRetries();
+
+    /**
+     * The number of messages that have been combined into an existing
+     * entry of a sender-side combining buffer.
+     */
+    long combinedMessages();
+
+    /**
+     * The number of partial results that have been flushed from the
+     * sender-side combining buffers into the shared message array.
+     */
+    long flushedMessages();
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.pregel;
+
+/**
+ * Encodes typed messages into the double slots that are stored by a {@link Messenger}.
+ * An encoder reuses its buffer and must not be shared between threads.
+ *
+ * @see org.neo4j.graphalgo.beta.pregel.MessageSchema
+ */
+public final class MessageEncoder {
+
+    private final MessageSchema schema;
+    private final boolean includeSender;
+    private final boolean isSingleSlot;
+    private final double[] buffer;
+
+    MessageEncoder(MessageSchema schema) {
+        this.schema = schema;
+        this.includeSender = schema.includeSender();
+        this.isSingleSlot = schema.isSingleSlot();
+        this.buffer = new double[schema.slots()];
+    }
+
+    public MessageSchema schema() {
+        return schema;
+    }
+
+    /**
+     * Single slot messages can be sent without encoding them into the buffer.
+     */
+    boolean isSingleSlot() {
+        return isSingleSlot;
+    }
+
+    static double encode(long value) {
+        return Double.longBitsToDouble(value);
+    }
+
+    double[] encode(long sender, double message) {
+        buffer[0] = encode(sender);
+        buffer[1] = message;
+        return buffer;
+    }
+
+    double[] encode(long sender, long message) {
+        buffer[0] = encode(sender);
+        buffer[1] = encode(message);
+        return buffer;
+    }
+
+    double[] encode(long sender, double[] message) {
+        var offset = 0;
+        if (includeSender) {
+            buffer[0] = encode(sender);
+            offset = 1;
+        }
+        System.arraycopy(message, 0, buffer, offset, schema.dimension());
+        return buffer;
+    }
+}
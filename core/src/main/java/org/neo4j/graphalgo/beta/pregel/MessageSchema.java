@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.pregel;
+
+import org.immutables.value.Value;
+import org.neo4j.graphalgo.annotation.ValueClass;
+import org.neo4j.graphalgo.api.nodeproperties.ValueType;
+
+import java.util.EnumSet;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Describes the layout of the messages that are exchanged in a Pregel computation.
+ * A message is either a single double, a single long or a fixed-size double array
+ * and can optionally be accompanied by the id of the sending node.
+ * <br>
+ * Internally, a message is stored as {@link #slots()} consecutive double values.
+ * Long values and sender ids are stored by their raw bits, i.e. messages are never boxed.
+ *
+ * @see org.neo4j.graphalgo.beta.pregel.PregelSchema.Builder#messages(MessageSchema)
+ */
+@ValueClass
+public interface MessageSchema {
+
+    /**
+     * The type of the message value, one of {@code DOUBLE}, {@code LONG} or {@code DOUBLE_ARRAY}.
+     */
+    ValueType valueType();
+
+    /**
+     * The number of values in a message, which is {@code 1} for scalar messages.
+     */
+    int dimension();
+
+    /**
+     * Whether the receiving node has access to the id of the sending node.
+     */
+    boolean includeSender();
+
+    static MessageSchema doubles() {
+        return ImmutableMessageSchema.of(ValueType.DOUBLE, 1, false);
+    }
+
+    static MessageSchema longs() {
+        return ImmutableMessageSchema.of(ValueType.LONG, 1, false);
+    }
+
+    static MessageSchema doubleArrays(int dimension) {
+        return ImmutableMessageSchema.of(ValueType.DOUBLE_ARRAY, dimension, false);
+    }
+
+    default MessageSchema withSender() {
+        return ImmutableMessageSchema.of(valueType(), dimension(), true);
+    }
+
+    /**
+     * The number of double values that are used to store a single message.
+     */
+    default int slots() {
+        return includeSender() ? dimension() + 1 : dimension();
+    }
+
+    default boolean isSingleSlot() {
+        return slots() == 1;
+    }
+
+    /**
+     * Asynchronous queues use NaN to detect slots that have not been written yet, so the first
+     * slot of a message must never be NaN. Since node ids are never NaN, we store the sender
+     * in front of all messages that could start with NaN.
+     */
+    default MessageSchema forAsyncQueues() {
+        return valueType() == ValueType.DOUBLE ? this : withSender();
+    }
+
+    @Value.Check
+    default void validate() {
+        if (!EnumSet.of(ValueType.DOUBLE, ValueType.LONG, ValueType.DOUBLE_ARRAY).contains(valueType())) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Unsupported message type %s, expected one of DOUBLE, LONG or DOUBLE_ARRAY.",
+                valueType()
+            ));
+        }
+        if (valueType() == ValueType.DOUBLE_ARRAY ? dimension() < 1 : dimension() != 1) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Invalid message dimension %d for message type %s.",
+                dimension(),
+                valueType()
+            ));
+        }
+    }
+}
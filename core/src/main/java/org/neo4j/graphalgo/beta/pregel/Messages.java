@@ -20,34 +20,161 @@
 package org.neo4j.graphalgo.beta.pregel;
 
 import org.jetbrains.annotations.NotNull;
+import org.neo4j.graphalgo.api.nodeproperties.ValueType;
 
 import java.util.Iterator;
 import java.util.PrimitiveIterator;
 
-public final class Messages implements Iterable<Double> {
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
 
-    @NotNull
-    @Override
-    public Iterator<Double> iterator() {
-        return iterator;
-    }
+/**
+ * The messages a node received in the previous superstep.
+ * <br>
+ * Double and long messages can be consumed via {@link #doubleIterator()}
+ * and {@link #longIterator()}. Messages that carry the sender id or an
+ * array value are consumed by calling {@link #advance()} and reading the
+ * current message via the typed accessors. None of the methods box or
+ * allocate per message.
+ *
+ * @see org.neo4j.graphalgo.beta.pregel.MessageSchema
+ */
+public final class Messages implements Iterable<Double> {
 
     interface MessageIterator extends PrimitiveIterator.OfDouble {
         boolean isEmpty();
     }
 
     private final MessageIterator iterator;
+    private final MessageSchema schema;
+    private final boolean hasSender;
+    private final PrimitiveIterator.OfDouble doubleIterator;
+    private final PrimitiveIterator.OfLong longIterator;
+    private final double[] arrayMessage;
 
-    Messages(MessageIterator iterator) {
+    private long sender;
+    private double scalarMessage;
+
+    Messages(MessageIterator iterator, MessageSchema schema) {
         this.iterator = iterator;
+        this.schema = schema;
+        this.hasSender = schema.includeSender();
+        this.doubleIterator = hasSender ? new DoubleIterator() : iterator;
+        this.longIterator = new LongIterator();
+        this.arrayMessage = schema.valueType() == ValueType.DOUBLE_ARRAY
+            ? new double[schema.dimension()]
+            : null;
+    }
+
+    @NotNull
+    @Override
+    public Iterator<Double> iterator() {
+        return doubleIterator();
     }
 
     @NotNull
     public PrimitiveIterator.OfDouble doubleIterator() {
-        return iterator;
+        validateType(ValueType.DOUBLE);
+        return doubleIterator;
+    }
+
+    @NotNull
+    public PrimitiveIterator.OfLong longIterator() {
+        validateType(ValueType.LONG);
+        return longIterator;
     }
 
     public boolean isEmpty() {
         return iterator.isEmpty();
     }
+
+    /**
+     * Moves to the next message and returns {@code true} if there was one.
+     */
+    public boolean advance() {
+        if (!iterator.hasNext()) {
+            return false;
+        }
+        if (hasSender) {
+            sender = Double.doubleToRawLongBits(iterator.nextDouble());
+        }
+        if (arrayMessage == null) {
+            scalarMessage = iterator.nextDouble();
+        } else {
+            for (int i = 0; i < arrayMessage.length; i++) {
+                arrayMessage[i] = iterator.nextDouble();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the id of the node that sent the current message.
+     * Requires a message schema that includes the sender.
+     */
+    public long sender() {
+        return sender;
+    }
+
+    /**
+     * Returns the current message of a message schema of type double.
+     */
+    public double doubleMessage() {
+        return scalarMessage;
+    }
+
+    /**
+     * Returns the current message of a message schema of type long.
+     */
+    public long longMessage() {
+        return Double.doubleToRawLongBits(scalarMessage);
+    }
+
+    /**
+     * Returns the current message of a message schema of type double array.
+     * The returned array is reused for the next message and must not be stored.
+     */
+    public double[] doubleArrayMessage() {
+        return arrayMessage;
+    }
+
+    private void validateType(ValueType expectedType) {
+        if (schema.valueType() != expectedType) {
+            throw new IllegalStateException(formatWithLocale(
+                "Cannot read messages of type %s as %s messages.",
+                schema.valueType(),
+                expectedType
+            ));
+        }
+    }
+
+    private final class DoubleIterator implements PrimitiveIterator.OfDouble {
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public double nextDouble() {
+            // skip the sender
+            iterator.nextDouble();
+            return iterator.nextDouble();
+        }
+    }
+
+    private final class LongIterator implements PrimitiveIterator.OfLong {
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public long nextLong() {
+            if (hasSender) {
+                iterator.nextDouble();
+            }
+            return Double.doubleToRawLongBits(iterator.nextDouble());
+        }
+    }
 }
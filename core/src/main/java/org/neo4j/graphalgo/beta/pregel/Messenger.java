@@ -19,14 +19,37 @@
  */
 package org.neo4j.graphalgo.beta.pregel;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
 public interface Messenger<ITERATOR extends Messages.MessageIterator> {
 
     void initIteration(int iteration);
 
     void sendTo(long targetNodeId, double message);
 
+    /**
+     * Sends a message that is encoded in multiple slots.
+     *
+     * @see org.neo4j.graphalgo.beta.pregel.MessageSchema#slots()
+     */
+    void sendTo(long targetNodeId, double[] message);
+
     ITERATOR messageIterator();
 
+    /**
+     * Writes all messages that will be received in the next superstep.
+     * Called between supersteps.
+     */
+    void writeCheckpoint(DataOutput output) throws IOException;
+
+    /**
+     * Restores the messages that have been written by {@link #writeCheckpoint(java.io.DataOutput)},
+     * such that they are received in the next superstep.
+     */
+    void readCheckpoint(DataInput input) throws IOException;
+
     void initMessageIterator(ITERATOR messageIterator, long nodeId, boolean isFirstIteration);
 
     void release();
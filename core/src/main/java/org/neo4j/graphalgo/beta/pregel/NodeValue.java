@@ -32,6 +32,11 @@ import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
 import org.neo4j.graphalgo.utils.StringJoining;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
@@ -112,6 +117,131 @@ public abstract class NodeValue {
         return pregelSchema;
     }
 
+    /**
+     * Writes all node values, ordered by their schema key.
+     */
+    void writeCheckpoint(DataOutput output, long nodeCount) throws IOException {
+        for (var element : sortedElements()) {
+            var key = element.propertyKey();
+            output.writeUTF(key);
+            output.writeUTF(element.propertyType().name());
+            switch (element.propertyType()) {
+                case DOUBLE:
+                    var doubles = doubleProperties(key);
+                    for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                        output.writeDouble(doubles.get(nodeId));
+                    }
+                    break;
+                case LONG:
+                    var longs = longProperties(key);
+                    for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                        output.writeLong(longs.get(nodeId));
+                    }
+                    break;
+                case DOUBLE_ARRAY:
+                    var doubleArrays = doubleArrayProperties(key);
+                    for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                        var values = doubleArrays.get(nodeId);
+                        output.writeInt(values == null ? -1 : values.length);
+                        if (values != null) {
+                            for (double value : values) {
+                                output.writeDouble(value);
+                            }
+                        }
+                    }
+                    break;
+                case LONG_ARRAY:
+                    var longArrays = longArrayProperties(key);
+                    for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                        var values = longArrays.get(nodeId);
+                        output.writeInt(values == null ? -1 : values.length);
+                        if (values != null) {
+                            for (long value : values) {
+                                output.writeLong(value);
+                            }
+                        }
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException(formatWithLocale(
+                        "Unsupported value type: %s",
+                        element.propertyType()
+                    ));
+            }
+        }
+    }
+
+    /**
+     * Restores all node values that have been written by {@link #writeCheckpoint(java.io.DataOutput, long)}.
+     */
+    void readCheckpoint(DataInput input, long nodeCount) throws IOException {
+        for (var element : sortedElements()) {
+            var key = input.readUTF();
+            var type = input.readUTF();
+            if (!key.equals(element.propertyKey()) || !type.equals(element.propertyType().name())) {
+                throw new IllegalStateException(formatWithLocale(
+                    "Checkpoint does not match the node schema, expected %s (%s), got %s (%s).",
+                    element.propertyKey(),
+                    element.propertyType(),
+                    key,
+                    type
+                ));
+            }
+            switch (element.propertyType()) {
+                case DOUBLE:
+                    var doubles = doubleProperties(key);
+                    for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                        doubles.set(nodeId, input.readDouble());
+                    }
+                    break;
+                case LONG:
+                    var longs = longProperties(key);
+                    for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                        longs.set(nodeId, input.readLong());
+                    }
+                    break;
+                case DOUBLE_ARRAY:
+                    var doubleArrays = doubleArrayProperties(key);
+                    for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                        var length = input.readInt();
+                        if (length >= 0) {
+                            var values = new double[length];
+                            for (int i = 0; i < length; i++) {
+                                values[i] = input.readDouble();
+                            }
+                            doubleArrays.set(nodeId, values);
+                        }
+                    }
+                    break;
+                case LONG_ARRAY:
+                    var longArrays = longArrayProperties(key);
+                    for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                        var length = input.readInt();
+                        if (length >= 0) {
+                            var values = new long[length];
+                            for (int i = 0; i < length; i++) {
+                                values[i] = input.readLong();
+                            }
+                            longArrays.set(nodeId, values);
+                        }
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException(formatWithLocale(
+                        "Unsupported value type: %s",
+                        element.propertyType()
+                    ));
+            }
+        }
+    }
+
+    private List<Element> sortedElements() {
+        return pregelSchema.elements()
+            .stream()
+            .sorted(Comparator.comparing(Element::propertyKey))
+            .collect(Collectors.toList());
+    }
+
     public abstract HugeDoubleArray doubleProperties(String propertyKey);
 
     public abstract HugeLongArray longProperties(String propertyKey);
@@ -19,6 +19,7 @@
  */
 package org.neo4j.graphalgo.beta.pregel;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.beta.pregel.context.ComputeContext;
 import org.neo4j.graphalgo.beta.pregel.context.InitContext;
@@ -33,6 +34,10 @@ public final class PartitionedComputeStep<CONFIG extends PregelConfig, ITERATOR
     private final Partition nodeBatch;
     private final HugeAtomicBitSet voteBits;
     private final Messenger<ITERATOR> messenger;
+    private final MessageEncoder messageEncoder;
+    private final Aggregators aggregators;
+    private final Aggregators.Local localAggregators;
+    private final @Nullable CombiningBuffer combiningBuffer;
     private final PregelComputation<CONFIG> computation;
 
     private final Graph graph;
@@ -48,6 +53,8 @@ public final class PartitionedComputeStep<CONFIG extends PregelConfig, ITERATOR
         Partition nodeBatch,
         NodeValue nodeValue,
         Messenger<ITERATOR> messenger,
+        MessageSchema messageSchema,
+        Aggregators aggregators,
         HugeAtomicBitSet voteBits
     ) {
         this.graph = graph;
@@ -57,6 +64,15 @@ public final class PartitionedComputeStep<CONFIG extends PregelConfig, ITERATOR
         this.voteBits = voteBits;
         this.nodeBatch = nodeBatch;
         this.messenger = messenger;
+        this.messageEncoder = new MessageEncoder(messageSchema);
+        this.aggregators = aggregators;
+        this.localAggregators = aggregators.newLocal();
+        // Messages to nodes of other partitions are combined locally to avoid
+        // contention with the threads that send messages to the same nodes.
+        // The config ensures that combining is only enabled for reducing messengers.
+        this.combiningBuffer = config.senderSideCombining()
+            ? new CombiningBuffer((CombiningMessenger<?>) messenger, CombiningBuffer.DEFAULT_CAPACITY)
+            : null;
         this.computeContext = new ComputeContext<>(this, config);
         this.initContext = new InitContext<>(this, config, graph);
     }
@@ -64,6 +80,10 @@ public final class PartitionedComputeStep<CONFIG extends PregelConfig, ITERATOR
     @Override
     public void run() {
         computeBatch();
+        localAggregators.flush();
+        if (combiningBuffer != null) {
+            combiningBuffer.flushAndReport();
+        }
     }
 
     @Override
@@ -111,12 +131,42 @@ public final class PartitionedComputeStep<CONFIG extends PregelConfig, ITERATOR
         return iteration;
     }
 
+    @Override
+    public MessageEncoder messageEncoder() {
+        return messageEncoder;
+    }
+
+    @Override
+    public Aggregators aggregators() {
+        return aggregators;
+    }
+
+    @Override
+    public Aggregators.Local localAggregators() {
+        return localAggregators;
+    }
+
     @Override
     public void sendTo(long targetNodeId, double message) {
-        messenger.sendTo(targetNodeId, message);
+        if (combiningBuffer != null && !isInPartition(targetNodeId)) {
+            combiningBuffer.add(targetNodeId, message);
+        } else {
+            messenger.sendTo(targetNodeId, message);
+        }
         hasSentMessage = true;
     }
 
+    @Override
+    public void sendTo(long targetNodeId, double[] encodedMessage) {
+        messenger.sendTo(targetNodeId, encodedMessage);
+        hasSentMessage = true;
+    }
+
+    private boolean isInPartition(long nodeId) {
+        var startNode = nodeBatch.startNode();
+        return nodeId >= startNode && nodeId < startNode + nodeBatch.nodeCount();
+    }
+
     void init(int iteration) {
         this.iteration = iteration;
         this.hasSentMessage = false;
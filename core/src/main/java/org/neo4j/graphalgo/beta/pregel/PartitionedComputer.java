@@ -26,6 +26,7 @@ import org.neo4j.graphalgo.core.utils.BitUtil;
 import org.neo4j.graphalgo.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.graphalgo.core.utils.partition.Partition;
 import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
+import org.neo4j.logging.Log;
 
 import java.util.List;
 import java.util.concurrent.ExecutorService;
@@ -36,6 +37,7 @@ import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
 public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComputer<CONFIG> {
     private final ExecutorService executorService;
     private final int concurrency;
+    private final Log log;
 
     private List<PartitionedComputeStep<CONFIG, ?>> computeSteps;
 
@@ -45,13 +47,17 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
         CONFIG config,
         NodeValue nodeValues,
         Messenger<?> messenger,
+        MessageSchema messageSchema,
+        Aggregators aggregators,
         HugeAtomicBitSet voteBits,
         int concurrency,
-        ExecutorService executorService
+        ExecutorService executorService,
+        Log log
     ) {
-        super(graph, computation, config, nodeValues, messenger, voteBits);
+        super(graph, computation, config, nodeValues, messenger, messageSchema, aggregators, voteBits);
         this.executorService = executorService;
         this.concurrency = concurrency;
+        this.log = log;
     }
 
     @Override
@@ -91,6 +97,8 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
             partition,
             nodeValues,
             messenger,
+            messageSchema,
+            aggregators,
             voteBits
         );
 
@@ -98,11 +106,19 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
             case RANGE:
                 return PartitionUtils.rangePartition(concurrency, graph.nodeCount(), partitionFunction);
             case DEGREE:
-                var batchSize = Math.max(
-                    ParallelUtil.DEFAULT_BATCH_SIZE,
-                    BitUtil.ceilDiv(graph.relationshipCount(), concurrency)
+                // avoid tiny partitions on small graphs, same as the minimal batch size for range partitioning
+                var partitionCount = (int) Math.min(
+                    concurrency,
+                    BitUtil.ceilDiv(graph.relationshipCount(), ParallelUtil.DEFAULT_BATCH_SIZE)
+                );
+                return PartitionUtils.degreeBalancedPartition(
+                    graph,
+                    partitionCount,
+                    concurrency,
+                    executorService,
+                    log,
+                    partitionFunction
                 );
-                return PartitionUtils.degreePartition(graph, batchSize, partitionFunction);
             default:
                 throw new IllegalArgumentException(formatWithLocale(
                     "Unsupported partitioning `%s`",
@@ -20,16 +20,24 @@
 package org.neo4j.graphalgo.beta.pregel;
 
 import org.immutables.value.Value;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.nodeproperties.ValueType;
 import org.neo4j.graphalgo.beta.pregel.context.MasterComputeContext;
 import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
 import org.neo4j.graphalgo.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.logging.Log;
+import org.neo4j.logging.NullLog;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.concurrent.ExecutorService;
 
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
 @Value.Style(builderVisibility = Value.Style.BuilderVisibility.PUBLIC, depluralize = true, deepImmutablesDetection = true)
 public final class Pregel<CONFIG extends PregelConfig> {
 
@@ -43,14 +51,47 @@ public final class Pregel<CONFIG extends PregelConfig> {
 
     private final Messenger<?> messenger;
 
+    private final Aggregators aggregators;
+
+    private final HugeAtomicBitSet voteBits;
+
     private final PregelComputer<CONFIG> computer;
 
+    private final @Nullable PregelCheckpoint checkpoint;
+
     public static <CONFIG extends PregelConfig> Pregel<CONFIG> create(
         Graph graph,
         CONFIG config,
         PregelComputation<CONFIG> computation,
         ExecutorService executor,
         AllocationTracker tracker
+    ) {
+        return create(graph, config, computation, executor, tracker, NullLog.getInstance());
+    }
+
+    public static <CONFIG extends PregelConfig> Pregel<CONFIG> create(
+        Graph graph,
+        CONFIG config,
+        PregelComputation<CONFIG> computation,
+        ExecutorService executor,
+        AllocationTracker tracker,
+        Log log
+    ) {
+        return create(graph, config, computation, executor, tracker, log, null);
+    }
+
+    /**
+     * @param checkpointLocation server-side directory below which checkpoints are stored,
+     *                           required if the config enables checkpointing or resuming
+     */
+    public static <CONFIG extends PregelConfig> Pregel<CONFIG> create(
+        Graph graph,
+        CONFIG config,
+        PregelComputation<CONFIG> computation,
+        ExecutorService executor,
+        AllocationTracker tracker,
+        Log log,
+        @Nullable Path checkpointLocation
     ) {
         // This prevents users from disabling concurrency
         // validation in custom PregelConfig implementations.
@@ -58,13 +99,18 @@ public final class Pregel<CONFIG extends PregelConfig> {
         // concurrency validations.
         ImmutablePregelConfig.copyOf(config);
 
+        var schema = computation.schema(config);
+
         return new Pregel<>(
             graph,
             config,
             computation,
-            NodeValue.of(computation.schema(config), graph.nodeCount(), config.concurrency(), tracker),
+            NodeValue.of(schema, graph.nodeCount(), config.concurrency(), tracker),
+            schema.messageSchema(),
             executor,
-            tracker
+            tracker,
+            log,
+            checkpointLocation
         );
     }
 
@@ -80,6 +126,8 @@ public final class Pregel<CONFIG extends PregelConfig> {
             } else {
                 estimationBuilder.add("message queues", SyncQueueMessenger.memoryEstimation());
             }
+        } else if (pregelSchema.messageSchema().valueType() == ValueType.LONG) {
+            estimationBuilder.add("message arrays", LongReducingMessenger.memoryEstimation());
         } else {
             estimationBuilder.add("message arrays", ReducingMessenger.memoryEstimation());
         }
@@ -92,21 +140,45 @@ public final class Pregel<CONFIG extends PregelConfig> {
         final CONFIG config,
         final PregelComputation<CONFIG> computation,
         final NodeValue initialNodeValue,
+        final MessageSchema messageSchema,
         final ExecutorService executor,
-        final AllocationTracker tracker
+        final AllocationTracker tracker,
+        final Log log,
+        final @Nullable Path checkpointLocation
     ) {
         this.graph = graph;
         this.config = config;
         this.computation = computation;
         this.nodeValues = initialNodeValue;
+        this.aggregators = Aggregators.of(computation.aggregators());
+        this.voteBits = HugeAtomicBitSet.create(graph.nodeCount(), tracker);
+        if (config.checkpointDirectory() != null && checkpointLocation == null) {
+            throw new IllegalArgumentException(
+                "Checkpointing requires the configuration option 'gds.pregel.checkpoint.location' to be set."
+            );
+        }
+        this.checkpoint = config.checkpointDirectory() != null
+            ? new PregelCheckpoint(checkpointLocation, config.checkpointDirectory(), log)
+            : null;
 
         var reducer = computation.reducer();
+        var effectiveMessageSchema = messageSchema;
 
-        this.messenger = reducer.isPresent()
-            ? new ReducingMessenger(graph, config, reducer.get(), tracker)
-            : config.isAsynchronous()
-                ? new AsyncQueueMessenger(graph.nodeCount(), tracker)
-                : new SyncQueueMessenger(graph.nodeCount(), tracker);
+        if (reducer.isPresent()) {
+            validateReducibleMessages(messageSchema);
+            this.messenger = messageSchema.valueType() == ValueType.LONG
+                ? new LongReducingMessenger(graph, config, reducer.get(), tracker)
+                : new ReducingMessenger(graph, config, reducer.get(), tracker);
+        } else if (config.senderSideCombining()) {
+            throw new IllegalArgumentException(
+                "Sender side combining requires the computation to define a reducer."
+            );
+        } else if (config.isAsynchronous()) {
+            effectiveMessageSchema = messageSchema.forAsyncQueues();
+            this.messenger = new AsyncQueueMessenger(graph.nodeCount(), tracker);
+        } else {
+            this.messenger = new SyncQueueMessenger(graph.nodeCount(), tracker);
+        }
 
         this.computer = PregelComputer.<CONFIG>builder()
             .graph(graph)
@@ -114,36 +186,74 @@ public final class Pregel<CONFIG extends PregelConfig> {
             .config(config)
             .nodeValues(nodeValues)
             .messenger(messenger)
-            .voteBits(HugeAtomicBitSet.create(graph.nodeCount(), tracker))
+            .messageSchema(effectiveMessageSchema)
+            .aggregators(aggregators)
+            .voteBits(voteBits)
             .executorService(config.useForkJoin()
                 ? ParallelUtil.getFJPoolWithConcurrency(config.concurrency())
                 : executor)
+            .log(log)
             .build();
     }
 
     public PregelResult run() {
+        if (config.resumeFromCheckpoint()) {
+            return resume();
+        }
+        return run(0);
+    }
+
+    /**
+     * Restores the state of the computation from the checkpoint in the
+     * configured checkpoint directory and continues with the superstep
+     * after the one in which the checkpoint has been written.
+     */
+    public PregelResult resume() {
+        if (checkpoint == null) {
+            throw new IllegalStateException("Resuming a computation requires a `checkpointDirectory`.");
+        }
+        var superstep = checkpoint.read(nodeValues, voteBits, aggregators, messenger);
+        return run(superstep + 1);
+    }
+
+    private PregelResult run(int firstIteration) {
         boolean didConverge = false;
 
         computer.initComputation();
 
-        int iteration = 0;
+        var contentionStats = new ArrayList<MessageContentionStats>();
+
+        int iteration = firstIteration;
         for (; iteration < config.maxIterations(); iteration++) {
             computer.initIteration(iteration);
             messenger.initIteration(iteration);
 
             computer.runIteration();
-            runMasterComputeStep(iteration);
+            aggregators.completeSuperstep();
+
+            if (messenger instanceof CombiningMessenger) {
+                contentionStats.add(((CombiningMessenger<?>) messenger)
+                    .contentionCounters()
+                    .snapshotAndReset(iteration));
+            }
 
-            if (computer.hasConverged()) {
+            var haltComputation = runMasterComputeStep(iteration);
+
+            if (haltComputation || computer.hasConverged()) {
                 didConverge = true;
                 break;
             }
+
+            if (checkpoint != null && config.checkpointInterval() > 0 && (iteration + 1) % config.checkpointInterval() == 0) {
+                checkpoint.write(iteration, nodeValues, voteBits, aggregators, messenger);
+            }
         }
 
         return ImmutablePregelResult.builder()
             .nodeValues(nodeValues)
             .didConverge(didConverge)
             .ranIterations(iteration)
+            .messageContentionStats(contentionStats)
             .build();
     }
 
@@ -151,8 +261,19 @@ public final class Pregel<CONFIG extends PregelConfig> {
         messenger.release();
     }
 
-    private void runMasterComputeStep(int iteration) {
-        var context = new MasterComputeContext<>(config, graph, iteration, nodeValues);
+    private static void validateReducibleMessages(MessageSchema messageSchema) {
+        var valueType = messageSchema.valueType();
+        if (messageSchema.includeSender() || (valueType != ValueType.DOUBLE && valueType != ValueType.LONG)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Reducers can only be applied to DOUBLE or LONG messages without sender, got %s.",
+                messageSchema
+            ));
+        }
+    }
+
+    private boolean runMasterComputeStep(int iteration) {
+        var context = new MasterComputeContext<>(config, graph, iteration, nodeValues, aggregators);
         computation.masterCompute(context);
+        return context.isHalted();
     }
 }
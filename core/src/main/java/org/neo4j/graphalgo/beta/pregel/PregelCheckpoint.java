@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.pregel;
+
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.logging.Log;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import static org.neo4j.graphalgo.core.utils.export.GraphStoreExporter.DIRECTORY_IS_WRITABLE;
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.humanReadable;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Writes and restores the state of a Pregel computation between two supersteps.
+ * <br>
+ * A checkpoint consists of the node values, the vote bits, the published
+ * aggregator values and all messages that will be received in the next
+ * superstep. Values are written as raw primitives in node id order.
+ * The checkpoint file is written to a temporary file first and atomically
+ * moved into place, so that an interrupted write keeps the previous checkpoint.
+ * <br>
+ * Checkpoints are only stored below a checkpoint location that is configured
+ * on the server, the configured directory is resolved relative to it.
+ */
+final class PregelCheckpoint {
+
+    static final String FILE_NAME = "pregel.checkpoint";
+
+    private static final int MAGIC = 0x50524743;
+    private static final int VERSION = 1;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Path checkpointFile;
+    private final Log log;
+
+    PregelCheckpoint(Path checkpointLocation, String checkpointDirectory, Log log) {
+        this.checkpointFile = resolveCheckpointDirectory(checkpointLocation, checkpointDirectory).resolve(FILE_NAME);
+        this.log = log;
+    }
+
+    static Path resolveCheckpointDirectory(Path checkpointLocation, String checkpointDirectory) {
+        DIRECTORY_IS_WRITABLE.validate(checkpointLocation);
+
+        var normalizedLocation = checkpointLocation.normalize();
+        var resolvedDirectory = normalizedLocation.resolve(checkpointDirectory).normalize();
+
+        if (!resolvedDirectory.startsWith(normalizedLocation)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Illegal parameter value for parameter checkpointDirectory=%s. It attempts to access forbidden directory %s.",
+                checkpointDirectory,
+                resolvedDirectory
+            ));
+        }
+
+        return resolvedDirectory;
+    }
+
+    void write(
+        int superstep,
+        NodeValue nodeValues,
+        HugeAtomicBitSet voteBits,
+        Aggregators aggregators,
+        Messenger<?> messenger
+    ) {
+        var start = System.nanoTime();
+        var nodeCount = voteBits.size();
+        var tempFile = checkpointFile.resolveSibling(FILE_NAME + ".tmp");
+
+        try {
+            Files.createDirectories(checkpointFile.getParent());
+            try (var output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile), BUFFER_SIZE))) {
+                output.writeInt(MAGIC);
+                output.writeInt(VERSION);
+                output.writeInt(superstep);
+                output.writeLong(nodeCount);
+
+                nodeValues.writeCheckpoint(output, nodeCount);
+                writeVoteBits(output, voteBits);
+                aggregators.writeCheckpoint(output);
+                messenger.writeCheckpoint(output);
+            }
+            Files.move(tempFile, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            var bytes = Files.size(checkpointFile);
+            var millis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+            log.info(formatWithLocale(
+                "Pregel checkpoint for superstep %d written to %s: %s in %d ms (%s/s)",
+                superstep,
+                checkpointFile,
+                humanReadable(bytes),
+                millis,
+                humanReadable(bytes * 1000 / millis)
+            ));
+        } catch (IOException e) {
+            throw new UncheckedIOException(formatWithLocale("Failed to write Pregel checkpoint to %s", checkpointFile), e);
+        }
+    }
+
+    /**
+     * Restores the state of the computation and returns the superstep in which the checkpoint was written.
+     */
+    int read(
+        NodeValue nodeValues,
+        HugeAtomicBitSet voteBits,
+        Aggregators aggregators,
+        Messenger<?> messenger
+    ) {
+        var start = System.nanoTime();
+        var expectedNodeCount = voteBits.size();
+
+        try (var input = new DataInputStream(new BufferedInputStream(Files.newInputStream(checkpointFile), BUFFER_SIZE))) {
+            if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+                throw new IllegalStateException(formatWithLocale("%s is not a valid Pregel checkpoint.", checkpointFile));
+            }
+            var superstep = input.readInt();
+            var nodeCount = input.readLong();
+            if (nodeCount != expectedNodeCount) {
+                throw new IllegalStateException(formatWithLocale(
+                    "Checkpoint was written for %d nodes, but the graph contains %d nodes.",
+                    nodeCount,
+                    expectedNodeCount
+                ));
+            }
+
+            nodeValues.readCheckpoint(input, nodeCount);
+            readVoteBits(input, voteBits);
+            aggregators.readCheckpoint(input);
+            messenger.readCheckpoint(input);
+
+            log.info(formatWithLocale(
+                "Pregel checkpoint for superstep %d restored from %s in %d ms",
+                superstep,
+                checkpointFile,
+                (System.nanoTime() - start) / 1_000_000
+            ));
+            return superstep;
+        } catch (IOException e) {
+            throw new UncheckedIOException(formatWithLocale("Failed to read Pregel checkpoint from %s", checkpointFile), e);
+        }
+    }
+
+    private static void writeVoteBits(DataOutputStream output, HugeAtomicBitSet voteBits) throws IOException {
+        var size = voteBits.size();
+        for (long offset = 0; offset < size; offset += Long.SIZE) {
+            long word = 0L;
+            var limit = Math.min(Long.SIZE, size - offset);
+            for (int bit = 0; bit < limit; bit++) {
+                if (voteBits.get(offset + bit)) {
+                    word |= 1L << bit;
+                }
+            }
+            output.writeLong(word);
+        }
+    }
+
+    private static void readVoteBits(DataInputStream input, HugeAtomicBitSet voteBits) throws IOException {
+        var size = voteBits.size();
+        voteBits.clear();
+        for (long offset = 0; offset < size; offset += Long.SIZE) {
+            var word = input.readLong();
+            while (word != 0) {
+                var bit = Long.numberOfTrailingZeros(word);
+                voteBits.set(offset + bit);
+                word &= word - 1;
+            }
+        }
+    }
+}
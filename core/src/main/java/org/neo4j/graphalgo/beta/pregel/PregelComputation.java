@@ -23,6 +23,7 @@ import org.neo4j.graphalgo.beta.pregel.context.ComputeContext;
 import org.neo4j.graphalgo.beta.pregel.context.InitContext;
 import org.neo4j.graphalgo.beta.pregel.context.MasterComputeContext;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -99,6 +100,25 @@ public interface PregelComputation<C extends PregelConfig> {
         return Optional.empty();
     }
 
+    /**
+     * Global aggregators reduce values that are provided by all nodes
+     * into a single value per superstep, e.g. to compute a residual
+     * norm that is used to detect convergence. Nodes aggregate values
+     * via the compute context, the aggregated value can be read in the
+     * master computation of the same superstep and by all nodes in the
+     * next superstep.
+     * <br>
+     * Example:
+     * <pre>
+     * public List&lt;Aggregator&gt; aggregators() {
+     *      return List.of(Aggregator.ofDouble("delta", new Reducer.Sum()));
+     * }
+     * </pre>
+     */
+    default List<Aggregator> aggregators() {
+        return List.of();
+    }
+
     /**
      * If the input graph is weighted, i.e. relationships have a
      * property, this method can be overridden to apply that weight
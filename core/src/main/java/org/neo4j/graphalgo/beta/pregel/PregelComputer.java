@@ -22,6 +22,7 @@ package org.neo4j.graphalgo.beta.pregel;
 import org.immutables.builder.Builder;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.logging.Log;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ForkJoinPool;
@@ -34,6 +35,8 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
     final CONFIG config;
     final NodeValue nodeValues;
     final Messenger<?> messenger;
+    final MessageSchema messageSchema;
+    final Aggregators aggregators;
     final HugeAtomicBitSet voteBits;
 
     PregelComputer(
@@ -42,6 +45,8 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
         CONFIG config,
         NodeValue nodeValues,
         Messenger<?> messenger,
+        MessageSchema messageSchema,
+        Aggregators aggregators,
         HugeAtomicBitSet voteBits
     ) {
         this.graph = graph;
@@ -49,6 +54,8 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
         this.config = config;
         this.nodeValues = nodeValues;
         this.messenger = messenger;
+        this.messageSchema = messageSchema;
+        this.aggregators = aggregators;
         this.voteBits = voteBits;
     }
 
@@ -71,8 +78,11 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
         CONFIG config,
         NodeValue nodeValues,
         Messenger<?> messenger,
+        MessageSchema messageSchema,
+        Aggregators aggregators,
         HugeAtomicBitSet voteBits,
-        ExecutorService executorService
+        ExecutorService executorService,
+        Log log
     ) {
         if (config.useForkJoin()) {
             if (!(executorService instanceof ForkJoinPool)) {
@@ -88,6 +98,8 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
                 config,
                 nodeValues,
                 messenger,
+                messageSchema,
+                aggregators,
                 voteBits,
                 (ForkJoinPool) executorService
             );
@@ -99,9 +111,12 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
             config,
             nodeValues,
             messenger,
+            messageSchema,
+            aggregators,
             voteBits,
             config.concurrency(),
-            executorService
+            executorService,
+            log
         );
     }
 }
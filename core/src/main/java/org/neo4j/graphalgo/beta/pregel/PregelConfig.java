@@ -20,6 +20,7 @@
 package org.neo4j.graphalgo.beta.pregel;
 
 import org.immutables.value.Value;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.graphalgo.annotation.Configuration;
 import org.neo4j.graphalgo.annotation.ValueClass;
 import org.neo4j.graphalgo.config.AlgoBaseConfig;
@@ -31,6 +32,8 @@ import org.neo4j.graphalgo.core.CypherMapWrapper;
 
 import java.util.Optional;
 
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
@@ -52,6 +55,70 @@ public interface PregelConfig extends
         return Partitioning.RANGE;
     }
 
+    /**
+     * If enabled and the computation defines a reducer, messages to nodes of other
+     * partitions are combined in thread-local buffers before they are applied to the
+     * shared message array. Requires a reducer and is not supported for {@link Partitioning#AUTO}.
+     */
+    @Value.Default
+    default boolean senderSideCombining() {
+        return false;
+    }
+
+    /**
+     * Writes a checkpoint after every {@code checkpointInterval} supersteps.
+     * A value of {@code 0} disables checkpointing.
+     */
+    @Value.Default
+    default int checkpointInterval() {
+        return 0;
+    }
+
+    /**
+     * The directory in which the checkpoint of the computation is stored.
+     * It is resolved relative to the checkpoint location configured on the server
+     * and must not point outside of it.
+     */
+    @Value.Default
+    @Configuration.ConvertWith("org.apache.commons.lang3.StringUtils#trimToNull")
+    default @Nullable String checkpointDirectory() {
+        return null;
+    }
+
+    /**
+     * If enabled, {@link Pregel#run()} continues the computation from the
+     * checkpoint stored in the {@link #checkpointDirectory()}.
+     */
+    @Value.Default
+    default boolean resumeFromCheckpoint() {
+        return false;
+    }
+
+    @Value.Check
+    default void validateCheckpointing() {
+        if (checkpointInterval() < 0) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The value of `checkpointInterval` must be at least 0, but was %d.",
+                checkpointInterval()
+            ));
+        }
+        if ((checkpointInterval() > 0 || resumeFromCheckpoint()) && checkpointDirectory() == null) {
+            throw new IllegalArgumentException(
+                "Checkpointing requires a `checkpointDirectory` to be specified."
+            );
+        }
+    }
+
+    @Value.Check
+    default void validateSenderSideCombining() {
+        if (senderSideCombining() && partitioning() == Partitioning.AUTO) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Sender side combining is not supported for `%s` partitioning.",
+                Partitioning.AUTO
+            ));
+        }
+    }
+
     @Value.Derived
     @Configuration.Ignore
     default boolean useForkJoin() {
@@ -19,8 +19,11 @@
  */
 package org.neo4j.graphalgo.beta.pregel;
 
+import org.immutables.value.Value;
 import org.neo4j.graphalgo.annotation.ValueClass;
 
+import java.util.List;
+
 @ValueClass
 public interface PregelResult {
 
@@ -29,4 +32,14 @@ public interface PregelResult {
     int ranIterations();
 
     boolean didConverge();
+
+    /**
+     * Per-superstep statistics about the contention on the message arrays.
+     * Only available for computations that define a reducer.
+     */
+    @Value.Default
+    @Value.Parameter(false)
+    default List<MessageContentionStats> messageContentionStats() {
+        return List.of();
+    }
 }
@@ -19,6 +19,7 @@
  */
 package org.neo4j.graphalgo.beta.pregel;
 
+import org.immutables.value.Value;
 import org.neo4j.graphalgo.annotation.ValueClass;
 import org.neo4j.graphalgo.api.nodeproperties.ValueType;
 
@@ -34,9 +35,19 @@ public interface PregelSchema {
 
     Set<Element> elements();
 
+    /**
+     * The layout of the messages sent between nodes, defaults to double messages.
+     */
+    @Value.Default
+    @Value.Parameter(false)
+    default MessageSchema messageSchema() {
+        return MessageSchema.doubles();
+    }
+
     class Builder {
 
         private final Set<Element> elements = new HashSet<>();
+        private MessageSchema messageSchema = MessageSchema.doubles();
 
         public PregelSchema.Builder add(String propertyKey, ValueType propertyType) {
             return add(propertyKey, propertyType, Visibility.PUBLIC);
@@ -47,8 +58,13 @@ public interface PregelSchema {
             return this;
         }
 
+        public PregelSchema.Builder messages(MessageSchema messageSchema) {
+            this.messageSchema = messageSchema;
+            return this;
+        }
+
         public PregelSchema build() {
-            return ImmutablePregelSchema.of(elements);
+            return ImmutablePregelSchema.of(elements).withMessageSchema(messageSchema);
         }
     }
 }
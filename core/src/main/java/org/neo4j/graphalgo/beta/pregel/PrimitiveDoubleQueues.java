@@ -23,6 +23,9 @@ import org.jetbrains.annotations.TestOnly;
 import org.neo4j.graphalgo.core.utils.paged.HugeAtomicLongArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
 
@@ -55,7 +58,75 @@ public abstract class PrimitiveDoubleQueues {
 
     abstract void grow(long nodeId, int newCapacity);
 
+    /**
+     * The index of the first message in the queue that has not been consumed yet.
+     */
+    abstract int firstPendingIndex(long nodeId);
+
+    /**
+     * Writes all messages that have not been consumed yet. Must not be
+     * called while messages are being pushed.
+     */
+    void writeCheckpoint(DataOutput output) throws IOException {
+        var nodeCount = tails.size();
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            var head = firstPendingIndex(nodeId);
+            var tail = (int) tails.get(nodeId);
+            var queue = queues.get(nodeId);
+            output.writeInt(tail - head);
+            for (int i = head; i < tail; i++) {
+                output.writeDouble(queue[i]);
+            }
+        }
+    }
+
+    /**
+     * Restores messages that have been written by {@link #writeCheckpoint(java.io.DataOutput)}
+     * into empty queues.
+     */
+    void readCheckpoint(DataInput input) throws IOException {
+        var nodeCount = tails.size();
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            var length = input.readInt();
+            if (!hasSpaceLeft(nodeId, length)) {
+                grow(nodeId, length);
+            }
+            var queue = queues.get(nodeId);
+            for (int i = 0; i < length; i++) {
+                queue[i] = input.readDouble();
+            }
+            tails.set(nodeId, length);
+        }
+    }
+
     public void push(long nodeId, double message) {
+        var idx = (int) reserve(nodeId, 1);
+
+        // Multiple threads can concurrently update the queue, we need
+        // to signal this with a shared reference to the array.
+        getSharedReference(nodeId);
+        ARRAY_HANDLE.setVolatile(queues.get(nodeId), idx, message);
+        dropSharedReference(nodeId);
+    }
+
+    /**
+     * Pushes a message that is stored in multiple consecutive slots.
+     * The first slot is written last, readers that observe the first
+     * slot of a message are guaranteed to observe the remaining slots.
+     */
+    public void push(long nodeId, double[] message) {
+        var idx = (int) reserve(nodeId, message.length);
+
+        getSharedReference(nodeId);
+        var queue = queues.get(nodeId);
+        for (int i = 1; i < message.length; i++) {
+            ARRAY_HANDLE.setVolatile(queue, idx + i, message[i]);
+        }
+        ARRAY_HANDLE.setVolatile(queue, idx, message[0]);
+        dropSharedReference(nodeId);
+    }
+
+    private long reserve(long nodeId, int slots) {
         // The index which we will eventually use to
         // insert the message into the nodes' queue.
         long idx;
@@ -69,9 +140,15 @@ public abstract class PrimitiveDoubleQueues {
                 // When the thread is done growing, the index will
                 // turn positive again, so we go ahead and try to
                 // set the next index.
-                var nextId = -idx + 1;
+                var nextId = -idx + slots;
 
                 while (true) {
+                    if (!hasSpaceLeft(nodeId, (int) nextId)) {
+                        // The grown queue cannot hold our message, we
+                        // retry from the most outer loop which grows
+                        // the queue again if necessary.
+                        continue outer;
+                    }
                     var currentIdx = tails.compareAndExchange(nodeId, -idx, nextId);
                     if (currentIdx == -idx) {
                         // The queue is grown and the current thread
@@ -91,9 +168,9 @@ public abstract class PrimitiveDoubleQueues {
                     // trying to set the next index.
                 }
             }
-            // We basically perform and getAndIncrement and try
+            // We basically perform and getAndAdd and try
             // to update the tail with the next index.
-            long nextIdx = idx + 1;
+            long nextIdx = idx + slots;
 
             if (hasSpaceLeft(nodeId, (int) nextIdx)) {
                 // There is still room in the local queue.
@@ -137,11 +214,7 @@ public abstract class PrimitiveDoubleQueues {
         // in order to avoid reading from the queue before it is grown.
         VarHandle.fullFence();
 
-        // Multiple threads can concurrently update the queue, we need
-        // to signal this with a shared reference to the array.
-        getSharedReference(nodeId);
-        ARRAY_HANDLE.setVolatile(queues.get(nodeId), (int) idx, message);
-        dropSharedReference(nodeId);
+        return idx;
     }
 
     private void getSharedReference(long nodeId) {
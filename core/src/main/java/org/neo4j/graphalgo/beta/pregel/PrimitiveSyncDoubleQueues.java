@@ -92,12 +92,18 @@ public final class PrimitiveSyncDoubleQueues extends PrimitiveDoubleQueues {
         iterator.init(prevQueues.get(nodeId), (int) prevTails.get(nodeId));
     }
 
+    @Override
+    int firstPendingIndex(long nodeId) {
+        // messages of the current iteration are consumed in the next one
+        return 0;
+    }
+
     @Override
     void grow(long nodeId, int minCapacity) {
         var queue = queues.get(nodeId);
         var capacity = queue.length;
-        // grow by 50%
-        var newCapacity = capacity + (capacity >> 1);
+        // grow by 50%, but at least to the requested capacity
+        var newCapacity = Math.max(capacity + (capacity >> 1), minCapacity);
         queues.set(nodeId, Arrays.copyOf(queue, newCapacity));
     }
 
@@ -19,6 +19,8 @@
  */
 package org.neo4j.graphalgo.beta.pregel;
 
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
 public interface Reducer {
 
     /**
@@ -41,6 +43,39 @@ public interface Reducer {
      */
     boolean isEmptyValue(double value);
 
+    /**
+     * The identity element that is used as the initial value for long messages.
+     */
+    default long longIdentity() {
+        throw new UnsupportedOperationException(formatWithLocale("%s does not support long messages", getClass().getSimpleName()));
+    }
+
+    /**
+     * Computes a new value based on the current value and the long message.
+     */
+    default long reduce(long current, long message) {
+        throw new UnsupportedOperationException(formatWithLocale("%s does not support long messages", getClass().getSimpleName()));
+    }
+
+    /**
+     * Combines two partially reduced values into one.
+     * Used when messages are combined on the sender side before they are
+     * applied to the receiving node. Defaults to {@link #reduce(double, double)},
+     * which is correct for all reducers that treat a partial result like a message.
+     */
+    default double combine(double left, double right) {
+        return reduce(left, right);
+    }
+
+    /**
+     * Combines two partially reduced long values into one.
+     *
+     * @see #combine(double, double)
+     */
+    default long combine(long left, long right) {
+        return reduce(left, right);
+    }
+
     class Sum implements Reducer {
 
         @Override
@@ -62,6 +97,16 @@ public interface Reducer {
         public boolean isEmptyValue(double value) {
             return Double.isNaN(value);
         }
+
+        @Override
+        public long longIdentity() {
+            return 0;
+        }
+
+        @Override
+        public long reduce(long current, long message) {
+            return current + message;
+        }
     }
 
     class Min implements Reducer {
@@ -85,6 +130,16 @@ public interface Reducer {
         public boolean isEmptyValue(double value) {
             return Double.isNaN(value);
         }
+
+        @Override
+        public long longIdentity() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public long reduce(long current, long message) {
+            return Math.min(current, message);
+        }
     }
 
     class Max implements Reducer {
@@ -108,6 +163,16 @@ public interface Reducer {
         public boolean isEmptyValue(double value) {
             return Double.isNaN(value);
         }
+
+        @Override
+        public long longIdentity() {
+            return Long.MIN_VALUE;
+        }
+
+        @Override
+        public long reduce(long current, long message) {
+            return Math.max(current, message);
+        }
     }
 
     class Count implements Reducer {
@@ -131,5 +196,25 @@ public interface Reducer {
         public boolean isEmptyValue(double value) {
             return Double.isNaN(value);
         }
+
+        @Override
+        public long longIdentity() {
+            return 0;
+        }
+
+        @Override
+        public long reduce(long current, long message) {
+            return current + 1;
+        }
+
+        @Override
+        public double combine(double left, double right) {
+            return left + right;
+        }
+
+        @Override
+        public long combine(long left, long right) {
+            return left + right;
+        }
     }
 }
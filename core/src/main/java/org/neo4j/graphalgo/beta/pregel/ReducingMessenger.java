@@ -26,17 +26,22 @@ import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
 import org.neo4j.graphalgo.core.utils.paged.HugeAtomicDoubleArray;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
 /**
  * A messenger implementation that is backed by two double arrays used
  * to send and receive messages. The messenger can only be applied in
  * combination with a {@link org.neo4j.graphalgo.beta.pregel.Reducer}
  * which atomically reduces all incoming messages into a single one.
  */
-public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMessageIterator> {
+public class ReducingMessenger implements CombiningMessenger<ReducingMessenger.SingleMessageIterator> {
 
     private final Graph graph;
     private final PregelConfig config;
     private final Reducer reducer;
+    private final ContentionCounters contentionCounters;
 
     private HugeAtomicDoubleArray sendArray;
     private HugeAtomicDoubleArray receiveArray;
@@ -45,6 +50,7 @@ public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMess
         this.graph = graph;
         this.config = config;
         this.reducer = reducer;
+        this.contentionCounters = new ContentionCounters();
 
         this.receiveArray = HugeAtomicDoubleArray.newArray(graph.nodeCount(), tracker);
         this.sendArray = HugeAtomicDoubleArray.newArray(graph.nodeCount(), tracker);
@@ -73,12 +79,50 @@ public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMess
 
     @Override
     public void sendTo(long targetNodeId, double message) {
+        var current = sendArray.get(targetNodeId);
+        long retries = 0;
+        while (true) {
+            var next = reducer.reduce(reducer.isEmptyValue(current) ? reducer.identity() : current, message);
+            var witness = sendArray.compareAndExchange(targetNodeId, current, next);
+            if (Double.doubleToRawLongBits(witness) == Double.doubleToRawLongBits(current)) {
+                break;
+            }
+            current = witness;
+            retries++;
+        }
+        if (retries > 0) {
+            contentionCounters.addCasRetries(retries);
+        }
+    }
+
+    @Override
+    public void sendCombinedTo(long targetNodeId, double partialResult) {
         sendArray.update(
             targetNodeId,
-            current -> reducer.reduce(reducer.isEmptyValue(current) ? reducer.identity() : current, message)
+            current -> reducer.combine(reducer.isEmptyValue(current) ? reducer.identity() : current, partialResult)
         );
     }
 
+    @Override
+    public Reducer reducer() {
+        return reducer;
+    }
+
+    @Override
+    public boolean reducesLongMessages() {
+        return false;
+    }
+
+    @Override
+    public ContentionCounters contentionCounters() {
+        return contentionCounters;
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double[] message) {
+        throw new UnsupportedOperationException("Messages that span multiple values cannot be reduced");
+    }
+
     @Override
     public ReducingMessenger.SingleMessageIterator messageIterator() {
         return new SingleMessageIterator();
@@ -94,6 +138,22 @@ public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMess
         messageIterator.init(message, !reducer.isEmptyValue(message));
     }
 
+    @Override
+    public void writeCheckpoint(DataOutput output) throws IOException {
+        var nodeCount = sendArray.size();
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            output.writeDouble(sendArray.get(nodeId));
+        }
+    }
+
+    @Override
+    public void readCheckpoint(DataInput input) throws IOException {
+        var nodeCount = sendArray.size();
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            sendArray.set(nodeId, input.readDouble());
+        }
+    }
+
     @Override
     public void release() {
         sendArray.release();
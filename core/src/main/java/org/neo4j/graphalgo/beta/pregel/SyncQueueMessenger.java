@@ -22,6 +22,10 @@ package org.neo4j.graphalgo.beta.pregel;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
 public class SyncQueueMessenger implements Messenger<PrimitiveSyncDoubleQueues.Iterator> {
 
     private final PrimitiveSyncDoubleQueues queues;
@@ -44,6 +48,11 @@ public class SyncQueueMessenger implements Messenger<PrimitiveSyncDoubleQueues.I
         queues.push(targetNodeId, message);
     }
 
+    @Override
+    public void sendTo(long targetNodeId, double[] message) {
+        queues.push(targetNodeId, message);
+    }
+
     @Override
     public PrimitiveSyncDoubleQueues.Iterator messageIterator() {
         return new PrimitiveSyncDoubleQueues.Iterator();
@@ -54,6 +63,16 @@ public class SyncQueueMessenger implements Messenger<PrimitiveSyncDoubleQueues.I
         queues.initIterator(messageIterator, nodeId);
     }
 
+    @Override
+    public void writeCheckpoint(DataOutput output) throws IOException {
+        queues.writeCheckpoint(output);
+    }
+
+    @Override
+    public void readCheckpoint(DataInput input) throws IOException {
+        queues.readCheckpoint(input);
+    }
+
     @Override
     public void release() {
         queues.release();
@@ -19,9 +19,12 @@
  */
 package org.neo4j.graphalgo.beta.pregel.context;
 
+import org.neo4j.graphalgo.api.nodeproperties.ValueType;
 import org.neo4j.graphalgo.beta.pregel.ComputeStep;
 import org.neo4j.graphalgo.beta.pregel.PregelConfig;
 
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
 /**
  * A context that is used during the computation. It allows an implementation
  * to send messages to other nodes and change the state of the currently
@@ -83,6 +86,44 @@ public final class ComputeContext<CONFIG extends PregelConfig> extends NodeCentr
         return computeStep.doubleArrayNodeValue(key, nodeId);
     }
 
+    /**
+     * Aggregates the given value into the global aggregator with the given key.
+     * The aggregated value is visible in the next superstep.
+     *
+     * @throws IllegalArgumentException if the key does not exist or the aggregator is not of type double
+     */
+    public void aggregate(String key, double value) {
+        computeStep.localAggregators().aggregate(key, value);
+    }
+
+    /**
+     * Aggregates the given value into the global aggregator with the given key.
+     * The aggregated value is visible in the next superstep.
+     *
+     * @throws IllegalArgumentException if the key does not exist
+     */
+    public void aggregate(String key, long value) {
+        computeStep.localAggregators().aggregate(key, value);
+    }
+
+    /**
+     * Returns the value of the given double aggregator from the previous superstep.
+     *
+     * @throws IllegalArgumentException if the key does not exist or the aggregator is not of type double
+     */
+    public double doubleAggregatedValue(String key) {
+        return computeStep.aggregators().doubleValue(key);
+    }
+
+    /**
+     * Returns the value of the given long aggregator from the previous superstep.
+     *
+     * @throws IllegalArgumentException if the key does not exist or the aggregator is not of type long
+     */
+    public long longAggregatedValue(String key) {
+        return computeStep.aggregators().longValue(key);
+    }
+
     /**
      * Notify the execution framework that this node intends
      * to stop the computation. If the node voted to halt
@@ -111,8 +152,11 @@ public final class ComputeContext<CONFIG extends PregelConfig> extends NodeCentr
 
     /**
      * Sends the given message to all neighbors of the node.
+     *
+     * @throws IllegalArgumentException if the message schema is not {@code DOUBLE}
      */
     public void sendToNeighbors(double message) {
+        validateMessageType(ValueType.DOUBLE);
         sendMessagesFunction.sendToNeighbors(nodeId, message);
     }
 
@@ -121,9 +165,78 @@ public final class ComputeContext<CONFIG extends PregelConfig> extends NodeCentr
      * node can be any existing node id in the graph.
      *
      * @throws ArrayIndexOutOfBoundsException if the node is in the not in id space
+     * @throws IllegalArgumentException if the message schema is not {@code DOUBLE}
      */
     public void sendTo(long targetNodeId, double message) {
-        computeStep.sendTo(targetNodeId, message);
+        validateMessageType(ValueType.DOUBLE);
+        computeStep.sendTo(nodeId, targetNodeId, message);
+    }
+
+    /**
+     * Sends the given long message to all neighbors of the node.
+     *
+     * @throws IllegalArgumentException if the message schema is not {@code LONG}
+     */
+    public void sendLongToNeighbors(long message) {
+        validateMessageType(ValueType.LONG);
+        computeStep.sendLongToNeighbors(nodeId, message);
+    }
+
+    /**
+     * Sends the given long message to the target node.
+     *
+     * @throws IllegalArgumentException if the message schema is not {@code LONG}
+     */
+    public void sendLongTo(long targetNodeId, long message) {
+        validateMessageType(ValueType.LONG);
+        computeStep.sendLongTo(nodeId, targetNodeId, message);
+    }
+
+    /**
+     * Sends the given array message to all neighbors of the node.
+     * The array is copied and can be reused by the caller.
+     *
+     * @throws IllegalArgumentException if the message schema is not {@code DOUBLE_ARRAY}
+     *                                  or the array length does not match the schema dimension
+     */
+    public void sendArrayToNeighbors(double[] message) {
+        validateArrayMessage(message);
+        computeStep.sendArrayToNeighbors(nodeId, message);
+    }
+
+    /**
+     * Sends the given array message to the target node.
+     * The array is copied and can be reused by the caller.
+     *
+     * @throws IllegalArgumentException if the message schema is not {@code DOUBLE_ARRAY}
+     *                                  or the array length does not match the schema dimension
+     */
+    public void sendArrayTo(long targetNodeId, double[] message) {
+        validateArrayMessage(message);
+        computeStep.sendArrayTo(nodeId, targetNodeId, message);
+    }
+
+    private void validateMessageType(ValueType expectedType) {
+        var messageSchema = computeStep.messageEncoder().schema();
+        if (messageSchema.valueType() != expectedType) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Cannot send a %s message, the message schema expects %s messages.",
+                expectedType,
+                messageSchema.valueType()
+            ));
+        }
+    }
+
+    private void validateArrayMessage(double[] message) {
+        validateMessageType(ValueType.DOUBLE_ARRAY);
+        var dimension = computeStep.messageEncoder().schema().dimension();
+        if (message.length != dimension) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Expected a message of length %d, got %d.",
+                dimension,
+                message.length
+            ));
+        }
     }
 
     @FunctionalInterface
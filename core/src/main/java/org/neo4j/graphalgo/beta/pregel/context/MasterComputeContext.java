@@ -20,6 +20,7 @@
 package org.neo4j.graphalgo.beta.pregel.context;
 
 import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.beta.pregel.Aggregators;
 import org.neo4j.graphalgo.beta.pregel.NodeValue;
 import org.neo4j.graphalgo.beta.pregel.PregelConfig;
 
@@ -30,17 +31,22 @@ public class MasterComputeContext<CONFIG extends PregelConfig> extends PregelCon
     private final Graph graph;
     private final int iteration;
     private final NodeValue nodeValue;
+    private final Aggregators aggregators;
+
+    private boolean halted;
 
     public MasterComputeContext(
         CONFIG config,
         Graph graph,
         int iteration,
-        NodeValue nodeValue
+        NodeValue nodeValue,
+        Aggregators aggregators
     ) {
         super(config);
         this.graph = graph;
         this.iteration = iteration;
         this.nodeValue = nodeValue;
+        this.aggregators = aggregators;
     }
 
     @Override
@@ -72,6 +78,39 @@ public class MasterComputeContext<CONFIG extends PregelConfig> extends PregelCon
         return superstep() == 0;
     }
 
+    /**
+     * Returns the value of the given double aggregator for the current superstep.
+     *
+     * @throws IllegalArgumentException if the key does not exist or the aggregator is not of type double
+     */
+    public double doubleAggregatedValue(String key) {
+        return aggregators.doubleValue(key);
+    }
+
+    /**
+     * Returns the value of the given long aggregator for the current superstep.
+     *
+     * @throws IllegalArgumentException if the key does not exist or the aggregator is not of type long
+     */
+    public long longAggregatedValue(String key) {
+        return aggregators.longValue(key);
+    }
+
+    /**
+     * Stops the computation after the current superstep, e.g. if an aggregated
+     * value indicates convergence. The computation is reported as converged.
+     */
+    public void haltComputation() {
+        this.halted = true;
+    }
+
+    /**
+     * Indicates whether {@link #haltComputation()} has been called.
+     */
+    public boolean isHalted() {
+        return halted;
+    }
+
     /**
      * Accepts a consumer function that is called for every node in the graph.
      * The consumer receives one node id at the time.
@@ -0,0 +1,500 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.reorder;
+
+import com.carrotsearch.hppc.BitSet;
+import org.neo4j.graphalgo.NodeLabel;
+import org.neo4j.graphalgo.Orientation;
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.annotation.ValueClass;
+import org.neo4j.graphalgo.api.CompositeRelationshipIterator;
+import org.neo4j.graphalgo.api.GraphStore;
+import org.neo4j.graphalgo.api.ImmutableNodeProperty;
+import org.neo4j.graphalgo.api.ImmutableProperties;
+import org.neo4j.graphalgo.api.ImmutableRelationshipProperty;
+import org.neo4j.graphalgo.api.ImmutableTopology;
+import org.neo4j.graphalgo.api.NodeMapping;
+import org.neo4j.graphalgo.api.NodeProperties;
+import org.neo4j.graphalgo.api.NodePropertyStore;
+import org.neo4j.graphalgo.api.RelationshipPropertyStore;
+import org.neo4j.graphalgo.api.Relationships;
+import org.neo4j.graphalgo.api.nodeproperties.ValueType;
+import org.neo4j.graphalgo.api.schema.PropertySchema;
+import org.neo4j.graphalgo.core.Aggregation;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.loading.CSRGraphStore;
+import org.neo4j.graphalgo.core.loading.IdMapBuilder;
+import org.neo4j.graphalgo.core.loading.IdMapImplementations;
+import org.neo4j.graphalgo.core.loading.construction.GraphFactory;
+import org.neo4j.graphalgo.core.loading.construction.RelationshipsBuilder;
+import org.neo4j.graphalgo.core.loading.nodeproperties.DoubleArrayNodePropertiesBuilder;
+import org.neo4j.graphalgo.core.loading.nodeproperties.DoubleNodePropertiesBuilder;
+import org.neo4j.graphalgo.core.loading.nodeproperties.FloatArrayNodePropertiesBuilder;
+import org.neo4j.graphalgo.core.loading.nodeproperties.LongArrayNodePropertiesBuilder;
+import org.neo4j.graphalgo.core.loading.nodeproperties.LongNodePropertiesBuilder;
+import org.neo4j.graphalgo.core.utils.BatchingProgressLogger;
+import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+import org.neo4j.graphalgo.core.utils.partition.Partition;
+import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
+import org.neo4j.graphalgo.utils.StringJoining;
+import org.neo4j.logging.Log;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import static org.neo4j.graphalgo.core.loading.VarLongEncoding.encodedVLongSize;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Relabels the nodes of a graph store according to a {@link NodeOrdering}.
+ * <p>
+ * The id map, all adjacency lists and all node and relationship properties are rewritten
+ * consistently. Original node ids are preserved, only the internal ids change.
+ * The id map implementation is chosen the same way as during loading.
+ * Algorithms running on the reordered graph store benefit from better cache locality
+ * and adjacency lists compress better when neighbouring nodes have close ids.
+ */
+public final class GraphStoreReordering {
+
+    private static final Set<ValueType> SUPPORTED_NODE_PROPERTY_TYPES = EnumSet.of(
+        ValueType.LONG,
+        ValueType.DOUBLE,
+        ValueType.DOUBLE_ARRAY,
+        ValueType.FLOAT_ARRAY,
+        ValueType.LONG_ARRAY
+    );
+
+    @ValueClass
+    public interface ReorderedGraphStore {
+
+        GraphStore graphStore();
+
+        /**
+         * Bytes required by the delta var-long encoded adjacency lists of the input graph store.
+         */
+        long adjacencyBytesBefore();
+
+        /**
+         * Bytes required by the delta var-long encoded adjacency lists of the reordered graph store.
+         */
+        long adjacencyBytesAfter();
+
+        default double compressionRatio() {
+            return adjacencyBytesAfter() == 0 ? 1.0 : (double) adjacencyBytesBefore() / adjacencyBytesAfter();
+        }
+    }
+
+    /**
+     * Estimates loading a graph store and reordering it afterwards.
+     * The reordered copy is built while the loaded graph store is still held,
+     * so both of them are accounted for next to the permutation arrays.
+     */
+    public static MemoryEstimation memoryEstimation(MemoryEstimation graphStoreEstimation, String ordering) {
+        return MemoryEstimations.builder(GraphStoreReordering.class)
+            .add("graph store", graphStoreEstimation)
+            .add("node ordering", NodeOrdering.memoryEstimation(ordering))
+            .perNode("old to new", HugeLongArray::memoryEstimation)
+            .perNode("graph ids", HugeLongArray::memoryEstimation)
+            .add("reordered graph store", graphStoreEstimation)
+            .build();
+    }
+
+    public static ReorderedGraphStore reorder(
+        GraphStore graphStore,
+        NodeOrdering ordering,
+        int concurrency,
+        ExecutorService executorService,
+        Log log,
+        AllocationTracker tracker
+    ) {
+        validateNodePropertyTypes(graphStore);
+
+        var progressLogger = new BatchingProgressLogger(
+            log,
+            graphStore.nodeCount(),
+            "GraphStore Reordering",
+            concurrency
+        );
+        progressLogger.logStart();
+
+        progressLogger.startSubTask("Compute node order");
+        var newToOld = ordering.order(graphStore, concurrency, executorService, tracker);
+        var oldToNew = HugeLongArray.newArray(graphStore.nodeCount(), tracker);
+        ParallelUtil.parallelForEachNode(
+            graphStore.nodeCount(),
+            concurrency,
+            newId -> oldToNew.set(newToOld.get(newId), newId)
+        );
+        progressLogger.finishSubTask("Compute node order");
+
+        progressLogger.startSubTask("Nodes");
+        var outputNodes = reorderNodes(graphStore, newToOld, concurrency, tracker);
+        progressLogger.finishSubTask("Nodes");
+
+        progressLogger.startSubTask("Node properties");
+        var nodePropertyStores = reorderNodeProperties(graphStore, newToOld, concurrency, tracker);
+        progressLogger.finishSubTask("Node properties");
+
+        var bytesBefore = new LongAdder();
+        var bytesAfter = new LongAdder();
+        Map<RelationshipType, Relationships.Topology> topologies = new HashMap<>();
+        Map<RelationshipType, RelationshipPropertyStore> relationshipPropertyStores = new HashMap<>();
+
+        for (RelationshipType relationshipType : graphStore.relationshipTypes()) {
+            var taskMessage = formatWithLocale("Relationship type %s", relationshipType.name);
+            progressLogger.startSubTask(taskMessage).reset(graphStore.relationshipCount(relationshipType));
+            reorderRelationshipType(
+                graphStore,
+                relationshipType,
+                outputNodes,
+                newToOld,
+                oldToNew,
+                topologies,
+                relationshipPropertyStores,
+                bytesBefore,
+                bytesAfter,
+                concurrency,
+                executorService,
+                progressLogger,
+                tracker
+            );
+            progressLogger.finishSubTask(taskMessage);
+        }
+
+        var result = ImmutableReorderedGraphStore.of(
+            CSRGraphStore.of(
+                graphStore.databaseId(),
+                outputNodes,
+                nodePropertyStores,
+                topologies,
+                relationshipPropertyStores,
+                concurrency,
+                tracker
+            ),
+            bytesBefore.sum(),
+            bytesAfter.sum()
+        );
+
+        progressLogger.getLog().info(formatWithLocale(
+            "GraphStore Reordering :: Adjacency bytes before %d, after %d, compression ratio %.2f",
+            result.adjacencyBytesBefore(),
+            result.adjacencyBytesAfter(),
+            result.compressionRatio()
+        ));
+        progressLogger.logFinish();
+
+        newToOld.release();
+        oldToNew.release();
+
+        return result;
+    }
+
+    private static void validateNodePropertyTypes(GraphStore graphStore) {
+        graphStore.schema().nodeSchema().properties().forEach((label, properties) -> properties.forEach(
+            (propertyKey, schema) -> {
+                if (!SUPPORTED_NODE_PROPERTY_TYPES.contains(schema.valueType())) {
+                    throw new IllegalArgumentException(formatWithLocale(
+                        "Reordering nodes does not support node property `%s` of type `%s`. Supported types are: %s.",
+                        propertyKey,
+                        schema.valueType().name(),
+                        StringJoining.join(SUPPORTED_NODE_PROPERTY_TYPES.stream().map(ValueType::name))
+                    ));
+                }
+            }
+        ));
+    }
+
+    private static NodeMapping reorderNodes(
+        GraphStore graphStore,
+        HugeLongArray newToOld,
+        int concurrency,
+        AllocationTracker tracker
+    ) {
+        var inputNodes = graphStore.nodes();
+        long nodeCount = inputNodes.nodeCount();
+
+        var graphIds = HugeLongArray.newArray(nodeCount, tracker);
+        graphIds.setAll(newId -> inputNodes.toOriginalNodeId(newToOld.get(newId)));
+
+        Map<NodeLabel, BitSet> labelInformation = new HashMap<>();
+        var nodeLabels = graphStore.nodeLabels();
+        boolean hasLabelInformation = !(nodeLabels.size() == 1 && nodeLabels.contains(NodeLabel.ALL_NODES));
+        if (hasLabelInformation) {
+            nodeLabels.forEach(label -> labelInformation.put(label, new BitSet(nodeCount)));
+            for (long newId = 0; newId < nodeCount; newId++) {
+                long finalNewId = newId;
+                inputNodes.forEachNodeLabel(newToOld.get(newId), label -> {
+                    labelInformation.get(label).set(finalNewId);
+                    return true;
+                });
+            }
+        }
+
+        long highestNeoId = inputNodes.highestNeoId();
+        return IdMapImplementations.useHashIdMap(highestNeoId, nodeCount)
+            ? IdMapBuilder.buildHashed(graphIds, labelInformation, highestNeoId, concurrency, tracker)
+            : IdMapBuilder.build(graphIds, labelInformation, highestNeoId, concurrency, tracker);
+    }
+
+    private static Map<NodeLabel, NodePropertyStore> reorderNodeProperties(
+        GraphStore graphStore,
+        HugeLongArray newToOld,
+        int concurrency,
+        AllocationTracker tracker
+    ) {
+        var nodeSchema = graphStore.schema().nodeSchema().properties();
+        // the same property values are shared between labels, make sure to only reorder them once
+        Map<NodeProperties, NodeProperties> reordered = new IdentityHashMap<>();
+
+        return graphStore.nodeLabels().stream().collect(Collectors.toMap(
+            label -> label,
+            label -> {
+                var builder = NodePropertyStore.builder();
+                graphStore.nodePropertyKeys(label).forEach(propertyKey -> {
+                    PropertySchema schema = nodeSchema.get(label).get(propertyKey);
+                    var values = reordered.computeIfAbsent(
+                        graphStore.nodePropertyValues(label, propertyKey),
+                        input -> reorderNodeProperties(input, schema, newToOld, concurrency, tracker)
+                    );
+                    builder.putNodeProperty(propertyKey, ImmutableNodeProperty.of(values, schema));
+                });
+                return builder.build();
+            }
+        ));
+    }
+
+    private static NodeProperties reorderNodeProperties(
+        NodeProperties input,
+        PropertySchema schema,
+        HugeLongArray newToOld,
+        int concurrency,
+        AllocationTracker tracker
+    ) {
+        long nodeCount = newToOld.size();
+        switch (input.valueType()) {
+            case LONG:
+                var longBuilder = new LongNodePropertiesBuilder(nodeCount, schema.defaultValue(), tracker);
+                ParallelUtil.parallelForEachNode(nodeCount, concurrency, newId ->
+                    longBuilder.set(newId, input.longValue(newToOld.get(newId)))
+                );
+                return longBuilder.build(nodeCount);
+            case DOUBLE:
+                var doubleBuilder = new DoubleNodePropertiesBuilder(nodeCount, schema.defaultValue(), tracker);
+                ParallelUtil.parallelForEachNode(nodeCount, concurrency, newId ->
+                    doubleBuilder.set(newId, input.doubleValue(newToOld.get(newId)))
+                );
+                return doubleBuilder.build(nodeCount);
+            case DOUBLE_ARRAY:
+                var doubleArrayBuilder = new DoubleArrayNodePropertiesBuilder(nodeCount, schema.defaultValue(), tracker);
+                ParallelUtil.parallelForEachNode(nodeCount, concurrency, newId ->
+                    doubleArrayBuilder.set(newId, input.doubleArrayValue(newToOld.get(newId)))
+                );
+                return doubleArrayBuilder.build(nodeCount);
+            case FLOAT_ARRAY:
+                var floatArrayBuilder = new FloatArrayNodePropertiesBuilder(nodeCount, schema.defaultValue(), tracker);
+                ParallelUtil.parallelForEachNode(nodeCount, concurrency, newId ->
+                    floatArrayBuilder.set(newId, input.floatArrayValue(newToOld.get(newId)))
+                );
+                return floatArrayBuilder.build(nodeCount);
+            case LONG_ARRAY:
+                var longArrayBuilder = new LongArrayNodePropertiesBuilder(nodeCount, schema.defaultValue(), tracker);
+                ParallelUtil.parallelForEachNode(nodeCount, concurrency, newId ->
+                    longArrayBuilder.set(newId, input.longArrayValue(newToOld.get(newId)))
+                );
+                return longArrayBuilder.build(nodeCount);
+            default:
+                // unreachable, the property types are validated before reordering
+                throw new IllegalStateException("Cannot reorder properties of type " + input.valueType());
+        }
+    }
+
+    private static void reorderRelationshipType(
+        GraphStore graphStore,
+        RelationshipType relationshipType,
+        NodeMapping outputNodes,
+        HugeLongArray newToOld,
+        HugeLongArray oldToNew,
+        Map<RelationshipType, Relationships.Topology> topologies,
+        Map<RelationshipType, RelationshipPropertyStore> relationshipPropertyStores,
+        LongAdder bytesBefore,
+        LongAdder bytesAfter,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressLogger progressLogger,
+        AllocationTracker tracker
+    ) {
+        var propertyKeys = new ArrayList<>(graphStore.relationshipPropertyKeys(relationshipType));
+        var propertySchemas = graphStore.schema().relationshipSchema().properties().get(relationshipType);
+
+        // properties are copied as they are, they have been aggregated while loading the input graph store
+        var relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
+            .nodes(outputNodes)
+            .concurrency(concurrency)
+            .executorService(executorService)
+            .tracker(tracker)
+            .addAllPropertyConfigs(propertyKeys
+                .stream()
+                .map(key -> GraphFactory.PropertyConfig.of(Aggregation.NONE, propertySchemas.get(key).defaultValue()))
+                .collect(Collectors.toList()))
+            .build();
+
+        var compositeIterator = graphStore.getCompositeRelationshipIterator(relationshipType, propertyKeys);
+
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            outputNodes.nodeCount(),
+            partition -> new RelationshipReorderTask(
+                partition,
+                compositeIterator.concurrentCopy(),
+                relationshipsBuilder,
+                newToOld,
+                oldToNew,
+                bytesBefore,
+                bytesAfter,
+                progressLogger
+            )
+        );
+        ParallelUtil.runWithConcurrency(concurrency, tasks, executorService);
+
+        List<Relationships> relationships = relationshipsBuilder.buildAll();
+        var inputGraph = graphStore.getGraph(relationshipType);
+        var orientation = inputGraph.isUndirected() ? Orientation.UNDIRECTED : Orientation.NATURAL;
+
+        topologies.put(
+            relationshipType,
+            ImmutableTopology
+                .copyOf(relationships.get(0).topology())
+                .withOrientation(orientation)
+                .withIsMultiGraph(inputGraph.isMultiGraph())
+        );
+
+        var propertyStoreBuilder = RelationshipPropertyStore.builder();
+        for (int i = 0; i < propertyKeys.size(); i++) {
+            var propertyKey = propertyKeys.get(i);
+            var properties = ImmutableProperties
+                .copyOf(relationships.get(i).properties().orElseThrow(IllegalStateException::new))
+                .withOrientation(orientation)
+                .withIsMultiGraph(inputGraph.isMultiGraph());
+            propertyStoreBuilder.putIfAbsent(
+                propertyKey,
+                ImmutableRelationshipProperty.of(properties, propertySchemas.get(propertyKey))
+            );
+        }
+        relationshipPropertyStores.put(relationshipType, propertyStoreBuilder.build());
+    }
+
+    private GraphStoreReordering() {}
+
+    private static final class RelationshipReorderTask implements Runnable {
+        private final Partition partition;
+        private final CompositeRelationshipIterator relationshipIterator;
+        private final RelationshipsBuilder relationshipsBuilder;
+        private final HugeLongArray newToOld;
+        private final HugeLongArray oldToNew;
+        private final LongAdder bytesBefore;
+        private final LongAdder bytesAfter;
+        private final ProgressLogger progressLogger;
+
+        private long[] oldTargets;
+        private long[] newTargets;
+        private int degree;
+
+        private RelationshipReorderTask(
+            Partition partition,
+            CompositeRelationshipIterator relationshipIterator,
+            RelationshipsBuilder relationshipsBuilder,
+            HugeLongArray newToOld,
+            HugeLongArray oldToNew,
+            LongAdder bytesBefore,
+            LongAdder bytesAfter,
+            ProgressLogger progressLogger
+        ) {
+            this.partition = partition;
+            this.relationshipIterator = relationshipIterator;
+            this.relationshipsBuilder = relationshipsBuilder;
+            this.newToOld = newToOld;
+            this.oldToNew = oldToNew;
+            this.bytesBefore = bytesBefore;
+            this.bytesAfter = bytesAfter;
+            this.progressLogger = progressLogger;
+            this.oldTargets = new long[0];
+            this.newTargets = new long[0];
+        }
+
+        @Override
+        public void run() {
+            long[] localBytes = new long[2];
+            partition.consume(newSource -> {
+                long oldSource = newToOld.get(newSource);
+                int nodeDegree = relationshipIterator.degree(oldSource);
+                if (oldTargets.length < nodeDegree) {
+                    oldTargets = new long[nodeDegree];
+                    newTargets = new long[nodeDegree];
+                }
+                degree = 0;
+
+                relationshipIterator.forEachRelationship(oldSource, (source, oldTarget, properties) -> {
+                    long newTarget = oldToNew.get(oldTarget);
+                    oldTargets[degree] = oldTarget;
+                    newTargets[degree] = newTarget;
+                    degree++;
+                    if (properties.length == 0) {
+                        relationshipsBuilder.addFromInternal(newSource, newTarget);
+                    } else if (properties.length == 1) {
+                        relationshipsBuilder.addFromInternal(newSource, newTarget, properties[0]);
+                    } else {
+                        relationshipsBuilder.addFromInternal(newSource, newTarget, properties);
+                    }
+                    return true;
+                });
+
+                localBytes[0] += encodedSize(oldTargets, degree);
+                localBytes[1] += encodedSize(newTargets, degree);
+                progressLogger.logProgress(degree);
+            });
+            bytesBefore.add(localBytes[0]);
+            bytesAfter.add(localBytes[1]);
+        }
+
+        private static long encodedSize(long[] targets, int length) {
+            Arrays.sort(targets, 0, length);
+            long bytes = 0L;
+            long previous = 0L;
+            for (int i = 0; i < length; i++) {
+                bytes += encodedVLongSize(targets[i] - previous);
+                previous = targets[i];
+            }
+            return bytes;
+        }
+    }
+}
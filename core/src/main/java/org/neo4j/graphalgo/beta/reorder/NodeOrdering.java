@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.reorder;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongArrayList;
+import com.carrotsearch.hppc.LongLongHashMap;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.GraphStore;
+import org.neo4j.graphalgo.api.nodeproperties.ValueType;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.mem.MemoryRange;
+import org.neo4j.graphalgo.core.utils.mem.MemoryUsage;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeMergeSort;
+import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Computes a new order of the nodes of a graph store.
+ * <p>
+ * The returned array contains at position {@code i} the current internal id of
+ * the node that should become node {@code i} in the reordered graph store.
+ */
+public interface NodeOrdering {
+
+    HugeLongArray order(GraphStore graphStore, int concurrency, ExecutorService executorService, AllocationTracker tracker);
+
+    /**
+     * Orders nodes by descending degree. High degree nodes end up next to each other,
+     * which keeps the most frequently accessed entries of node arrays in the same cache lines.
+     */
+    static NodeOrdering degree() {
+        return (graphStore, concurrency, executorService, tracker) ->
+            sortByDegree(graphStore.getUnion(), true, concurrency, executorService, tracker);
+    }
+
+    /**
+     * Orders nodes by the Reverse Cuthill-McKee algorithm, a breadth-first traversal which
+     * visits neighbours in ascending degree order. Neighbouring nodes receive close ids,
+     * which leads to small deltas in the compressed adjacency lists.
+     */
+    static NodeOrdering reverseCuthillMcKee() {
+        return (graphStore, concurrency, executorService, tracker) -> {
+            var graph = graphStore.getUnion();
+            long nodeCount = graph.nodeCount();
+            var startNodes = sortByDegree(graph, false, concurrency, executorService, tracker);
+
+            var order = HugeLongArray.newArray(nodeCount, tracker);
+            var visited = new BitSet(nodeCount);
+            var neighbours = new LongArrayList();
+            int idBits = idBits(nodeCount);
+            long idMask = (1L << idBits) - 1;
+            long maxDegree = (1L << (Long.SIZE - 1 - idBits)) - 1;
+
+            long head = 0;
+            long tail = 0;
+            for (long i = 0; i < nodeCount; i++) {
+                long startNode = startNodes.get(i);
+                if (visited.get(startNode)) {
+                    continue;
+                }
+                visited.set(startNode);
+                order.set(tail++, startNode);
+
+                while (head < tail) {
+                    long node = order.get(head++);
+                    graph.forEachRelationship(node, (source, target) -> {
+                        if (!visited.get(target)) {
+                            visited.set(target);
+                            long degree = Math.min(graph.degree(target), maxDegree);
+                            neighbours.add((degree << idBits) | target);
+                        }
+                        return true;
+                    });
+                    long[] buffer = neighbours.buffer;
+                    int count = neighbours.size();
+                    Arrays.sort(buffer, 0, count);
+                    for (int j = 0; j < count; j++) {
+                        order.set(tail++, buffer[j] & idMask);
+                    }
+                    neighbours.clear();
+                }
+            }
+
+            // reverse the Cuthill-McKee order
+            for (long low = 0, high = nodeCount - 1; low < high; low++, high--) {
+                long tmp = order.get(low);
+                order.set(low, order.get(high));
+                order.set(high, tmp);
+            }
+
+            startNodes.release();
+            return order;
+        };
+    }
+
+    /**
+     * Groups nodes by the value of the given community property, e.g. the result of WCC or Louvain.
+     * Within a community, nodes keep their current relative order.
+     */
+    static NodeOrdering community(String communityProperty) {
+        return (graphStore, concurrency, executorService, tracker) -> {
+            if (!graphStore.hasNodeProperty(graphStore.nodeLabels(), communityProperty)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Community ordering requires the node property `%s` to be present for all node labels.",
+                    communityProperty
+                ));
+            }
+            var communities = graphStore.nodePropertyValues(communityProperty);
+            if (communities.valueType() != ValueType.LONG) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Community ordering requires the node property `%s` to be of type `LONG`, but it is of type `%s`.",
+                    communityProperty,
+                    communities.valueType().name()
+                ));
+            }
+            long nodeCount = graphStore.nodeCount();
+
+            // map community ids to consecutive ids in order of their first occurrence
+            var communityIndex = new LongLongHashMap();
+            var communityOfNode = HugeLongArray.newArray(nodeCount, tracker);
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                long community = communities.longValue(nodeId);
+                int slot = communityIndex.indexOf(community);
+                long index;
+                if (communityIndex.indexExists(slot)) {
+                    index = communityIndex.indexGet(slot);
+                } else {
+                    index = communityIndex.size();
+                    communityIndex.indexInsert(slot, community, index);
+                }
+                communityOfNode.set(nodeId, index);
+            }
+
+            // counting sort by community index
+            var offsets = HugeLongArray.newArray(communityIndex.size() + 1, tracker);
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                long index = communityOfNode.get(nodeId) + 1;
+                offsets.set(index, offsets.get(index) + 1);
+            }
+            for (long index = 1; index < offsets.size(); index++) {
+                offsets.set(index, offsets.get(index) + offsets.get(index - 1));
+            }
+            var order = HugeLongArray.newArray(nodeCount, tracker);
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                long index = communityOfNode.get(nodeId);
+                long position = offsets.get(index);
+                order.set(position, nodeId);
+                offsets.set(index, position + 1);
+            }
+
+            communityOfNode.release();
+            offsets.release();
+            return order;
+        };
+    }
+
+    static NodeOrdering parse(String ordering, String communityProperty) {
+        switch (ordering.toUpperCase(Locale.ENGLISH)) {
+            case "DEGREE":
+                return degree();
+            case "RCM":
+            case "REVERSE_CUTHILL_MCKEE":
+                return reverseCuthillMcKee();
+            case "COMMUNITY":
+                if (communityProperty == null) {
+                    throw new IllegalArgumentException("Community ordering requires a community property.");
+                }
+                return community(communityProperty);
+            default:
+                throw unsupportedOrdering(ordering);
+        }
+    }
+
+    /**
+     * Estimates the arrays allocated while computing the given ordering, including the returned order.
+     */
+    static MemoryEstimation memoryEstimation(String ordering) {
+        switch (ordering.toUpperCase(Locale.ENGLISH)) {
+            case "DEGREE":
+                return MemoryEstimations.builder("Degree ordering")
+                    .add(sortByDegreeEstimation())
+                    .build();
+            case "RCM":
+            case "REVERSE_CUTHILL_MCKEE":
+                return MemoryEstimations.builder("Reverse Cuthill-McKee ordering")
+                    .add("start nodes", sortByDegreeEstimation())
+                    .perNode("order", HugeLongArray::memoryEstimation)
+                    .perNode("visited", MemoryUsage::sizeOfBitset)
+                    .rangePerGraphDimension("neighbours", (dimensions, concurrency) -> MemoryRange.of(
+                        MemoryUsage.sizeOfLongArray(0),
+                        MemoryUsage.sizeOfLongArray(Math.min(dimensions.nodeCount(), dimensions.maxRelCount()))
+                    ))
+                    .build();
+            case "COMMUNITY":
+                return MemoryEstimations.builder("Community ordering")
+                    .rangePerNode("community index", nodeCount -> MemoryRange.of(
+                        2 * MemoryUsage.sizeOfLongArray(MemoryUsage.sizeOfOpenHashContainer(1)),
+                        2 * MemoryUsage.sizeOfLongArray(MemoryUsage.sizeOfOpenHashContainer(nodeCount))
+                    ))
+                    .perNode("community of node", HugeLongArray::memoryEstimation)
+                    .rangePerNode("offsets", nodeCount -> MemoryRange.of(
+                        HugeLongArray.memoryEstimation(2),
+                        HugeLongArray.memoryEstimation(nodeCount + 1)
+                    ))
+                    .perNode("order", HugeLongArray::memoryEstimation)
+                    .build();
+            default:
+                throw unsupportedOrdering(ordering);
+        }
+    }
+
+    private static IllegalArgumentException unsupportedOrdering(String ordering) {
+        return new IllegalArgumentException(formatWithLocale(
+            "Node ordering `%s` is not supported. Must be one of: DEGREE, REVERSE_CUTHILL_MCKEE, COMMUNITY.",
+            ordering
+        ));
+    }
+
+    private static MemoryEstimation sortByDegreeEstimation() {
+        return MemoryEstimations.builder("Sort by degree")
+            .perNode("sort keys", HugeLongArray::memoryEstimation)
+            .perNode("merge sort buffer", HugeLongArray::memoryEstimation)
+            .build();
+    }
+
+    private static HugeLongArray sortByDegree(
+        Graph graph,
+        boolean descending,
+        int concurrency,
+        ExecutorService executorService,
+        AllocationTracker tracker
+    ) {
+        long nodeCount = graph.nodeCount();
+        // pack degree and node id into a single long, so that a plain sort orders by degree and then by id
+        int idBits = idBits(nodeCount);
+        long idMask = (1L << idBits) - 1;
+        long maxDegree = (1L << (Long.SIZE - 1 - idBits)) - 1;
+
+        var keys = HugeLongArray.newArray(nodeCount, tracker);
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            partition -> (Runnable) () -> partition.consume(nodeId -> {
+                long degree = Math.min(graph.degree(nodeId), maxDegree);
+                long sortKey = descending ? maxDegree - degree : degree;
+                keys.set(nodeId, (sortKey << idBits) | nodeId);
+            })
+        );
+        ParallelUtil.runWithConcurrency(concurrency, tasks, executorService);
+
+        HugeMergeSort.sort(keys, concurrency, tracker);
+        keys.setAll(index -> keys.get(index) & idMask);
+        return keys;
+    }
+
+    private static int idBits(long nodeCount) {
+        return Math.max(1, Long.SIZE - Long.numberOfLeadingZeros(Math.max(0, nodeCount - 1)));
+    }
+}
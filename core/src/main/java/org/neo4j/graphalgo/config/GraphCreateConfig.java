@@ -20,8 +20,10 @@
 package org.neo4j.graphalgo.config;
 
 import org.immutables.value.Value;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.graphalgo.annotation.Configuration;
 import org.neo4j.graphalgo.api.GraphStoreFactory;
+import org.neo4j.graphalgo.beta.reorder.NodeOrdering;
 import org.neo4j.graphalgo.core.CypherMapWrapper;
 import org.neo4j.graphalgo.core.utils.TimeUtil;
 
@@ -38,6 +40,7 @@ public interface GraphCreateConfig extends BaseConfig {
     String NODE_COUNT_KEY = "nodeCount";
     String RELATIONSHIP_COUNT_KEY = "relationshipCount";
     String READ_CONCURRENCY_KEY = "readConcurrency";
+    String NODE_ORDERING_KEY = "nodeOrdering";
 
     @Configuration.Parameter
     String graphName();
@@ -81,6 +84,27 @@ public interface GraphCreateConfig extends BaseConfig {
         return false;
     }
 
+    /**
+     * Relabels the nodes of the loaded graph store, see {@link NodeOrdering#parse(String, String)}.
+     */
+    @Value.Default
+    @Value.Parameter(false)
+    @Configuration.Key(NODE_ORDERING_KEY)
+    @Configuration.ConvertWith("org.apache.commons.lang3.StringUtils#trimToNull")
+    default @Nullable String nodeOrdering() {
+        return null;
+    }
+
+    /**
+     * The community node property used by the {@code COMMUNITY} node ordering.
+     */
+    @Value.Default
+    @Value.Parameter(false)
+    @Configuration.ConvertWith("org.apache.commons.lang3.StringUtils#trimToNull")
+    default @Nullable String nodeOrderingProperty() {
+        return null;
+    }
+
     @Configuration.Ignore
     GraphStoreFactory.Supplier graphStoreFactory();
 
@@ -89,6 +113,13 @@ public interface GraphCreateConfig extends BaseConfig {
         ConcurrencyConfig.validateConcurrency(readConcurrency(), READ_CONCURRENCY_KEY);
     }
 
+    @Value.Check
+    default void validateNodeOrdering() {
+        if (nodeOrdering() != null) {
+            NodeOrdering.parse(nodeOrdering(), nodeOrderingProperty());
+        }
+    }
+
     @Configuration.Ignore
     <R> R accept(Cases<R> visitor);
 
@@ -20,6 +20,7 @@
 package org.neo4j.graphalgo.config;
 
 import org.immutables.value.Value;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.graphalgo.annotation.Configuration;
 import org.neo4j.graphalgo.annotation.ValueClass;
 import org.neo4j.graphalgo.api.GraphStoreFactory;
@@ -51,6 +52,12 @@ public interface GraphCreateFromGraphConfig extends GraphCreateConfig {
         return ConcurrencyConfig.DEFAULT_CONCURRENCY;
     }
 
+    @Value.Default
+    @Value.Parameter(false)
+    default boolean view() {
+        return false;
+    }
+
     @Value.Check
     default void validateReadConcurrency() {
         ConcurrencyConfig.validateConcurrency(concurrency(), "concurrency");
@@ -88,6 +95,18 @@ public interface GraphCreateFromGraphConfig extends GraphCreateConfig {
         return false;
     }
 
+    @Override
+    @Configuration.Ignore
+    default @Nullable String nodeOrdering() {
+        return null;
+    }
+
+    @Override
+    @Configuration.Ignore
+    default @Nullable String nodeOrderingProperty() {
+        return null;
+    }
+
     static GraphCreateFromGraphConfig of(
         String userName,
         String graphName,
@@ -25,6 +25,8 @@ import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.api.GraphLoaderContext;
 import org.neo4j.graphalgo.api.GraphStore;
 import org.neo4j.graphalgo.api.GraphStoreFactory;
+import org.neo4j.graphalgo.beta.reorder.GraphStoreReordering;
+import org.neo4j.graphalgo.beta.reorder.NodeOrdering;
 import org.neo4j.graphalgo.config.GraphCreateConfig;
 
 @ValueClass
@@ -44,7 +46,25 @@ public interface GraphLoader {
     }
 
     default GraphStore graphStore() {
-        return graphStoreFactory().build().graphStore();
+        var graphStore = graphStoreFactory().build().graphStore();
+
+        var nodeOrdering = createConfig().nodeOrdering();
+        if (nodeOrdering == null) {
+            return graphStore;
+        }
+
+        try {
+            return GraphStoreReordering.reorder(
+                graphStore,
+                NodeOrdering.parse(nodeOrdering, createConfig().nodeOrderingProperty()),
+                createConfig().readConcurrency(),
+                context().executor(),
+                context().log(),
+                context().tracker()
+            ).graphStore();
+        } finally {
+            graphStore.release();
+        }
     }
 
     default GraphStoreFactory<? extends GraphStore, ? extends GraphCreateConfig> graphStoreFactory() {
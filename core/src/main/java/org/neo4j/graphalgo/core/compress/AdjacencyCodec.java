@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.compress;
+
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.api.AdjacencyList;
+import org.neo4j.graphalgo.core.huge.BlockPackedAdjacencyList;
+import org.neo4j.graphalgo.core.huge.TransientAdjacencyList;
+import org.neo4j.graphalgo.core.huge.UncompressedAdjacencyList;
+import org.neo4j.graphalgo.core.loading.AdjacencyDegreesFactory;
+import org.neo4j.graphalgo.core.loading.AdjacencyOffsetsFactory;
+import org.neo4j.graphalgo.core.loading.DeltaVarLongCompressor;
+import org.neo4j.graphalgo.core.loading.EncodedAdjacencyCompressor;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * The encoding used to store the targets of a relationship projection.
+ */
+public enum AdjacencyCodec {
+
+    /**
+     * Delta encoded targets stored as variable length longs. Most compact for dense id ranges.
+     */
+    DELTA_VAR_LONG {
+        @Override
+        public AdjacencyCompressorFactory compressorFactory(
+            AdjacencyDegreesFactory degreesFactory,
+            AdjacencyOffsetsFactory offsetsFactory
+        ) {
+            return new DeltaVarLongCompressor.Factory(degreesFactory, offsetsFactory);
+        }
+
+        @Override
+        public MemoryEstimation memoryEstimation(RelationshipType relationshipType, boolean undirected) {
+            return TransientAdjacencyList.compressedMemoryEstimation(relationshipType, undirected);
+        }
+    },
+
+    /**
+     * Delta encoded targets bit-packed in blocks of fixed bit width. Faster to decode than var longs.
+     */
+    BLOCK_PACKED {
+        @Override
+        public AdjacencyCompressorFactory compressorFactory(
+            AdjacencyDegreesFactory degreesFactory,
+            AdjacencyOffsetsFactory offsetsFactory
+        ) {
+            return new EncodedAdjacencyCompressor.Factory(
+                nodeCount -> new EncodedAdjacencyCompressor.AdjacencyEncoding() {
+                    @Override
+                    public int maxEncodedSize(int length) {
+                        return BlockPackedAdjacencyList.maxEncodedSize(length);
+                    }
+
+                    @Override
+                    public int encode(long[] deltas, int length, byte[] out) {
+                        return BlockPackedAdjacencyList.encode(deltas, length, out);
+                    }
+
+                    @Override
+                    public BlockPackedAdjacencyList adjacencyList(AdjacencyList pages) {
+                        return BlockPackedAdjacencyList.of(pages);
+                    }
+                },
+                degreesFactory,
+                offsetsFactory
+            );
+        }
+
+        @Override
+        public MemoryEstimation memoryEstimation(RelationshipType relationshipType, boolean undirected) {
+            return BlockPackedAdjacencyList.memoryEstimation(relationshipType, undirected);
+        }
+    },
+
+    /**
+     * Plain fixed width targets. Uses the most memory but needs no decoding and supports binary search.
+     */
+    UNCOMPRESSED {
+        @Override
+        public AdjacencyCompressorFactory compressorFactory(
+            AdjacencyDegreesFactory degreesFactory,
+            AdjacencyOffsetsFactory offsetsFactory
+        ) {
+            return new EncodedAdjacencyCompressor.Factory(
+                nodeCount -> new EncodedAdjacencyCompressor.AdjacencyEncoding() {
+                    @Override
+                    public int maxEncodedSize(int length) {
+                        return UncompressedAdjacencyList.maxEncodedSize(length, nodeCount);
+                    }
+
+                    @Override
+                    public int encode(long[] deltas, int length, byte[] out) {
+                        return UncompressedAdjacencyList.encode(deltas, length, nodeCount, out);
+                    }
+
+                    @Override
+                    public UncompressedAdjacencyList adjacencyList(AdjacencyList pages) {
+                        return UncompressedAdjacencyList.of(pages, nodeCount);
+                    }
+                },
+                degreesFactory,
+                offsetsFactory
+            );
+        }
+
+        @Override
+        public MemoryEstimation memoryEstimation(RelationshipType relationshipType, boolean undirected) {
+            return UncompressedAdjacencyList.memoryEstimation(relationshipType, undirected);
+        }
+    };
+
+    public static final AdjacencyCodec DEFAULT = DELTA_VAR_LONG;
+
+    public abstract AdjacencyCompressorFactory compressorFactory(
+        AdjacencyDegreesFactory degreesFactory,
+        AdjacencyOffsetsFactory offsetsFactory
+    );
+
+    public abstract MemoryEstimation memoryEstimation(RelationshipType relationshipType, boolean undirected);
+
+    public static AdjacencyCodec of(String value) {
+        try {
+            return AdjacencyCodec.valueOf(value.toUpperCase(Locale.ENGLISH));
+        } catch (IllegalArgumentException e) {
+            String availableCodecs = Arrays
+                .stream(AdjacencyCodec.values())
+                .map(AdjacencyCodec::name)
+                .collect(Collectors.joining(", "));
+            throw new IllegalArgumentException(formatWithLocale(
+                "Compression `%s` is not supported. Must be one of: %s.",
+                value,
+                availableCodecs
+            ));
+        }
+    }
+
+    public static AdjacencyCodec parse(Object object) {
+        if (object == null) {
+            return null;
+        }
+        if (object instanceof String) {
+            return of((String) object);
+        }
+        if (object instanceof AdjacencyCodec) {
+            return (AdjacencyCodec) object;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,356 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.huge;
+
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.api.AdjacencyCursor;
+import org.neo4j.graphalgo.api.AdjacencyList;
+import org.neo4j.graphalgo.api.PropertyCursor;
+import org.neo4j.graphalgo.core.loading.VarLongEncoding;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.mem.MemoryRange;
+import org.neo4j.graphalgo.core.utils.mem.MemoryUsage;
+import org.neo4j.graphalgo.core.utils.paged.PageUtil;
+
+import static org.neo4j.graphalgo.core.huge.TransientAdjacencyList.PAGE_MASK;
+import static org.neo4j.graphalgo.core.huge.TransientAdjacencyList.PAGE_SHIFT;
+import static org.neo4j.graphalgo.core.huge.TransientAdjacencyList.PAGE_SIZE;
+import static org.neo4j.graphalgo.core.loading.VarLongEncoding.encodedVLongSize;
+import static org.neo4j.graphalgo.core.utils.BitUtil.ceilDiv;
+import static org.neo4j.graphalgo.core.utils.paged.PageUtil.indexInPage;
+import static org.neo4j.graphalgo.core.utils.paged.PageUtil.pageIndex;
+
+/**
+ * Adjacency list that stores the sorted targets of a node as delta encoded, bit-packed blocks.
+ *
+ * The first target is stored as a variable length long, the remaining deltas are grouped into
+ * blocks of {@link #BLOCK_SIZE} values. Every block starts with a single header byte holding the
+ * number of bits required by the largest delta in that block, followed by all deltas packed at
+ * exactly that bit width. Decoding a block is a branch-free loop over fixed-width values,
+ * which avoids the per-byte continuation checks of the var-long encoding.
+ */
+public final class BlockPackedAdjacencyList implements AdjacencyList {
+
+    public static final int BLOCK_SIZE = 64;
+
+    private final TransientAdjacencyList delegate;
+    private byte[][] pages;
+
+    public static BlockPackedAdjacencyList of(AdjacencyList adjacencyList) {
+        assert adjacencyList instanceof TransientAdjacencyList;
+        var transientAdjacencyList = (TransientAdjacencyList) adjacencyList;
+        return new BlockPackedAdjacencyList(transientAdjacencyList, transientAdjacencyList.pages());
+    }
+
+    private BlockPackedAdjacencyList(TransientAdjacencyList delegate, byte[][] pages) {
+        this.delegate = delegate;
+        this.pages = pages;
+    }
+
+    public static MemoryEstimation memoryEstimation(RelationshipType relationshipType, boolean undirected) {
+        return MemoryEstimations.setup("", dimensions -> {
+            long nodeCount = dimensions.nodeCount();
+            long relCountForType = dimensions.relationshipCounts().getOrDefault(relationshipType, dimensions.maxRelCount());
+            long relCount = undirected ? relCountForType * 2 : relCountForType;
+            long avgDegree = (nodeCount > 0) ? ceilDiv(relCount, nodeCount) : 0L;
+            return memoryEstimation(avgDegree, nodeCount);
+        });
+    }
+
+    public static MemoryEstimation memoryEstimation(long avgDegree, long nodeCount) {
+        // Best case: all deltas are 1 and every block is packed with a single bit per value.
+        long bestCaseAdjacencySize = computeAdjacencyByteSize(avgDegree, nodeCount, 1L);
+        // Worst case: targets are evenly spread, every delta is the number of nodes divided by the degree.
+        long deltaWorstCase = (avgDegree > 0) ? ceilDiv(nodeCount, avgDegree) : 0L;
+        long worstCaseAdjacencySize = computeAdjacencyByteSize(avgDegree, nodeCount, deltaWorstCase);
+
+        int minPages = PageUtil.numPagesFor(bestCaseAdjacencySize, PAGE_SHIFT, PAGE_MASK);
+        int maxPages = PageUtil.numPagesFor(worstCaseAdjacencySize, PAGE_SHIFT, PAGE_MASK);
+
+        long bytesPerPage = MemoryUsage.sizeOfByteArray(PAGE_SIZE);
+        long minMemoryReqs = minPages * bytesPerPage + MemoryUsage.sizeOfObjectArray(minPages);
+        long maxMemoryReqs = maxPages * bytesPerPage + MemoryUsage.sizeOfObjectArray(maxPages);
+
+        return MemoryEstimations
+            .builder(BlockPackedAdjacencyList.class)
+            .fixed("pages", MemoryRange.of(minMemoryReqs, maxMemoryReqs))
+            .build();
+    }
+
+    /* test private */
+    static long computeAdjacencyByteSize(long avgDegree, long nodeCount, long delta) {
+        if (avgDegree <= 0) {
+            return 0L;
+        }
+        long firstAdjacencyIdAvgByteSize = ceilDiv(encodedVLongSize(nodeCount), 2);
+        long deltaCount = avgDegree - 1;
+        long headerBytes = ceilDiv(deltaCount, BLOCK_SIZE);
+        long packedBytes = ceilDiv(deltaCount * bitWidth(delta), Byte.SIZE);
+        return (firstAdjacencyIdAvgByteSize + headerBytes + packedBytes) * nodeCount;
+    }
+
+    /**
+     * Upper bound of bytes required by {@link #encode(long[], int, byte[])} for {@code length} values.
+     */
+    public static int maxEncodedSize(int length) {
+        return Long.BYTES + 2 + ceilDiv(length, BLOCK_SIZE) + length * Long.BYTES;
+    }
+
+    /**
+     * Encodes the first {@code length} delta encoded targets into {@code out}.
+     *
+     * @return the number of bytes written
+     */
+    public static int encode(long[] deltas, int length, byte[] out) {
+        if (length == 0) {
+            return 0;
+        }
+        int into = VarLongEncoding.encodeVLongs(deltas, 1, out, 0);
+        for (int blockStart = 1; blockStart < length; blockStart += BLOCK_SIZE) {
+            int blockLength = Math.min(BLOCK_SIZE, length - blockStart);
+            into = packBlock(deltas, blockStart, blockLength, out, into);
+        }
+        return into;
+    }
+
+    private static int packBlock(long[] values, int offset, int length, byte[] out, int into) {
+        long bits = 0L;
+        for (int i = offset; i < offset + length; i++) {
+            bits |= values[i];
+        }
+        int bitWidth = bitWidth(bits);
+        out[into++] = (byte) bitWidth;
+        if (bitWidth == 0) {
+            return into;
+        }
+
+        long buffer = 0L;
+        int bufferedBits = 0;
+        for (int i = offset; i < offset + length; i++) {
+            long value = values[i];
+            buffer |= value << bufferedBits;
+            int totalBits = bufferedBits + bitWidth;
+            if (totalBits >= Long.SIZE) {
+                for (int b = 0; b < Long.BYTES; b++) {
+                    out[into++] = (byte) buffer;
+                    buffer >>>= Byte.SIZE;
+                }
+                // bits of the value that did not fit into the flushed word
+                buffer = bufferedBits == 0 ? 0L : value >>> (Long.SIZE - bufferedBits);
+                bufferedBits = totalBits - Long.SIZE;
+            } else {
+                bufferedBits = totalBits;
+                while (bufferedBits >= Byte.SIZE) {
+                    out[into++] = (byte) buffer;
+                    buffer >>>= Byte.SIZE;
+                    bufferedBits -= Byte.SIZE;
+                }
+            }
+        }
+        while (bufferedBits > 0) {
+            out[into++] = (byte) buffer;
+            buffer >>>= Byte.SIZE;
+            bufferedBits -= Byte.SIZE;
+        }
+        return into;
+    }
+
+    private static int unpackBlock(byte[] page, int offset, int bitWidth, long base, long[] out, int length) {
+        if (bitWidth == 0) {
+            for (int i = 0; i < length; i++) {
+                out[i] = base;
+            }
+            return offset;
+        }
+
+        long mask = bitWidth == Long.SIZE ? -1L : (1L << bitWidth) - 1L;
+        long buffer = 0L;
+        int bufferedBits = 0;
+        for (int i = 0; i < length; i++) {
+            while (bufferedBits < bitWidth && bufferedBits <= Long.SIZE - Byte.SIZE) {
+                buffer |= (page[offset++] & 0xFFL) << bufferedBits;
+                bufferedBits += Byte.SIZE;
+            }
+            long value;
+            if (bufferedBits >= bitWidth) {
+                value = buffer & mask;
+                buffer = bitWidth == Long.SIZE ? 0L : buffer >>> bitWidth;
+                bufferedBits -= bitWidth;
+            } else {
+                // the value straddles the 64 bit buffer, take the missing high bits from the next byte
+                long next = page[offset++] & 0xFFL;
+                value = (buffer | next << bufferedBits) & mask;
+                int consumedBits = bitWidth - bufferedBits;
+                buffer = next >>> consumedBits;
+                bufferedBits = Byte.SIZE - consumedBits;
+            }
+            base += value;
+            out[i] = base;
+        }
+        return offset;
+    }
+
+    private static int bitWidth(long value) {
+        return Long.SIZE - Long.numberOfLeadingZeros(value);
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+        pages = null;
+    }
+
+    // Cursors
+
+    @Override
+    public PropertyCursor rawCursor() {
+        return delegate.rawCursor();
+    }
+
+    @Override
+    public AdjacencyCursor rawDecompressingCursor() {
+        return new Cursor(pages);
+    }
+
+    public static final class Cursor implements AdjacencyCursor {
+
+        private byte[][] pages;
+        private final long[] block;
+
+        private byte[] page;
+        private int offset;
+        private int degree;
+        private int position;
+        private int blockPosition;
+        private int blockLength;
+
+        private Cursor(byte[][] pages) {
+            this.pages = pages;
+            this.block = new long[BLOCK_SIZE];
+        }
+
+        @Override
+        public void init(long index, int degree) {
+            this.page = pages[pageIndex(index, PAGE_SHIFT)];
+            this.offset = indexInPage(index, PAGE_MASK);
+            this.degree = degree;
+            this.position = 0;
+            this.blockPosition = 0;
+            this.blockLength = 0;
+            if (degree > 0) {
+                this.offset = VarLongDecoding.decodeDeltaVLongs(0L, page, offset, 1, block);
+                this.blockLength = 1;
+            }
+        }
+
+        @Override
+        public void copyFrom(AdjacencyCursor other) {
+            assert other instanceof Cursor;
+            var theOther = (Cursor) other;
+            this.page = theOther.page;
+            this.offset = theOther.offset;
+            this.degree = theOther.degree;
+            this.position = theOther.position;
+            this.blockPosition = theOther.blockPosition;
+            this.blockLength = theOther.blockLength;
+            System.arraycopy(theOther.block, 0, this.block, 0, theOther.blockLength);
+        }
+
+        @Override
+        public int size() {
+            return degree;
+        }
+
+        @Override
+        public int remaining() {
+            return degree - position;
+        }
+
+        @Override
+        public boolean hasNextVLong() {
+            return position < degree;
+        }
+
+        @Override
+        public long nextVLong() {
+            if (blockPosition == blockLength) {
+                decodeNextBlock();
+            }
+            position++;
+            return block[blockPosition++];
+        }
+
+        @Override
+        public long peekVLong() {
+            if (blockPosition == blockLength) {
+                decodeNextBlock();
+            }
+            return block[blockPosition];
+        }
+
+        @Override
+        public long skipUntil(long target) {
+            long value = AdjacencyCursor.NOT_FOUND;
+            while (hasNextVLong()) {
+                value = nextVLong();
+                if (value > target) {
+                    return value;
+                }
+            }
+            return value;
+        }
+
+        @Override
+        public long advance(long target) {
+            if (!hasNextVLong()) {
+                return AdjacencyCursor.NOT_FOUND;
+            }
+            long value = AdjacencyCursor.NOT_FOUND;
+            while (hasNextVLong()) {
+                // skip whole blocks without touching the individual values
+                if (blockPosition < blockLength && block[blockLength - 1] < target && position + (blockLength - blockPosition) < degree) {
+                    position += blockLength - blockPosition;
+                    blockPosition = blockLength;
+                    continue;
+                }
+                value = nextVLong();
+                if (value >= target) {
+                    return value;
+                }
+            }
+            return value;
+        }
+
+        private void decodeNextBlock() {
+            long base = block[blockLength - 1];
+            int length = Math.min(BLOCK_SIZE, degree - position);
+            int bitWidth = page[offset++];
+            offset = unpackBlock(page, offset, bitWidth, base, block, length);
+            blockPosition = 0;
+            blockLength = length;
+        }
+
+        @Override
+        public void close() {
+            pages = null;
+        }
+    }
+}
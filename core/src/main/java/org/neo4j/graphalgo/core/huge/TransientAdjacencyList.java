@@ -121,6 +121,10 @@ public final class TransientAdjacencyList implements AdjacencyList {
         this.pages = pages;
     }
 
+    byte[][] pages() {
+        return pages;
+    }
+
     @Override
     public void close() {
         pages = null;
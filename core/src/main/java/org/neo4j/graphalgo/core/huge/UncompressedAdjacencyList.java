@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.huge;
+
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.api.AdjacencyCursor;
+import org.neo4j.graphalgo.api.AdjacencyList;
+import org.neo4j.graphalgo.api.PropertyCursor;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.mem.MemoryRange;
+import org.neo4j.graphalgo.core.utils.mem.MemoryUsage;
+import org.neo4j.graphalgo.core.utils.paged.PageUtil;
+
+import static org.neo4j.graphalgo.core.huge.TransientAdjacencyList.PAGE_MASK;
+import static org.neo4j.graphalgo.core.huge.TransientAdjacencyList.PAGE_SHIFT;
+import static org.neo4j.graphalgo.core.huge.TransientAdjacencyList.PAGE_SIZE;
+import static org.neo4j.graphalgo.core.utils.paged.PageUtil.indexInPage;
+import static org.neo4j.graphalgo.core.utils.paged.PageUtil.pageIndex;
+
+/**
+ * Adjacency list that stores the sorted targets of a node as plain, fixed-width values.
+ *
+ * Targets are stored with 4 bytes if all node ids fit into an int, otherwise with 8 bytes.
+ * This trades memory for the cheapest possible decoding and allows cursors to
+ * binary search within an adjacency list.
+ */
+public final class UncompressedAdjacencyList implements AdjacencyList {
+
+    private final TransientAdjacencyList delegate;
+    private final int bytesPerTarget;
+    private byte[][] pages;
+
+    public static UncompressedAdjacencyList of(AdjacencyList adjacencyList, long nodeCount) {
+        assert adjacencyList instanceof TransientAdjacencyList;
+        var transientAdjacencyList = (TransientAdjacencyList) adjacencyList;
+        return new UncompressedAdjacencyList(
+            transientAdjacencyList,
+            transientAdjacencyList.pages(),
+            bytesPerTarget(nodeCount)
+        );
+    }
+
+    private UncompressedAdjacencyList(TransientAdjacencyList delegate, byte[][] pages, int bytesPerTarget) {
+        this.delegate = delegate;
+        this.pages = pages;
+        this.bytesPerTarget = bytesPerTarget;
+    }
+
+    public static int bytesPerTarget(long nodeCount) {
+        return nodeCount <= Integer.MAX_VALUE ? Integer.BYTES : Long.BYTES;
+    }
+
+    public static MemoryEstimation memoryEstimation(RelationshipType relationshipType, boolean undirected) {
+        return MemoryEstimations
+            .builder(UncompressedAdjacencyList.class)
+            .perGraphDimension("pages", (dimensions, concurrency) -> {
+                long nodeCount = dimensions.nodeCount();
+                long relCountForType = dimensions.relationshipCounts().getOrDefault(relationshipType, dimensions.maxRelCount());
+                long relCount = undirected ? relCountForType * 2 : relCountForType;
+
+                long adjacencySize = relCount * bytesPerTarget(nodeCount);
+                int pages = PageUtil.numPagesFor(adjacencySize, PAGE_SHIFT, PAGE_MASK);
+                long bytesPerPage = MemoryUsage.sizeOfByteArray(PAGE_SIZE);
+
+                return MemoryRange.of(pages * bytesPerPage + MemoryUsage.sizeOfObjectArray(pages));
+            })
+            .build();
+    }
+
+    public static int maxEncodedSize(int length, long nodeCount) {
+        return length * bytesPerTarget(nodeCount);
+    }
+
+    /**
+     * Resolves the first {@code length} delta encoded targets and writes them into {@code out}.
+     *
+     * @return the number of bytes written
+     */
+    public static int encode(long[] deltas, int length, long nodeCount, byte[] out) {
+        int bytesPerTarget = bytesPerTarget(nodeCount);
+        long target = 0L;
+        int into = 0;
+        for (int i = 0; i < length; i++) {
+            target += deltas[i];
+            long value = target;
+            for (int b = 0; b < bytesPerTarget; b++) {
+                out[into++] = (byte) value;
+                value >>>= Byte.SIZE;
+            }
+        }
+        return into;
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+        pages = null;
+    }
+
+    // Cursors
+
+    @Override
+    public PropertyCursor rawCursor() {
+        return delegate.rawCursor();
+    }
+
+    @Override
+    public AdjacencyCursor rawDecompressingCursor() {
+        return new Cursor(pages, bytesPerTarget);
+    }
+
+    public static final class Cursor implements AdjacencyCursor {
+
+        private byte[][] pages;
+        private final int bytesPerTarget;
+
+        private byte[] page;
+        private int offset;
+        private int degree;
+        private int position;
+
+        private Cursor(byte[][] pages, int bytesPerTarget) {
+            this.pages = pages;
+            this.bytesPerTarget = bytesPerTarget;
+        }
+
+        @Override
+        public void init(long index, int degree) {
+            this.page = pages[pageIndex(index, PAGE_SHIFT)];
+            this.offset = indexInPage(index, PAGE_MASK);
+            this.degree = degree;
+            this.position = 0;
+        }
+
+        @Override
+        public void copyFrom(AdjacencyCursor other) {
+            assert other instanceof Cursor;
+            var theOther = (Cursor) other;
+            this.page = theOther.page;
+            this.offset = theOther.offset;
+            this.degree = theOther.degree;
+            this.position = theOther.position;
+        }
+
+        @Override
+        public int size() {
+            return degree;
+        }
+
+        @Override
+        public int remaining() {
+            return degree - position;
+        }
+
+        @Override
+        public boolean hasNextVLong() {
+            return position < degree;
+        }
+
+        @Override
+        public long nextVLong() {
+            return targetAt(position++);
+        }
+
+        @Override
+        public long peekVLong() {
+            return targetAt(position);
+        }
+
+        @Override
+        public long skipUntil(long target) {
+            if (!hasNextVLong()) {
+                return AdjacencyCursor.NOT_FOUND;
+            }
+            return moveTo(firstIndexAbove(target, 1L));
+        }
+
+        @Override
+        public long advance(long target) {
+            if (!hasNextVLong()) {
+                return AdjacencyCursor.NOT_FOUND;
+            }
+            return moveTo(firstIndexAbove(target, 0L));
+        }
+
+        /**
+         * Binary search for the first remaining index whose target is {@code >= target + inclusiveOffset}.
+         */
+        private int firstIndexAbove(long target, long inclusiveOffset) {
+            long threshold = target + inclusiveOffset;
+            int low = position;
+            int high = degree;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (targetAt(mid) < threshold) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private long moveTo(int index) {
+            if (index == degree) {
+                // exhausted, return the last target just like the compressed cursors do
+                position = degree;
+                return targetAt(degree - 1);
+            }
+            position = index + 1;
+            return targetAt(index);
+        }
+
+        private long targetAt(int index) {
+            int from = offset + index * bytesPerTarget;
+            if (bytesPerTarget == Long.BYTES) {
+                return AdjacencyDecompressingReader.readLong(page, from);
+            }
+            return page[from] & 255L |
+                   (page[1 + from] & 255L) << 8 |
+                   (page[2 + from] & 255L) << 16 |
+                   (page[3 + from] & 255L) << 24;
+        }
+
+        @Override
+        public void close() {
+            pages = null;
+        }
+    }
+}
@@ -81,7 +81,7 @@ public final class AdjacencyListWithPropertiesBuilder {
         return create(
             nodeCount,
             projection,
-            adjacencyCompressorFactory(degreesFactory, offsetsFactory),
+            projection.compression().compressorFactory(degreesFactory, offsetsFactory),
             listBuilderFactory,
             aggregations,
             propertyKeyIds,
@@ -125,13 +125,6 @@ public final class AdjacencyListWithPropertiesBuilder {
         );
     }
 
-    private static AdjacencyCompressorFactory adjacencyCompressorFactory(
-        AdjacencyDegreesFactory degreesFactory,
-        AdjacencyOffsetsFactory offsetsFactory
-    ) {
-        return new DeltaVarLongCompressor.Factory(degreesFactory, offsetsFactory);
-    }
-
     private static double[] defaultValues(RelationshipProjection projection) {
         return projection
             .properties()
@@ -26,6 +26,7 @@ import org.neo4j.graphalgo.NodeLabel;
 import org.neo4j.graphalgo.PropertyMapping;
 import org.neo4j.graphalgo.annotation.ValueClass;
 import org.neo4j.graphalgo.api.GraphLoaderContext;
+import org.neo4j.graphalgo.api.NodeMapping;
 import org.neo4j.graphalgo.api.NodeProperties;
 import org.neo4j.graphalgo.config.GraphCreateFromCypherConfig;
 import org.neo4j.graphalgo.core.GraphDimensions;
@@ -122,15 +123,25 @@ class CypherNodeLoader extends CypherRecordLoader<CypherNodeLoader.LoadResult> {
 
     @Override
     LoadResult result() {
-        final IdMap idMap;
+        final NodeMapping idMap;
         try {
-            idMap = IdMapBuilder.buildChecked(
-                builder,
-                importer.nodeLabelBitSetMapping,
-                highestNodeId,
-                cypherConfig.readConcurrency(),
-                loadingContext.tracker()
-            );
+            if (IdMapImplementations.useHashIdMap(highestNodeId, builder.size())) {
+                idMap = IdMapBuilder.buildHashedChecked(
+                    builder,
+                    importer.nodeLabelBitSetMapping,
+                    highestNodeId,
+                    cypherConfig.readConcurrency(),
+                    loadingContext.tracker()
+                );
+            } else {
+                idMap = IdMapBuilder.buildChecked(
+                    builder,
+                    importer.nodeLabelBitSetMapping,
+                    highestNodeId,
+                    cypherConfig.readConcurrency(),
+                    loadingContext.tracker()
+                );
+            }
         } catch (DuplicateNodeIdException e) {
             throw new IllegalArgumentException(formatWithLocale(
                 "Node(%d) was added multiple times. Please make sure that the nodeQuery returns distinct ids.",
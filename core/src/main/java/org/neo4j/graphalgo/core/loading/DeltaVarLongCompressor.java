@@ -38,6 +38,7 @@ import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.Arrays;
+import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
 public final class DeltaVarLongCompressor implements AdjacencyCompressor {
@@ -64,23 +65,72 @@ public final class DeltaVarLongCompressor implements AdjacencyCompressor {
             boolean noAggregation,
             AllocationTracker tracker
         ) {
-            return new Blueprint(
+            return blueprint(
+                nodeCount,
                 adjacencyBuilder,
                 propertyBuilders,
                 adjacencyDegreesFactory,
                 adjacencyOffsetsFactory,
-                HugeIntArray.newArray(nodeCount, tracker),
-                HugeLongArray.newArray(nodeCount, tracker),
-                Stream
-                    .generate(() -> HugeLongArray.newArray(nodeCount, tracker))
-                    .limit(propertyBuilders.length)
-                    .toArray(HugeLongArray[]::new),
+                aggregations,
                 noAggregation,
-                aggregations
+                DeltaVarLongCompressor::new,
+                UnaryOperator.identity(),
+                tracker
             );
         }
     }
 
+    /**
+     * Creates the compressor for a single thread from the state shared by a {@link #blueprint blueprint}.
+     */
+    @FunctionalInterface
+    interface CompressorCreator {
+        AdjacencyCompressor create(
+            AdjacencyListAllocator adjacencyAllocator,
+            AdjacencyListAllocator[] propertiesAllocators,
+            HugeIntArray adjacencyDegrees,
+            HugeLongArray adjacencyOffsets,
+            HugeLongArray[] propertyOffsets,
+            boolean noAggregation,
+            Aggregation[] aggregations
+        );
+    }
+
+    /**
+     * Blueprint that allocates degrees and offsets for all nodes and builds the final adjacency lists.
+     * Compressors that only change the byte layout of the targets plug in their own {@code compressorCreator}
+     * and wrap the built adjacency pages with a list that is able to decode that layout.
+     */
+    static AdjacencyCompressorBlueprint blueprint(
+        long nodeCount,
+        AdjacencyListBuilder adjacencyBuilder,
+        AdjacencyListBuilder[] propertyBuilders,
+        AdjacencyDegreesFactory adjacencyDegreesFactory,
+        AdjacencyOffsetsFactory adjacencyOffsetsFactory,
+        Aggregation[] aggregations,
+        boolean noAggregation,
+        CompressorCreator compressorCreator,
+        UnaryOperator<AdjacencyList> adjacencyListWrapper,
+        AllocationTracker tracker
+    ) {
+        return new Blueprint(
+            adjacencyBuilder,
+            propertyBuilders,
+            adjacencyDegreesFactory,
+            adjacencyOffsetsFactory,
+            HugeIntArray.newArray(nodeCount, tracker),
+            HugeLongArray.newArray(nodeCount, tracker),
+            Stream
+                .generate(() -> HugeLongArray.newArray(nodeCount, tracker))
+                .limit(propertyBuilders.length)
+                .toArray(HugeLongArray[]::new),
+            noAggregation,
+            aggregations,
+            compressorCreator,
+            adjacencyListWrapper
+        );
+    }
+
     private static final class Blueprint implements AdjacencyCompressorBlueprint {
         private final AdjacencyListBuilder adjacencyBuilder;
         private final AdjacencyListBuilder[] propertyBuilders;
@@ -91,6 +141,8 @@ public final class DeltaVarLongCompressor implements AdjacencyCompressor {
         private final HugeLongArray[] propertyOffsets;
         private final boolean noAggregation;
         private final Aggregation[] aggregations;
+        private final CompressorCreator compressorCreator;
+        private final UnaryOperator<AdjacencyList> adjacencyListWrapper;
 
         private Blueprint(
             AdjacencyListBuilder adjacencyBuilder,
@@ -101,7 +153,9 @@ public final class DeltaVarLongCompressor implements AdjacencyCompressor {
             HugeLongArray adjacencyOffsets,
             HugeLongArray[] propertyOffsets,
             boolean noAggregation,
-            Aggregation[] aggregations
+            Aggregation[] aggregations,
+            CompressorCreator compressorCreator,
+            UnaryOperator<AdjacencyList> adjacencyListWrapper
         ) {
             this.adjacencyBuilder = adjacencyBuilder;
             this.propertyBuilders = propertyBuilders;
@@ -112,11 +166,13 @@ public final class DeltaVarLongCompressor implements AdjacencyCompressor {
             this.propertyOffsets = propertyOffsets;
             this.noAggregation = noAggregation;
             this.aggregations = aggregations;
+            this.compressorCreator = compressorCreator;
+            this.adjacencyListWrapper = adjacencyListWrapper;
         }
 
         @Override
-        public DeltaVarLongCompressor createCompressor() {
-            return new DeltaVarLongCompressor(
+        public AdjacencyCompressor createCompressor() {
+            return compressorCreator.create(
                 adjacencyBuilder.newAllocator(),
                 Arrays
                     .stream(propertyBuilders)
@@ -156,7 +212,7 @@ public final class DeltaVarLongCompressor implements AdjacencyCompressor {
                 .adjacency(new DvlCompressionResult(
                     adjacencyDegrees,
                     adjacencyOffsets,
-                    adjacencyBuilder.build()
+                    adjacencyListWrapper.apply(adjacencyBuilder.build())
                 ));
 
             for (int i = 0; i < propertyBuilders.length; i++) {
@@ -310,7 +366,7 @@ public final class DeltaVarLongCompressor implements AdjacencyCompressor {
         }
     }
 
-    private long copyProperties(long[] properties, int degree, AdjacencyListAllocator propertiesAllocator) {
+    static long copyProperties(long[] properties, int degree, AdjacencyListAllocator propertiesAllocator) {
         int requiredBytes = degree * Long.BYTES;
         var slice = propertiesAllocator.allocate(requiredBytes);
         int offset = slice.offset();
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.loading;
+
+import org.neo4j.graphalgo.api.AdjacencyList;
+import org.neo4j.graphalgo.core.Aggregation;
+import org.neo4j.graphalgo.core.compress.AdjacencyCompressor;
+import org.neo4j.graphalgo.core.compress.AdjacencyCompressorBlueprint;
+import org.neo4j.graphalgo.core.compress.AdjacencyCompressorFactory;
+import org.neo4j.graphalgo.core.compress.LongArrayBuffer;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeIntArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Compressor that sorts, aggregates and delta encodes the targets just like the
+ * {@link DeltaVarLongCompressor} but leaves the final byte layout of the targets
+ * to a pluggable {@link AdjacencyEncoding}. Properties are stored uncompressed.
+ */
+public final class EncodedAdjacencyCompressor implements AdjacencyCompressor {
+
+    public interface AdjacencyEncoding {
+
+        /**
+         * Upper bound of bytes needed to encode {@code length} targets.
+         */
+        int maxEncodedSize(int length);
+
+        /**
+         * Encode the first {@code length} delta encoded targets into {@code out}.
+         * The first value in {@code deltas} is the absolute id of the first target.
+         *
+         * @return the number of bytes written
+         */
+        int encode(long[] deltas, int length, byte[] out);
+
+        /**
+         * Wrap the built pages into an adjacency list that is able to decode this encoding.
+         */
+        AdjacencyList adjacencyList(AdjacencyList pages);
+    }
+
+    public interface AdjacencyEncodingFactory {
+        AdjacencyEncoding create(long nodeCount);
+    }
+
+    public static final class Factory implements AdjacencyCompressorFactory {
+
+        private final AdjacencyEncodingFactory encodingFactory;
+        private final AdjacencyDegreesFactory adjacencyDegreesFactory;
+        private final AdjacencyOffsetsFactory adjacencyOffsetsFactory;
+
+        public Factory(
+            AdjacencyEncodingFactory encodingFactory,
+            AdjacencyDegreesFactory adjacencyDegreesFactory,
+            AdjacencyOffsetsFactory adjacencyOffsetsFactory
+        ) {
+            this.encodingFactory = encodingFactory;
+            this.adjacencyDegreesFactory = adjacencyDegreesFactory;
+            this.adjacencyOffsetsFactory = adjacencyOffsetsFactory;
+        }
+
+        @Override
+        public AdjacencyCompressorBlueprint create(
+            long nodeCount,
+            AdjacencyListBuilder adjacencyBuilder,
+            AdjacencyListBuilder[] propertyBuilders,
+            Aggregation[] aggregations,
+            boolean noAggregation,
+            AllocationTracker tracker
+        ) {
+            if (!(adjacencyBuilder instanceof TransientAdjacencyListBuilder)) {
+                // custom encodings operate on the pages of the transient adjacency list
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Encoded adjacency lists require a `%s`, but got a `%s`.",
+                    TransientAdjacencyListBuilder.class.getSimpleName(),
+                    adjacencyBuilder.getClass().getSimpleName()
+                ));
+            }
+            var encoding = encodingFactory.create(nodeCount);
+            return DeltaVarLongCompressor.blueprint(
+                nodeCount,
+                adjacencyBuilder,
+                propertyBuilders,
+                adjacencyDegreesFactory,
+                adjacencyOffsetsFactory,
+                aggregations,
+                noAggregation,
+                (adjacencyAllocator, propertiesAllocators, degrees, offsets, propertyOffsets, noAgg, aggs) ->
+                    new EncodedAdjacencyCompressor(
+                        encoding,
+                        adjacencyAllocator,
+                        propertiesAllocators,
+                        degrees,
+                        offsets,
+                        propertyOffsets,
+                        noAgg,
+                        aggs
+                    ),
+                encoding::adjacencyList,
+                tracker
+            );
+        }
+    }
+
+    private final AdjacencyEncoding encoding;
+    private final AdjacencyListAllocator adjacencyAllocator;
+    private final AdjacencyListAllocator[] propertiesAllocators;
+    private final HugeIntArray adjacencyDegrees;
+    private final HugeLongArray adjacencyOffsets;
+    private final HugeLongArray[] propertyOffsets;
+    private final boolean noAggregation;
+    private final Aggregation[] aggregations;
+
+    private byte[] encodedTargets;
+
+    private EncodedAdjacencyCompressor(
+        AdjacencyEncoding encoding,
+        AdjacencyListAllocator adjacencyAllocator,
+        AdjacencyListAllocator[] propertiesAllocators,
+        HugeIntArray adjacencyDegrees,
+        HugeLongArray adjacencyOffsets,
+        HugeLongArray[] propertyOffsets,
+        boolean noAggregation,
+        Aggregation[] aggregations
+    ) {
+        this.encoding = encoding;
+        this.adjacencyAllocator = adjacencyAllocator;
+        this.propertiesAllocators = propertiesAllocators;
+        this.adjacencyDegrees = adjacencyDegrees;
+        this.adjacencyOffsets = adjacencyOffsets;
+        this.propertyOffsets = propertyOffsets;
+        this.noAggregation = noAggregation;
+        this.aggregations = aggregations;
+        this.encodedTargets = new byte[0];
+        adjacencyAllocator.prepare();
+        for (var propertiesAllocator : propertiesAllocators) {
+            if (propertiesAllocator != null) {
+                propertiesAllocator.prepare();
+            }
+        }
+    }
+
+    @Override
+    public int compress(
+        long nodeId,
+        CompressedLongArray values,
+        LongArrayBuffer buffer
+    ) {
+        AdjacencyCompression.copyFrom(buffer, values);
+
+        long[][] weights = values.weights();
+        int degree = values.hasWeights()
+            ? AdjacencyCompression.applyDeltaEncoding(buffer, weights, aggregations, noAggregation)
+            : AdjacencyCompression.applyDeltaEncoding(buffer, aggregations[0]);
+
+        int maxBytes = encoding.maxEncodedSize(degree);
+        if (encodedTargets.length < maxBytes) {
+            encodedTargets = new byte[maxBytes];
+        }
+        int requiredBytes = encoding.encode(buffer.buffer, degree, encodedTargets);
+
+        var slice = adjacencyAllocator.allocate(requiredBytes);
+        slice.insert(encodedTargets, 0, requiredBytes);
+
+        if (values.hasWeights()) {
+            for (int i = 0; i < weights.length; i++) {
+                long address = DeltaVarLongCompressor.copyProperties(weights[i], degree, propertiesAllocators[i]);
+                propertyOffsets[i].set(nodeId, address);
+            }
+        }
+
+        this.adjacencyDegrees.set(nodeId, degree);
+        this.adjacencyOffsets.set(nodeId, slice.address());
+        values.release();
+
+        return degree;
+    }
+
+    @Override
+    public void close() {
+        adjacencyAllocator.close();
+        for (var propertiesAllocator : propertiesAllocators) {
+            if (propertiesAllocator != null) {
+                propertiesAllocator.close();
+            }
+        }
+    }
+}
@@ -22,6 +22,7 @@ package org.neo4j.graphalgo.core.loading;
 import org.jetbrains.annotations.Nullable;
 import org.neo4j.graphalgo.annotation.ValueClass;
 import org.neo4j.graphalgo.api.GraphStore;
+import org.neo4j.graphalgo.beta.filter.GraphStoreView;
 import org.neo4j.graphalgo.config.GraphCreateConfig;
 import org.neo4j.kernel.database.NamedDatabaseId;
 
@@ -258,13 +259,41 @@ public final class GraphStoreCatalog {
         ) {
             Optional.ofNullable(get(userCatalogKey, failOnMissing)).ifPresent(graphStoreWithConfig -> {
                 removedGraphConsumer.accept(graphStoreWithConfig);
-                graphStoreWithConfig.graphStore().canRelease(true);
-                graphStoreWithConfig.graphStore().release();
                 removeDegreeDistribution(userCatalogKey);
                 graphsByName.remove(userCatalogKey);
+                releaseIfUnused(graphStoreWithConfig.graphStore());
             });
         }
 
+        /**
+         * Views share the topology of their parent graph store. A removed graph store is only released
+         * once it is neither in the catalog nor an ancestor of a view in the catalog. Releasing a view
+         * may in turn release its already removed parent.
+         */
+        private void releaseIfUnused(GraphStore graphStore) {
+            var inUse = graphsByName
+                .values()
+                .stream()
+                .anyMatch(graphStoreWithConfig -> dependsOn(graphStoreWithConfig.graphStore(), graphStore));
+            if (inUse) {
+                return;
+            }
+
+            graphStore.canRelease(true);
+            graphStore.release();
+
+            if (graphStore instanceof GraphStoreView) {
+                releaseIfUnused(((GraphStoreView) graphStore).parent());
+            }
+        }
+
+        private static boolean dependsOn(GraphStore graphStore, GraphStore other) {
+            while (graphStore != other && graphStore instanceof GraphStoreView) {
+                graphStore = ((GraphStoreView) graphStore).parent();
+            }
+            return graphStore == other;
+        }
+
         private void remove(String databaseName) {
             graphsByName.keySet().removeIf(userCatalogKey -> userCatalogKey.databaseName().equals(databaseName));
         }
@@ -0,0 +1,400 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.loading;
+
+import com.carrotsearch.hppc.BitMixer;
+import com.carrotsearch.hppc.BitSet;
+import org.neo4j.graphalgo.ElementIdentifier;
+import org.neo4j.graphalgo.NodeLabel;
+import org.neo4j.graphalgo.api.BatchNodeIterable;
+import org.neo4j.graphalgo.api.NodeIterator;
+import org.neo4j.graphalgo.api.NodeMapping;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.utils.BitUtil;
+import org.neo4j.graphalgo.core.utils.LazyBatchCollection;
+import org.neo4j.graphalgo.core.utils.collection.primitive.PrimitiveLongIterable;
+import org.neo4j.graphalgo.core.utils.collection.primitive.PrimitiveLongIterator;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.mem.MemoryRange;
+import org.neo4j.graphalgo.core.utils.mem.MemoryUsage;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeCursor;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongPredicate;
+import java.util.stream.Collectors;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * A node mapping for original ids that are sparse relative to the number of nodes,
+ * e.g. ids spread over the whole {@code long} range.
+ *
+ * Instead of a {@link org.neo4j.graphalgo.core.utils.paged.HugeSparseLongArray},
+ * which needs to address every id up to the highest original id, the mapping
+ * from original to internal ids is stored in an open-addressing hash index.
+ * Each slot stores {@code internalId + 1} (0 marks an empty slot) and the key is
+ * resolved via the {@code graphIds} array, so the index costs a single long per slot.
+ * The index is built in parallel using linear probing and CAS on empty slots.
+ */
+public class HashIdMap implements NodeMapping, NodeIterator, BatchNodeIterable {
+
+    private static final double LOAD_FACTOR = 0.5;
+    private static final long EMPTY_SLOT = 0L;
+    private static final long NOT_FOUND = -1L;
+
+    private static final MemoryEstimation ESTIMATION = MemoryEstimations
+        .builder(HashIdMap.class)
+        .perNode("Neo4j identifiers", HugeLongArray::memoryEstimation)
+        .perNode("Hash index from Neo4j identifiers to internal identifiers", HashIdMap::indexMemoryEstimation)
+        .perGraphDimension(
+            "Node Label BitSets",
+            (dimensions, concurrency) ->
+                MemoryRange.of(dimensions.estimationNodeLabelCount() * MemoryUsage.sizeOfBitset(dimensions.nodeCount()))
+        )
+        .build();
+
+    private static final Set<NodeLabel> ALL_NODES_LABELS = Set.of(NodeLabel.ALL_NODES);
+
+    private final long nodeCount;
+    private final long highestNeoId;
+    private final AllocationTracker tracker;
+
+    private final Map<NodeLabel, BitSet> labelInformation;
+
+    private final HugeLongArray graphIds;
+    private final HugeAtomicLongArray index;
+    private final long mask;
+
+    public static MemoryEstimation memoryEstimation() {
+        return ESTIMATION;
+    }
+
+    public static long indexMemoryEstimation(long nodeCount) {
+        return HugeAtomicLongArray.memoryEstimation(indexCapacity(nodeCount));
+    }
+
+    static long indexCapacity(long nodeCount) {
+        return BitUtil.nextHighestPowerOfTwo(Math.max(2L, (long) Math.ceil(nodeCount / LOAD_FACTOR)));
+    }
+
+    /**
+     * Builds the hash index for the first {@code nodeCount} entries of {@code graphIds} in parallel.
+     *
+     * @param checkDuplicates if true, a {@link DuplicateNodeIdException} is thrown if an original id is added twice
+     */
+    static HashIdMap build(
+        HugeLongArray graphIds,
+        Map<NodeLabel, BitSet> labelInformation,
+        long nodeCount,
+        long highestNeoId,
+        int concurrency,
+        boolean checkDuplicates,
+        AllocationTracker tracker
+    ) {
+        HugeAtomicLongArray index = buildIndex(graphIds, nodeCount, concurrency, checkDuplicates, tracker);
+        return new HashIdMap(graphIds, index, labelInformation, nodeCount, highestNeoId, tracker);
+    }
+
+    private static HugeAtomicLongArray buildIndex(
+        HugeLongArray graphIds,
+        long nodeCount,
+        int concurrency,
+        boolean checkDuplicates,
+        AllocationTracker tracker
+    ) {
+        long capacity = indexCapacity(nodeCount);
+        long mask = capacity - 1;
+        HugeAtomicLongArray index = HugeAtomicLongArray.newArray(capacity, tracker);
+
+        ParallelUtil.readParallel(concurrency, nodeCount, Pools.DEFAULT, (start, end) -> {
+            try (HugeCursor<long[]> cursor = graphIds.initCursor(graphIds.newCursor(), start, end)) {
+                while (cursor.next()) {
+                    long[] array = cursor.array;
+                    int limit = cursor.limit;
+                    long internalId = cursor.base + cursor.offset;
+                    for (int i = cursor.offset; i < limit; ++i, ++internalId) {
+                        insert(index, mask, graphIds, array[i], internalId, checkDuplicates);
+                    }
+                }
+            }
+        });
+
+        return index;
+    }
+
+    private static void insert(
+        HugeAtomicLongArray index,
+        long mask,
+        HugeLongArray graphIds,
+        long originalId,
+        long internalId,
+        boolean checkDuplicates
+    ) {
+        long slot = BitMixer.mixPhi(originalId) & mask;
+        while (true) {
+            long current = index.compareAndExchange(slot, EMPTY_SLOT, internalId + 1);
+            if (current == EMPTY_SLOT) {
+                return;
+            }
+            if (graphIds.get(current - 1) == originalId) {
+                if (checkDuplicates) {
+                    throw new DuplicateNodeIdException(originalId);
+                }
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    HashIdMap(
+        HugeLongArray graphIds,
+        HugeAtomicLongArray index,
+        Map<NodeLabel, BitSet> labelInformation,
+        long nodeCount,
+        long highestNeoId,
+        AllocationTracker tracker
+    ) {
+        this.graphIds = graphIds;
+        this.index = index;
+        this.mask = index.size() - 1;
+        this.labelInformation = labelInformation;
+        this.nodeCount = nodeCount;
+        this.highestNeoId = highestNeoId;
+        this.tracker = tracker;
+    }
+
+    @Override
+    public long toMappedNodeId(long nodeId) {
+        long slot = BitMixer.mixPhi(nodeId) & mask;
+        long current;
+        while ((current = index.get(slot)) != EMPTY_SLOT) {
+            long mappedId = current - 1;
+            if (graphIds.get(mappedId) == nodeId) {
+                return mappedId;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return NOT_FOUND;
+    }
+
+    @Override
+    public long toOriginalNodeId(long nodeId) {
+        return graphIds.get(nodeId);
+    }
+
+    @Override
+    public long toRootNodeId(long nodeId) {
+        return nodeId;
+    }
+
+    @Override
+    public boolean contains(long nodeId) {
+        return toMappedNodeId(nodeId) != NOT_FOUND;
+    }
+
+    @Override
+    public long nodeCount() {
+        return nodeCount;
+    }
+
+    @Override
+    public long rootNodeCount() {
+        return nodeCount;
+    }
+
+    @Override
+    public long highestNeoId() {
+        return highestNeoId;
+    }
+
+    @Override
+    public void forEachNode(LongPredicate consumer) {
+        final long count = nodeCount();
+        for (long i = 0L; i < count; i++) {
+            if (!consumer.test(i)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public PrimitiveLongIterator nodeIterator() {
+        return new IdIterator(nodeCount());
+    }
+
+    @Override
+    public Collection<PrimitiveLongIterable> batchIterables(long batchSize) {
+        return LazyBatchCollection.of(
+            nodeCount(),
+            batchSize,
+            IdIterable::new
+        );
+    }
+
+    @Override
+    public Set<NodeLabel> availableNodeLabels() {
+        return labelInformation.isEmpty()
+            ? ALL_NODES_LABELS
+            : labelInformation.keySet();
+    }
+
+    @Override
+    public Set<NodeLabel> nodeLabels(long nodeId) {
+        if (labelInformation.isEmpty()) {
+            return ALL_NODES_LABELS;
+        } else {
+            Set<NodeLabel> set = new HashSet<>();
+            for (var labelAndBitSet : labelInformation.entrySet()) {
+                if (labelAndBitSet.getValue().get(nodeId)) {
+                    set.add(labelAndBitSet.getKey());
+                }
+            }
+            return set;
+        }
+    }
+
+    @Override
+    public void forEachNodeLabel(long nodeId, NodeLabelConsumer consumer) {
+        if (labelInformation.isEmpty()) {
+            consumer.accept(NodeLabel.ALL_NODES);
+        } else {
+            for (var labelAndBitSet : labelInformation.entrySet()) {
+                if (labelAndBitSet.getValue().get(nodeId)) {
+                    if (!consumer.accept(labelAndBitSet.getKey())) {
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean hasLabel(long nodeId, NodeLabel label) {
+        if (labelInformation.isEmpty() && label.equals(NodeLabel.ALL_NODES)) {
+            return true;
+        }
+        BitSet bitSet = labelInformation.get(label);
+        return bitSet != null && bitSet.get(nodeId);
+    }
+
+    @Override
+    public HashIdMap withFilteredLabels(Collection<NodeLabel> nodeLabels, int concurrency) {
+        validateNodeLabelFilter(nodeLabels, labelInformation);
+
+        if (labelInformation.isEmpty()) {
+            return this;
+        }
+
+        BitSet unionBitSet = new BitSet(nodeCount());
+        nodeLabels.forEach(label -> unionBitSet.union(labelInformation.get(label)));
+
+        long nodeId = -1L;
+        long cursor = 0L;
+        long newNodeCount = unionBitSet.cardinality();
+        HugeLongArray newGraphIds = HugeLongArray.newArray(newNodeCount, tracker);
+
+        while ((nodeId = unionBitSet.nextSetBit(nodeId + 1)) != -1) {
+            newGraphIds.set(cursor, nodeId);
+            cursor++;
+        }
+
+        HugeAtomicLongArray newIndex = buildIndex(newGraphIds, newNodeCount, concurrency, false, tracker);
+
+        Map<NodeLabel, BitSet> newLabelInformation = nodeLabels
+            .stream()
+            .collect(Collectors.toMap(nodeLabel -> nodeLabel, labelInformation::get));
+
+        return new FilteredHashIdMap(
+            rootNodeCount(),
+            newGraphIds,
+            newIndex,
+            newLabelInformation,
+            newNodeCount,
+            highestNeoId,
+            tracker
+        );
+    }
+
+    private void validateNodeLabelFilter(Collection<NodeLabel> nodeLabels, Map<NodeLabel, BitSet> labelInformation) {
+        List<ElementIdentifier> invalidLabels = nodeLabels
+            .stream()
+            .filter(label -> !new HashSet<>(labelInformation.keySet()).contains(label))
+            .collect(Collectors.toList());
+        if (!invalidLabels.isEmpty()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Specified labels %s do not correspond to any of the node projections %s.",
+                invalidLabels,
+                labelInformation.keySet()
+            ));
+        }
+    }
+
+    private static class FilteredHashIdMap extends HashIdMap {
+
+        private final long rootNodeCount;
+
+        FilteredHashIdMap(
+            long rootNodeCount,
+            HugeLongArray graphIds,
+            HugeAtomicLongArray index,
+            Map<NodeLabel, BitSet> filteredLabelMap,
+            long nodeCount,
+            long highestNeoId,
+            AllocationTracker tracker
+        ) {
+            super(graphIds, index, filteredLabelMap, nodeCount, highestNeoId, tracker);
+            this.rootNodeCount = rootNodeCount;
+        }
+
+        @Override
+        public Set<NodeLabel> nodeLabels(long nodeId) {
+            return super.nodeLabels(toOriginalNodeId(nodeId));
+        }
+
+        @Override
+        public void forEachNodeLabel(long nodeId, NodeLabelConsumer consumer) {
+            super.forEachNodeLabel(toOriginalNodeId(nodeId), consumer);
+        }
+
+        @Override
+        public long rootNodeCount() {
+            return rootNodeCount;
+        }
+
+        @Override
+        public long toRootNodeId(long nodeId) {
+            return super.toRootNodeId(toOriginalNodeId(nodeId));
+        }
+
+        @Override
+        public boolean hasLabel(long nodeId, NodeLabel label) {
+            return super.hasLabel(toOriginalNodeId(nodeId), label);
+        }
+    }
+}
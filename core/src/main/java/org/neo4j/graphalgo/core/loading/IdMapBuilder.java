@@ -19,6 +19,7 @@
  */
 package org.neo4j.graphalgo.core.loading;
 
+import com.carrotsearch.hppc.BitSet;
 import org.jetbrains.annotations.NotNull;
 import org.neo4j.graphalgo.NodeLabel;
 import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
@@ -104,6 +105,83 @@ public final class IdMapBuilder {
         );
     }
 
+    /**
+     * Builds a {@link HashIdMap}, which does not need to address every original id
+     * up to {@code highestNodeId} and should be used for sparse original ids.
+     *
+     * @see IdMapImplementations#useHashIdMap(long, long)
+     */
+    public static HashIdMap buildHashed(
+        InternalHugeIdMappingBuilder idMapBuilder,
+        Map<NodeLabel, HugeAtomicBitSet> labelInformation,
+        long highestNodeId,
+        int concurrency,
+        AllocationTracker tracker
+    ) {
+        return HashIdMap.build(
+            idMapBuilder.build(),
+            convertLabelInformation(labelInformation),
+            idMapBuilder.size(),
+            highestNodeId,
+            concurrency,
+            false,
+            tracker
+        );
+    }
+
+    /**
+     * Builds an id map from an already ordered array of original node ids,
+     * i.e. the internal id of {@code graphIds.get(i)} will be {@code i}.
+     */
+    public static IdMap build(
+        HugeLongArray graphIds,
+        Map<NodeLabel, BitSet> labelInformation,
+        long highestNodeId,
+        int concurrency,
+        AllocationTracker tracker
+    ) {
+        HugeSparseLongArray nodeToGraphIds = buildSparseNodeMapping(
+            graphIds.size(),
+            highestNodeId,
+            concurrency,
+            add(graphIds),
+            tracker
+        );
+
+        return new IdMap(
+            graphIds,
+            nodeToGraphIds,
+            labelInformation,
+            graphIds.size(),
+            highestNodeId,
+            tracker
+        );
+    }
+
+    /**
+     * Builds a {@link HashIdMap} from an already ordered array of original node ids,
+     * i.e. the internal id of {@code graphIds.get(i)} will be {@code i}.
+     *
+     * @see IdMapImplementations#useHashIdMap(long, long)
+     */
+    public static HashIdMap buildHashed(
+        HugeLongArray graphIds,
+        Map<NodeLabel, BitSet> labelInformation,
+        long highestNodeId,
+        int concurrency,
+        AllocationTracker tracker
+    ) {
+        return HashIdMap.build(
+            graphIds,
+            labelInformation,
+            graphIds.size(),
+            highestNodeId,
+            concurrency,
+            false,
+            tracker
+        );
+    }
+
     static IdMap buildChecked(
         InternalHugeIdMappingBuilder idMapBuilder,
         Map<NodeLabel, HugeAtomicBitSet> labelInformation,
@@ -128,6 +206,31 @@ public final class IdMapBuilder {
         return new IdMap(graphIds, nodeToGraphIds, convertedLabelInformation, idMapBuilder.size(), idMapBuilder.capacity(), tracker);
     }
 
+    static HashIdMap buildHashedChecked(
+        InternalHugeIdMappingBuilder idMapBuilder,
+        Map<NodeLabel, HugeAtomicBitSet> labelInformation,
+        long highestNodeId,
+        int concurrency,
+        AllocationTracker tracker
+    ) throws DuplicateNodeIdException {
+        return HashIdMap.build(
+            idMapBuilder.build(),
+            convertLabelInformation(labelInformation),
+            idMapBuilder.size(),
+            highestNodeId,
+            concurrency,
+            true,
+            tracker
+        );
+    }
+
+    private static Map<NodeLabel, BitSet> convertLabelInformation(Map<NodeLabel, HugeAtomicBitSet> labelInformation) {
+        return labelInformation.entrySet().stream().collect(Collectors.toMap(
+            Map.Entry::getKey,
+            e -> e.getValue().toBitSet()
+        ));
+    }
+
     @NotNull
     static HugeSparseLongArray buildSparseNodeMapping(
         long nodeCount,
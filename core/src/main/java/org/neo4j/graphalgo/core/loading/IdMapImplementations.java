@@ -20,10 +20,19 @@
 package org.neo4j.graphalgo.core.loading;
 
 import org.neo4j.graphalgo.core.GdsEdition;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.paged.HugeSparseLongArray;
 import org.neo4j.graphalgo.utils.GdsFeatureToggles;
 
 public final class IdMapImplementations {
 
+    /**
+     * A {@link HashIdMap} is used if the sparse id mapping of an {@link IdMap}
+     * would require more than this factor times the memory of the hash index.
+     */
+    static final long HASH_ID_MAP_MEMORY_FACTOR = 4L;
+
     public static boolean useBitIdMap() {
         return GdsEdition.instance().isOnEnterpriseEdition() && GdsFeatureToggles.USE_BIT_ID_MAP.isEnabled();
     }
@@ -52,8 +61,47 @@ public final class IdMapImplementations {
         return sequentialBitIdMapBuilder().capture(idMapBuilder);
     }
 
+    /**
+     * Returns true if the original ids are too sparse relative to the node count
+     * to be efficiently mapped by a {@link HugeSparseLongArray}, which needs to
+     * address every id up to the highest original id.
+     */
+    public static boolean useHashIdMap(long highestNodeId, long nodeCount) {
+        if (nodeCount <= 0) {
+            return false;
+        }
+        if (highestNodeId >= HugeSparseLongArray.MAX_SIZE - 1) {
+            return true;
+        }
+        long sparseMappingSize = HugeSparseLongArray.memoryEstimation(
+            highestNodeId + 1,
+            Math.min(nodeCount, highestNodeId + 1)
+        ).max;
+        return sparseMappingSize > HASH_ID_MAP_MEMORY_FACTOR * HashIdMap.indexMemoryEstimation(nodeCount);
+    }
+
+    public static MemoryEstimation hugeIdMapMemoryEstimation() {
+        return MemoryEstimations.setup(
+            "",
+            dimensions -> useHashIdMap(dimensions.highestNeoId(), dimensions.nodeCount())
+                ? HashIdMap.memoryEstimation()
+                : IdMap.memoryEstimation()
+        );
+    }
+
     public static NodeMappingBuilder<InternalHugeIdMappingBuilder> hugeIdMapBuilder() {
-        return IdMapBuilder::build;
+        return (idMapBuilder, labelInformation, highestNodeId, concurrency, tracker) ->
+            useHashIdMap(highestNodeId, idMapBuilder.size())
+                ? IdMapBuilder.buildHashed(idMapBuilder, labelInformation, highestNodeId, concurrency, tracker)
+                : IdMapBuilder.build(idMapBuilder, labelInformation, highestNodeId, concurrency, tracker);
+    }
+
+    public static NodeMappingBuilder<InternalHugeIdMappingBuilder> hashIdMapBuilder() {
+        return IdMapBuilder::buildHashed;
+    }
+
+    public static NodeMappingBuilder.Capturing hashIdMapBuilder(InternalHugeIdMappingBuilder idMapBuilder) {
+        return hashIdMapBuilder().capture(idMapBuilder);
     }
 
     public static NodeMappingBuilder.Capturing hugeIdMapBuilder(InternalHugeIdMappingBuilder idMapBuilder) {
@@ -88,7 +88,7 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphCreateFromSto
         if (IdMapImplementations.useBitIdMap()) {
             builder.add("nodeIdMap", BitIdMap.memoryEstimation());
         } else {
-            builder.add("nodeIdMap", IdMap.memoryEstimation());
+            builder.add("nodeIdMap", IdMapImplementations.hugeIdMapMemoryEstimation());
         }
 
         // nodeProperties
@@ -107,7 +107,7 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphCreateFromSto
             );
             builder.add(
                 formatWithLocale("adjacency list for '%s'", relationshipType),
-                TransientAdjacencyList.compressedMemoryEstimation(relationshipType, undirected)
+                relationshipProjection.compression().memoryEstimation(relationshipType, undirected)
             );
             builder.add(
                 formatWithLocale("adjacency offsets for '%s'", relationshipType),
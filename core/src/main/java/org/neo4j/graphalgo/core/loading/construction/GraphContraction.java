@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.loading.construction;
+
+import com.carrotsearch.hppc.LongDoubleHashMap;
+import com.carrotsearch.hppc.cursors.LongDoubleCursor;
+import org.neo4j.graphalgo.Orientation;
+import org.neo4j.graphalgo.api.DefaultValue;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.NodeMapping;
+import org.neo4j.graphalgo.api.RelationshipIterator;
+import org.neo4j.graphalgo.core.Aggregation;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.partition.Partition;
+import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
+
+import java.util.concurrent.ExecutorService;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Contracts a graph by merging all nodes of the same community into a single node.
+ * <p>
+ * Every relationship {@code (a)-[w]->(b)} becomes a relationship between the communities
+ * of {@code a} and {@code b}. Parallel relationships between two communities are merged
+ * and their weights are summed up. Relationships of graphs without a relationship
+ * property have a weight of {@code 1.0}.
+ * <p>
+ * Nodes and relationships are added in parallel. The relationships of each node are
+ * aggregated per target community before being added to the {@link RelationshipsBuilder},
+ * which in turn sums up the remaining parallel relationships while compressing the adjacency lists.
+ * <p>
+ * The node ids of the contracted graph are the community ids, i.e. {@link Graph#toOriginalNodeId(long)}
+ * returns the community id of a node in the contracted graph.
+ */
+public final class GraphContraction {
+
+    private final Graph graph;
+    private final Orientation orientation;
+    private final int concurrency;
+    private final ExecutorService executorService;
+    private final AllocationTracker tracker;
+    private TerminationFlag terminationFlag;
+
+    public GraphContraction(
+        Graph graph,
+        int concurrency,
+        ExecutorService executorService,
+        AllocationTracker tracker
+    ) {
+        this.graph = graph;
+        this.orientation = graph.isUndirected() ? Orientation.UNDIRECTED : Orientation.NATURAL;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.tracker = tracker;
+        this.terminationFlag = TerminationFlag.RUNNING_TRUE;
+    }
+
+    public GraphContraction withTerminationFlag(TerminationFlag terminationFlag) {
+        this.terminationFlag = terminationFlag;
+        return this;
+    }
+
+    /**
+     * @param communities    maps each node of the graph to a community id in {@code [0, maxCommunityId]}
+     * @param maxCommunityId the highest community id returned by {@code communities}
+     * @return the contracted graph with one node per community
+     */
+    public Graph contract(LongUnaryOperator communities, long maxCommunityId) {
+        var nodesBuilder = GraphFactory.initNodesBuilder()
+            .maxOriginalId(maxCommunityId)
+            .concurrency(concurrency)
+            .tracker(tracker)
+            .build();
+
+        var nodeCreators = PartitionUtils.rangePartition(
+            concurrency,
+            graph.nodeCount(),
+            partition -> (Runnable) () -> partition.consume(nodeId -> nodesBuilder.addNode(communities.applyAsLong(nodeId)))
+        );
+        ParallelUtil.runWithConcurrency(concurrency, nodeCreators, terminationFlag, executorService);
+
+        NodeMapping idMap = nodesBuilder.build().nodeMapping();
+
+        var relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
+            .nodes(idMap)
+            .orientation(orientation)
+            .addPropertyConfig(Aggregation.SUM, DefaultValue.forDouble())
+            .preAggregate(true)
+            .concurrency(concurrency)
+            .executorService(executorService)
+            .tracker(tracker)
+            .build();
+
+        var relationshipCreators = PartitionUtils.rangePartition(
+            concurrency,
+            graph.nodeCount(),
+            partition -> new RelationshipCreator(relationshipsBuilder, communities, graph.concurrentCopy(), partition)
+        );
+        ParallelUtil.runWithConcurrency(concurrency, relationshipCreators, terminationFlag, executorService);
+
+        return GraphFactory.create(idMap, relationshipsBuilder.build(), tracker);
+    }
+
+    private static final class RelationshipCreator implements Runnable {
+
+        private final RelationshipsBuilder relationshipsBuilder;
+        private final LongUnaryOperator communities;
+        private final RelationshipIterator relationshipIterator;
+        private final Partition partition;
+        // sum of weights per target community of the current node
+        private final LongDoubleHashMap targetCommunityWeights;
+
+        private RelationshipCreator(
+            RelationshipsBuilder relationshipsBuilder,
+            LongUnaryOperator communities,
+            RelationshipIterator relationshipIterator,
+            Partition partition
+        ) {
+            this.relationshipsBuilder = relationshipsBuilder;
+            this.communities = communities;
+            this.relationshipIterator = relationshipIterator;
+            this.partition = partition;
+            this.targetCommunityWeights = new LongDoubleHashMap();
+        }
+
+        @Override
+        public void run() {
+            partition.consume(nodeId -> {
+                long sourceCommunity = communities.applyAsLong(nodeId);
+                relationshipIterator.forEachRelationship(nodeId, 1.0, (source, target, property) -> {
+                    targetCommunityWeights.addTo(communities.applyAsLong(target), property);
+                    return true;
+                });
+                for (LongDoubleCursor cursor : targetCommunityWeights) {
+                    relationshipsBuilder.add(sourceCommunity, cursor.key, cursor.value);
+                }
+                targetCommunityWeights.clear();
+            });
+        }
+    }
+}
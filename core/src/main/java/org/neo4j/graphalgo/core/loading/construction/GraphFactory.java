@@ -39,6 +39,7 @@ import org.neo4j.graphalgo.api.schema.GraphSchema;
 import org.neo4j.graphalgo.api.schema.NodeSchema;
 import org.neo4j.graphalgo.api.schema.RelationshipSchema;
 import org.neo4j.graphalgo.core.Aggregation;
+import org.neo4j.graphalgo.core.compress.AdjacencyCodec;
 import org.neo4j.graphalgo.core.concurrency.Pools;
 import org.neo4j.graphalgo.core.huge.HugeGraph;
 import org.neo4j.graphalgo.core.huge.TransientAdjacencyDegrees;
@@ -122,6 +123,11 @@ public final class GraphFactory {
             var idMappingBuilder = InternalSequentialBitIdMappingBuilder.of(maxOriginalId + 1, tracker);
             nodeMappingBuilder = IdMapImplementations.sequentialBitIdMapBuilder(idMappingBuilder);
             internalIdMappingBuilder = idMappingBuilder;
+        } else if (nodeCount.isPresent() && IdMapImplementations.useHashIdMap(maxOriginalId, nodeCount.get())) {
+            // sparse original ids, only allocate space for the expected number of nodes
+            var idMappingBuilder = InternalHugeIdMappingBuilder.of(nodeCount.get(), tracker);
+            nodeMappingBuilder = IdMapImplementations.hashIdMapBuilder(idMappingBuilder);
+            internalIdMappingBuilder = idMappingBuilder;
         } else {
             var idMappingBuilder = InternalHugeIdMappingBuilder.of(maxOriginalId + 1, tracker);
             nodeMappingBuilder = IdMapImplementations.hugeIdMapBuilder(idMappingBuilder);
@@ -248,6 +254,7 @@ public final class GraphFactory {
         List<PropertyConfig> propertyConfigs,
         Optional<Aggregation> aggregation,
         Optional<Boolean> preAggregate,
+        Optional<AdjacencyCodec> compression,
         Optional<Integer> concurrency,
         Optional<ExecutorService> executorService,
         AllocationTracker tracker
@@ -267,7 +274,8 @@ public final class GraphFactory {
         var projectionBuilder = RelationshipProjection
             .builder()
             .type(relationshipType.name())
-            .orientation(orientation.orElse(Orientation.NATURAL));
+            .orientation(orientation.orElse(Orientation.NATURAL))
+            .compression(compression.orElse(AdjacencyCodec.DEFAULT));
 
         propertyConfigs.forEach(propertyConfig -> projectionBuilder.addProperty(
             GraphFactory.DUMMY_PROPERTY,
@@ -31,6 +31,7 @@ import org.neo4j.graphalgo.api.NodeProperties;
 import org.neo4j.graphalgo.api.UnionNodeProperties;
 import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
 import org.neo4j.graphalgo.core.loading.CypherNodePropertyImporter;
+import org.neo4j.graphalgo.core.loading.IdMapImplementations;
 import org.neo4j.graphalgo.core.loading.IdMappingAllocator;
 import org.neo4j.graphalgo.core.loading.InternalIdMappingBuilder;
 import org.neo4j.graphalgo.core.loading.NodeImporter;
@@ -40,6 +41,7 @@ import org.neo4j.graphalgo.core.loading.NodesBatchBufferBuilder;
 import org.neo4j.graphalgo.core.loading.nodeproperties.NodePropertiesFromStoreBuilder;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicLongHashSet;
 import org.neo4j.graphalgo.core.utils.paged.SparseLongArray;
 import org.neo4j.graphalgo.utils.AutoCloseableThreadLocal;
 import org.neo4j.values.storable.Value;
@@ -54,6 +56,7 @@ import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.LongPredicate;
 import java.util.stream.Collectors;
 
 import static org.neo4j.graphalgo.core.GraphDimensions.ANY_LABEL;
@@ -120,7 +123,7 @@ public final class NodesBuilder {
             tracker
         );
 
-        var seenIds = HugeAtomicBitSet.create(maxOriginalId + 1, tracker);
+        LongPredicate seenIds = seenIds(maxOriginalId, nodeCount, tracker);
 
         Function<NodeLabel, Integer> labelTokenIdFn = elementIdentifierLabelTokenMapping.isEmpty()
             ? this::getOrCreateLabelTokenId
@@ -141,6 +144,21 @@ public final class NodesBuilder {
         );
     }
 
+    /**
+     * Returns a predicate that marks an original id as seen and returns
+     * true if it was seen before. For sparse original ids, the seen ids are
+     * tracked in a hash set sized by the node count instead of a bit set
+     * sized by the highest original id.
+     */
+    private static LongPredicate seenIds(long maxOriginalId, long nodeCount, AllocationTracker tracker) {
+        if (IdMapImplementations.useHashIdMap(maxOriginalId, nodeCount)) {
+            var seenIds = HugeAtomicLongHashSet.create(nodeCount, tracker);
+            return originalId -> !seenIds.add(originalId);
+        }
+        var seenIds = HugeAtomicBitSet.create(maxOriginalId + 1, tracker);
+        return seenIds::getAndSet;
+    }
+
     public void addNode(long originalId, NodeLabel... nodeLabels) {
         this.threadLocalBuilder.get().addNode(originalId, nodeLabels);
     }
@@ -262,7 +280,7 @@ public final class NodesBuilder {
 
         private static final long[] ANY_LABEL_ARRAY = { ANY_LABEL };
 
-        private final HugeAtomicBitSet seenIds;
+        private final LongPredicate seenIds;
         private final NodesBatchBuffer buffer;
         private final Function<NodeLabel, Integer> labelTokenIdFn;
         private final BiFunction<Integer, String, NodePropertiesFromStoreBuilder> propertyBuilderFn;
@@ -272,7 +290,7 @@ public final class NodesBuilder {
 
         ThreadLocalBuilder(
             NodeImporter nodeImporter,
-            HugeAtomicBitSet seenIds,
+            LongPredicate seenIds,
             boolean hasLabelInformation,
             boolean hasProperties,
             Function<NodeLabel, Integer> labelTokenIdFn,
@@ -294,7 +312,7 @@ public final class NodesBuilder {
         }
 
         public void addNode(long originalId, NodeLabel... nodeLabels) {
-            if (!seenIds.getAndSet(originalId)) {
+            if (!seenIds.test(originalId)) {
                 long[] labels = labelTokens(nodeLabels);
 
                 buffer.add(originalId, NO_SUCH_PROPERTY_KEY, labels);
@@ -306,7 +324,7 @@ public final class NodesBuilder {
         }
 
         public void addNode(long originalId, Map<String, Value> properties, NodeLabel... nodeLabels) {
-            if (!seenIds.getAndSet(originalId)) {
+            if (!seenIds.test(originalId)) {
                 long[] labels = labelTokens(nodeLabels);
 
                 int propertyReference = batchNodeProperties.size();
@@ -36,26 +36,114 @@ public class Intersections {
         return intersectionSet.size();
     }
 
+    // inputs whose sizes differ by at least this factor are intersected by galloping through the larger one
+    static final int GALLOPING_SIZE_RATIO = 32;
+
     // assume both are sorted
     public static long intersection3(long[] targets1, long[] targets2) {
-        int len2;
-        if ((len2 = targets2.length) == 0) return 0;
-        int off2 = 0;
+        return intersection3(targets1, targets1.length, targets2, targets2.length);
+    }
+
+    // assume both are sorted
+    public static long intersection3(long[] targets1, int len1, long[] targets2, int len2) {
+        if (len1 > len2) {
+            return intersection3(targets2, len2, targets1, len1);
+        }
+        if (len1 == 0) return 0;
         long intersection = 0;
-        for (long value1 : targets1) {
-            if (value1 > targets2[off2]) {
-                while (++off2 != len2 && value1 > targets2[off2]) ;
-                if (off2 == len2) return intersection;
-            }
-            if (value1 == targets2[off2]) {
-                intersection++;
-                off2++;
+        if (len2 / len1 >= GALLOPING_SIZE_RATIO) {
+            int off2 = 0;
+            for (int off1 = 0; off1 < len1; off1++) {
+                long value1 = targets1[off1];
+                off2 = gallopingSearch(targets2, off2, len2, value1);
                 if (off2 == len2) return intersection;
+                if (value1 == targets2[off2]) {
+                    intersection++;
+                    off2++;
+                }
             }
+            return intersection;
+        }
+        int off1 = 0;
+        int off2 = 0;
+        while (off1 < len1 && off2 < len2) {
+            long value1 = targets1[off1];
+            long value2 = targets2[off2];
+            // advance without data dependent branches, equal values move both sides
+            intersection += value1 == value2 ? 1 : 0;
+            off1 += value1 <= value2 ? 1 : 0;
+            off2 += value2 <= value1 ? 1 : 0;
         }
         return intersection;
     }
 
+    /**
+     * Writes the values contained in both sorted inputs into {@code intersection}, which must be able to hold
+     * {@code min(len1, len2)} values, and returns their number.
+     * Picks galloping or merging by the ratio of the input sizes, like {@link #intersection3(long[], int, long[], int)}.
+     */
+    public static int getIntersection(long[] values1, int len1, long[] values2, int len2, long[] intersection) {
+        if (len1 > len2) {
+            return getIntersection(values2, len2, values1, len1, intersection);
+        }
+        if (len1 == 0) return 0;
+        int resIdx = 0;
+        if (len2 / len1 >= GALLOPING_SIZE_RATIO) {
+            int off2 = 0;
+            for (int off1 = 0; off1 < len1; off1++) {
+                long value1 = values1[off1];
+                off2 = gallopingSearch(values2, off2, len2, value1);
+                if (off2 == len2) return resIdx;
+                if (value1 == values2[off2]) {
+                    intersection[resIdx++] = value1;
+                    off2++;
+                }
+            }
+            return resIdx;
+        }
+        int off1 = 0;
+        int off2 = 0;
+        while (off1 < len1 && off2 < len2) {
+            long value1 = values1[off1];
+            long value2 = values2[off2];
+            // always store and only keep the slot on a match
+            intersection[resIdx] = value1;
+            resIdx += value1 == value2 ? 1 : 0;
+            off1 += value1 <= value2 ? 1 : 0;
+            off2 += value2 <= value1 ? 1 : 0;
+        }
+        return resIdx;
+    }
+
+    /**
+     * Returns the first index in {@code [from, to)} whose value is greater than or equal to {@code key},
+     * or {@code to} if there is none. The values must be sorted.
+     * Probes exponentially growing distances from {@code from} before a binary search, so finding a key
+     * {@code d} positions ahead costs {@code O(log d)} comparisons.
+     */
+    public static int gallopingSearch(long[] values, int from, int to, long key) {
+        if (from >= to || values[from] >= key) return from;
+        // invariant: values[low] < key and (high == to or values[high] >= key) once the loop ends
+        int low = from;
+        int high;
+        int step = 1;
+        while (true) {
+            high = to - low > step ? low + step : to;
+            if (high == to || values[high] >= key) break;
+            low = high;
+            step <<= 1;
+        }
+        while (low + 1 < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < key) {
+                low = mid;
+            } else {
+                high = mid;
+            }
+        }
+        return high;
+    }
+
     // idea, compute differences, when 0 then equal?
     // assume both are sorted
     public static long intersection4(long[] targets1, long[] targets2) {
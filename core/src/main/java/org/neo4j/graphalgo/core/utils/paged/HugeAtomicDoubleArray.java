@@ -53,6 +53,15 @@ public abstract class HugeAtomicDoubleArray {
      */
     public abstract void set(long index, double value);
 
+    /**
+     * Atomically adds the given delta to the value at the given index.
+     *
+     * @param index the index
+     * @param delta the value to add
+     * @return the previous value at index
+     */
+    public abstract double getAndAdd(long index, double delta);
+
     /**
      * Atomically returns the double value at the given index and replaces it with the given value.
      *
@@ -253,6 +262,16 @@ public abstract class HugeAtomicDoubleArray {
             ARRAY_HANDLE.setVolatile(page, (int) index, value);
         }
 
+        @Override
+        public double getAndAdd(long index, double delta) {
+            double prev, next;
+            do {
+                prev = (double) ARRAY_HANDLE.getVolatile(page, (int) index);
+                next = prev + delta;
+            } while (!ARRAY_HANDLE.compareAndSet(page, (int) index, prev, next));
+            return prev;
+        }
+
         @Override
         public double getAndReplace(long index, double value) {
             double prev;
@@ -353,6 +372,19 @@ public abstract class HugeAtomicDoubleArray {
             ARRAY_HANDLE.setVolatile(pages[pageIndex], indexInPage, value);
         }
 
+        @Override
+        public double getAndAdd(long index, double delta) {
+            int pageIndex = pageIndex(index);
+            int indexInPage = indexInPage(index);
+            double[] page = pages[pageIndex];
+            double prev, next;
+            do {
+                prev = (double) ARRAY_HANDLE.getVolatile(page, indexInPage);
+                next = prev + delta;
+            } while (!ARRAY_HANDLE.compareAndSet(page, indexInPage, prev, next));
+            return prev;
+        }
+
         @Override
         public double getAndReplace(long index, double value) {
             int pageIndex = pageIndex(index);
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.paged;
+
+import com.carrotsearch.hppc.BitMixer;
+import org.neo4j.graphalgo.core.utils.BitUtil;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfInstance;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * A thread-safe set of non-negative longs with a fixed capacity and huge underlying storage.
+ * Keys are stored as {@code key + 1} in an open-addressing table using linear probing,
+ * empty slots are claimed via CAS, so the set does not require any locking.
+ * In contrast to {@link HugeAtomicBitSet}, the memory depends only on the number of
+ * expected elements and not on the value of the largest element.
+ */
+public final class HugeAtomicLongHashSet {
+
+    private static final double LOAD_FACTOR = 0.5;
+    private static final long EMPTY = 0L;
+
+    private final HugeAtomicLongArray keys;
+    private final long mask;
+
+    public static long memoryEstimation(long expectedElements) {
+        return HugeAtomicLongArray.memoryEstimation(capacity(expectedElements)) + sizeOfInstance(HugeAtomicLongHashSet.class);
+    }
+
+    public static HugeAtomicLongHashSet create(long expectedElements, AllocationTracker tracker) {
+        return new HugeAtomicLongHashSet(HugeAtomicLongArray.newArray(capacity(expectedElements), tracker));
+    }
+
+    private static long capacity(long expectedElements) {
+        return BitUtil.nextHighestPowerOfTwo(Math.max(2L, (long) Math.ceil(expectedElements / LOAD_FACTOR)));
+    }
+
+    private HugeAtomicLongHashSet(HugeAtomicLongArray keys) {
+        this.keys = keys;
+        this.mask = keys.size() - 1;
+    }
+
+    /**
+     * Adds the given key to the set.
+     *
+     * @return true, if the key was not contained in the set before.
+     */
+    public boolean add(long key) {
+        assert key >= 0;
+        long storedKey = key + 1;
+        long slot = BitMixer.mixPhi(key) & mask;
+        for (long probes = 0; probes <= mask; probes++) {
+            long current = keys.compareAndExchange(slot, EMPTY, storedKey);
+            if (current == EMPTY) {
+                return true;
+            }
+            if (current == storedKey) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        throw new IllegalStateException(formatWithLocale(
+            "Cannot add key %d, the set is full (capacity %d).",
+            key,
+            keys.size()
+        ));
+    }
+
+    /**
+     * Returns true, if the given key is contained in the set.
+     */
+    public boolean contains(long key) {
+        long storedKey = key + 1;
+        long slot = BitMixer.mixPhi(key) & mask;
+        for (long probes = 0; probes <= mask; probes++) {
+            long current = keys.get(slot);
+            if (current == EMPTY) {
+                return false;
+            }
+            if (current == storedKey) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    public long capacity() {
+        return keys.size();
+    }
+}
@@ -40,6 +40,11 @@ public final class HugeSparseLongArray {
     private static final int PAGE_MASK = PAGE_SIZE - 1;
     private static final long PAGE_SIZE_IN_BYTES = MemoryUsage.sizeOfLongArray(PAGE_SIZE);
 
+    /**
+     * The highest size that can be addressed, limited by the number of pages that fit into a single array.
+     */
+    public static final long MAX_SIZE = PageUtil.capacityFor(Integer.MAX_VALUE, PAGE_SHIFT);
+
     private final long capacity;
     private final long[][] pages;
     private final long defaultValue;
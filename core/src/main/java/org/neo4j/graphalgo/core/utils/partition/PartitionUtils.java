@@ -21,16 +21,25 @@ package org.neo4j.graphalgo.core.utils.partition;
 
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.BitUtil;
 import org.neo4j.graphalgo.core.utils.collection.primitive.PrimitiveLongIterator;
+import org.neo4j.logging.Log;
+import org.neo4j.logging.NullLog;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 
 import static org.neo4j.graphalgo.core.utils.partition.Partition.MAX_NODE_COUNT;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
 
 public final class PartitionUtils {
 
+    // number of degree summing chunks per thread, more chunks smooth out skewed chunks
+    private static final int CHUNKS_PER_THREAD = 4;
+
     private PartitionUtils() {}
 
     public static <TASK> List<TASK> rangePartition(int concurrency, long nodeCount, Function<Partition, TASK> taskCreator) {
@@ -99,6 +108,137 @@ public final class PartitionUtils {
         return result;
     }
 
+    public static <TASK> List<TASK> degreeBalancedPartition(
+        Graph graph,
+        int partitionCount,
+        int concurrency,
+        ExecutorService executor,
+        Function<Partition, TASK> taskCreator
+    ) {
+        return degreeBalancedPartition(graph, partitionCount, concurrency, executor, NullLog.getInstance(), taskCreator);
+    }
+
+    /**
+     * Splits the node id space of the graph into at most {@code partitionCount} contiguous
+     * partitions, each containing approximately the same number of relationships.
+     * <p>
+     * The degree prefix sums are computed in parallel over fixed size chunks of the id space.
+     * Each chunk then locates the split points that fall into its own range, so the
+     * partitioning is computed in two parallel passes without materializing a prefix sum
+     * for every node. Both passes run on the given executor. Partitions are never larger than {@link Partition#MAX_NODE_COUNT}.
+     * The relationship skew of the resulting partitions is written to the given log at debug level.
+     */
+    public static <TASK> List<TASK> degreeBalancedPartition(
+        Graph graph,
+        int partitionCount,
+        int concurrency,
+        ExecutorService executor,
+        Log log,
+        Function<Partition, TASK> taskCreator
+    ) {
+        long nodeCount = graph.nodeCount();
+        if (nodeCount == 0) {
+            return new ArrayList<>();
+        }
+
+        int threads = Math.max(1, concurrency);
+        long chunkSize = BitUtil.ceilDiv(nodeCount, Math.min(nodeCount, (long) threads * CHUNKS_PER_THREAD));
+        int chunkCount = (int) BitUtil.ceilDiv(nodeCount, chunkSize);
+
+        long[] chunkOffsets = new long[chunkCount];
+        var sumTasks = new ArrayList<Runnable>(chunkCount);
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            int chunkId = chunk;
+            long start = chunk * chunkSize;
+            long end = Math.min(start + chunkSize, nodeCount);
+            sumTasks.add(() -> {
+                long sum = 0L;
+                for (long node = start; node < end; node++) {
+                    sum += graph.degree(node);
+                }
+                chunkOffsets[chunkId] = sum;
+            });
+        }
+        ParallelUtil.runWithConcurrency(threads, sumTasks, executor);
+
+        long relationshipCount = 0L;
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            long chunkDegree = chunkOffsets[chunk];
+            chunkOffsets[chunk] = relationshipCount;
+            relationshipCount += chunkDegree;
+        }
+
+        if (relationshipCount == 0L) {
+            return rangePartition(threads, nodeCount, taskCreator);
+        }
+
+        int splitCount = (int) Math.min(Math.max(1, partitionCount), nodeCount) - 1;
+        long relationshipsPerPartition = BitUtil.ceilDiv(relationshipCount, splitCount + 1);
+
+        // split k is the exclusive end of partition k, where the
+        // relationship prefix sum reaches (k + 1) * relationshipsPerPartition
+        long[] splitNodes = new long[splitCount];
+        long[] splitOffsets = new long[splitCount];
+        Arrays.fill(splitNodes, nodeCount);
+        Arrays.fill(splitOffsets, relationshipCount);
+
+        var splitTasks = new ArrayList<Runnable>(chunkCount);
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            long offset = chunkOffsets[chunk];
+            long start = chunk * chunkSize;
+            long end = Math.min(start + chunkSize, nodeCount);
+            splitTasks.add(() -> {
+                long prefixSum = offset;
+                int split = (int) Math.min(splitCount, offset / relationshipsPerPartition);
+                for (long node = start; node < end && split < splitCount; node++) {
+                    prefixSum += graph.degree(node);
+                    while (split < splitCount && prefixSum >= (split + 1) * relationshipsPerPartition) {
+                        splitNodes[split] = node + 1;
+                        splitOffsets[split] = prefixSum;
+                        split++;
+                    }
+                }
+            });
+        }
+        ParallelUtil.runWithConcurrency(threads, splitTasks, executor);
+
+        var result = new ArrayList<TASK>(splitCount + 1);
+        int balancedPartitions = 0;
+        long minRelationships = Long.MAX_VALUE;
+        long maxRelationships = 0L;
+        long start = 0L;
+        long startOffset = 0L;
+        for (int split = 0; split <= splitCount; split++) {
+            long end = split < splitCount ? splitNodes[split] : nodeCount;
+            long endOffset = split < splitCount ? splitOffsets[split] : relationshipCount;
+            if (end > start) {
+                for (long batchStart = start; batchStart < end; batchStart += MAX_NODE_COUNT) {
+                    long batchSize = Math.min(MAX_NODE_COUNT, end - batchStart);
+                    result.add(taskCreator.apply(Partition.of(batchStart, batchSize)));
+                }
+                balancedPartitions++;
+                minRelationships = Math.min(minRelationships, endOffset - startOffset);
+                maxRelationships = Math.max(maxRelationships, endOffset - startOffset);
+            }
+            start = end;
+            startOffset = endOffset;
+        }
+
+        if (log.isDebugEnabled()) {
+            double meanRelationships = (double) relationshipCount / balancedPartitions;
+            log.debug(formatWithLocale(
+                "Degree balanced partitioning: %d partitions, relationships per partition min %d, mean %.2f, max %d, skew %.2f",
+                balancedPartitions,
+                minRelationships,
+                meanRelationships,
+                maxRelationships,
+                maxRelationships / meanRelationships
+            ));
+        }
+
+        return result;
+    }
+
     @FunctionalInterface
     public interface DegreeFunction {
         int degree(long node);
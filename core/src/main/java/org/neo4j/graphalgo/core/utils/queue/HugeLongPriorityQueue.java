@@ -67,6 +67,15 @@ public abstract class HugeLongPriorityQueue implements PrimitiveLongIterable {
      * The size is fixed, the queue cannot shrink or grow.
      */
     protected HugeLongPriorityQueue(long capacity) {
+        this(capacity, AllocationTracker.empty());
+    }
+
+    /**
+     * Creates a new priority queue with the given capacity,
+     * the heap and cost arrays are allocated with the given tracker.
+     * The size is fixed, the queue cannot shrink or grow.
+     */
+    protected HugeLongPriorityQueue(long capacity, AllocationTracker tracker) {
         long heapSize;
         if (0 == capacity) {
             // We allocate 1 extra to avoid if statement in top()
@@ -78,8 +87,9 @@ public abstract class HugeLongPriorityQueue implements PrimitiveLongIterable {
         }
         this.capacity = capacity;
         this.costKeys = new BitSet(capacity);
-        this.heap = HugeLongArray.newArray(heapSize, AllocationTracker.empty());
-        this.costValues = HugeDoubleArray.newArray(capacity, AllocationTracker.empty());
+        tracker.add(MemoryUsage.sizeOfBitset(capacity));
+        this.heap = HugeLongArray.newArray(heapSize, tracker);
+        this.costValues = HugeDoubleArray.newArray(capacity, tracker);
     }
 
     /**
@@ -306,7 +316,15 @@ public abstract class HugeLongPriorityQueue implements PrimitiveLongIterable {
      * i.e. the element with the lowest priority is always on top.
      */
     public static HugeLongPriorityQueue min(long capacity) {
-        return new HugeLongPriorityQueue(capacity) {
+        return min(capacity, AllocationTracker.empty());
+    }
+
+    /**
+     * Returns a non growing min priority queue, which is allocated with the given tracker,
+     * i.e. the element with the lowest priority is always on top.
+     */
+    public static HugeLongPriorityQueue min(long capacity, AllocationTracker tracker) {
+        return new HugeLongPriorityQueue(capacity, tracker) {
             @Override
             protected boolean lessThan(long a, long b) {
                 return costValues.get(a) < costValues.get(b);
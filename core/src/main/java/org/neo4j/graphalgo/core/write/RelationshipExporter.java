@@ -26,6 +26,7 @@ import org.neo4j.graphalgo.api.RelationshipIterator;
 import org.neo4j.graphalgo.api.RelationshipWithPropertyConsumer;
 import org.neo4j.graphalgo.core.SecureTransaction;
 import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.BitUtil;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.TerminationFlag;
 import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
@@ -49,6 +50,7 @@ public final class RelationshipExporter extends StatementApi {
     private final TerminationFlag terminationFlag;
     private final ProgressLogger progressLogger;
     private final ExecutorService executorService;
+    private final int concurrency;
 
     public static RelationshipExporter.Builder of(GraphDatabaseService db, Graph graph, TerminationFlag terminationFlag) {
         return of(SecureTransaction.of(db), graph, terminationFlag);
@@ -85,7 +87,8 @@ public final class RelationshipExporter extends StatementApi {
                 graph,
                 propertyTranslator,
                 terminationFlag,
-                progressLogger
+                progressLogger,
+                writeConcurrency
             );
         }
 
@@ -105,7 +108,8 @@ public final class RelationshipExporter extends StatementApi {
         Graph graph,
         RelationshipPropertyTranslator propertyTranslator,
         TerminationFlag terminationFlag,
-        ProgressLogger progressLogger
+        ProgressLogger progressLogger,
+        int concurrency
     ) {
         super(tx);
         this.graph = graph;
@@ -113,6 +117,7 @@ public final class RelationshipExporter extends StatementApi {
         this.terminationFlag = terminationFlag;
         this.progressLogger = progressLogger;
         this.executorService = DEFAULT_SINGLE_THREAD_POOL;
+        this.concurrency = concurrency;
     }
 
     public void write(String relationshipType) {
@@ -138,14 +143,25 @@ public final class RelationshipExporter extends StatementApi {
         progressLogger.logStart();
         // We use MIN_BATCH_SIZE since writing relationships
         // is performed batch-wise, but single-threaded.
-        PartitionUtils.degreePartition(graph, MIN_BATCH_SIZE, partition -> createBatchRunnable(
+        // Balancing by degree keeps the transaction sizes even.
+        var batchCount = (int) Math.min(
+            Integer.MAX_VALUE,
+            BitUtil.ceilDiv(graph.relationshipCount(), MIN_BATCH_SIZE)
+        );
+        PartitionUtils.degreeBalancedPartition(
+            graph,
+            batchCount,
+            concurrency,
+            executorService,
+            progressLogger.getLog(),
+            partition -> createBatchRunnable(
                 relationshipToken,
                 propertyKeyToken,
                 partition.startNode(),
                 partition.nodeCount(),
                 afterWriteConsumer
-            ))
-            .forEach(runnable -> ParallelUtil.run(runnable, executorService));
+            )
+        ).forEach(runnable -> ParallelUtil.run(runnable, executorService));
         progressLogger.logFinish();
     }
 
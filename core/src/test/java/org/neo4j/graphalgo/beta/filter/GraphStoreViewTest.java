@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.filter;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.neo4j.graphalgo.NodeLabel;
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.api.GraphStore;
+import org.neo4j.graphalgo.api.nodeproperties.LongNodeProperties;
+import org.neo4j.graphalgo.config.GraphCreateFromGraphConfig;
+import org.neo4j.graphalgo.config.GraphCreateFromStoreConfig;
+import org.neo4j.graphalgo.config.ImmutableGraphCreateFromGraphConfig;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.logging.NullLog;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.graphalgo.TestSupport.assertGraphEquals;
+import static org.neo4j.graphalgo.TestSupport.graphStoreFromGDL;
+
+class GraphStoreViewTest {
+
+    private static final String GRAPH =
+        "  (a:A {prop: 1})" +
+        ", (b:A {prop: 2})" +
+        ", (c:B {prop: 3})" +
+        ", (d:B {prop: 4})" +
+        ", (a)-[:T1 {w: 0.5, x: 1.0}]->(b)" +
+        ", (a)-[:T1 {w: 2.0, x: 2.0}]->(c)" +
+        ", (b)-[:T1 {w: 3.0, x: 3.0}]->(d)" +
+        ", (c)-[:T1 {w: 4.0, x: 4.0}]->(a)" +
+        ", (d)-[:T2 {w: 1.0, x: 5.0}]->(a)";
+
+    private static GraphCreateFromGraphConfig config(String nodeFilter, String relationshipFilter, int concurrency) {
+        return ImmutableGraphCreateFromGraphConfig.builder()
+            .concurrency(concurrency)
+            .nodeFilter(nodeFilter)
+            .relationshipFilter(relationshipFilter)
+            .graphName("outputGraph")
+            .fromGraphName("inputGraph")
+            .originalConfig(GraphCreateFromStoreConfig.emptyWithName("user", "inputGraph"))
+            .view(true)
+            .build();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "*, *",
+        "n.prop > 1, *",
+        "*, r.w > 1.0",
+        "n.prop <> 2, r.x < 4.0",
+        "n:B OR n.prop = 1, r:T1 AND r.w >= 2.0",
+    })
+    void viewEqualsMaterializedFilter(String nodeFilter, String relationshipFilter) throws Exception {
+        var graphStore = graphStoreFromGDL(GRAPH);
+
+        for (int concurrency : new int[]{1, 4}) {
+            var config = config(nodeFilter, relationshipFilter, concurrency);
+            var view = GraphStoreFilter.view(graphStore, config, Pools.DEFAULT, AllocationTracker.empty());
+            var filtered = GraphStoreFilter.filter(
+                graphStore,
+                config,
+                Pools.DEFAULT,
+                NullLog.getInstance(),
+                AllocationTracker.empty()
+            );
+
+            assertThat(view.nodeCount()).isEqualTo(filtered.nodeCount());
+            assertThat(view.nodeLabels()).isEqualTo(filtered.nodeLabels());
+            assertThat(view.relationshipTypes()).isEqualTo(filtered.relationshipTypes());
+            assertThat(view.relationshipCount()).isEqualTo(filtered.relationshipCount());
+
+            for (RelationshipType relationshipType : view.relationshipTypes()) {
+                assertThat(view.relationshipCount(relationshipType)).isEqualTo(filtered.relationshipCount(relationshipType));
+                assertGraphEquals(
+                    filtered.getGraph(relationshipType, Optional.of("w")),
+                    view.getGraph(relationshipType, Optional.of("w"))
+                );
+            }
+
+            var materialized = GraphStoreFilter.filter(
+                view,
+                config("*", "*", concurrency),
+                Pools.DEFAULT,
+                NullLog.getInstance(),
+                AllocationTracker.empty()
+            );
+            assertGraphEquals(
+                filtered.getGraph(List.copyOf(filtered.relationshipTypes()), Optional.of("x")),
+                materialized.getGraph(List.copyOf(materialized.relationshipTypes()), Optional.of("x"))
+            );
+        }
+    }
+
+    @Test
+    void filterNodeLabelsOfView() throws Exception {
+        var graphStore = graphStoreFromGDL(GRAPH);
+        var config = config("n.prop > 1", "*", 1);
+
+        var view = GraphStoreFilter.view(graphStore, config, Pools.DEFAULT, AllocationTracker.empty());
+        var filtered = GraphStoreFilter.filter(graphStore, config, Pools.DEFAULT, NullLog.getInstance(), AllocationTracker.empty());
+
+        var labels = List.of(NodeLabel.of("B"));
+        var types = List.of(RelationshipType.of("T1"));
+        assertGraphEquals(
+            filtered.getGraph(labels, types, Optional.empty()),
+            view.getGraph(labels, types, Optional.empty())
+        );
+    }
+
+    @Test
+    void addNodePropertiesToView() throws Exception {
+        var graphStore = graphStoreFromGDL(GRAPH);
+        GraphStore view = GraphStoreFilter.view(graphStore, config("n:A", "*", 1), Pools.DEFAULT, AllocationTracker.empty());
+
+        view.addNodeProperty(NodeLabel.of("A"), "score", (LongNodeProperties) nodeId -> nodeId + 42);
+
+        assertThat(view.hasNodeProperty(NodeLabel.of("A"), "score")).isTrue();
+        assertThat(graphStore.hasNodeProperty(NodeLabel.of("A"), "score")).isFalse();
+        assertThat(view.getUnion().nodeProperties("score").longValue(1)).isEqualTo(43);
+        assertThat(view.getUnion().nodeProperties("prop").longValue(1)).isEqualTo(2);
+    }
+
+    @Test
+    void rejectAddingParentNodeProperty() throws Exception {
+        var graphStore = graphStoreFromGDL(GRAPH);
+        var view = GraphStoreFilter.view(graphStore, config("n:A", "*", 1), Pools.DEFAULT, AllocationTracker.empty());
+
+        assertThatThrownBy(() -> view.addNodeProperty(NodeLabel.of("A"), "prop", (LongNodeProperties) nodeId -> 42))
+            .isInstanceOf(UnsupportedOperationException.class)
+            .hasMessageContaining("belongs to the parent graph");
+        assertThat(view.getUnion().nodeProperties("prop").longValue(1)).isEqualTo(2);
+    }
+
+    @Test
+    void filteredDegreesAreThreadSafe() throws Exception {
+        var graphStore = graphStoreFromGDL(GRAPH);
+        var config = config("*", "r.w > 1.0", 4);
+
+        var view = GraphStoreFilter.view(graphStore, config, Pools.DEFAULT, AllocationTracker.empty());
+        var filtered = GraphStoreFilter.filter(graphStore, config, Pools.DEFAULT, NullLog.getInstance(), AllocationTracker.empty());
+
+        var viewGraph = view.getUnion();
+        var filteredGraph = filtered.getUnion();
+        for (int run = 0; run < 100; run++) {
+            LongStream.range(0, viewGraph.nodeCount()).parallel().forEach(node -> {
+                assertThat(viewGraph.degree(node)).isEqualTo(filteredGraph.degree(node));
+                assertThat(viewGraph.degreeWithoutParallelRelationships(node))
+                    .isEqualTo(filteredGraph.degreeWithoutParallelRelationships(node));
+            });
+        }
+    }
+
+    @Test
+    void rejectRelationshipMutations() throws Exception {
+        var graphStore = graphStoreFromGDL(GRAPH);
+        var view = GraphStoreFilter.view(graphStore, config("*", "*", 1), Pools.DEFAULT, AllocationTracker.empty());
+
+        assertThatThrownBy(() -> view.deleteRelationships(RelationshipType.of("T1")))
+            .isInstanceOf(UnsupportedOperationException.class)
+            .hasMessageContaining("materialised");
+        assertThat(graphStore.relationshipTypes()).contains(RelationshipType.of("T1"));
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.filter.expression;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.api.GraphStore;
+import org.neo4j.graphalgo.extension.GdlExtension;
+import org.neo4j.graphalgo.extension.GdlGraph;
+import org.neo4j.graphalgo.extension.Inject;
+import org.opencypher.v9_0.parser.javacc.ParseException;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@GdlExtension
+class ExpressionCompilerTest {
+
+    @GdlGraph
+    private static final String GDL =
+        "  (a:A:B { foo: 42, bar: 1 })" +
+        ", (b:B { bar: 1337 })" +
+        ", (c:C { baz: 3.5 })" +
+        ", (d:A { foo: 23 })" +
+        ", (a)-[:REL { weight: 0.5, cost: 2.0 }]->(b)" +
+        ", (b)-[:REL { weight: 1.5, cost: 4.0 }]->(c)" +
+        ", (c)-[:OTHER { weight: 3.0 }]->(a)";
+
+    @Inject
+    private GraphStore graphStore;
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "TRUE",
+        "FALSE",
+        "42",
+        "n:A",
+        "n:A:B",
+        "NOT n:A",
+        "n.foo > 30",
+        "n.foo >= 42 AND n:B",
+        "n.foo < 30 OR n.bar = 1337",
+        "n.bar <> 1",
+        "n.baz <= 3.5 XOR n:A",
+        "n.foo = n.foo",
+        "NOT n.baz > 0",
+        "TRUE OR n.foo > 100",
+        "FALSE AND n.foo > 100",
+        "1 < 2 AND n:C"
+    })
+    void shouldMatchInterpretedNodeFilter(String filter) throws ParseException {
+        var expression = ExpressionParser.parse(filter);
+        expression.validate(ValidationContext.forNodes(graphStore)).validate();
+
+        var predicate = ExpressionCompiler.compileNodePredicate(expression, graphStore);
+        var context = new EvaluationContext.NodeEvaluationContext(graphStore);
+
+        for (long nodeId = 0; nodeId < graphStore.nodeCount(); nodeId++) {
+            context.init(nodeId);
+            assertThat(predicate.test(nodeId))
+                .as("node %d", nodeId)
+                .isEqualTo(expression.evaluate(context) == Expression.TRUE);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "TRUE",
+        "r:REL",
+        "r:REL:OTHER",
+        "NOT r:OTHER",
+        "r.weight > 1.0",
+        "r.weight < 1.0 OR r.cost >= 4.0",
+        "r:OTHER AND r.weight = 3.0",
+        "r.cost <> 2.0"
+    })
+    void shouldMatchInterpretedRelationshipFilter(String filter) throws ParseException {
+        var expression = ExpressionParser.parse(filter);
+        expression.validate(ValidationContext.forRelationships(graphStore)).validate();
+
+        var propertyIndices = Map.of("weight", 0, "cost", 1);
+        var relType = RelationshipType.of("REL");
+        var predicate = ExpressionCompiler.compileRelationshipPredicate(expression, relType, propertyIndices);
+        var context = new EvaluationContext.RelationshipEvaluationContext(propertyIndices);
+
+        for (double[] properties : new double[][]{{0.5, 2.0}, {1.5, 4.0}, {3.0, 1.0}}) {
+            context.init(relType.name, properties);
+            assertThat(predicate.test(properties)).isEqualTo(expression.evaluate(context) == Expression.TRUE);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"r.cost > 0", "r.cost = 0", "r.cost <> 0"})
+    void shouldUseFallbackValueForPropertiesMissingOnRelationshipType(String filter) throws ParseException {
+        var expression = ExpressionParser.parse(filter);
+
+        var predicate = ExpressionCompiler.compileRelationshipPredicate(
+            expression,
+            RelationshipType.of("OTHER"),
+            Map.of("weight", 0)
+        );
+
+        // NaN never compares as true
+        assertThat(predicate.test(new double[]{3.0})).isFalse();
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.pregel;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.nodeproperties.ValueType;
+import org.neo4j.graphalgo.beta.generator.RandomGraphGenerator;
+import org.neo4j.graphalgo.beta.generator.RelationshipDistribution;
+import org.neo4j.graphalgo.beta.pregel.context.ComputeContext;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.logging.NullLog;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PregelCheckpointTest {
+
+    private static final String KEY = "paths";
+    private static final String HOPS = "hops";
+
+    private static final String CHECKPOINT_DIRECTORY = "my-computation";
+
+    @TempDir
+    Path checkpointLocation;
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void resumeFromCheckpoint(boolean reduce) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(1_000)
+            .averageDegree(5)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .seed(42L)
+            .allocationTracker(AllocationTracker.empty())
+            .build()
+            .generate();
+
+        var configBuilder = ImmutablePregelConfig.builder()
+            .username("")
+            .concurrency(4)
+            .maxIterations(6);
+
+        var expected = run(graph, configBuilder.build(), reduce);
+
+        var checkpointConfig = configBuilder
+            .maxIterations(3)
+            .checkpointInterval(3)
+            .checkpointDirectory(CHECKPOINT_DIRECTORY)
+            .build();
+        run(graph, checkpointConfig, reduce);
+        assertThat(checkpointLocation.resolve(CHECKPOINT_DIRECTORY).resolve(PregelCheckpoint.FILE_NAME)).exists();
+
+        var resumeConfig = configBuilder
+            .maxIterations(6)
+            .checkpointInterval(0)
+            .resumeFromCheckpoint(true)
+            .build();
+        var resumed = run(graph, resumeConfig, reduce);
+
+        assertEquals(expected.ranIterations(), resumed.ranIterations());
+        assertArrayEquals(
+            expected.nodeValues().doubleProperties(KEY).toArray(),
+            resumed.nodeValues().doubleProperties(KEY).toArray()
+        );
+        assertArrayEquals(
+            expected.nodeValues().longProperties(HOPS).toArray(),
+            resumed.nodeValues().longProperties(HOPS).toArray()
+        );
+    }
+
+    @Test
+    void rejectsCheckpointOfDifferentGraph() throws Exception {
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(1)
+            .checkpointInterval(1)
+            .checkpointDirectory(CHECKPOINT_DIRECTORY)
+            .build();
+        run(generate(100), config, false);
+        assertThat(Files.size(checkpointLocation.resolve(CHECKPOINT_DIRECTORY).resolve(PregelCheckpoint.FILE_NAME))).isPositive();
+
+        var resumeConfig = ImmutablePregelConfig.copyOf(config).withResumeFromCheckpoint(true);
+        var exception = assertThrows(IllegalStateException.class, () -> run(generate(42), resumeConfig, false));
+        assertThat(exception).hasMessage("Checkpoint was written for 100 nodes, but the graph contains 42 nodes.");
+    }
+
+    @Test
+    void requiresCheckpointDirectory() {
+        var exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> ImmutablePregelConfig.builder().maxIterations(1).checkpointInterval(2).build()
+        );
+        assertThat(exception).hasMessage("Checkpointing requires a `checkpointDirectory` to be specified.");
+    }
+
+    @Test
+    void requiresCheckpointLocation() {
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(1)
+            .checkpointInterval(1)
+            .checkpointDirectory(CHECKPOINT_DIRECTORY)
+            .build();
+
+        var exception = assertThrows(IllegalArgumentException.class, () -> run(generate(10), config, false, null));
+        assertThat(exception).hasMessage(
+            "Checkpointing requires the configuration option 'gds.pregel.checkpoint.location' to be set."
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"../outside", "inside/../../outside", "/tmp/outside"})
+    void rejectsCheckpointDirectoryOutsideOfLocation(String checkpointDirectory) {
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(1)
+            .checkpointInterval(1)
+            .checkpointDirectory(checkpointDirectory)
+            .build();
+
+        var exception = assertThrows(IllegalArgumentException.class, () -> run(generate(10), config, false));
+        assertThat(exception)
+            .hasMessageStartingWith("Illegal parameter value for parameter checkpointDirectory=" + checkpointDirectory);
+        assertThat(checkpointLocation.resolveSibling("outside")).doesNotExist();
+    }
+
+    private static Graph generate(long nodeCount) {
+        return RandomGraphGenerator.builder()
+            .nodeCount(nodeCount)
+            .averageDegree(2)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .seed(42L)
+            .allocationTracker(AllocationTracker.empty())
+            .build()
+            .generate();
+    }
+
+    private PregelResult run(Graph graph, PregelConfig config, boolean reduce) {
+        return run(graph, config, reduce, checkpointLocation);
+    }
+
+    private static PregelResult run(Graph graph, PregelConfig config, boolean reduce, Path checkpointLocation) {
+        return Pregel.create(
+            graph,
+            config,
+            new CountPaths(reduce),
+            Pools.DEFAULT,
+            AllocationTracker.empty(),
+            NullLog.getInstance(),
+            checkpointLocation
+        ).run();
+    }
+
+    /**
+     * Counts the number of paths of length {@code superstep} that end in each node.
+     * All values are integral, such that the result does not depend on the message order.
+     */
+    static class CountPaths implements PregelComputation<PregelConfig> {
+
+        private final boolean reduce;
+
+        CountPaths(boolean reduce) {
+            this.reduce = reduce;
+        }
+
+        @Override
+        public PregelSchema schema(PregelConfig config) {
+            return new PregelSchema.Builder()
+                .add(KEY, ValueType.DOUBLE)
+                .add(HOPS, ValueType.LONG)
+                .build();
+        }
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            double paths = 1.0;
+            if (!context.isInitialSuperstep()) {
+                paths = 0.0;
+                for (var message : messages) {
+                    paths += message;
+                }
+            }
+            context.setNodeValue(KEY, paths);
+            context.setNodeValue(HOPS, (long) context.superstep());
+            context.sendToNeighbors(paths);
+        }
+
+        @Override
+        public Optional<Reducer> reducer() {
+            return reduce ? Optional.of(new Reducer.Sum()) : Optional.empty();
+        }
+    }
+}
@@ -20,6 +20,7 @@
 package org.neo4j.graphalgo.beta.pregel;
 
 import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.EnumSource;
@@ -45,6 +46,7 @@ import org.neo4j.graphalgo.extension.Inject;
 import org.neo4j.graphalgo.extension.TestGraph;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -145,6 +147,112 @@ class PregelTest {
         }
     }
 
+    @ParameterizedTest
+    @EnumSource(value = Partitioning.class, names = {"RANGE", "DEGREE"})
+    void senderSideCombining(Partitioning partitioning) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(10)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .seed(42L)
+            .allocationTracker(AllocationTracker.empty())
+            .build()
+            .generate();
+
+        var configBuilder = ImmutablePregelConfig.builder()
+            .username("")
+            .maxIterations(10)
+            .concurrency(4)
+            .partitioning(partitioning);
+
+        var expected = run(graph, configBuilder.build(), new TestPregelComputation());
+
+        var combiningConfig = configBuilder.senderSideCombining(true).build();
+        var summed = run(graph, combiningConfig, new TestReduciblePregelComputation());
+        // counting needs a dedicated combine function
+        var counted = run(graph, combiningConfig, new TestPregelComputation() {
+            @Override
+            public Optional<Reducer> reducer() {
+                return Optional.of(new Reducer.Count());
+            }
+        });
+
+        for (int nodeId = 0; nodeId < expected.size(); nodeId++) {
+            assertEquals(expected.get(nodeId), summed.get(nodeId));
+            assertEquals(expected.get(nodeId), counted.get(nodeId));
+        }
+
+        var result = Pregel.create(
+            graph,
+            combiningConfig,
+            new TestReduciblePregelComputation(),
+            Pools.DEFAULT,
+            AllocationTracker.empty()
+        ).run();
+
+        assertThat(result.messageContentionStats()).hasSize(result.ranIterations() + 1);
+        assertThat(result.messageContentionStats().get(0).flushedMessages()).isPositive();
+        assertThat(result.messageContentionStats().get(0).combinedMessages()).isPositive();
+    }
+
+    @Test
+    void senderSideCombiningIsNotSupportedForAutoPartitioning() {
+        var exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> ImmutablePregelConfig.builder()
+                .maxIterations(1)
+                .partitioning(Partitioning.AUTO)
+                .senderSideCombining(true)
+                .build()
+        );
+        assertThat(exception).hasMessage("Sender side combining is not supported for `AUTO` partitioning.");
+    }
+
+    @Test
+    void senderSideCombiningRequiresReducer() {
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(1)
+            .senderSideCombining(true)
+            .build();
+
+        var exception = assertThrows(IllegalArgumentException.class, () -> Pregel.create(
+            graph,
+            config,
+            new TestPregelComputation(),
+            Pools.DEFAULT,
+            AllocationTracker.empty()
+        ));
+        assertThat(exception).hasMessage("Sender side combining requires the computation to define a reducer.");
+    }
+
+    @ParameterizedTest
+    @EnumSource(Partitioning.class)
+    void aggregatorsAndHaltComputation(Partitioning partitioning) {
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(10)
+            .concurrency(2)
+            .partitioning(partitioning)
+            .build();
+
+        var result = Pregel.create(
+            graph,
+            config,
+            new TestAggregators(),
+            Pools.DEFAULT,
+            AllocationTracker.empty()
+        ).run();
+
+        assertTrue(result.didConverge());
+        assertEquals(1, result.ranIterations());
+
+        var nodeValues = result.nodeValues();
+        graph.forEachNode(nodeId -> {
+            assertEquals(3L, nodeValues.longValue(TestAggregators.NODES, nodeId));
+            assertEquals(3.0, nodeValues.doubleValue(TestAggregators.MAX, nodeId));
+            return true;
+        });
+    }
+
     @NotNull
     private HugeDoubleArray run(Graph graph, PregelConfig config, PregelComputation<PregelConfig> computation) {
         var pregelJob = Pregel.create(
@@ -551,6 +659,44 @@ class PregelTest {
         }
     }
 
+    static class TestAggregators implements PregelComputation<PregelConfig> {
+        static final String NODES = "nodes";
+        static final String MAX = "max";
+
+        @Override
+        public PregelSchema schema(PregelConfig config) {
+            return new PregelSchema.Builder()
+                .add(NODES, ValueType.LONG)
+                .add(MAX, ValueType.DOUBLE)
+                .build();
+        }
+
+        @Override
+        public List<Aggregator> aggregators() {
+            return List.of(
+                Aggregator.ofLong(NODES, new Reducer.Count()),
+                Aggregator.ofDouble(MAX, new Reducer.Max())
+            );
+        }
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            context.aggregate(NODES, 1L);
+            context.aggregate(MAX, context.degree() * 1.5);
+            if (!context.isInitialSuperstep()) {
+                context.setNodeValue(NODES, context.longAggregatedValue(NODES));
+                context.setNodeValue(MAX, context.doubleAggregatedValue(MAX));
+            }
+        }
+
+        @Override
+        public void masterCompute(MasterComputeContext<PregelConfig> context) {
+            if (context.longAggregatedValue(NODES) == context.nodeCount() && !context.isInitialSuperstep()) {
+                context.haltComputation();
+            }
+        }
+    }
+
     static class TestMasterCompute implements PregelComputation<PregelConfig> {
         @Override
         public PregelSchema schema(PregelConfig config) {
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.pregel;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.graphalgo.api.nodeproperties.ValueType;
+import org.neo4j.graphalgo.beta.pregel.context.ComputeContext;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.extension.GdlExtension;
+import org.neo4j.graphalgo.extension.GdlGraph;
+import org.neo4j.graphalgo.extension.Inject;
+import org.neo4j.graphalgo.extension.TestGraph;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@GdlExtension
+class TypedMessagesTest {
+
+    @GdlGraph
+    private static final String TEST_GRAPH =
+        "CREATE" +
+        "  (alice)" +
+        ", (bob)" +
+        ", (eve)" +
+        ", (alice)-[:REL]->(bob)" +
+        ", (alice)-[:REL]->(eve)" +
+        ", (bob)-[:REL]->(eve)";
+
+    // large enough to not be representable as a double
+    private static final long OFFSET = Long.MAX_VALUE - 42;
+
+    @Inject
+    private TestGraph graph;
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void longMessagesWithSender(boolean isAsynchronous) {
+        var result = run(new LongMessagesWithSender(), isAsynchronous).nodeValues();
+
+        var alice = graph.toMappedNodeId("alice");
+        var bob = graph.toMappedNodeId("bob");
+        var eve = graph.toMappedNodeId("eve");
+
+        assertEquals(alice, result.longValue(LongMessagesWithSender.SENDERS, bob));
+        assertEquals(alice, result.longValue(LongMessagesWithSender.MESSAGES, bob));
+        assertEquals(alice + bob, result.longValue(LongMessagesWithSender.SENDERS, eve));
+        assertEquals(alice + bob, result.longValue(LongMessagesWithSender.MESSAGES, eve));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void arrayMessages(boolean isAsynchronous) {
+        var result = run(new ArrayMessages(), isAsynchronous).nodeValues();
+
+        var alice = graph.toMappedNodeId("alice");
+        var bob = graph.toMappedNodeId("bob");
+        var eve = graph.toMappedNodeId("eve");
+
+        assertEquals(alice + 1.0, result.doubleValue(ArrayMessages.SUM, bob));
+        assertEquals(1L, result.longValue(ArrayMessages.NAN_COUNT, bob));
+        assertEquals(alice + bob + 2.0, result.doubleValue(ArrayMessages.SUM, eve));
+        assertEquals(2L, result.longValue(ArrayMessages.NAN_COUNT, eve));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void reduceLongMessages(boolean isAsynchronous) {
+        var result = run(new ReducedLongMessages(), isAsynchronous).nodeValues();
+
+        var alice = graph.toMappedNodeId("alice");
+        var bob = graph.toMappedNodeId("bob");
+        var eve = graph.toMappedNodeId("eve");
+
+        assertEquals(0L, result.longValue(ReducedLongMessages.KEY, alice));
+        assertEquals(OFFSET + alice, result.longValue(ReducedLongMessages.KEY, bob));
+        assertEquals(OFFSET + Math.max(alice, bob), result.longValue(ReducedLongMessages.KEY, eve));
+    }
+
+    @Test
+    void rejectsReducerForMessagesWithSender() {
+        var computation = new LongMessagesWithSender() {
+            @Override
+            public Optional<Reducer> reducer() {
+                return Optional.of(new Reducer.Sum());
+            }
+        };
+
+        var exception = assertThrows(IllegalArgumentException.class, () -> run(computation, false));
+        assertEquals(
+            "Reducers can only be applied to DOUBLE or LONG messages without sender, got MessageSchema{valueType=LONG, dimension=1, includeSender=true}.",
+            exception.getMessage()
+        );
+    }
+
+    private PregelResult run(PregelComputation<PregelConfig> computation, boolean isAsynchronous) {
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(2)
+            .concurrency(1)
+            .isAsynchronous(isAsynchronous)
+            .build();
+
+        return Pregel.create(graph, config, computation, Pools.DEFAULT, AllocationTracker.empty()).run();
+    }
+
+    static class LongMessagesWithSender implements PregelComputation<PregelConfig> {
+        static final String SENDERS = "senders";
+        static final String MESSAGES = "messages";
+
+        @Override
+        public PregelSchema schema(PregelConfig config) {
+            return new PregelSchema.Builder()
+                .add(SENDERS, ValueType.LONG)
+                .add(MESSAGES, ValueType.LONG)
+                .messages(MessageSchema.longs().withSender())
+                .build();
+        }
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            if (context.isInitialSuperstep()) {
+                context.sendLongToNeighbors(OFFSET + context.nodeId());
+                return;
+            }
+
+            long senders = 0;
+            long values = 0;
+            while (messages.advance()) {
+                senders += messages.sender();
+                values += messages.longMessage() - OFFSET;
+            }
+            context.setNodeValue(SENDERS, senders);
+            context.setNodeValue(MESSAGES, values);
+        }
+    }
+
+    static class ArrayMessages implements PregelComputation<PregelConfig> {
+        static final String SUM = "sum";
+        static final String NAN_COUNT = "nanCount";
+
+        @Override
+        public PregelSchema schema(PregelConfig config) {
+            return new PregelSchema.Builder()
+                .add(SUM, ValueType.DOUBLE)
+                .add(NAN_COUNT, ValueType.LONG)
+                .messages(MessageSchema.doubleArrays(2))
+                .build();
+        }
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            if (context.isInitialSuperstep()) {
+                // a leading NaN must not be mistaken for an empty slot by the async queues
+                context.sendArrayToNeighbors(new double[]{Double.NaN, context.nodeId() + 1.0});
+                return;
+            }
+
+            double sum = 0;
+            long nanCount = 0;
+            while (messages.advance()) {
+                var message = messages.doubleArrayMessage();
+                nanCount += Double.isNaN(message[0]) ? 1 : 0;
+                sum += message[1];
+            }
+            context.setNodeValue(SUM, sum);
+            context.setNodeValue(NAN_COUNT, nanCount);
+        }
+    }
+
+    static class ReducedLongMessages implements PregelComputation<PregelConfig> {
+        static final String KEY = "max";
+
+        @Override
+        public PregelSchema schema(PregelConfig config) {
+            return new PregelSchema.Builder()
+                .add(KEY, ValueType.LONG)
+                .messages(MessageSchema.longs())
+                .build();
+        }
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            if (context.isInitialSuperstep()) {
+                context.sendLongToNeighbors(OFFSET + context.nodeId());
+                return;
+            }
+
+            var iterator = messages.longIterator();
+            if (iterator.hasNext()) {
+                context.setNodeValue(KEY, iterator.nextLong());
+            }
+        }
+
+        @Override
+        public Optional<Reducer> reducer() {
+            return Optional.of(new Reducer.Max());
+        }
+    }
+}
@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.reorder;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.graphalgo.NodeLabel;
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.TestLog;
+import org.neo4j.graphalgo.api.GraphStore;
+import org.neo4j.graphalgo.api.NodeProperties;
+import org.neo4j.graphalgo.api.nodeproperties.ValueType;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.loading.CSRGraphStoreUtil;
+import org.neo4j.graphalgo.core.loading.HashIdMap;
+import org.neo4j.graphalgo.core.loading.construction.GraphFactory;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.extension.GdlSupportExtension;
+import org.neo4j.logging.NullLog;
+import org.neo4j.values.storable.Value;
+import org.neo4j.values.storable.Values;
+
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.neo4j.graphalgo.TestSupport.assertGraphEquals;
+import static org.neo4j.graphalgo.TestSupport.graphStoreFromGDL;
+
+class GraphStoreReorderingTest {
+
+    private static final String GDL =
+        "  (a:A {community: 1, score: 0.5, embedding: [1.0, 2.0]})" +
+        ", (b:A {community: 2, score: 1.5, embedding: [3.0, 4.0]})" +
+        ", (c:B {community: 1, score: 2.5, embedding: [5.0, 6.0]})" +
+        ", (d:B {community: 2, score: 3.5, embedding: [7.0, 8.0]})" +
+        ", (e:A {community: 1, score: 4.5, embedding: [9.0, 0.0]})" +
+        ", (a)-[:REL {weight: 1.0}]->(b)" +
+        ", (a)-[:REL {weight: 2.0}]->(c)" +
+        ", (a)-[:REL {weight: 3.0}]->(d)" +
+        ", (b)-[:REL {weight: 4.0}]->(c)" +
+        ", (e)-[:REL {weight: 5.0}]->(a)" +
+        ", (d)-[:OTHER]->(e)";
+
+    static Stream<Arguments> orderings() {
+        return Stream.of(
+            arguments(NodeOrdering.degree(), "degree"),
+            arguments(NodeOrdering.reverseCuthillMcKee(), "rcm"),
+            arguments(NodeOrdering.community("community"), "community")
+        );
+    }
+
+    @ParameterizedTest(name = "{1}")
+    @MethodSource("orderings")
+    void shouldPreserveGraphStructureAndProperties(NodeOrdering ordering, String ignored) {
+        var graphStore = graphStoreFromGDL(GDL);
+
+        var reordered = reorder(graphStore, ordering).graphStore();
+
+        assertThat(reordered.nodeCount()).isEqualTo(graphStore.nodeCount());
+        assertThat(reordered.nodeLabels()).isEqualTo(graphStore.nodeLabels());
+        assertThat(reordered.relationshipTypes()).isEqualTo(graphStore.relationshipTypes());
+        assertThat(reordered.relationshipCount()).isEqualTo(graphStore.relationshipCount());
+        assertGraphEquals(graphStore.getUnion(), reordered.getUnion());
+        assertGraphEquals(
+            graphStore.getGraph(RelationshipType.of("REL"), Optional.of("weight")),
+            reordered.getGraph(RelationshipType.of("REL"), Optional.of("weight"))
+        );
+
+        var inputNodes = graphStore.nodes();
+        var outputNodes = reordered.nodes();
+        for (long inputId = 0; inputId < graphStore.nodeCount(); inputId++) {
+            long originalId = inputNodes.toOriginalNodeId(inputId);
+            long outputId = outputNodes.toMappedNodeId(originalId);
+
+            assertThat(outputNodes.toOriginalNodeId(outputId)).isEqualTo(originalId);
+            assertThat(outputNodes.nodeLabels(outputId)).isEqualTo(inputNodes.nodeLabels(inputId));
+            assertThat(reordered.nodePropertyValues("community").longValue(outputId))
+                .isEqualTo(graphStore.nodePropertyValues("community").longValue(inputId));
+            assertThat(reordered.nodePropertyValues("score").doubleValue(outputId))
+                .isEqualTo(graphStore.nodePropertyValues("score").doubleValue(inputId));
+            assertThat(reordered.nodePropertyValues("embedding").doubleArrayValue(outputId))
+                .containsExactly(graphStore.nodePropertyValues("embedding").doubleArrayValue(inputId));
+        }
+    }
+
+    @Test
+    void shouldPlaceHighDegreeNodesFirst() {
+        var graphStore = graphStoreFromGDL(GDL);
+
+        var reordered = reorder(graphStore, NodeOrdering.degree()).graphStore();
+
+        var graph = reordered.getUnion();
+        for (long nodeId = 1; nodeId < graph.nodeCount(); nodeId++) {
+            assertThat(graph.degree(nodeId - 1)).isGreaterThanOrEqualTo(graph.degree(nodeId));
+        }
+        assertThat(graph.degree(0)).isEqualTo(3);
+    }
+
+    @Test
+    void shouldGroupNodesByCommunity() {
+        var graphStore = graphStoreFromGDL(GDL);
+
+        var reordered = reorder(graphStore, NodeOrdering.community("community")).graphStore();
+
+        var communities = reordered.nodePropertyValues("community");
+        var expected = new long[]{1, 1, 1, 2, 2};
+        for (int nodeId = 0; nodeId < expected.length; nodeId++) {
+            assertThat(communities.longValue(nodeId)).isEqualTo(expected[nodeId]);
+        }
+        assertThat(reordered.nodes().availableNodeLabels()).containsExactlyInAnyOrder(NodeLabel.of("A"), NodeLabel.of("B"));
+    }
+
+    @Test
+    void shouldImproveCompressionOfScatteredIds() {
+        var graphStore = scatteredRing(10_000);
+
+        var result = reorder(graphStore, NodeOrdering.reverseCuthillMcKee());
+
+        assertThat(result.adjacencyBytesAfter()).isLessThan(result.adjacencyBytesBefore());
+        assertThat(result.compressionRatio()).isGreaterThan(1.2);
+        assertGraphEquals(graphStore.getUnion(), result.graphStore().getUnion());
+    }
+
+    @Test
+    void shouldLogCompressionRatio() {
+        var graphStore = scatteredRing(100);
+        var log = new TestLog();
+
+        GraphStoreReordering.reorder(
+            graphStore,
+            NodeOrdering.reverseCuthillMcKee(),
+            4,
+            Pools.DEFAULT,
+            log,
+            AllocationTracker.empty()
+        );
+
+        assertThat(log.containsMessage(TestLog.INFO, "Adjacency bytes before")).isTrue();
+    }
+
+    @Test
+    void shouldUseHashIdMapForSparseOriginalIds() {
+        long[] originalIds = LongStream.range(0, 100).map(i -> i * 1_000_000_007L).toArray();
+        var graphStore = ring(originalIds);
+
+        var reordered = reorder(graphStore, NodeOrdering.reverseCuthillMcKee()).graphStore();
+
+        assertThat(reordered.nodes()).isInstanceOf(HashIdMap.class);
+        for (long originalId : originalIds) {
+            assertThat(reordered.nodes().toOriginalNodeId(reordered.nodes().toMappedNodeId(originalId))).isEqualTo(originalId);
+        }
+        assertGraphEquals(graphStore.getUnion(), reordered.getUnion());
+    }
+
+    @Test
+    void shouldRejectUnsupportedNodePropertyTypes() {
+        var graphStore = graphStoreFromGDL(GDL);
+        graphStore.addNodeProperty(NodeLabel.of("A"), "unknown", new NodeProperties() {
+            @Override
+            public Object getObject(long nodeId) {
+                return null;
+            }
+
+            @Override
+            public ValueType valueType() {
+                return ValueType.UNKNOWN;
+            }
+
+            @Override
+            public Value value(long nodeId) {
+                return Values.NO_VALUE;
+            }
+        });
+
+        assertThatThrownBy(() -> reorder(graphStore, NodeOrdering.degree()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("does not support node property `unknown` of type `UNKNOWN`");
+    }
+
+    @Test
+    void shouldRejectNonIntegralCommunities() {
+        var graphStore = graphStoreFromGDL(GDL);
+
+        assertThatThrownBy(() -> reorder(graphStore, NodeOrdering.community("score")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("requires the node property `score` to be of type `LONG`");
+    }
+
+    private static GraphStoreReordering.ReorderedGraphStore reorder(GraphStore graphStore, NodeOrdering ordering) {
+        return GraphStoreReordering.reorder(
+            graphStore,
+            ordering,
+            4,
+            Pools.DEFAULT,
+            NullLog.getInstance(),
+            AllocationTracker.empty()
+        );
+    }
+
+    /**
+     * A ring whose neighbouring nodes have random original ids, i.e. neighbours are scattered across the id space.
+     */
+    private static GraphStore scatteredRing(int nodeCount) {
+        var random = new Random(42);
+        long[] originalIds = LongStream.range(0, nodeCount).toArray();
+        for (int i = nodeCount - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long tmp = originalIds[i];
+            originalIds[i] = originalIds[j];
+            originalIds[j] = tmp;
+        }
+        return ring(originalIds);
+    }
+
+    /**
+     * A ring that connects the given original ids in order, in both directions.
+     */
+    private static GraphStore ring(long[] originalIds) {
+        int nodeCount = originalIds.length;
+        var nodesBuilder = GraphFactory.initNodesBuilder()
+            .maxOriginalId(LongStream.of(originalIds).max().orElse(0))
+            .nodeCount(nodeCount)
+            .tracker(AllocationTracker.empty())
+            .build();
+        for (long originalId : originalIds) {
+            nodesBuilder.addNode(originalId);
+        }
+        var idMap = nodesBuilder.build().nodeMapping();
+
+        var relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
+            .nodes(idMap)
+            .concurrency(1)
+            .executorService(Pools.DEFAULT)
+            .tracker(AllocationTracker.empty())
+            .build();
+        for (int i = 0; i < nodeCount; i++) {
+            relationshipsBuilder.add(originalIds[i], originalIds[(i + 1) % nodeCount]);
+            relationshipsBuilder.add(originalIds[(i + 1) % nodeCount], originalIds[i]);
+        }
+
+        var graph = GraphFactory.create(idMap, relationshipsBuilder.build(), AllocationTracker.empty());
+        return CSRGraphStoreUtil.createFromGraph(
+            GdlSupportExtension.DATABASE_ID,
+            graph,
+            "REL",
+            Optional.empty(),
+            1,
+            AllocationTracker.empty()
+        );
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.huge;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.neo4j.graphalgo.AbstractRelationshipProjection;
+import org.neo4j.graphalgo.Orientation;
+import org.neo4j.graphalgo.RelationshipProjection;
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.api.AdjacencyCursor;
+import org.neo4j.graphalgo.api.AdjacencyList;
+import org.neo4j.graphalgo.api.NodeMapping;
+import org.neo4j.graphalgo.api.Relationships;
+import org.neo4j.graphalgo.core.Aggregation;
+import org.neo4j.graphalgo.core.GraphDimensions;
+import org.neo4j.graphalgo.core.compress.AdjacencyCodec;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.loading.AdjacencyListAllocator;
+import org.neo4j.graphalgo.core.loading.AdjacencyListBuilder;
+import org.neo4j.graphalgo.core.loading.construction.GraphFactory;
+import org.neo4j.graphalgo.core.loading.construction.NodesBuilder;
+import org.neo4j.graphalgo.core.loading.construction.RelationshipsBuilder;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdjacencyCodecTest {
+
+    private static final long NODE_COUNT = 10_000;
+
+    @ParameterizedTest
+    @EnumSource(AdjacencyCodec.class)
+    void shouldDecodeAllTargets(AdjacencyCodec codec) {
+        // cover full blocks, a partial trailing block, large gaps and duplicate-free runs
+        long[] targets = randomTargets(200, 42L);
+
+        var cursor = adjacencyCursor(codec, targets);
+
+        assertThat(cursor.size()).isEqualTo(targets.length);
+        for (long target : targets) {
+            assertThat(cursor.hasNextVLong()).isTrue();
+            assertThat(cursor.peekVLong()).isEqualTo(target);
+            assertThat(cursor.nextVLong()).isEqualTo(target);
+        }
+        assertThat(cursor.hasNextVLong()).isFalse();
+        assertThat(cursor.remaining()).isEqualTo(0);
+    }
+
+    @ParameterizedTest
+    @EnumSource(AdjacencyCodec.class)
+    void shouldDecodeSingleTarget(AdjacencyCodec codec) {
+        var cursor = adjacencyCursor(codec, new long[]{1337});
+
+        assertThat(cursor.size()).isEqualTo(1);
+        assertThat(cursor.nextVLong()).isEqualTo(1337);
+        assertThat(cursor.hasNextVLong()).isFalse();
+    }
+
+    @ParameterizedTest
+    @EnumSource(AdjacencyCodec.class)
+    void shouldSkipAndAdvanceLikeTheDefaultCodec(AdjacencyCodec codec) {
+        long[] targets = randomTargets(300, 1337L);
+        var random = new Random(42L);
+
+        for (int run = 0; run < 50; run++) {
+            var expected = adjacencyCursor(AdjacencyCodec.DEFAULT, targets);
+            var actual = adjacencyCursor(codec, targets);
+
+            long[] probes = random.longs(5, 0, NODE_COUNT).sorted().toArray();
+            for (long probe : probes) {
+                if (run % 2 == 0) {
+                    assertThat(actual.skipUntil(probe)).isEqualTo(expected.skipUntil(probe));
+                } else {
+                    assertThat(actual.advance(probe)).isEqualTo(expected.advance(probe));
+                }
+                assertThat(actual.remaining()).isEqualTo(expected.remaining());
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(AdjacencyCodec.class)
+    void shouldCopyCursorState(AdjacencyCodec codec) {
+        long[] targets = randomTargets(100, 7L);
+        var cursor = adjacencyCursor(codec, targets);
+        for (int i = 0; i < 70; i++) {
+            cursor.nextVLong();
+        }
+
+        var copy = adjacencyCursor(codec, targets);
+        copy.copyFrom(cursor);
+
+        assertThat(copy.remaining()).isEqualTo(cursor.remaining());
+        while (cursor.hasNextVLong()) {
+            assertThat(copy.nextVLong()).isEqualTo(cursor.nextVLong());
+        }
+    }
+
+    @Test
+    void shouldParseCompressionFromProjection() {
+        var projection = AbstractRelationshipProjection.fromMap(
+            Map.of("type", "REL", "compression", "block_packed"),
+            RelationshipType.of("REL")
+        );
+
+        assertThat(projection.compression()).isEqualTo(AdjacencyCodec.BLOCK_PACKED);
+        assertThat(projection.toObject()).containsEntry("compression", "BLOCK_PACKED");
+        assertThat(RelationshipProjection.of("REL", Orientation.NATURAL).toObject())
+            .doesNotContainKey("compression");
+
+        assertThatThrownBy(() -> AdjacencyCodec.of("zip"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Compression `zip` is not supported");
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = AdjacencyCodec.class, names = {"BLOCK_PACKED", "UNCOMPRESSED"})
+    void shouldRejectNonTransientAdjacencyBuilders(AdjacencyCodec codec) {
+        var adjacencyBuilder = new AdjacencyListBuilder() {
+            @Override
+            public AdjacencyListAllocator newAllocator() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public AdjacencyList build() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void flush() {
+            }
+        };
+        var compressorFactory = codec.compressorFactory(
+            TransientAdjacencyDegrees.Factory.INSTANCE,
+            TransientAdjacencyOffsets.Factory.INSTANCE
+        );
+
+        assertThatThrownBy(() -> compressorFactory.create(
+            NODE_COUNT,
+            adjacencyBuilder,
+            new AdjacencyListBuilder[0],
+            new Aggregation[]{Aggregation.NONE},
+            AllocationTracker.empty()
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Encoded adjacency lists require a `TransientAdjacencyListBuilder`");
+    }
+
+    @Test
+    void shouldEstimateMemoryPerCodec() {
+        var dimensions = GraphDimensions.of(1_000_000, 100_000_000);
+
+        var varLong = AdjacencyCodec.DELTA_VAR_LONG
+            .memoryEstimation(RelationshipType.ALL_RELATIONSHIPS, false)
+            .estimate(dimensions, 1)
+            .memoryUsage();
+        var blockPacked = AdjacencyCodec.BLOCK_PACKED
+            .memoryEstimation(RelationshipType.ALL_RELATIONSHIPS, false)
+            .estimate(dimensions, 1)
+            .memoryUsage();
+        var uncompressed = AdjacencyCodec.UNCOMPRESSED
+            .memoryEstimation(RelationshipType.ALL_RELATIONSHIPS, false)
+            .estimate(dimensions, 1)
+            .memoryUsage();
+
+        // one bit per delta is the best case for block packing
+        assertThat(blockPacked.min).isLessThan(varLong.min);
+        assertThat(uncompressed.min).isGreaterThan(blockPacked.max);
+        assertThat(uncompressed.min).isEqualTo(uncompressed.max);
+    }
+
+    private static long[] randomTargets(int count, long seed) {
+        var random = new Random(seed);
+        long[] targets = LongStream
+            .concat(
+                // a dense run encodes with tiny deltas
+                LongStream.range(100, 100 + count / 2),
+                random.longs(count, 0, NODE_COUNT)
+            )
+            .distinct()
+            .limit(count)
+            .toArray();
+        Arrays.sort(targets);
+        return targets;
+    }
+
+    private static AdjacencyCursor adjacencyCursor(AdjacencyCodec codec, long[] targets) {
+        NodesBuilder nodesBuilder = GraphFactory.initNodesBuilder()
+            .maxOriginalId(NODE_COUNT)
+            .tracker(AllocationTracker.empty())
+            .build();
+        for (long nodeId = 0; nodeId < NODE_COUNT; nodeId++) {
+            nodesBuilder.addNode(nodeId);
+        }
+        NodeMapping idMap = nodesBuilder.build().nodeMapping();
+
+        RelationshipsBuilder relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
+            .nodes(idMap)
+            .compression(codec)
+            .concurrency(1)
+            .executorService(Pools.DEFAULT)
+            .tracker(AllocationTracker.empty())
+            .build();
+
+        long sourceNodeId = 0L;
+        for (long target : targets) {
+            relationshipsBuilder.add(sourceNodeId, target);
+        }
+        Relationships relationships = relationshipsBuilder.build();
+        var topology = relationships.topology();
+        var mappedNodeId = idMap.toMappedNodeId(sourceNodeId);
+        long offset = topology.offsets().get(mappedNodeId);
+        int degree = topology.degrees().degree(mappedNodeId);
+        return topology.list().decompressingCursor(offset, degree);
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.loading;
+
+import com.carrotsearch.hppc.BitSet;
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.NodeLabel;
+import org.neo4j.graphalgo.api.NodeMapping;
+import org.neo4j.graphalgo.core.GraphDimensions;
+import org.neo4j.graphalgo.core.ImmutableGraphDimensions;
+import org.neo4j.graphalgo.core.loading.construction.GraphFactory;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeSparseLongArray;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HashIdMapTest {
+
+    private static final long STRIDE = 1L << 40;
+
+    @Test
+    void shouldChooseHashIdMapForSparseIds() {
+        assertThat(IdMapImplementations.useHashIdMap(0, 0)).isFalse();
+        assertThat(IdMapImplementations.useHashIdMap(999, 1_000)).isFalse();
+        assertThat(IdMapImplementations.useHashIdMap(1_999, 1_000)).isFalse();
+        assertThat(IdMapImplementations.useHashIdMap(1_000 * STRIDE, 1_000)).isTrue();
+        assertThat(IdMapImplementations.useHashIdMap(HugeSparseLongArray.MAX_SIZE, 1)).isTrue();
+        assertThat(IdMapImplementations.useHashIdMap(Long.MAX_VALUE - 1, 1)).isTrue();
+    }
+
+    @Test
+    void shouldMapSparseIds() {
+        long nodeCount = 10_000;
+        var nodesBuilder = GraphFactory.initNodesBuilder()
+            .maxOriginalId(nodeCount * STRIDE)
+            .nodeCount(nodeCount)
+            .hasLabelInformation(true)
+            .concurrency(4)
+            .tracker(AllocationTracker.empty())
+            .build();
+
+        for (long i = 0; i < nodeCount; i++) {
+            nodesBuilder.addNode(originalId(i), i % 2 == 0 ? NodeLabel.of("A") : NodeLabel.of("B"));
+        }
+
+        NodeMapping nodeMapping = nodesBuilder.build().nodeMapping();
+        assertThat(nodeMapping).isInstanceOf(HashIdMap.class);
+        assertThat(nodeMapping.nodeCount()).isEqualTo(nodeCount);
+
+        for (long i = 0; i < nodeCount; i++) {
+            long mappedId = nodeMapping.toMappedNodeId(originalId(i));
+            assertThat(mappedId).isBetween(0L, nodeCount - 1L);
+            assertThat(nodeMapping.toOriginalNodeId(mappedId)).isEqualTo(originalId(i));
+            assertThat(nodeMapping.nodeLabels(mappedId)).containsExactly(i % 2 == 0 ? NodeLabel.of("A") : NodeLabel.of("B"));
+        }
+
+        assertThat(nodeMapping.contains(originalId(0) + 1)).isFalse();
+        assertThat(nodeMapping.toMappedNodeId(originalId(nodeCount))).isEqualTo(-1L);
+    }
+
+    @Test
+    void shouldFilterLabels() {
+        var graphIds = HugeLongArray.of(42 * STRIDE, 1337 * STRIDE, 7 * STRIDE);
+        var labelA = new BitSet(3);
+        labelA.set(0);
+        labelA.set(2);
+        var labelB = new BitSet(3);
+        labelB.set(1);
+
+        var idMap = HashIdMap.build(
+            graphIds,
+            Map.of(NodeLabel.of("A"), labelA, NodeLabel.of("B"), labelB),
+            3,
+            1337 * STRIDE,
+            1,
+            true,
+            AllocationTracker.empty()
+        );
+
+        var filteredIdMap = idMap.withFilteredLabels(List.of(NodeLabel.of("A")), 1);
+        assertThat(filteredIdMap.nodeCount()).isEqualTo(2);
+        assertThat(filteredIdMap.rootNodeCount()).isEqualTo(3);
+        assertThat(filteredIdMap.availableNodeLabels()).isEqualTo(Set.of(NodeLabel.of("A")));
+
+        long rootId = filteredIdMap.toRootNodeId(filteredIdMap.toMappedNodeId(2));
+        assertThat(idMap.toOriginalNodeId(rootId)).isEqualTo(7 * STRIDE);
+        assertThat(filteredIdMap.contains(1)).isFalse();
+    }
+
+    @Test
+    void shouldFailOnDuplicateIds() {
+        var graphIds = HugeLongArray.of(42 * STRIDE, 1337 * STRIDE, 42 * STRIDE);
+
+        assertThatThrownBy(() -> HashIdMap.build(graphIds, Map.of(), 3, 1337 * STRIDE, 1, true, AllocationTracker.empty()))
+            .isInstanceOf(DuplicateNodeIdException.class)
+            .hasMessageContaining(Long.toString(42 * STRIDE));
+    }
+
+    @Test
+    void shouldComputeMemoryEstimation() {
+        GraphDimensions dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(10_000_000L)
+            .highestNeoId(100_000_000_000L)
+            .build();
+
+        var hashMemory = HashIdMap.memoryEstimation().estimate(dimensions, 1).memoryUsage();
+        var sparseMemory = IdMap.memoryEstimation().estimate(dimensions, 1).memoryUsage();
+        assertThat(hashMemory.max).isLessThan(sparseMemory.max);
+
+        // 8 bytes per node for the identifiers plus 2^25 slots of 8 bytes for the index
+        assertThat(hashMemory.min).isGreaterThan(80_000_000L + (1L << 25) * 8L);
+        assertThat(IdMapImplementations.hugeIdMapMemoryEstimation().estimate(dimensions, 1).memoryUsage())
+            .isEqualTo(hashMemory);
+
+        GraphDimensions denseDimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(10_000_000L)
+            .highestNeoId(10_000_000L)
+            .build();
+        assertThat(IdMapImplementations.hugeIdMapMemoryEstimation().estimate(denseDimensions, 1).memoryUsage())
+            .isEqualTo(IdMap.memoryEstimation().estimate(denseDimensions, 1).memoryUsage());
+    }
+
+    private static long originalId(long i) {
+        return i * STRIDE + i;
+    }
+}
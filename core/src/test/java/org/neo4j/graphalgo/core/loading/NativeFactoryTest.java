@@ -27,6 +27,7 @@ import org.neo4j.graphalgo.RelationshipProjections;
 import org.neo4j.graphalgo.RelationshipType;
 import org.neo4j.graphalgo.core.GraphDimensions;
 import org.neo4j.graphalgo.core.ImmutableGraphDimensions;
+import org.neo4j.graphalgo.core.compress.AdjacencyCodec;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
 import org.neo4j.graphalgo.core.utils.mem.MemoryTree;
 import org.neo4j.graphalgo.junit.annotation.Edition;
@@ -107,4 +108,41 @@ class NativeFactoryTest {
         assertEquals(3_200_581_644L * 2 - idMapMemoryUsage - instanceSize, estimate.memoryUsage().min);
         assertEquals(6_000_830_856L, estimate.memoryUsage().max);
     }
+
+    @Test
+    void memoryEstimationFollowsProjectedCompression() {
+        GraphDimensions dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(100_000_000L)
+            .maxRelCount(500_000_000L)
+            .build();
+
+        var relationshipType = RelationshipType.of("TYPE");
+        var defaultEstimate = NativeFactory.getMemoryEstimation(
+            NodeProjections.all(),
+            RelationshipProjections.single(relationshipType, RelationshipProjection.of("TYPE", Orientation.NATURAL))
+        ).estimate(dimensions, 1).memoryUsage();
+        var uncompressedEstimate = NativeFactory.getMemoryEstimation(
+            NodeProjections.all(),
+            RelationshipProjections.single(
+                relationshipType,
+                RelationshipProjection.builder()
+                    .type("TYPE")
+                    .orientation(Orientation.NATURAL)
+                    .compression(AdjacencyCodec.UNCOMPRESSED)
+                    .build()
+            )
+        ).estimate(dimensions, 1).memoryUsage();
+
+        var defaultList = AdjacencyCodec.DEFAULT
+            .memoryEstimation(relationshipType, false)
+            .estimate(dimensions, 1)
+            .memoryUsage();
+        var uncompressedList = AdjacencyCodec.UNCOMPRESSED
+            .memoryEstimation(relationshipType, false)
+            .estimate(dimensions, 1)
+            .memoryUsage();
+
+        assertEquals(uncompressedList.min - defaultList.min, uncompressedEstimate.min - defaultEstimate.min);
+        assertEquals(uncompressedList.max - defaultList.max, uncompressedEstimate.max - defaultEstimate.max);
+    }
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.loading.construction;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.extension.GdlExtension;
+import org.neo4j.graphalgo.extension.GdlGraph;
+import org.neo4j.graphalgo.extension.Inject;
+import org.neo4j.graphalgo.extension.TestGraph;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@GdlExtension
+class GraphContractionTest {
+
+    @GdlGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a)" +
+        ", (b)" +
+        ", (c)" +
+        ", (d)" +
+        ", (e)" +
+        ", (a)-[:T {w: 1.0}]->(b)" +
+        ", (a)-[:T {w: 2.0}]->(c)" +
+        ", (b)-[:T {w: 3.0}]->(c)" +
+        ", (c)-[:T {w: 4.0}]->(d)" +
+        ", (d)-[:T {w: 5.0}]->(c)";
+
+    @Inject
+    private TestGraph graph;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldContractCommunities(int concurrency) {
+        var communities = new long[5];
+        communities[(int) graph.toMappedNodeId("a")] = 0;
+        communities[(int) graph.toMappedNodeId("b")] = 0;
+        communities[(int) graph.toMappedNodeId("c")] = 1;
+        communities[(int) graph.toMappedNodeId("d")] = 1;
+        communities[(int) graph.toMappedNodeId("e")] = 3;
+
+        var contracted = new GraphContraction(graph, concurrency, Pools.DEFAULT, AllocationTracker.empty())
+            .contract(nodeId -> communities[(int) nodeId], 3);
+
+        assertThat(contracted.nodeCount()).isEqualTo(3);
+        assertThat(contracted.relationshipCount()).isEqualTo(3);
+        assertThat(relationships(contracted)).isEqualTo(Map.of(
+            "0->0", 1.0,
+            "0->1", 5.0,
+            "1->1", 9.0
+        ));
+        assertThat(contracted.degree(contracted.toMappedNodeId(3))).isEqualTo(0);
+    }
+
+    private static Map<String, Double> relationships(Graph graph) {
+        var relationships = new HashMap<String, Double>();
+        graph.forEachNode(nodeId -> {
+            graph.forEachRelationship(nodeId, Double.NaN, (source, target, weight) -> {
+                relationships.put(
+                    graph.toOriginalNodeId(source) + "->" + graph.toOriginalNodeId(target),
+                    weight
+                );
+                return true;
+            });
+            return true;
+        });
+        return relationships;
+    }
+}
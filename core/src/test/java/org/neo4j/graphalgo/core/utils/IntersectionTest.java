@@ -23,7 +23,10 @@ import com.carrotsearch.hppc.LongHashSet;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.LongStream;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class IntersectionTest {
@@ -69,10 +72,55 @@ class IntersectionTest {
         }
     }
 
+    @Test
+    void intersection3WithSkewedSizes() {
+        var random = new Random(42);
+        for (int run = 0; run < 100; run++) {
+            long[] small = sortedRandomValues(random, 1 + random.nextInt(10), 10_000);
+            long[] large = sortedRandomValues(random, Intersections.GALLOPING_SIZE_RATIO * 20, 10_000);
+            long expected = Intersections.intersection4(small, large);
+
+            assertEquals(expected, Intersections.intersection3(small, large));
+            assertEquals(expected, Intersections.intersection3(large, small));
+        }
+    }
+
+    @Test
+    void getIntersectionOfLongs() {
+        var random = new Random(42);
+        for (int run = 0; run < 100; run++) {
+            long[] values1 = sortedRandomValues(random, random.nextInt(50), 100);
+            long[] values2 = sortedRandomValues(random, random.nextInt(5_000), 10_000);
+            long[] expected = LongStream.of(values1).filter(v -> Arrays.binarySearch(values2, v) >= 0).toArray();
+
+            long[] intersection = new long[Math.min(values1.length, values2.length)];
+            int count = Intersections.getIntersection(values1, values1.length, values2, values2.length, intersection);
+
+            assertArrayEquals(expected, Arrays.copyOf(intersection, count));
+        }
+    }
+
+    @Test
+    void gallopingSearch() {
+        long[] values = {1, 3, 3, 5, 8, 13, 21, 34, 55, 89};
+        for (int from = 0; from < values.length; from++) {
+            for (long key = 0; key < 100; key++) {
+                int expected = from;
+                while (expected < values.length && values[expected] < key) expected++;
+                assertEquals(expected, Intersections.gallopingSearch(values, from, values.length, key));
+            }
+        }
+        assertEquals(4, Intersections.gallopingSearch(values, 2, 4, 100));
+    }
+
     @Test
     void intersection4() {
         for (long[][] row : data) {
             assertEquals(row[2][0], Intersections.intersection4(row[0],row[1]), Arrays.toString(row));
         }
     }
+
+    private static long[] sortedRandomValues(Random random, int size, int bound) {
+        return random.longs(size, 0, bound).distinct().sorted().toArray();
+    }
 }
@@ -26,10 +26,15 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.concurrency.Pools;
 import org.neo4j.graphalgo.core.utils.partition.Partition;
 import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
 
 import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -153,6 +158,60 @@ class PartitionUtilsTest {
         assertEquals(3, partitions.get(0).nodeCount());
     }
 
+    @Test
+    void testDegreeBalancedPartitioning() {
+        Graph graph = fromGdl(
+            "(a)-->(b)" +
+            "(a)-->(c)" +
+            "(a)-->(d)" +
+            "(b)-->(c)" +
+            "(c)-->(d)" +
+            "(d)-->(a)"
+        );
+
+        var partitions = PartitionUtils.degreeBalancedPartition(graph, 2, 4, Pools.DEFAULT, Function.identity());
+        assertEquals(List.of(Partition.of(0, 1), Partition.of(1, 3)), partitions);
+    }
+
+    @Test
+    void testDegreeBalancedPartitioningWithMorePartitionsThanNodes() {
+        Graph graph = fromGdl(
+            "(a)-->(b)" +
+            "(a)-->(c)" +
+            "(b)-->(c)"
+        );
+
+        var partitions = PartitionUtils.degreeBalancedPartition(graph, 8, 4, Pools.DEFAULT, Function.identity());
+        assertEquals(List.of(Partition.of(0, 1), Partition.of(1, 2)), partitions);
+    }
+
+    @Test
+    void testDegreeBalancedPartitioningRunsOnGivenExecutor() throws InterruptedException {
+        StringBuilder gdl = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            gdl.append(formatWithLocale("(n%d)-->(n%d)", i, (i + 1) % 100));
+        }
+        Graph graph = fromGdl(gdl.toString());
+
+        var submittedTasks = new AtomicInteger();
+        var executor = new ThreadPoolExecutor(2, 2, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>()) {
+            @Override
+            public void execute(Runnable command) {
+                submittedTasks.incrementAndGet();
+                super.execute(command);
+            }
+        };
+
+        try {
+            var partitions = PartitionUtils.degreeBalancedPartition(graph, 4, 2, executor, Function.identity());
+            assertEquals(4, partitions.size());
+            assertTrue(submittedTasks.get() > 0);
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.SECONDS);
+        }
+    }
+
     static class TestTask implements Runnable {
 
         public final long start;
@@ -113,6 +113,18 @@ final class HugeAtomicDoubleArrayTest {
         });
     }
 
+    @Test
+    void testGetAndAdd() {
+        testArray(SIZE, aa -> {
+            for (int i = 0; i < SIZE; i++) {
+                aa.set(i, 1);
+                assertEquals(1, aa.getAndAdd(i, 41));
+                assertEquals(42, aa.getAndAdd(i, -84));
+                assertEquals(-42, aa.get(i));
+            }
+        });
+    }
+
     /**
      * compareAndSet succeeds in changing value if equal to expected else fails
      */
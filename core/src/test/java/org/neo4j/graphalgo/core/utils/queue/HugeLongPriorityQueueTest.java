@@ -23,6 +23,8 @@ import io.qala.datagen.RandomShortApi;
 import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.tuple.Tuples;
 import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryUsage;
 
 import java.util.ArrayList;
 import java.util.stream.Collectors;
@@ -42,6 +44,19 @@ class HugeLongPriorityQueueTest {
         assertEquals(queue.size(), 0);
     }
 
+    @Test
+    void shouldTrackAllocations() {
+        var capacity = integer(10, 20);
+        var tracker = AllocationTracker.create();
+        HugeLongPriorityQueue.min(capacity, tracker);
+
+        // the heap is 1-based and allocates one additional element
+        var expected = MemoryUsage.sizeOfLongArray(capacity + 1)
+                       + MemoryUsage.sizeOfDoubleArray(capacity)
+                       + MemoryUsage.sizeOfBitset(capacity);
+        assertEquals(expected, tracker.trackedBytes());
+    }
+
     @Test
     void testClear() {
         var maxSize = integer(3, 10);
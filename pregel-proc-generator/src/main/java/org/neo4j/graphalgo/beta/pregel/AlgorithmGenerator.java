@@ -34,6 +34,7 @@ import org.neo4j.logging.Log;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.util.Elements;
+import java.nio.file.Path;
 import java.util.Map;
 
 class AlgorithmGenerator extends PregelGenerator {
@@ -88,6 +89,7 @@ class AlgorithmGenerator extends PregelGenerator {
             .addParameter(pregelSpec.configTypeName(), "configuration")
             .addParameter(AllocationTracker.class, "tracker")
             .addParameter(Log.class, "log")
+            .addParameter(Path.class, "checkpointLocation")
             .addStatement(
                 CodeBlock.builder().addNamed(
                     "this.pregelJob = $pregel:T.create(" +
@@ -95,7 +97,9 @@ class AlgorithmGenerator extends PregelGenerator {
                     "configuration, " +
                     "new $computation:T(), " +
                     "$pools:T.DEFAULT," +
-                    "tracker" +
+                    "tracker, " +
+                    "log, " +
+                    "checkpointLocation" +
                     ")",
                     Map.of(
                         "pregel", Pregel.class,
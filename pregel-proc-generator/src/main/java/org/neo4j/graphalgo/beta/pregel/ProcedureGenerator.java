@@ -199,7 +199,10 @@ abstract class ProcedureGenerator extends PregelGenerator {
                 .addParameter(Log.class, "log")
                 .addParameter(ProgressEventTracker.class, "eventTracker")
                 .returns(algorithmClassName)
-                .addStatement("return new $T(graph, configuration, tracker, log)", algorithmClassName)
+                .addStatement(
+                    "return new $T(graph, configuration, tracker, log, checkpointLocation(configuration))",
+                    algorithmClassName
+                )
                 .build()
             )
             .addMethod(MethodSpec.methodBuilder("memoryEstimation")
@@ -19,6 +19,7 @@
  */
 package org.neo4j.graphalgo.beta.pregel.cc;
 
+import java.nio.file.Path;
 import javax.annotation.processing.Generated;
 import org.neo4j.graphalgo.Algorithm;
 import org.neo4j.graphalgo.api.Graph;
@@ -34,8 +35,8 @@ public final class ComputationAlgorithm extends Algorithm<ComputationAlgorithm,
     private final Pregel<PregelProcedureConfig> pregelJob;
 
     ComputationAlgorithm(Graph graph, PregelProcedureConfig configuration, AllocationTracker tracker,
-            Log log) {
-        this.pregelJob = Pregel.create(graph, configuration, new Computation(), Pools.DEFAULT,tracker);
+            Log log, Path checkpointLocation) {
+        this.pregelJob = Pregel.create(graph, configuration, new Computation(), Pools.DEFAULT,tracker, log, checkpointLocation);
     }
 
     @Override
@@ -87,7 +87,7 @@ public final class ComputationStatsProc extends PregelStatsProc<ComputationAlgor
             @Override
             public ComputationAlgorithm build(Graph graph, PregelProcedureConfig configuration,
                     AllocationTracker tracker, Log log, ProgressEventTracker eventTracker) {
-                return new ComputationAlgorithm(graph, configuration, tracker, log);
+                return new ComputationAlgorithm(graph, configuration, tracker, log, checkpointLocation(configuration));
             }
 
             @Override
@@ -83,7 +83,7 @@ public final class ComputationStreamProc extends PregelStreamProc<ComputationAlg
             @Override
             public ComputationAlgorithm build(Graph graph, PregelProcedureConfig configuration,
                     AllocationTracker tracker, Log log, ProgressEventTracker eventTracker) {
-                return new ComputationAlgorithm(graph, configuration, tracker, log);
+                return new ComputationAlgorithm(graph, configuration, tracker, log, checkpointLocation(configuration));
             }
 
             @Override
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.kcore;
+
+import org.neo4j.graphalgo.AlgoBaseProc;
+import org.neo4j.graphalgo.api.NodeProperties;
+import org.neo4j.graphalgo.result.AbstractResultBuilder;
+
+final class KCoreDecompositionCompanion {
+
+    static final String DESCRIPTION =
+        "The k-core decomposition assigns to every node the largest k " +
+        "such that the node is part of a subgraph in which all nodes have a degree of at least k.";
+
+    private KCoreDecompositionCompanion() {}
+
+    static <CONFIG extends KCoreDecompositionConfig> NodeProperties nodeProperties(
+        AlgoBaseProc.ComputationResult<KCoreDecomposition, KCoreDecomposition.KCoreResult, CONFIG> computeResult
+    ) {
+        return computeResult.result().asNodeProperties();
+    }
+
+    static <PROC_RESULT, CONFIG extends KCoreDecompositionConfig> AbstractResultBuilder<PROC_RESULT> resultBuilder(
+        KCoreResultBuilder<PROC_RESULT> procResultBuilder,
+        AlgoBaseProc.ComputationResult<KCoreDecomposition, KCoreDecomposition.KCoreResult, CONFIG> computeResult
+    ) {
+        return procResultBuilder.withDegeneracy(computeResult.isGraphEmpty() ? 0 : computeResult.result().degeneracy());
+    }
+
+    abstract static class KCoreResultBuilder<PROC_RESULT> extends AbstractResultBuilder<PROC_RESULT> {
+
+        long degeneracy = 0;
+
+        KCoreResultBuilder<PROC_RESULT> withDegeneracy(long degeneracy) {
+            this.degeneracy = degeneracy;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.kcore;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.neo4j.graphalgo.AbstractRelationshipProjections;
+import org.neo4j.graphalgo.AlgoBaseProcTest;
+import org.neo4j.graphalgo.BaseProcTest;
+import org.neo4j.graphalgo.GdsCypher;
+import org.neo4j.graphalgo.HeapControlTest;
+import org.neo4j.graphalgo.MemoryEstimateTest;
+import org.neo4j.graphalgo.OnlyUndirectedTest;
+import org.neo4j.graphalgo.Orientation;
+import org.neo4j.graphalgo.RelationshipProjections;
+import org.neo4j.graphalgo.catalog.GraphCreateProc;
+import org.neo4j.graphalgo.catalog.GraphWriteNodePropertiesProc;
+import org.neo4j.graphalgo.core.CypherMapWrapper;
+import org.neo4j.graphalgo.core.loading.GraphStoreCatalog;
+import org.neo4j.graphalgo.extension.Neo4jGraph;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.neo4j.graphalgo.config.GraphCreateFromCypherConfig.ALL_RELATIONSHIPS_UNDIRECTED_QUERY;
+import static org.neo4j.graphalgo.config.GraphCreateFromCypherConfig.RELATIONSHIP_QUERY_KEY;
+import static org.neo4j.graphalgo.config.GraphCreateFromStoreConfig.RELATIONSHIP_PROJECTION_KEY;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+abstract class KCoreDecompositionBaseProcTest<CONFIG extends KCoreDecompositionConfig> extends BaseProcTest
+    implements AlgoBaseProcTest<KCoreDecomposition, CONFIG, KCoreDecomposition.KCoreResult>,
+    OnlyUndirectedTest<KCoreDecomposition, CONFIG, KCoreDecomposition.KCoreResult>,
+    MemoryEstimateTest<KCoreDecomposition, CONFIG, KCoreDecomposition.KCoreResult>,
+    HeapControlTest<KCoreDecomposition, CONFIG, KCoreDecomposition.KCoreResult> {
+
+    // a, b and c form the 2-core, d only belongs to the 1-core
+    @Neo4jGraph
+    public static final String DB_CYPHER = "CREATE " +
+           "(a:A { name: 'a' })-[:T]->(b:A { name: 'b' }), " +
+           "(b)-[:T]->(c:A { name: 'c' }), " +
+           "(c)-[:T]->(a), " +
+           "(a)-[:T]->(d:A { name: 'd' })";
+
+    protected static final String TEST_GRAPH_NAME = "g";
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(
+            GraphCreateProc.class,
+            GraphWriteNodePropertiesProc.class,
+            getProcedureClazz()
+        );
+
+        runQuery(formatWithLocale("CALL gds.graph.create('%s', 'A', {T: { orientation: 'UNDIRECTED'}})", TEST_GRAPH_NAME));
+    }
+
+    @AfterEach
+    void tearDown() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @Override
+    public GraphDatabaseAPI graphDb() {
+        return db;
+    }
+
+    @Override
+    public void assertResultEquals(KCoreDecomposition.KCoreResult result1, KCoreDecomposition.KCoreResult result2) {
+        assertEquals(result1.degeneracy(), result2.degeneracy());
+        assertArrayEquals(result1.coreValues().toArray(), result2.coreValues().toArray());
+    }
+
+    @Override
+    public RelationshipProjections relationshipProjections() {
+        return AbstractRelationshipProjections.ALL_UNDIRECTED;
+    }
+
+    @Override
+    public CypherMapWrapper createMinimalImplicitConfig(CypherMapWrapper mapWrapper) {
+        if (mapWrapper.containsKey(RELATIONSHIP_PROJECTION_KEY) || mapWrapper.containsKey(RELATIONSHIP_QUERY_KEY)) {
+            return createMinimalConfig(CypherMapWrapper.create(anonymousGraphConfig(mapWrapper.toMap())));
+        }
+
+        return createMinimalConfig(CypherMapWrapper.create(anonymousGraphConfig(mapWrapper
+            .withEntry(RELATIONSHIP_PROJECTION_KEY, relationshipProjections())
+            .toMap())));
+    }
+
+    @Override
+    public String relationshipQuery() {
+        return ALL_RELATIONSHIPS_UNDIRECTED_QUERY;
+    }
+
+    @Override
+    public void loadGraph(String graphName) {
+        String graphCreateQuery = GdsCypher.call()
+            .withAnyLabel()
+            .withRelationshipType("T", Orientation.UNDIRECTED)
+            .graphCreate(graphName)
+            .yields();
+
+        runQuery(graphCreateQuery);
+    }
+}
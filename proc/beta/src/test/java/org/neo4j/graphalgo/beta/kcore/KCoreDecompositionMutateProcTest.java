@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.kcore;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.AlgoBaseProc;
+import org.neo4j.graphalgo.GdsCypher;
+import org.neo4j.graphalgo.MutateNodePropertyTest;
+import org.neo4j.graphalgo.api.nodeproperties.ValueType;
+import org.neo4j.graphalgo.core.CypherMapWrapper;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.isA;
+
+class KCoreDecompositionMutateProcTest
+    extends KCoreDecompositionBaseProcTest<KCoreDecompositionMutateConfig>
+    implements MutateNodePropertyTest<KCoreDecomposition, KCoreDecompositionMutateConfig, KCoreDecomposition.KCoreResult> {
+
+    @Override
+    public String mutateProperty() {
+        return "coreValue";
+    }
+
+    @Override
+    public ValueType mutatePropertyType() {
+        return ValueType.LONG;
+    }
+
+    @Override
+    public String expectedMutatedGraph() {
+        return
+            "  (a { coreValue: 2 })" +
+            ", (b { coreValue: 2 })" +
+            ", (c { coreValue: 2 })" +
+            ", (d { coreValue: 1 })" +
+            // Graph is UNDIRECTED, e.g. each rel twice
+            ", (a)-->(b)" +
+            ", (b)-->(a)" +
+            ", (b)-->(c)" +
+            ", (c)-->(b)" +
+            ", (a)-->(c)" +
+            ", (c)-->(a)" +
+            ", (a)-->(d)" +
+            ", (d)-->(a)";
+    }
+
+    @Test
+    void testMutateYields() {
+        String query = GdsCypher
+            .call()
+            .explicitCreation(TEST_GRAPH_NAME)
+            .algo("gds.beta.kcore")
+            .mutateMode()
+            .addParameter("mutateProperty", mutateProperty())
+            .yields();
+
+        assertCypherResult(query, List.of(Map.of(
+            "degeneracy", 2L,
+            "nodeCount", 4L,
+            "createMillis", greaterThan(-1L),
+            "computeMillis", greaterThan(-1L),
+            "postProcessingMillis", greaterThan(-1L),
+            "configuration", isA(Map.class),
+            "mutateMillis", greaterThan(-1L),
+            "nodePropertiesWritten", 4L
+        )));
+    }
+
+    @Override
+    public Class<? extends AlgoBaseProc<KCoreDecomposition, KCoreDecomposition.KCoreResult, KCoreDecompositionMutateConfig>> getProcedureClazz() {
+        return KCoreDecompositionMutateProc.class;
+    }
+
+    @Override
+    public KCoreDecompositionMutateConfig createConfig(CypherMapWrapper mapWrapper) {
+        return KCoreDecompositionMutateConfig.of(
+            getUsername(),
+            Optional.empty(),
+            Optional.empty(),
+            mapWrapper
+        );
+    }
+}
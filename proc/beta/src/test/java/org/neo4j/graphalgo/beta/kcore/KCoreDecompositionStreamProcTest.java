@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.kcore;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.AlgoBaseProc;
+import org.neo4j.graphalgo.core.CypherMapWrapper;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class KCoreDecompositionStreamProcTest extends KCoreDecompositionBaseProcTest<KCoreDecompositionStreamConfig> {
+
+    @Test
+    void testStreaming() {
+        var query = "CALL gds.beta.kcore.stream('g') " +
+                    "YIELD nodeId, coreValue " +
+                    "MATCH (n) WHERE id(n) = nodeId " +
+                    "RETURN n.name AS name, coreValue";
+
+        var coreValues = new HashMap<String, Long>();
+        runQueryWithRowConsumer(query, row -> coreValues.put(
+            row.getString("name"),
+            row.getNumber("coreValue").longValue()
+        ));
+
+        assertEquals(Map.of("a", 2L, "b", 2L, "c", 2L, "d", 1L), coreValues);
+    }
+
+    @Override
+    public Class<? extends AlgoBaseProc<KCoreDecomposition, KCoreDecomposition.KCoreResult, KCoreDecompositionStreamConfig>> getProcedureClazz() {
+        return KCoreDecompositionStreamProc.class;
+    }
+
+    @Override
+    public KCoreDecompositionStreamConfig createConfig(CypherMapWrapper mapWrapper) {
+        return KCoreDecompositionStreamConfig.of(
+            getUsername(),
+            Optional.empty(),
+            Optional.empty(),
+            mapWrapper
+        );
+    }
+}
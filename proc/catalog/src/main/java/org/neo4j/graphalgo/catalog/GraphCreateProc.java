@@ -206,13 +206,9 @@ public class GraphCreateProc extends CatalogProc {
 
         var progressTimer = ProgressTimer.start();
 
-        var graphStore = GraphStoreFilter.filter(
-            fromGraphStore,
-            config,
-            Pools.DEFAULT,
-            log,
-            allocationTracker()
-        );
+        var graphStore = config.view()
+            ? GraphStoreFilter.view(fromGraphStore, config, Pools.DEFAULT, allocationTracker())
+            : GraphStoreFilter.filter(fromGraphStore, config, Pools.DEFAULT, log, allocationTracker());
 
         GraphStoreCatalog.set(config, graphStore);
 
@@ -36,6 +36,7 @@ import java.util.Map;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.neo4j.graphalgo.compat.MapUtil.map;
 
@@ -185,6 +186,21 @@ class GraphCreateProcEstimateTest extends BaseProcTest {
         );
     }
 
+    @Test
+    void computeMemoryEstimationForVirtualGraphWithNodeOrdering() {
+        String query = "CALL gds.graph.create.estimate('*', '*', {nodeCount: 42, relationshipCount: 1337})";
+        String orderedQuery = "CALL gds.graph.create.estimate('*', '*', {nodeCount: 42, relationshipCount: 1337, nodeOrdering: 'REVERSE_CUTHILL_MCKEE'})";
+
+        long bytes = runQuery(query, result -> result.<Number>columnAs("bytesMin").next().longValue());
+        runQueryWithRowConsumer(orderedQuery,
+            row -> {
+                // the reordered copy is built while the loaded graph store is still held
+                assertThat(row.getNumber("bytesMin").longValue()).isGreaterThan(2 * bytes);
+                assertThat(row.getString("treeView")).contains("reordered graph store", "node ordering", "old to new");
+            }
+        );
+    }
+
     @Test
     void computeMemoryEstimationForVirtualGraphWithProperties() throws Exception {
         String query = "CALL gds.graph.create.estimate('*', {`FOO`: {type: '*', properties: 'weight'}}, {nodeCount: 42, relationshipCount: 1337})";
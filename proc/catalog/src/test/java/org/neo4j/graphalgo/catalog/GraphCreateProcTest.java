@@ -1408,6 +1408,53 @@ class GraphCreateProcTest extends BaseProcTest {
         assertGraphDoesNotExist(name);
     }
 
+    @Test
+    void createNativeProjectionWithNodeOrdering() {
+        Map<String, Object> relProjection = map("REL", map(TYPE_KEY, "REL", ORIENTATION_KEY, "REVERSE"));
+
+        runQuery("CALL gds.graph.create('ordered', 'A', $relProjection, {nodeOrdering: 'DEGREE'})", map("relProjection", relProjection));
+        runQuery("CALL gds.graph.create('unordered', 'A', $relProjection)", map("relProjection", relProjection));
+
+        var ordered = GraphStoreCatalog.get(getUsername(), db.databaseId(), "ordered").graphStore().getUnion();
+        var unordered = GraphStoreCatalog.get(getUsername(), db.databaseId(), "unordered").graphStore().getUnion();
+
+        // the target of the single relationship has the highest degree and becomes the first node
+        assertEquals(1, ordered.degree(0));
+        assertEquals(0, ordered.degree(1));
+        assertEquals(0, unordered.degree(0));
+        assertEquals(unordered.toOriginalNodeId(1), ordered.toOriginalNodeId(0));
+        assertGraphEquals(unordered, ordered);
+    }
+
+    @Test
+    void createCypherProjectionWithNodeOrdering() {
+        runQuery(
+            "CALL gds.graph.create.cypher('ordered', $nodeQuery, $relationshipQuery, {nodeOrdering: 'REVERSE_CUTHILL_MCKEE'})",
+            map("nodeQuery", ALL_NODES_QUERY, "relationshipQuery", ALL_RELATIONSHIPS_QUERY)
+        );
+
+        var graphStore = GraphStoreCatalog.get(getUsername(), db.databaseId(), "ordered").graphStore();
+        assertEquals(2, graphStore.nodeCount());
+        assertEquals(1, graphStore.relationshipCount());
+    }
+
+    @Test
+    void failsOnInvalidNodeOrdering() {
+        assertError(
+            "CALL gds.graph.create('g', 'A', 'REL', {nodeOrdering: 'INVALID'})",
+            "Node ordering `INVALID` is not supported."
+        );
+        assertError(
+            "CALL gds.graph.create('g', 'A', 'REL', {nodeOrdering: 'COMMUNITY'})",
+            "Community ordering requires a community property."
+        );
+        assertError(
+            "CALL gds.graph.create('g', 'A', 'REL', {nodeOrdering: 'COMMUNITY', nodeOrderingProperty: 'age'})",
+            "Community ordering requires the node property `age` to be present for all node labels."
+        );
+        assertGraphDoesNotExist("g");
+    }
+
     @Test
     void cypherCreationShouldNotReturnProjections() {
         runQueryWithResultConsumer("CALL gds.graph.create.cypher('test', '*', '*')", result -> {
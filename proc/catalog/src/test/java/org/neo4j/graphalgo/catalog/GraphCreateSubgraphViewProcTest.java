@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.catalog;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.BaseProcTest;
+import org.neo4j.graphalgo.NodeLabel;
+import org.neo4j.graphalgo.beta.filter.GraphStoreView;
+import org.neo4j.graphalgo.core.loading.GraphStoreCatalog;
+import org.neo4j.graphalgo.extension.Neo4jGraph;
+import org.neo4j.graphalgo.triangle.LocalClusteringCoefficientStreamProc;
+import org.neo4j.graphalgo.triangle.TriangleCountStreamProc;
+import org.neo4j.graphalgo.wcc.WccMutateProc;
+import org.neo4j.graphalgo.wcc.WccStreamProc;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GraphCreateSubgraphViewProcTest extends BaseProcTest {
+
+    @Neo4jGraph
+    public static final String DB =
+        "CREATE" +
+        "  (a:A {prop: 1})" +
+        ", (b:A {prop: 2})" +
+        ", (c:A {prop: 3})" +
+        ", (d:B {prop: 4})" +
+        ", (e:A {prop: 5})" +
+        ", (a)-[:REL {w: 1.0}]->(b)" +
+        ", (b)-[:REL {w: 1.0}]->(c)" +
+        ", (c)-[:REL {w: 1.0}]->(a)" +
+        ", (c)-[:REL {w: 5.0}]->(d)" +
+        ", (d)-[:REL {w: 1.0}]->(e)" +
+        ", (c)-[:REL {w: 5.0}]->(e)";
+
+    private static final String CREATE_VIEW_QUERY =
+        "CALL gds.beta.graph.create.subgraph('view', 'graph', 'n:A', 'r.w < 2.0', {view: true})";
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(
+            GraphCreateProc.class,
+            GraphDropProc.class,
+            GraphStreamNodePropertiesProc.class,
+            WccStreamProc.class,
+            WccMutateProc.class,
+            TriangleCountStreamProc.class,
+            LocalClusteringCoefficientStreamProc.class
+        );
+
+        runQuery(
+            "CALL gds.graph.create('graph', ['A', 'B'], $relationshipProjection, {nodeProperties: 'prop'})",
+            Map.of("relationshipProjection", Map.of(
+                "REL", Map.of("orientation", "UNDIRECTED", "properties", "w")
+            ))
+        );
+        runQuery(CREATE_VIEW_QUERY);
+    }
+
+    @AfterEach
+    void tearDown() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @Test
+    void createsView() {
+        var graphStore = GraphStoreCatalog.get(getUsername(), db.databaseId(), "view").graphStore();
+
+        assertThat(graphStore).isInstanceOf(GraphStoreView.class);
+        assertEquals(4, graphStore.nodeCount());
+        // (a)-(b), (b)-(c) and (c)-(a) in both directions
+        assertEquals(6, graphStore.relationshipCount());
+    }
+
+    @Test
+    void streamOnView() {
+        runQueryWithRowConsumer(
+            "CALL gds.wcc.stream('view') YIELD componentId RETURN count(DISTINCT componentId) AS components",
+            row -> assertEquals(2L, row.getNumber("components").longValue())
+        );
+    }
+
+    @Test
+    void mutateOnView() {
+        runQueryWithRowConsumer(
+            "CALL gds.wcc.mutate('view', {mutateProperty: 'component'}) YIELD nodePropertiesWritten, componentCount",
+            row -> {
+                assertEquals(4L, row.getNumber("nodePropertiesWritten").longValue());
+                assertEquals(2L, row.getNumber("componentCount").longValue());
+            }
+        );
+
+        runQueryWithRowConsumer(
+            "CALL gds.graph.streamNodeProperty('view', 'component') YIELD propertyValue " +
+            "RETURN count(*) AS nodes, count(DISTINCT propertyValue) AS components",
+            row -> {
+                assertEquals(4L, row.getNumber("nodes").longValue());
+                assertEquals(2L, row.getNumber("components").longValue());
+            }
+        );
+
+        var parent = GraphStoreCatalog.get(getUsername(), db.databaseId(), "graph").graphStore();
+        assertFalse(parent.hasNodeProperty(NodeLabel.of("A"), "component"));
+    }
+
+    @Test
+    void failOnMutatingParentPropertyOfView() {
+        assertError(
+            "CALL gds.wcc.mutate('view', {mutateProperty: 'prop'})",
+            "Node property `prop` already exists in the in-memory graph."
+        );
+    }
+
+    @Test
+    void triangleCountOnView() {
+        // the relationship filter removes (c)-(d) and (c)-(e), the node filter removes (d)
+        assertCypherResult(
+            "CALL gds.triangleCount.stream('view') YIELD triangleCount " +
+            "RETURN triangleCount ORDER BY triangleCount",
+            List.of(
+                Map.of("triangleCount", 0L),
+                Map.of("triangleCount", 1L),
+                Map.of("triangleCount", 1L),
+                Map.of("triangleCount", 1L)
+            )
+        );
+    }
+
+    @Test
+    void localClusteringCoefficientOnView() {
+        runQueryWithRowConsumer(
+            "CALL gds.localClusteringCoefficient.stream('view') YIELD localClusteringCoefficient " +
+            "RETURN sum(localClusteringCoefficient) AS sum",
+            row -> assertEquals(3.0, row.getNumber("sum").doubleValue(), 1e-9)
+        );
+    }
+
+    @Test
+    void runOnViewAfterDroppingParent() {
+        runQuery("CALL gds.graph.drop('graph')");
+
+        assertFalse(GraphStoreCatalog.exists(getUsername(), db.databaseId(), "graph"));
+        assertTrue(GraphStoreCatalog.exists(getUsername(), db.databaseId(), "view"));
+
+        runQueryWithRowConsumer(
+            "CALL gds.wcc.stream('view') YIELD componentId RETURN count(DISTINCT componentId) AS components",
+            row -> assertEquals(2L, row.getNumber("components").longValue())
+        );
+        assertCypherResult(
+            "CALL gds.triangleCount.stream('view') YIELD triangleCount RETURN sum(triangleCount) AS triangles",
+            List.of(Map.of("triangles", 3L))
+        );
+
+        runQuery("CALL gds.graph.drop('view')");
+        assertFalse(GraphStoreCatalog.exists(getUsername(), db.databaseId(), "view"));
+    }
+}
@@ -108,6 +108,8 @@ public class BetweennessCentralityMutateProc extends MutatePropertyProc<Betweenn
             double scoreSum,
             double minimumScore,
             double maximumScore,
+            long sampledPairs,
+            @Nullable Double approximationError,
             Map<String, Object> config
         ) {
             super(
@@ -115,6 +117,8 @@ public class BetweennessCentralityMutateProc extends MutatePropertyProc<Betweenn
                 scoreSum,
                 minimumScore,
                 maximumScore,
+                sampledPairs,
+                approximationError,
                 createMillis,
                 computeMillis,
                 postProcessingMillis,
@@ -142,6 +146,8 @@ public class BetweennessCentralityMutateProc extends MutatePropertyProc<Betweenn
                     sumCentrality,
                     minCentrality,
                     maxCentrality,
+                    sampledPairs,
+                    approximationError,
                     config.toMap()
                 );
             }
@@ -19,6 +19,7 @@
  */
 package org.neo4j.graphalgo.betweenness;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.graphalgo.AlgoBaseProc;
 import org.neo4j.graphalgo.AlgorithmFactory;
 import org.neo4j.graphalgo.api.NodeProperties;
@@ -71,6 +72,12 @@ final class BetweennessCentralityProc {
             }
 
             procResultBuilder.withCentralityFunction(computeResult.result()::get);
+
+            if (computeResult.config().isApproximation()) {
+                procResultBuilder
+                    .sampledPairs(computeResult.algorithm().sampledPairs())
+                    .approximationError(computeResult.algorithm().approximationError());
+            }
         }
         return procResultBuilder;
     }
@@ -79,6 +86,8 @@ final class BetweennessCentralityProc {
         double minCentrality = -1;
         double maxCentrality = -1;
         double sumCentrality = -1;
+        long sampledPairs = 0;
+        @Nullable Double approximationError = null;
         boolean computeDeprecatedStats;
 
         BetweennessCentralityResultBuilder(ProcedureCallContext callContext, int concurrency) {
@@ -102,5 +111,15 @@ final class BetweennessCentralityProc {
             this.sumCentrality = sumCentrality;
             return this;
         }
+
+        BetweennessCentralityResultBuilder<PROC_RESULT> sampledPairs(long sampledPairs) {
+            this.sampledPairs = sampledPairs;
+            return this;
+        }
+
+        BetweennessCentralityResultBuilder<PROC_RESULT> approximationError(double approximationError) {
+            this.approximationError = approximationError;
+            return this;
+        }
     }
 }
@@ -102,12 +102,16 @@ public class BetweennessCentralityStatsProc extends StatsProc<BetweennessCentral
         public final double maximumScore;
         @Deprecated
         public final double scoreSum;
+        public final long sampledPairs;
+        public final @Nullable Double approximationError;
 
         StatsResult(
             @Nullable Map<String, Object> centralityDistribution,
             double scoreSum,
             double minimumScore,
             double maximumScore,
+            long sampledPairs,
+            @Nullable Double approximationError,
             long createMillis,
             long computeMillis,
             long postProcessingMillis,
@@ -118,6 +122,8 @@ public class BetweennessCentralityStatsProc extends StatsProc<BetweennessCentral
             this.maximumScore = maximumScore;
             this.minimumScore = minimumScore;
             this.scoreSum = scoreSum;
+            this.sampledPairs = sampledPairs;
+            this.approximationError = approximationError;
         }
 
         static final class Builder extends BetweennessCentralityProc.BetweennessCentralityResultBuilder<StatsResult> {
@@ -132,6 +138,8 @@ public class BetweennessCentralityStatsProc extends StatsProc<BetweennessCentral
                     sumCentrality,
                     minCentrality,
                     maxCentrality,
+                    sampledPairs,
+                    approximationError,
                     createMillis,
                     computeMillis,
                     postProcessingMillis,
@@ -111,9 +111,11 @@ public class BetweennessCentralityWriteProc extends WriteProc<BetweennessCentral
             double sumCentrality,
             double minCentrality,
             double maxCentrality,
+            long sampledPairs,
+            @Nullable Double approximationError,
             Map<String, Object> config
         ) {
-            super(centralityDistribution, sumCentrality, minCentrality, maxCentrality, createMillis, computeMillis, postProcessingMillis, config);
+            super(centralityDistribution, sumCentrality, minCentrality, maxCentrality, sampledPairs, approximationError, createMillis, computeMillis, postProcessingMillis, config);
             this.nodePropertiesWritten = nodePropertiesWritten;
             this.writeMillis = writeMillis;
         }
@@ -136,6 +138,8 @@ public class BetweennessCentralityWriteProc extends WriteProc<BetweennessCentral
                     sumCentrality,
                     minCentrality,
                     maxCentrality,
+                    sampledPairs,
+                    approximationError,
                     config.toMap()
                 );
             }
@@ -30,6 +30,7 @@ import java.util.Optional;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
@@ -72,6 +73,25 @@ public class BetweennessCentralityStatsProcTest extends BetweennessCentralityPro
         });
     }
 
+    @Test
+    void testStatsWithApproximation() {
+        String query = GdsCypher
+            .call()
+            .withAnyLabel()
+            .withAnyRelationshipType()
+            .algo("betweenness")
+            .statsMode()
+            .addParameter("epsilon", 0.1)
+            .addParameter("samplingSeed", 42L)
+            .yields("centralityDistribution", "sampledPairs", "approximationError");
+
+        runQueryWithRowConsumer(query, row -> {
+            assertNotNull(row.get("centralityDistribution"));
+            assertThat(0L, lessThan(row.getNumber("sampledPairs").longValue()));
+            assertThat(row.getNumber("approximationError").doubleValue(), lessThanOrEqualTo(0.1));
+        });
+    }
+
     @Test
     void testStatsWithDeprecatedFields() {
         String query = GdsCypher
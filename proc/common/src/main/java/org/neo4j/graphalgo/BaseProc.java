@@ -22,6 +22,7 @@ package org.neo4j.graphalgo;
 import org.neo4j.graphalgo.api.GraphLoaderContext;
 import org.neo4j.graphalgo.api.GraphStoreFactory;
 import org.neo4j.graphalgo.api.ImmutableGraphLoaderContext;
+import org.neo4j.graphalgo.beta.reorder.GraphStoreReordering;
 import org.neo4j.graphalgo.config.BaseConfig;
 import org.neo4j.graphalgo.config.GraphCreateConfig;
 import org.neo4j.graphalgo.config.GraphCreateFromStoreConfig;
@@ -245,8 +246,12 @@ public abstract class BaseProc {
             estimateDimensions = graphStoreFactory.estimationDimensions();
         }
 
+        var memoryEstimation = config.nodeOrdering() == null
+            ? graphStoreFactory.memoryEstimation()
+            : GraphStoreReordering.memoryEstimation(graphStoreFactory.memoryEstimation(), config.nodeOrdering());
+
         return ImmutableMemoryEstimationWithDimensions.builder()
-            .memoryEstimation(graphStoreFactory.memoryEstimation())
+            .memoryEstimation(memoryEstimation)
             .graphDimensions(estimateDimensions)
             .build();
     }
@@ -19,14 +19,20 @@
  */
 package org.neo4j.graphalgo.beta.pregel;
 
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.configuration.Config;
 import org.neo4j.graphalgo.AlgoBaseProc;
 import org.neo4j.graphalgo.Algorithm;
 import org.neo4j.graphalgo.api.NodeProperties;
 import org.neo4j.graphalgo.api.nodeproperties.DoubleArrayNodeProperties;
 import org.neo4j.graphalgo.api.nodeproperties.LongArrayNodeProperties;
+import org.neo4j.graphalgo.compat.GraphDatabaseApiProxy;
+import org.neo4j.graphalgo.compat.PregelCheckpointSettings;
 import org.neo4j.graphalgo.core.write.ImmutableNodeProperty;
 import org.neo4j.graphalgo.core.write.NodePropertyExporter;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
 
+import java.nio.file.Path;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -75,6 +81,28 @@ final class PregelBaseProc {
             }).collect(Collectors.toList());
     }
 
+    /**
+     * Returns the server-side location below which the checkpoints of the computation are stored,
+     * or {@code null} if the computation does not use checkpoints.
+     */
+    static @Nullable Path checkpointLocation(GraphDatabaseAPI api, PregelConfig config) {
+        if (config.checkpointDirectory() == null) {
+            return null;
+        }
+
+        var neo4jConfig = GraphDatabaseApiProxy.resolveDependency(api, Config.class);
+        var checkpointLocation = neo4jConfig.get(PregelCheckpointSettings.checkpoint_location_setting);
+
+        if (checkpointLocation == null) {
+            throw new RuntimeException(formatWithLocale(
+                "The configuration option '%s' must be set.",
+                PregelCheckpointSettings.checkpoint_location_setting.name()
+            ));
+        }
+
+        return checkpointLocation;
+    }
+
     private PregelBaseProc() {}
 
 }
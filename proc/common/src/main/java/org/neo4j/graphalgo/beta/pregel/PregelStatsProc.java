@@ -19,12 +19,18 @@
  */
 package org.neo4j.graphalgo.beta.pregel;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.graphalgo.Algorithm;
 import org.neo4j.graphalgo.StatsProc;
 
+import java.nio.file.Path;
+
 public abstract class PregelStatsProc<
     ALGO extends Algorithm<ALGO, PregelResult>,
     CONFIG extends PregelProcedureConfig>
     extends StatsProc<ALGO, PregelResult, PregelStatsResult, CONFIG> {
 
+    protected @Nullable Path checkpointLocation(CONFIG config) {
+        return PregelBaseProc.checkpointLocation(api, config);
+    }
 }
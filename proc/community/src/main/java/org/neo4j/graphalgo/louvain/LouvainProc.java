@@ -20,6 +20,7 @@
 package org.neo4j.graphalgo.louvain;
 
 import org.neo4j.graphalgo.AlgoBaseProc;
+import org.neo4j.graphalgo.Algorithm;
 import org.neo4j.graphalgo.CommunityProcCompanion;
 import org.neo4j.graphalgo.api.NodeProperties;
 import org.neo4j.graphalgo.api.nodeproperties.LongArrayNodeProperties;
@@ -33,10 +34,13 @@ final class LouvainProc {
     static final String LOUVAIN_DESCRIPTION =
         "The Louvain method for community detection is an algorithm for detecting communities in networks.";
 
+    static final String LEIDEN_DESCRIPTION =
+        "The Leiden method for community detection refines the communities of the Louvain method to guarantee well-connected communities.";
+
     private LouvainProc() {}
 
-    static <CONFIG extends LouvainBaseConfig> NodeProperties nodeProperties(
-        AlgoBaseProc.ComputationResult<Louvain, Louvain, CONFIG> computationResult,
+    static <ALGO extends Algorithm<ALGO, RESULT>, RESULT extends HierarchicalCommunities, CONFIG extends LouvainBaseConfig> NodeProperties nodeProperties(
+        AlgoBaseProc.ComputationResult<ALGO, RESULT, CONFIG> computationResult,
         String resultProperty,
         AllocationTracker tracker
     ) {
@@ -54,11 +58,11 @@ final class LouvainProc {
         }
     }
 
-    static <PROC_RESULT, CONFIG extends LouvainBaseConfig> AbstractResultBuilder<PROC_RESULT> resultBuilder(
+    static <PROC_RESULT, ALGO extends Algorithm<ALGO, RESULT>, RESULT extends HierarchicalCommunities, CONFIG extends LouvainBaseConfig> AbstractResultBuilder<PROC_RESULT> resultBuilder(
         LouvainResultBuilder<PROC_RESULT> procResultBuilder,
-        AlgoBaseProc.ComputationResult<Louvain, Louvain, CONFIG> computeResult
+        AlgoBaseProc.ComputationResult<ALGO, RESULT, CONFIG> computeResult
     ) {
-        Louvain result = computeResult.result();
+        RESULT result = computeResult.result();
         boolean nonEmpty = !computeResult.isGraphEmpty();
 
         return procResultBuilder
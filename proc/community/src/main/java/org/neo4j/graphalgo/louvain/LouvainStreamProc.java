@@ -21,6 +21,7 @@ package org.neo4j.graphalgo.louvain;
 
 import org.jetbrains.annotations.Nullable;
 import org.neo4j.graphalgo.AlgoBaseProc;
+import org.neo4j.graphalgo.Algorithm;
 import org.neo4j.graphalgo.AlgorithmFactory;
 import org.neo4j.graphalgo.StreamProc;
 import org.neo4j.graphalgo.api.Graph;
@@ -81,22 +82,26 @@ public class LouvainStreamProc extends StreamProc<Louvain, Louvain, LouvainStrea
 
     @Override
     protected Stream<StreamResult> stream(AlgoBaseProc.ComputationResult<Louvain, Louvain, LouvainStreamConfig> computationResult) {
-        return runWithExceptionLogging("Graph streaming failed", () -> {
-            Graph graph = computationResult.graph();
+        return runWithExceptionLogging("Graph streaming failed", () -> streamResults(computationResult));
+    }
 
-            return LongStream
-                .range(0, graph.nodeCount())
-                .boxed()
-                .map((nodeId) -> {
-                    boolean includeIntermediateCommunities = computationResult
-                        .config()
-                        .includeIntermediateCommunities();
-                    Louvain louvain = computationResult.result();
-                    long[] communities = includeIntermediateCommunities ? louvain.getCommunities(nodeId) : null;
-
-                    return new StreamResult(graph.toOriginalNodeId(nodeId), communities, louvain.getCommunity(nodeId));
-                });
-        });
+    static <ALGO extends Algorithm<ALGO, RESULT>, RESULT extends HierarchicalCommunities, CONFIG extends LouvainBaseConfig> Stream<StreamResult> streamResults(
+        AlgoBaseProc.ComputationResult<ALGO, RESULT, CONFIG> computationResult
+    ) {
+        Graph graph = computationResult.graph();
+
+        return LongStream
+            .range(0, graph.nodeCount())
+            .boxed()
+            .map((nodeId) -> {
+                boolean includeIntermediateCommunities = computationResult
+                    .config()
+                    .includeIntermediateCommunities();
+                RESULT result = computationResult.result();
+                long[] communities = includeIntermediateCommunities ? result.getCommunities(nodeId) : null;
+
+                return new StreamResult(graph.toOriginalNodeId(nodeId), communities, result.getCommunity(nodeId));
+            });
     }
 
     @Override
@@ -43,18 +43,28 @@ final class TriangleCountCompanion {
         AlgoBaseProc.ComputationResult<IntersectingTriangleCount, IntersectingTriangleCount.TriangleCountResult, CONFIG> computeResult
     ) {
         var result = Optional.ofNullable(computeResult.result()).orElse(EmptyResult.EMPTY_RESULT);
-        return procResultBuilder.withGlobalTriangleCount(result.globalTriangles());
+        return procResultBuilder
+            .withGlobalTriangleCount(result.globalTriangles())
+            .withGlobalTriangleCountBounds(result.globalTrianglesLowerBound(), result.globalTrianglesUpperBound());
     }
 
     abstract static class TriangleCountResultBuilder<PROC_RESULT> extends AbstractResultBuilder<PROC_RESULT> {
 
         long globalTriangleCount = 0;
+        long globalTriangleCountLowerBound = 0;
+        long globalTriangleCountUpperBound = 0;
 
         TriangleCountResultBuilder<PROC_RESULT> withGlobalTriangleCount(long globalTriangleCount) {
             this.globalTriangleCount = globalTriangleCount;
             return this;
         }
 
+        TriangleCountResultBuilder<PROC_RESULT> withGlobalTriangleCountBounds(long lowerBound, long upperBound) {
+            this.globalTriangleCountLowerBound = lowerBound;
+            this.globalTriangleCountUpperBound = upperBound;
+            return this;
+        }
+
     }
 
     private TriangleCountCompanion() {}
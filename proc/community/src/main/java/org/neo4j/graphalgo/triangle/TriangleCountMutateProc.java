@@ -103,6 +103,8 @@ public class TriangleCountMutateProc extends MutatePropertyProc<IntersectingTria
 
         MutateResult(
             long globalTriangleCount,
+            long globalTriangleCountLowerBound,
+            long globalTriangleCountUpperBound,
             long nodeCount,
             long createMillis,
             long computeMillis,
@@ -112,6 +114,8 @@ public class TriangleCountMutateProc extends MutatePropertyProc<IntersectingTria
         ) {
             super(
                 globalTriangleCount,
+                globalTriangleCountLowerBound,
+                globalTriangleCountUpperBound,
                 nodeCount,
                 createMillis,
                 computeMillis,
@@ -128,6 +132,8 @@ public class TriangleCountMutateProc extends MutatePropertyProc<IntersectingTria
         public MutateResult build() {
             return new MutateResult(
                 globalTriangleCount,
+                globalTriangleCountLowerBound,
+                globalTriangleCountUpperBound,
                 nodeCount,
                 createMillis,
                 computeMillis,
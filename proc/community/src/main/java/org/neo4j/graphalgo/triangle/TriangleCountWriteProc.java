@@ -104,6 +104,8 @@ public class TriangleCountWriteProc extends WriteProc<IntersectingTriangleCount,
 
         public WriteResult(
             long globalTriangleCount,
+            long globalTriangleCountLowerBound,
+            long globalTriangleCountUpperBound,
             long nodeCount,
             long createMillis,
             long computeMillis,
@@ -113,6 +115,8 @@ public class TriangleCountWriteProc extends WriteProc<IntersectingTriangleCount,
         ) {
             super(
                 globalTriangleCount,
+                globalTriangleCountLowerBound,
+                globalTriangleCountUpperBound,
                 nodeCount,
                 createMillis,
                 computeMillis,
@@ -129,6 +133,8 @@ public class TriangleCountWriteProc extends WriteProc<IntersectingTriangleCount,
         public WriteResult build() {
             return new WriteResult(
                 globalTriangleCount,
+                globalTriangleCountLowerBound,
+                globalTriangleCountUpperBound,
                 nodeCount,
                 createMillis,
                 computeMillis,
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.louvain;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.BaseProcTest;
+import org.neo4j.graphalgo.GdsCypher;
+import org.neo4j.graphalgo.Orientation;
+import org.neo4j.graphalgo.catalog.GraphCreateProc;
+import org.neo4j.graphalgo.core.loading.GraphStoreCatalog;
+import org.neo4j.graphalgo.extension.Neo4jGraph;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.isA;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class LeidenProcTest extends BaseProcTest {
+
+    // two cliques connected by a single relationship
+    @Neo4jGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node {name: 'a'})" +
+        ", (b:Node {name: 'b'})" +
+        ", (c:Node {name: 'c'})" +
+        ", (d:Node {name: 'd'})" +
+        ", (e:Node {name: 'e'})" +
+        ", (f:Node {name: 'f'})" +
+        ", (g:Node {name: 'g'})" +
+        ", (h:Node {name: 'h'})" +
+        ", (a)-[:TYPE]->(b)" +
+        ", (a)-[:TYPE]->(c)" +
+        ", (a)-[:TYPE]->(d)" +
+        ", (b)-[:TYPE]->(c)" +
+        ", (b)-[:TYPE]->(d)" +
+        ", (c)-[:TYPE]->(d)" +
+        ", (e)-[:TYPE]->(f)" +
+        ", (e)-[:TYPE]->(g)" +
+        ", (e)-[:TYPE]->(h)" +
+        ", (f)-[:TYPE]->(g)" +
+        ", (f)-[:TYPE]->(h)" +
+        ", (g)-[:TYPE]->(h)" +
+        ", (d)-[:TYPE]->(e)";
+
+    private static final String GRAPH_NAME = "leidenGraph";
+
+    // 2 * (6 / 13 - (13 / 26)^2)
+    private static final double MODULARITY = 0.423077;
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(
+            GraphCreateProc.class,
+            LeidenStreamProc.class,
+            LeidenStatsProc.class,
+            LeidenMutateProc.class,
+            LeidenWriteProc.class
+        );
+
+        runQuery(GdsCypher.call()
+            .withNodeLabel("Node")
+            .withRelationshipType("TYPE", Orientation.UNDIRECTED)
+            .graphCreate(GRAPH_NAME)
+            .yields());
+    }
+
+    @AfterEach
+    void tearDown() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @Test
+    void testStream() {
+        var query = GdsCypher.call()
+            .explicitCreation(GRAPH_NAME)
+            .algo("gds.beta.leiden")
+            .streamMode()
+            .addParameter("includeIntermediateCommunities", true)
+            .yields("nodeId", "communityId", "intermediateCommunityIds");
+
+        var communities = new HashMap<Long, Long>();
+        runQueryWithRowConsumer(query, row -> {
+            long communityId = row.getNumber("communityId").longValue();
+            List<Long> intermediateCommunityIds = (List<Long>) row.get("intermediateCommunityIds");
+            assertEquals(communityId, intermediateCommunityIds.get(intermediateCommunityIds.size() - 1));
+            communities.put(row.getNumber("nodeId").longValue(), communityId);
+        });
+
+        assertCommunities(communities);
+    }
+
+    @Test
+    void testStats() {
+        var query = GdsCypher.call()
+            .explicitCreation(GRAPH_NAME)
+            .algo("gds.beta.leiden")
+            .statsMode()
+            .yields();
+
+        assertCypherResult(query, List.of(Map.of(
+            "ranLevels", 1L,
+            "modularity", closeTo(MODULARITY, 1e-5),
+            "modularities", contains(closeTo(MODULARITY, 1e-5)),
+            "communityCount", 2L,
+            "communityDistribution", isA(Map.class),
+            "createMillis", greaterThanOrEqualTo(0L),
+            "computeMillis", greaterThanOrEqualTo(0L),
+            "postProcessingMillis", greaterThanOrEqualTo(0L),
+            "configuration", isA(Map.class)
+        )));
+    }
+
+    @Test
+    void testMutate() {
+        var query = GdsCypher.call()
+            .explicitCreation(GRAPH_NAME)
+            .algo("gds.beta.leiden")
+            .mutateMode()
+            .addParameter("mutateProperty", "community")
+            .yields("communityCount", "nodePropertiesWritten");
+
+        assertCypherResult(query, List.of(Map.of("communityCount", 2L, "nodePropertiesWritten", 8L)));
+
+        var graph = GraphStoreCatalog.get(getUsername(), namedDatabaseId(), GRAPH_NAME).graphStore().getUnion();
+        var communityProperty = graph.nodeProperties("community");
+        var communities = new HashMap<Long, Long>();
+        graph.forEachNode(nodeId -> {
+            communities.put(graph.toOriginalNodeId(nodeId), communityProperty.longValue(nodeId));
+            return true;
+        });
+
+        assertCommunities(communities);
+    }
+
+    @Test
+    void testWrite() {
+        var query = GdsCypher.call()
+            .explicitCreation(GRAPH_NAME)
+            .algo("gds.beta.leiden")
+            .writeMode()
+            .addParameter("writeProperty", "community")
+            .yields("communityCount", "modularity", "nodePropertiesWritten");
+
+        assertCypherResult(query, List.of(Map.of(
+            "communityCount", 2L,
+            "modularity", closeTo(MODULARITY, 1e-5),
+            "nodePropertiesWritten", 8L
+        )));
+
+        var communities = new HashMap<Long, Long>();
+        runQueryWithRowConsumer(
+            "MATCH (n:Node) RETURN id(n) AS nodeId, n.community AS community",
+            row -> communities.put(row.getNumber("nodeId").longValue(), row.getNumber("community").longValue())
+        );
+
+        assertCommunities(communities);
+    }
+
+    private void assertCommunities(Map<Long, Long> communities) {
+        var nodeIds = new HashMap<String, Long>();
+        runQueryWithRowConsumer(
+            "MATCH (n:Node) RETURN n.name AS name, id(n) AS nodeId",
+            row -> nodeIds.put(row.getString("name"), row.getNumber("nodeId").longValue())
+        );
+
+        var firstClique = communities.get(nodeIds.get("a"));
+        var secondClique = communities.get(nodeIds.get("e"));
+        assertNotEquals(firstClique, secondClique);
+        for (String name : List.of("b", "c", "d")) {
+            assertEquals(firstClique, communities.get(nodeIds.get(name)));
+        }
+        for (String name : List.of("f", "g", "h")) {
+            assertEquals(secondClique, communities.get(nodeIds.get(name)));
+        }
+    }
+}
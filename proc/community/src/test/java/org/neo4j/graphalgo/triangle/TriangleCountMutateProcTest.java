@@ -79,6 +79,8 @@ class TriangleCountMutateProcTest
 
         assertCypherResult(query, List.of(Map.of(
             "globalTriangleCount", 1L,
+            "globalTriangleCountLowerBound", 1L,
+            "globalTriangleCountUpperBound", 1L,
             "nodeCount", 3L,
             "createMillis", greaterThan(-1L),
             "computeMillis", greaterThan(-1L),
@@ -29,6 +29,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.isA;
 
@@ -44,6 +45,8 @@ class TriangleCountStatsProcTest extends TriangleCountBaseProcTest<TriangleCount
 
         assertCypherResult(query, List.of(Map.of(
             "globalTriangleCount", 1L,
+            "globalTriangleCountLowerBound", 1L,
+            "globalTriangleCountUpperBound", 1L,
             "nodeCount", 3L,
             "createMillis", greaterThan(-1L),
             "computeMillis", greaterThan(-1L),
@@ -73,6 +76,26 @@ class TriangleCountStatsProcTest extends TriangleCountBaseProcTest<TriangleCount
         )));
     }
 
+    @Test
+    void testStatsWithSampling() {
+        var query = GdsCypher.call()
+            .loadEverything(Orientation.UNDIRECTED)
+            .algo("triangleCount")
+            .statsMode()
+            .addParameter("samplingRatio", 0.5)
+            .addParameter("randomSeed", 42L)
+            .yields("globalTriangleCount", "globalTriangleCountLowerBound", "globalTriangleCountUpperBound");
+
+        runQueryWithRowConsumer(query, row -> {
+            long globalTriangleCount = row.getNumber("globalTriangleCount").longValue();
+            assertThat(row.getNumber("globalTriangleCountLowerBound").longValue())
+                .isGreaterThanOrEqualTo(0L)
+                .isLessThanOrEqualTo(globalTriangleCount);
+            assertThat(row.getNumber("globalTriangleCountUpperBound").longValue())
+                .isGreaterThanOrEqualTo(globalTriangleCount);
+        });
+    }
+
     @Override
     public Class<? extends AlgoBaseProc<IntersectingTriangleCount, IntersectingTriangleCount.TriangleCountResult, TriangleCountStatsConfig>> getProcedureClazz() {
         return TriangleCountStatsProc.class;
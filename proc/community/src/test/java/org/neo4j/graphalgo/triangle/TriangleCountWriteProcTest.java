@@ -62,6 +62,8 @@ class TriangleCountWriteProcTest
 
         assertCypherResult(query, List.of(Map.of(
             "globalTriangleCount", 5L,
+            "globalTriangleCountLowerBound", 5L,
+            "globalTriangleCountUpperBound", 5L,
             "nodeCount", 5L,
             "createMillis", greaterThan(-1L),
             "computeMillis", greaterThan(-1L),
@@ -19,7 +19,6 @@
  */
 package org.neo4j.graphalgo.similarity.knn;
 
-import com.carrotsearch.hppc.LongArrayList;
 import org.neo4j.graphalgo.AlgorithmFactory;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.core.concurrency.Pools;
@@ -31,7 +30,6 @@ import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
 import org.neo4j.graphalgo.core.utils.progress.ProgressEventTracker;
 import org.neo4j.logging.Log;
 
-import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfInstance;
 import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfIntArray;
 import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfLongArray;
 import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfOpenHashContainer;
@@ -62,22 +60,16 @@ public class KnnFactory<CONFIG extends KnnBaseConfig> implements AlgorithmFactor
             (dim, concurrency) -> {
                 var boundedK = configuration.boundedK(dim.nodeCount());
                 var sampledK = configuration.sampledK(dim.nodeCount());
-                var tempListEstimation = HugeObjectArray.memoryEstimation(
-                    MemoryEstimations.of("elements", MemoryRange.of(
-                        0,
-                        sizeOfInstance(LongArrayList.class) + sizeOfLongArray(sampledK)
-                    ))
-                );
-                return MemoryEstimations
+                var builder = MemoryEstimations
                     .builder(Knn.class)
                     .add(
                         "top-k-neighbors-list",
                         HugeObjectArray.memoryEstimation(NeighborList.memoryEstimation(boundedK))
                     )
-                    .add("old-neighbors", tempListEstimation)
-                    .add("new-neighbors", tempListEstimation)
-                    .add("old-reverse-neighbors", tempListEstimation)
-                    .add("new-reverse-neighbors", tempListEstimation)
+                    .add("old-neighbors", NeighborBuffer.memoryEstimation(boundedK + sampledK))
+                    .add("new-neighbors", NeighborBuffer.memoryEstimation(2 * sampledK))
+                    .add("old-reverse-neighbors", ReverseNeighbors.memoryEstimation(boundedK))
+                    .add("new-reverse-neighbors", ReverseNeighbors.memoryEstimation(sampledK))
                     .fixed(
                         "initial-random-neighbors (per thread)",
                         MemoryRange.of(
@@ -89,8 +81,11 @@ public class KnnFactory<CONFIG extends KnnBaseConfig> implements AlgorithmFactor
                         MemoryRange.of(
                             sizeOfIntArray(sizeOfOpenHashContainer(sampledK)) * concurrency
                         )
-                    )
-                    .build();
+                    );
+                if (configuration.hasNodeFilter()) {
+                    builder.add("node-filter", KnnNodeFilter.memoryEstimation());
+                }
+                return builder.build();
             }
         );
     }
@@ -26,6 +26,9 @@ import org.neo4j.graphalgo.core.ImmutableGraphDimensions;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
 import org.neo4j.graphalgo.core.utils.mem.MemoryRange;
 import org.neo4j.graphalgo.core.utils.mem.MemoryTree;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeIntArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.neo4j.graphalgo.core.utils.BitUtil.ceilDiv;
@@ -77,22 +80,33 @@ class KnnFactoryTest {
         int sampledK,
         MemoryRange actual
     ) {
-        long knnAlgo = /* KNN */ 48;
+        long knnAlgo = /* KNN */ 56;
 
-        long topKNeighborList = /* NL */ 24 + sizeOfLongArray(boundedK * 2);
+        long topKNeighborList = /* NL */ 40 + sizeOfLongArray(boundedK * 2);
         long topKNeighborsList = /* HOA */ sizeOfHugeArrayInstance + sizeOfHugeArray + nodeCount * topKNeighborList;
 
-        long tempNeighborsListMin = /* HOA */ sizeOfHugeArrayInstance + sizeOfHugeArray;
-        long tempNeighborsListMax = tempNeighborsListMin + nodeCount * (/* LAL */ 24 + sizeOfLongArray(sampledK));
+        long oldNeighbors = /* NB */ 24 +
+                            HugeLongArray.memoryEstimation(nodeCount * (boundedK + sampledK)) +
+                            HugeIntArray.memoryEstimation(nodeCount);
+        long newNeighbors = /* NB */ 24 +
+                            HugeLongArray.memoryEstimation(nodeCount * 2 * sampledK) +
+                            HugeIntArray.memoryEstimation(nodeCount);
+        long oldReverseNeighbors = /* RN */ 32 +
+                                   HugeAtomicLongArray.memoryEstimation(nodeCount + 1) +
+                                   HugeLongArray.memoryEstimation(nodeCount * boundedK);
+        long newReverseNeighbors = /* RN */ 32 +
+                                   HugeAtomicLongArray.memoryEstimation(nodeCount + 1) +
+                                   HugeLongArray.memoryEstimation(nodeCount * sampledK);
 
         long randomList = sizeOfLongArray(sizeOfOpenHashContainer(boundedK));
         long sampledList = sizeOfIntArray(sizeOfOpenHashContainer(sampledK));
 
-        long expectedMin = knnAlgo + topKNeighborsList + 4 * tempNeighborsListMin + randomList + sampledList;
-        long expectedMax = knnAlgo + topKNeighborsList + 4 * tempNeighborsListMax + randomList + sampledList;
+        long expected = knnAlgo + topKNeighborsList +
+                        oldNeighbors + newNeighbors + oldReverseNeighbors + newReverseNeighbors +
+                        randomList + sampledList;
 
-        assertEquals(expectedMin, actual.min);
-        assertEquals(expectedMax, actual.max);
+        assertEquals(expected, actual.min);
+        assertEquals(expected, actual.max);
     }
 
     private KnnBaseConfig knnConfig() {
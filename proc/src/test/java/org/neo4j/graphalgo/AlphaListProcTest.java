@@ -26,9 +26,11 @@ import org.neo4j.gds.ml.nodemodels.NodeClassificationTrainProc;
 import org.neo4j.gds.ml.splitting.SplitRelationshipsMutateProc;
 import org.neo4j.graphalgo.centrality.ArticleRankProc;
 import org.neo4j.graphalgo.centrality.ClosenessCentralityProc;
+import org.neo4j.graphalgo.centrality.ForwardPushPageRankProc;
 import org.neo4j.graphalgo.centrality.HarmonicCentralityProc;
 import org.neo4j.graphalgo.centrality.eigenvector.EigenvectorCentralityProc;
 import org.neo4j.graphalgo.compat.MapUtil;
+import org.neo4j.graphalgo.diameter.DistanceStatisticsProc;
 import org.neo4j.graphalgo.functions.IsFiniteFunc;
 import org.neo4j.graphalgo.functions.OneHotEncodingFunc;
 import org.neo4j.graphalgo.linkprediction.LinkPredictionFunc;
@@ -71,6 +73,8 @@ class AlphaListProcTest extends BaseProcTest {
         "gds.alpha.closeness.harmonic.write",
         "gds.alpha.closeness.harmonic.stream",
         "gds.alpha.dfs.stream",
+        "gds.alpha.diameter.stats",
+        "gds.alpha.pageRank.personalized.stream",
         "gds.alpha.scc.write",
         "gds.alpha.scc.stream",
         "gds.alpha.shortestPath.deltaStepping.write",
@@ -134,6 +138,7 @@ class AlphaListProcTest extends BaseProcTest {
             ApproxNearestNeighborsProc.class,
             ArticleRankProc.class,
             ClosenessCentralityProc.class,
+            DistanceStatisticsProc.class,
             EigenvectorCentralityProc.class,
             HarmonicCentralityProc.class,
             IsFiniteFunc.class,
@@ -141,6 +146,7 @@ class AlphaListProcTest extends BaseProcTest {
             ListProc.class,
             CosineProc.class,
             EuclideanProc.class,
+            ForwardPushPageRankProc.class,
             NodeClassificationTrainProc.class,
             OverlapProc.class,
             PearsonProc.class,
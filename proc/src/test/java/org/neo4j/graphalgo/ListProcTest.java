@@ -38,6 +38,10 @@ import org.neo4j.graphalgo.beta.k1coloring.K1ColoringMutateProc;
 import org.neo4j.graphalgo.beta.k1coloring.K1ColoringStatsProc;
 import org.neo4j.graphalgo.beta.k1coloring.K1ColoringStreamProc;
 import org.neo4j.graphalgo.beta.k1coloring.K1ColoringWriteProc;
+import org.neo4j.graphalgo.beta.kcore.KCoreDecompositionMutateProc;
+import org.neo4j.graphalgo.beta.kcore.KCoreDecompositionStatsProc;
+import org.neo4j.graphalgo.beta.kcore.KCoreDecompositionStreamProc;
+import org.neo4j.graphalgo.beta.kcore.KCoreDecompositionWriteProc;
 import org.neo4j.graphalgo.beta.modularity.ModularityOptimizationMutateProc;
 import org.neo4j.graphalgo.beta.modularity.ModularityOptimizationStreamProc;
 import org.neo4j.graphalgo.beta.modularity.ModularityOptimizationWriteProc;
@@ -66,6 +70,10 @@ import org.neo4j.graphalgo.labelpropagation.LabelPropagationMutateProc;
 import org.neo4j.graphalgo.labelpropagation.LabelPropagationStatsProc;
 import org.neo4j.graphalgo.labelpropagation.LabelPropagationStreamProc;
 import org.neo4j.graphalgo.labelpropagation.LabelPropagationWriteProc;
+import org.neo4j.graphalgo.louvain.LeidenMutateProc;
+import org.neo4j.graphalgo.louvain.LeidenStatsProc;
+import org.neo4j.graphalgo.louvain.LeidenStreamProc;
+import org.neo4j.graphalgo.louvain.LeidenWriteProc;
 import org.neo4j.graphalgo.louvain.LouvainMutateProc;
 import org.neo4j.graphalgo.louvain.LouvainStatsProc;
 import org.neo4j.graphalgo.louvain.LouvainStreamProc;
@@ -155,6 +163,14 @@ class ListProcTest extends BaseProcTest {
         "gds.beta.k1coloring.stream.estimate",
         "gds.beta.k1coloring.write",
         "gds.beta.k1coloring.write.estimate",
+        "gds.beta.kcore.mutate",
+        "gds.beta.kcore.mutate.estimate",
+        "gds.beta.kcore.stats",
+        "gds.beta.kcore.stats.estimate",
+        "gds.beta.kcore.stream",
+        "gds.beta.kcore.stream.estimate",
+        "gds.beta.kcore.write",
+        "gds.beta.kcore.write.estimate",
 
         "gds.beta.knn.mutate",
         "gds.beta.knn.mutate.estimate",
@@ -165,6 +181,15 @@ class ListProcTest extends BaseProcTest {
         "gds.beta.knn.write",
         "gds.beta.knn.write.estimate",
 
+        "gds.beta.leiden.mutate",
+        "gds.beta.leiden.mutate.estimate",
+        "gds.beta.leiden.stats",
+        "gds.beta.leiden.stats.estimate",
+        "gds.beta.leiden.stream",
+        "gds.beta.leiden.stream.estimate",
+        "gds.beta.leiden.write",
+        "gds.beta.leiden.write.estimate",
+
         "gds.beta.listProgress",
 
         "gds.beta.model.drop",
@@ -337,6 +362,10 @@ class ListProcTest extends BaseProcTest {
             K1ColoringStatsProc.class,
             K1ColoringWriteProc.class,
             K1ColoringStreamProc.class,
+            KCoreDecompositionMutateProc.class,
+            KCoreDecompositionStatsProc.class,
+            KCoreDecompositionStreamProc.class,
+            KCoreDecompositionWriteProc.class,
             KnnMutateProc.class,
             KnnStatsProc.class,
             KnnStreamProc.class,
@@ -345,6 +374,10 @@ class ListProcTest extends BaseProcTest {
             LabelPropagationStreamProc.class,
             LabelPropagationStatsProc.class,
             LabelPropagationMutateProc.class,
+            LeidenMutateProc.class,
+            LeidenStatsProc.class,
+            LeidenStreamProc.class,
+            LeidenWriteProc.class,
             ListProc.class,
             ListProgressProc.class,
             LouvainWriteProc.class,